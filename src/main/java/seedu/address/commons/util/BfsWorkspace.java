@@ -0,0 +1,150 @@
+package seedu.address.commons.util;
+
+import java.util.Arrays;
+
+/**
+ * Scratch arrays for breadth-first searches with {@link GraphUtil}, reused across searches so that a search does
+ * not allocate once the arrays have grown to the size of the graph.
+ * <p>
+ * A node counts as visited in the current search only if its stamp equals the current generation, so starting a
+ * new search is a single increment rather than a pass over every node. A workspace must not be shared between
+ * searches that run at the same time.
+ * </p>
+ */
+public class BfsWorkspace {
+    private int[] stamps = new int[0];
+    private int[] parents = new int[0];
+    private int[] depths = new int[0];
+    private int[] queue = new int[0];
+    private int[] path = new int[0];
+    private int generation = 0;
+    private int queueHead = 0;
+    private int queueTail = 0;
+    private int pathLength = 0;
+
+    /** Workspace for the search from the other end in a bidirectional search, created when first needed. */
+    private BfsWorkspace reverse;
+
+    /**
+     * Returns the number of nodes on the path found by the last search, or 0 if it found none.
+     */
+    public int getPathLength() {
+        return pathLength;
+    }
+
+    /**
+     * Returns the {@code index}-th node on the path found by the last search, counting from its start.
+     */
+    public int getPathNode(int index) {
+        assert 0 <= index && index < pathLength : "index should be within the path";
+        return path[index];
+    }
+
+    /**
+     * Prepares for a new search over a graph with {@code numOfNodes} nodes, in which no node is visited yet.
+     */
+    void reset(int numOfNodes) {
+        if (stamps.length < numOfNodes) {
+            int capacity = Math.max(numOfNodes, stamps.length * 2);
+            stamps = new int[capacity];
+            parents = new int[capacity];
+            depths = new int[capacity];
+            queue = new int[capacity];
+            path = new int[capacity];
+            generation = 0;
+        }
+
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            generation = 0;
+        }
+        generation++;
+        queueHead = 0;
+        queueTail = 0;
+        pathLength = 0;
+    }
+
+    BfsWorkspace getReverse() {
+        if (reverse == null) {
+            reverse = new BfsWorkspace();
+        }
+        return reverse;
+    }
+
+    boolean isVisited(int node) {
+        return stamps[node] == generation;
+    }
+
+    /**
+     * Marks {@code node} as visited from {@code parent}. The node the search starts from is its own parent.
+     */
+    void visit(int node, int parent) {
+        stamps[node] = generation;
+        parents[node] = parent;
+        depths[node] = parent == node ? 0 : depths[parent] + 1;
+    }
+
+    /**
+     * Returns the number of edges between the start of the search and {@code node}, which must be visited.
+     */
+    int getDepth(int node) {
+        return depths[node];
+    }
+
+    /**
+     * Adds {@code node} to the back of the queue. The queue holds as many nodes as the graph, so a search that
+     * enqueues each node at most once never has to wrap around.
+     */
+    void enqueue(int node) {
+        queue[queueTail++] = node;
+    }
+
+    int poll() {
+        return queue[queueHead++];
+    }
+
+    int getQueueSize() {
+        return queueTail - queueHead;
+    }
+
+    /**
+     * Returns the depth of the node at the front of the queue, which must not be empty.
+     */
+    int getFrontierDepth() {
+        return depths[queue[queueHead]];
+    }
+
+    void setPathNode(int index, int node) {
+        path[index] = node;
+    }
+
+    void setPathLength(int length) {
+        pathLength = length;
+    }
+
+    /**
+     * Records the path from the start of the search to {@code end}, which must be visited.
+     */
+    void tracePathTo(int end) {
+        int length = depths[end] + 1;
+        int cur = end;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = cur;
+            cur = parents[cur];
+        }
+        pathLength = length;
+    }
+
+    /**
+     * Records the path from the start of this search to {@code meeting}, followed by the path from
+     * {@code meeting} back to the start of {@code other}. {@code meeting} must be visited by both searches.
+     */
+    void tracePathThrough(int meeting, BfsWorkspace other) {
+        tracePathTo(meeting);
+        int cur = meeting;
+        while (other.parents[cur] != cur) {
+            cur = other.parents[cur];
+            path[pathLength++] = cur;
+        }
+    }
+}
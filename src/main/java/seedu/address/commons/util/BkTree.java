@@ -0,0 +1,158 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A Burkhard-Keller tree of words, each with the documents containing it, for finding the documents containing a
+ * word within a small edit distance of a query without comparing the query with every word.
+ * <p>
+ * Each child of a node holds the words at one edit distance from the word of the node. By the triangle inequality, a
+ * word within distance {@code k} of the query lies under a child whose distance {@code c} satisfies
+ * {@code |d - c| <= k}, where {@code d} is the distance from the query to the node, so the other children are never
+ * visited. Distances are as given by {@link StringUtil#getEditDistance}.
+ * </p>
+ * <p>
+ * A word cannot be taken out of the tree without rebuilding what lies under it, so a word no document contains any
+ * more is kept to guide searches, and the tree is rebuilt once such words outnumber the others.
+ * </p>
+ */
+public class BkTree {
+    private Node root;
+    private int numOfWords = 0;
+    /** Number of words in the tree that no document contains. */
+    private int numOfUnusedWords = 0;
+
+    /**
+     * Records that document {@code doc} contains {@code word}.
+     */
+    public void add(String word, int doc) {
+        requireNonNull(word);
+        if (root == null) {
+            root = createNode(word);
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                if (node.docs.isEmpty()) {
+                    numOfUnusedWords--;
+                }
+                node.docs.add(doc);
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = createNode(word);
+                node.children.put(distance, child);
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Records that document {@code doc} no longer contains {@code word}.
+     */
+    public void remove(String word, int doc) {
+        requireNonNull(word);
+        Node node = root;
+        while (node != null) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                if (!node.docs.contains(doc)) {
+                    return;
+                }
+                node.docs.remove(doc);
+                if (node.docs.isEmpty()) {
+                    numOfUnusedWords++;
+                    rebuildIfMostlyUnused();
+                }
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    /**
+     * Removes every word.
+     */
+    public void clear() {
+        root = null;
+        numOfWords = 0;
+        numOfUnusedWords = 0;
+    }
+
+    /**
+     * Returns the documents containing a word within edit distance {@code maxDistance} of {@code query}.
+     */
+    public CompressedBitmap search(String query, int maxDistance) {
+        requireNonNull(query);
+        CompressedBitmap found = new CompressedBitmap();
+        if (root == null) {
+            return found;
+        }
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = StringUtil.getEditDistance(query, node.word);
+            if (distance <= maxDistance) {
+                found = CompressedBitmap.or(found, node.docs);
+            }
+            node.children.forEach((childDistance, child) -> {
+                if (Math.abs(distance - childDistance) <= maxDistance) {
+                    toVisit.push(child);
+                }
+            });
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of words in the tree, including those kept only to guide searches.
+     */
+    int getNumOfWords() {
+        return numOfWords;
+    }
+
+    /**
+     * Returns a node for {@code word}, counted as unused until a document is added to it.
+     */
+    private Node createNode(String word) {
+        numOfWords++;
+        numOfUnusedWords++;
+        return new Node(word);
+    }
+
+    private void rebuildIfMostlyUnused() {
+        if (numOfUnusedWords * 2 <= numOfWords) {
+            return;
+        }
+        Node oldRoot = root;
+        clear();
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(oldRoot);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            node.docs.forEach(doc -> add(node.word, doc));
+            toVisit.addAll(node.children.values());
+        }
+    }
+
+    /**
+     * A word, the documents containing it, and the words under it by their distance from it.
+     */
+    private static class Node {
+        private final String word;
+        private final CompressedBitmap docs = new CompressedBitmap();
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
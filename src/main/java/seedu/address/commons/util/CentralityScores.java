@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+/**
+ * The degree, closeness and betweenness centrality of every node of a {@link CsrGraph}, as computed by
+ * {@link CentralityUtil#computeCentrality}.
+ */
+public class CentralityScores {
+    private final CsrGraph graph;
+    private final double[] closeness;
+    private final double[] betweenness;
+
+    CentralityScores(CsrGraph graph, double[] closeness, double[] betweenness) {
+        this.graph = graph;
+        this.closeness = closeness;
+        this.betweenness = betweenness;
+    }
+
+    public int getNumOfNodes() {
+        return graph.getNumOfNodes();
+    }
+
+    public int getDegree(int node) {
+        return graph.getDegree(node);
+    }
+
+    /**
+     * Returns how near {@code node} is to the nodes it can reach, from 0 for an isolated node to 1 for a node
+     * adjacent to every other node.
+     */
+    public double getCloseness(int node) {
+        return closeness[node];
+    }
+
+    /**
+     * Returns the number of shortest paths between pairs of other nodes that pass through {@code node}, where a
+     * pair joined by several shortest paths counts each in proportion.
+     */
+    public double getBetweenness(int node) {
+        return betweenness[node];
+    }
+}
@@ -0,0 +1,214 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Computes closeness and betweenness centrality on an undirected {@link CsrGraph}.
+ * <p>
+ * Both come from one BFS per source node: betweenness by Brandes' dependency accumulation, and closeness from the
+ * distances the same search finds. Taking every node as a source gives exact scores in O(V·E) time; taking a random
+ * sample of sources and scaling the sums up gives estimates in O(k·E) time for k sources. The sources are split
+ * among fork-join tasks, each of which accumulates into arrays of its own that are summed as the tasks are joined.
+ * </p>
+ */
+public class CentralityUtil {
+
+    /** Number of leaf tasks per worker thread, so that uneven sources still keep every worker busy. */
+    private static final int TASKS_PER_WORKER = 4;
+
+    /**
+     * Observes and controls a running computation.
+     */
+    public interface Progress {
+        /**
+         * Called from a worker thread each time another source has been searched from.
+         */
+        void reportProgress(int numOfSourcesDone, int numOfSources);
+
+        /**
+         * Returns true if the computation should stop, in which case it throws {@link CancellationException}.
+         */
+        boolean isCancelled();
+    }
+
+    /**
+     * Returns the closeness and betweenness of every node of {@code graph}, whose every edge must be stored in both
+     * directions, from searches out of {@code sources}. Runs on the current fork-join pool if called from one, or
+     * else on the calling thread and the common pool.
+     * @param sources distinct nodes to search from; every node for exact scores, or a uniform sample for estimates.
+     * @throws CancellationException if {@code progress} asks for the computation to stop.
+     */
+    public static CentralityScores computeCentrality(CsrGraph graph, int[] sources, Progress progress) {
+        requireAllNonNull(graph, sources, progress);
+        int leafSize = Math.max(1, sources.length / (TASKS_PER_WORKER * ForkJoinPool.getCommonPoolParallelism()));
+        Accumulator sums = new SourceRangeTask(graph, sources, 0, sources.length, leafSize, progress,
+                new AtomicInteger()).invoke();
+
+        int numOfNodes = graph.getNumOfNodes();
+        double scale = sources.length == 0 ? 0 : (double) numOfNodes / sources.length;
+        double[] closeness = new double[numOfNodes];
+        double[] betweenness = new double[numOfNodes];
+        for (int u = 0; u < numOfNodes; u++) {
+            // Wasserman and Faust's closeness, which weighs the inverse mean distance by the share of nodes reached
+            double reached = sums.reached[u] * scale;
+            double distanceSum = sums.distanceSums[u] * scale;
+            closeness[u] = distanceSum == 0 ? 0 : reached * reached / ((numOfNodes - 1) * distanceSum);
+            // every path is counted once from each of its ends
+            betweenness[u] = sums.dependencies[u] * scale / 2;
+        }
+        return new CentralityScores(graph, closeness, betweenness);
+    }
+
+    /**
+     * Per-node sums over the sources searched so far.
+     */
+    private static class Accumulator {
+        private final double[] dependencies;
+        private final long[] distanceSums;
+        private final int[] reached;
+
+        Accumulator(int numOfNodes) {
+            dependencies = new double[numOfNodes];
+            distanceSums = new long[numOfNodes];
+            reached = new int[numOfNodes];
+        }
+
+        void add(Accumulator other) {
+            for (int u = 0; u < dependencies.length; u++) {
+                dependencies[u] += other.dependencies[u];
+                distanceSums[u] += other.distanceSums[u];
+                reached[u] += other.reached[u];
+            }
+        }
+    }
+
+    /**
+     * Searches from {@code sources[from .. to)}, splitting the range in two until it has at most {@code leafSize}
+     * sources.
+     */
+    private static class SourceRangeTask extends RecursiveTask<Accumulator> {
+        private final CsrGraph graph;
+        private final int[] sources;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final Progress progress;
+        private final AtomicInteger numOfSourcesDone;
+
+        SourceRangeTask(CsrGraph graph, int[] sources, int from, int to, int leafSize, Progress progress,
+                AtomicInteger numOfSourcesDone) {
+            this.graph = graph;
+            this.sources = sources;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.progress = progress;
+            this.numOfSourcesDone = numOfSourcesDone;
+        }
+
+        @Override
+        protected Accumulator compute() {
+            if (to - from > leafSize) {
+                int mid = (from + to) >>> 1;
+                SourceRangeTask left = new SourceRangeTask(graph, sources, from, mid, leafSize, progress,
+                        numOfSourcesDone);
+                SourceRangeTask right = new SourceRangeTask(graph, sources, mid, to, leafSize, progress,
+                        numOfSourcesDone);
+                left.fork();
+                Accumulator sums = right.compute();
+                sums.add(left.join());
+                return sums;
+            }
+
+            Accumulator sums = new Accumulator(graph.getNumOfNodes());
+            BrandesSearch search = new BrandesSearch(graph.getNumOfNodes());
+            for (int i = from; i < to; i++) {
+                if (progress.isCancelled()) {
+                    throw new CancellationException();
+                }
+                search.run(graph, sources[i], sums);
+                progress.reportProgress(numOfSourcesDone.incrementAndGet(), sources.length);
+            }
+            return sums;
+        }
+    }
+
+    /**
+     * Scratch arrays for the searches of one task, allocated once and reused for each of its sources.
+     */
+    private static class BrandesSearch {
+        private static final int UNVISITED = -1;
+
+        private final int[] distances;
+        /** Number of shortest paths from the source to each node. Doubles, as the counts can overflow a long. */
+        private final double[] pathCounts;
+        private final double[] dependencies;
+        /** Nodes in the order they were visited, which is also the queue of the search. */
+        private final int[] order;
+
+        BrandesSearch(int numOfNodes) {
+            distances = new int[numOfNodes];
+            pathCounts = new double[numOfNodes];
+            dependencies = new double[numOfNodes];
+            order = new int[numOfNodes];
+            Arrays.fill(distances, UNVISITED);
+        }
+
+        /**
+         * Searches from {@code source} and adds its contributions to {@code sums}.
+         */
+        void run(CsrGraph graph, int source, Accumulator sums) {
+            int head = 0;
+            int tail = 0;
+            distances[source] = 0;
+            pathCounts[source] = 1;
+            order[tail++] = source;
+            while (head < tail) {
+                int cur = order[head++];
+                int adjDistance = distances[cur] + 1;
+                int last = graph.getNeighbourEnd(cur);
+                for (int i = graph.getNeighbourStart(cur); i < last; i++) {
+                    int adj = graph.getTarget(i);
+                    if (distances[adj] == UNVISITED) {
+                        distances[adj] = adjDistance;
+                        order[tail++] = adj;
+                    }
+                    if (distances[adj] == adjDistance) {
+                        pathCounts[adj] += pathCounts[cur];
+                    }
+                }
+            }
+
+            // nodes in decreasing distance, so every successor's dependency is final before it is passed back
+            for (int j = tail - 1; j > 0; j--) {
+                int cur = order[j];
+                int predecessorDistance = distances[cur] - 1;
+                double share = (1 + dependencies[cur]) / pathCounts[cur];
+                int last = graph.getNeighbourEnd(cur);
+                for (int i = graph.getNeighbourStart(cur); i < last; i++) {
+                    int adj = graph.getTarget(i);
+                    if (distances[adj] == predecessorDistance) {
+                        dependencies[adj] += pathCounts[adj] * share;
+                    }
+                }
+                sums.dependencies[cur] += dependencies[cur];
+                sums.distanceSums[cur] += distances[cur];
+                sums.reached[cur]++;
+            }
+
+            // reset only what this search touched
+            for (int j = 0; j < tail; j++) {
+                int node = order[j];
+                distances[node] = UNVISITED;
+                pathCounts[node] = 0;
+                dependencies[node] = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative ints, compressed in the manner of Roaring bitmaps.
+ * <p>
+ * Values are split by their high 16 bits into chunks of up to 65536 values. A chunk with at most
+ * {@value #ARRAY_LIMIT} values is stored as a sorted array of their low 16 bits, taking two bytes a value; a denser
+ * chunk is stored as a 65536-bit bitmap, taking 8 KB however many values it holds. Sparse sets such as the members
+ * of a rarely used tag thus stay small, while dense sets are still intersected a word at a time.
+ * </p>
+ */
+public class CompressedBitmap {
+    /** Largest number of values a chunk holds as an array rather than as a bitmap. */
+    static final int ARRAY_LIMIT = 4096;
+
+    private static final int WORDS_PER_BITMAP = (1 << 16) / Long.SIZE;
+
+    /** High 16 bits of the values of each chunk, in increasing order. */
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int numOfChunks = 0;
+
+    /**
+     * Adds {@code value}, which must be non-negative.
+     */
+    public void add(int value) {
+        assert value >= 0 : "value should be non-negative";
+        char key = (char) (value >>> 16);
+        int i = Arrays.binarySearch(keys, 0, numOfChunks, key);
+        if (i < 0) {
+            i = -i - 1;
+            insertChunk(i, key, new ArrayContainer());
+        }
+        containers[i] = containers[i].add((char) value);
+    }
+
+    /**
+     * Removes {@code value} if present.
+     */
+    public void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        int i = Arrays.binarySearch(keys, 0, numOfChunks, (char) (value >>> 16));
+        if (i < 0) {
+            return;
+        }
+        containers[i] = containers[i].remove((char) value);
+        if (containers[i].getCardinality() == 0) {
+            System.arraycopy(keys, i + 1, keys, i, numOfChunks - i - 1);
+            System.arraycopy(containers, i + 1, containers, i, numOfChunks - i - 1);
+            containers[--numOfChunks] = null;
+        }
+    }
+
+    /**
+     * Returns true if {@code value} is in the set.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int i = Arrays.binarySearch(keys, 0, numOfChunks, (char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    public boolean isEmpty() {
+        return numOfChunks == 0;
+    }
+
+    /**
+     * Returns the number of values in the set.
+     */
+    public int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < numOfChunks; i++) {
+            cardinality += containers[i].getCardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Passes every value to {@code action}, in increasing order.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < numOfChunks; i++) {
+            int high = keys[i] << 16;
+            containers[i].forEach(low -> action.accept(high | low));
+        }
+    }
+
+    /**
+     * Returns the values in increasing order.
+     */
+    public int[] toArray() {
+        int[] values = new int[getCardinality()];
+        int[] size = {0};
+        forEach(value -> values[size[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Returns the values as an uncompressed {@code BitSet}, which tests membership faster.
+     */
+    public BitSet toBitSet() {
+        BitSet bits = new BitSet();
+        forEach(bits::set);
+        return bits;
+    }
+
+    /**
+     * Returns a new set of the same values.
+     */
+    public CompressedBitmap copy() {
+        CompressedBitmap copy = new CompressedBitmap();
+        for (int i = 0; i < numOfChunks; i++) {
+            copy.insertChunk(i, keys[i], containers[i].copy());
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a new set of the values in both {@code a} and {@code b}.
+     */
+    public static CompressedBitmap and(CompressedBitmap a, CompressedBitmap b) {
+        requireNonNull(a);
+        requireNonNull(b);
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.numOfChunks && j < b.numOfChunks) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Container container = a.containers[i].and(b.containers[j]);
+                if (container.getCardinality() > 0) {
+                    result.insertChunk(result.numOfChunks, a.keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set of the values in either {@code a} or {@code b}.
+     */
+    public static CompressedBitmap or(CompressedBitmap a, CompressedBitmap b) {
+        requireNonNull(a);
+        requireNonNull(b);
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.numOfChunks || j < b.numOfChunks) {
+            if (j == b.numOfChunks || (i < a.numOfChunks && a.keys[i] < b.keys[j])) {
+                result.insertChunk(result.numOfChunks, a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (i == a.numOfChunks || a.keys[i] > b.keys[j]) {
+                result.insertChunk(result.numOfChunks, b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.insertChunk(result.numOfChunks, a.keys[i], a.containers[i].or(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private void insertChunk(int i, char key, Container container) {
+        if (numOfChunks == keys.length) {
+            int capacity = Math.max(4, numOfChunks * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, i, keys, i + 1, numOfChunks - i);
+        System.arraycopy(containers, i, containers, i + 1, numOfChunks - i);
+        keys[i] = key;
+        containers[i] = container;
+        numOfChunks++;
+    }
+
+    /**
+     * The low 16 bits of the values of one chunk. Operations that change the representation return the new
+     * container, which replaces this one.
+     */
+    private abstract static class Container {
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int getCardinality();
+
+        abstract void forEach(IntConsumer action);
+
+        abstract Container copy();
+
+        abstract Container and(Container other);
+
+        /**
+         * Returns the union of this and {@code other} as a new container.
+         */
+        Container or(Container other) {
+            if (getCardinality() + other.getCardinality() <= ARRAY_LIMIT) {
+                ArrayContainer union = new ArrayContainer();
+                forEach(value -> union.add((char) value));
+                other.forEach(value -> union.add((char) value));
+                return union;
+            }
+            BitmapContainer union = new BitmapContainer();
+            forEach(value -> union.add((char) value));
+            other.forEach(value -> union.add((char) value));
+            return union.shrinkIfSparse();
+        }
+    }
+
+    /**
+     * A sparse chunk, as a sorted array of at most {@value #ARRAY_LIMIT} values.
+     */
+    private static class ArrayContainer extends Container {
+        private char[] values = new char[4];
+        private int cardinality = 0;
+
+        @Override
+        Container add(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_LIMIT) {
+                BitmapContainer bitmap = new BitmapContainer();
+                forEach(existing -> bitmap.add((char) existing));
+                return bitmap.add(value);
+            }
+            i = -i - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, cardinality * 2));
+            }
+            System.arraycopy(values, i, values, i + 1, cardinality - i);
+            values[i] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(values[i]);
+            }
+        }
+
+        @Override
+        Container copy() {
+            ArrayContainer copy = new ArrayContainer();
+            copy.values = Arrays.copyOf(values, Math.max(4, cardinality));
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        @Override
+        Container and(Container other) {
+            // the intersection is no larger than this array, so it is an array too
+            ArrayContainer intersection = new ArrayContainer();
+            intersection.values = new char[Math.max(4, cardinality)];
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    intersection.values[intersection.cardinality++] = values[i];
+                }
+            }
+            return intersection;
+        }
+    }
+
+    /**
+     * A dense chunk, as a bitmap of all 65536 possible values.
+     */
+    private static class BitmapContainer extends Container {
+        private final long[] words = new long[WORDS_PER_BITMAP];
+        private int cardinality = 0;
+
+        @Override
+        BitmapContainer add(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                words[value >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) != 0) {
+                words[value >>> 6] &= ~bit;
+                cardinality--;
+            }
+            return shrinkIfSparse();
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(IntConsumer action) {
+            for (int w = 0; w < WORDS_PER_BITMAP; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    action.accept(w * Long.SIZE + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            BitmapContainer copy = new BitmapContainer();
+            System.arraycopy(words, 0, copy.words, 0, WORDS_PER_BITMAP);
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (!(other instanceof BitmapContainer otherBitmap)) {
+                return other.and(this);
+            }
+            BitmapContainer intersection = new BitmapContainer();
+            for (int w = 0; w < WORDS_PER_BITMAP; w++) {
+                intersection.words[w] = words[w] & otherBitmap.words[w];
+                intersection.cardinality += Long.bitCount(intersection.words[w]);
+            }
+            return intersection.shrinkIfSparse();
+        }
+
+        /**
+         * Returns this chunk as an array if it has become sparse enough for one.
+         */
+        Container shrinkIfSparse() {
+            if (cardinality > ARRAY_LIMIT) {
+                return this;
+            }
+            ArrayContainer array = new ArrayContainer();
+            forEach(value -> array.add((char) value));
+            return array;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable directed graph over the nodes {@code 0 .. n - 1}, stored in compressed sparse row form.
+ * <p>
+ * The neighbours of node {@code u} are {@code getTarget(i)} for {@code getNeighbourStart(u) <= i <
+ * getNeighbourEnd(u)}, in increasing order, so neighbour sets can be intersected by merging. An undirected graph
+ * is represented by storing each edge in both directions. Holding the whole graph in two {@code int} arrays
+ * means traversals never box a node index.
+ * </p>
+ */
+public final class CsrGraph {
+    /** offsets[u] .. offsets[u + 1] is the range of {@code targets} holding the neighbours of u. */
+    private final int[] offsets;
+    private final int[] targets;
+
+    private CsrGraph(int[] offsets, int[] targets) {
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /**
+     * Returns a graph with the same edges as {@code adjList}, where {@code adjList.get(u)} holds the neighbours of
+     * node {@code u}.
+     */
+    public static CsrGraph fromAdjacencyList(List<? extends List<? extends Integer>> adjList) {
+        requireNonNull(adjList);
+        int numOfNodes = adjList.size();
+        int[] offsets = new int[numOfNodes + 1];
+        for (int u = 0; u < numOfNodes; u++) {
+            offsets[u + 1] = offsets[u] + adjList.get(u).size();
+        }
+
+        int[] targets = new int[offsets[numOfNodes]];
+        for (int u = 0; u < numOfNodes; u++) {
+            int i = offsets[u];
+            for (int v : adjList.get(u)) {
+                targets[i++] = v;
+            }
+            Arrays.sort(targets, offsets[u], offsets[u + 1]);
+        }
+        return new CsrGraph(offsets, targets);
+    }
+
+    public int getNumOfNodes() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Returns the number of directed edges, i.e. twice the number of undirected edges.
+     */
+    public int getNumOfEdges() {
+        return targets.length;
+    }
+
+    public int getDegree(int node) {
+        return offsets[node + 1] - offsets[node];
+    }
+
+    /**
+     * Returns the index of the first neighbour of {@code node} in the target array.
+     */
+    public int getNeighbourStart(int node) {
+        return offsets[node];
+    }
+
+    /**
+     * Returns one past the index of the last neighbour of {@code node} in the target array.
+     */
+    public int getNeighbourEnd(int node) {
+        return offsets[node + 1];
+    }
+
+    public int getTarget(int index) {
+        return targets[index];
+    }
+}
@@ -0,0 +1,392 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * A radix trie of strings of digits, each with the documents it is the key of, for finding the documents whose key
+ * equals or starts with a given string of digits in time proportional to its length.
+ * <p>
+ * Each edge is labelled with a run of digits, and a node is only made where keys branch or end, so the trie has
+ * fewer nodes than twice the number of keys of up to {@value #MAX_LABEL_LENGTH} digits. The children of a node are
+ * indexed by their first digit, and each node counts the documents under it, so the number with a prefix is known
+ * without visiting them.
+ * </p>
+ * <p>
+ * To stay small with millions of keys, a node packs the digits of its label into a {@code long}, four bits each, so
+ * a run of more digits is split over a chain of nodes. As most keys belong to a single document, a node holds its
+ * first document in a field and only further documents in an array.
+ * </p>
+ */
+public class DigitTrie {
+    private static final int RADIX = 10;
+    private static final int NO_DOC = -1;
+    /** Most digits the label of a node holds, so that no shift of a label reaches the width of a {@code long}. */
+    private static final int MAX_LABEL_LENGTH = 15;
+    private static final String MESSAGE_NOT_DIGITS = "Keys of a digit trie should consist of digits only";
+
+    private Node root = new Node(0, 0);
+    private int numOfNodes = 1;
+
+    /**
+     * Records that {@code key}, a string of digits, is a key of document {@code doc}.
+     */
+    public void add(String key, int doc) {
+        byte[] digits = toDigits(key);
+        assert doc >= 0 : "documents should be numbered from 0";
+
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < digits.length) {
+            Node child = node.getChild(digits[i]);
+            if (child == null) {
+                child = Node.of(digits, i, Math.min(digits.length, i + MAX_LABEL_LENGTH));
+                node.setChild(child);
+                numOfNodes++;
+            }
+            int common = getCommonLength(child, digits, i);
+            if (common < child.labelLength) {
+                child = split(node, child, common);
+            }
+            path.add(child);
+            node = child;
+            i += common;
+        }
+        if (node.addDoc(doc)) {
+            path.forEach(pathNode -> pathNode.numOfDocs++);
+        }
+    }
+
+    /**
+     * Records that {@code key}, a string of digits, is no longer a key of document {@code doc}.
+     */
+    public void remove(String key, int doc) {
+        List<Node> path = new ArrayList<>();
+        Node node = locateKey(toDigits(key), path);
+        if (node == null || !node.removeDoc(doc)) {
+            return;
+        }
+        path.forEach(pathNode -> pathNode.numOfDocs--);
+
+        // drop the nodes left without documents, and merge those left as a mere link into their only child
+        for (int j = path.size() - 1; j > 0; j--) {
+            Node pathNode = path.get(j);
+            if (pathNode.numOfDocs == 0) {
+                path.get(j - 1).removeChild(pathNode.getDigit(0));
+                numOfNodes--;
+            } else if (!pathNode.hasDocs() && pathNode.getNumOfChildren() == 1
+                    && pathNode.labelLength + pathNode.getOnlyChild().labelLength <= MAX_LABEL_LENGTH) {
+                pathNode.absorbOnlyChild();
+                numOfNodes--;
+            }
+        }
+    }
+
+    /**
+     * Removes every key.
+     */
+    public void clear() {
+        root = new Node(0, 0);
+        numOfNodes = 1;
+    }
+
+    /**
+     * Returns the documents {@code key}, a string of digits, is a key of.
+     */
+    public CompressedBitmap find(String key) {
+        Node node = locateKey(toDigits(key), new ArrayList<>());
+        CompressedBitmap found = new CompressedBitmap();
+        if (node != null) {
+            node.forEachDoc(found::add);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the documents with a key starting with {@code prefix}, a string of digits.
+     */
+    public CompressedBitmap findWithPrefix(String prefix) {
+        Node node = locatePrefix(toDigits(prefix));
+        CompressedBitmap found = new CompressedBitmap();
+        if (node == null) {
+            return found;
+        }
+
+        // the documents under a node come in no particular order, and a bitmap is cheapest to fill in order
+        int[] docs = new int[node.numOfDocs];
+        int numOfDocs = 0;
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(node);
+        while (!toVisit.isEmpty()) {
+            Node visited = toVisit.pop();
+            if (visited.doc != NO_DOC) {
+                docs[numOfDocs++] = visited.doc;
+            }
+            if (visited.otherDocs != null) {
+                System.arraycopy(visited.otherDocs, 0, docs, numOfDocs, visited.otherDocs.length);
+                numOfDocs += visited.otherDocs.length;
+            }
+            if (visited.children != null) {
+                for (Node child : visited.children) {
+                    if (child != null) {
+                        toVisit.push(child);
+                    }
+                }
+            }
+        }
+        Arrays.sort(docs, 0, numOfDocs);
+        for (int i = 0; i < numOfDocs; i++) {
+            found.add(docs[i]);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of keys starting with {@code prefix}, a string of digits, counting a key once for each
+     * document it is a key of.
+     */
+    public int countWithPrefix(String prefix) {
+        Node node = locatePrefix(toDigits(prefix));
+        return node == null ? 0 : node.numOfDocs;
+    }
+
+    /**
+     * Returns the number of nodes in the trie, including its root.
+     */
+    int getNumOfNodes() {
+        return numOfNodes;
+    }
+
+    /**
+     * Returns the node at which the key {@code digits} ends, adding the nodes on the way to it, from the root, to
+     * {@code path}, or null if there is no such node.
+     */
+    private Node locateKey(byte[] digits, List<Node> path) {
+        Node node = root;
+        path.add(root);
+        int i = 0;
+        while (i < digits.length) {
+            node = node.getChild(digits[i]);
+            if (node == null || getCommonLength(node, digits, i) < node.labelLength) {
+                return null;
+            }
+            path.add(node);
+            i += node.labelLength;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the highest node under which every key starts with {@code digits}, or null if no key does.
+     */
+    private Node locatePrefix(byte[] digits) {
+        Node node = root;
+        int i = 0;
+        while (i < digits.length) {
+            node = node.getChild(digits[i]);
+            if (node == null) {
+                return null;
+            }
+            int common = getCommonLength(node, digits, i);
+            // the prefix may end inside the label, but may not leave it
+            if (common < node.labelLength && i + common < digits.length) {
+                return null;
+            }
+            i += common;
+        }
+        return node;
+    }
+
+    /**
+     * Splits the label of {@code child}, a child of {@code parent}, after its first {@code length} digits, and
+     * returns the new node holding them.
+     */
+    private Node split(Node parent, Node child, int length) {
+        Node middle = new Node(child.label & ((1L << (4 * length)) - 1), length);
+        middle.numOfDocs = child.numOfDocs;
+        child.label >>>= 4 * length;
+        child.labelLength -= length;
+        middle.setChild(child);
+        parent.setChild(middle);
+        numOfNodes++;
+        return middle;
+    }
+
+    /**
+     * Returns the number of digits the label of {@code node} has in common with {@code digits} from {@code start}.
+     */
+    private static int getCommonLength(Node node, byte[] digits, int start) {
+        int length = 0;
+        while (length < node.labelLength && start + length < digits.length
+                && node.getDigit(length) == digits[start + length]) {
+            length++;
+        }
+        return length;
+    }
+
+    private static byte[] toDigits(String key) {
+        requireNonNull(key);
+        byte[] digits = new byte[key.length()];
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            checkArgument(c >= '0' && c <= '9', MESSAGE_NOT_DIGITS);
+            digits[i] = (byte) (c - '0');
+        }
+        return digits;
+    }
+
+    /**
+     * A node, reached from its parent by the digits of its label, with the documents whose key ends at it.
+     */
+    private static class Node {
+        /** The digits of the label, the first in the lowest four bits. */
+        private long label;
+        private int labelLength;
+        /** The children, by the first digit of their label; null while there are none. */
+        private Node[] children;
+        /** The first document whose key ends here, or {@link #NO_DOC}. */
+        private int doc = NO_DOC;
+        /** The further documents whose key ends here, sorted; null if there are none. */
+        private int[] otherDocs;
+        /** The number of documents whose key ends here or under here. */
+        private int numOfDocs = 0;
+
+        Node(long label, int labelLength) {
+            this.label = label;
+            this.labelLength = labelLength;
+        }
+
+        /**
+         * Returns a node labelled with {@code digits} from {@code from} to {@code to}, exclusive.
+         */
+        static Node of(byte[] digits, int from, int to) {
+            long label = 0;
+            for (int i = to - 1; i >= from; i--) {
+                label = label << 4 | digits[i];
+            }
+            return new Node(label, to - from);
+        }
+
+        byte getDigit(int index) {
+            return (byte) (label >>> (4 * index) & 0xF);
+        }
+
+        Node getChild(byte digit) {
+            return children == null ? null : children[digit];
+        }
+
+        void setChild(Node child) {
+            if (children == null) {
+                children = new Node[RADIX];
+            }
+            children[child.getDigit(0)] = child;
+        }
+
+        void removeChild(byte digit) {
+            children[digit] = null;
+            if (getNumOfChildren() == 0) {
+                children = null;
+            }
+        }
+
+        int getNumOfChildren() {
+            if (children == null) {
+                return 0;
+            }
+            int count = 0;
+            for (Node child : children) {
+                count += child == null ? 0 : 1;
+            }
+            return count;
+        }
+
+        Node getOnlyChild() {
+            return Arrays.stream(children).filter(node -> node != null).findFirst().orElseThrow();
+        }
+
+        /**
+         * Appends the label of the only child to that of this node and takes over its children and documents.
+         */
+        void absorbOnlyChild() {
+            Node child = getOnlyChild();
+            label |= child.label << (4 * labelLength);
+            labelLength += child.labelLength;
+            children = child.children;
+            doc = child.doc;
+            otherDocs = child.otherDocs;
+        }
+
+        boolean hasDocs() {
+            return doc != NO_DOC;
+        }
+
+        /**
+         * Adds {@code newDoc} to the documents whose key ends here, returning false if it is already one of them.
+         */
+        boolean addDoc(int newDoc) {
+            if (doc == NO_DOC) {
+                doc = newDoc;
+                return true;
+            }
+            if (doc == newDoc) {
+                return false;
+            }
+            if (otherDocs == null) {
+                otherDocs = new int[] {newDoc};
+                return true;
+            }
+            int i = Arrays.binarySearch(otherDocs, newDoc);
+            if (i >= 0) {
+                return false;
+            }
+            i = -i - 1;
+            int[] grown = new int[otherDocs.length + 1];
+            System.arraycopy(otherDocs, 0, grown, 0, i);
+            grown[i] = newDoc;
+            System.arraycopy(otherDocs, i, grown, i + 1, otherDocs.length - i);
+            otherDocs = grown;
+            return true;
+        }
+
+        /**
+         * Removes {@code oldDoc} from the documents whose key ends here, returning false if it is not one of them.
+         */
+        boolean removeDoc(int oldDoc) {
+            if (doc == oldDoc && doc != NO_DOC) {
+                // the first further document, if any, takes the place of the removed one
+                doc = otherDocs == null ? NO_DOC : otherDocs[0];
+                otherDocs = otherDocs == null || otherDocs.length == 1
+                        ? null
+                        : Arrays.copyOfRange(otherDocs, 1, otherDocs.length);
+                return true;
+            }
+            int i = otherDocs == null ? -1 : Arrays.binarySearch(otherDocs, oldDoc);
+            if (i < 0) {
+                return false;
+            }
+            int[] shrunk = new int[otherDocs.length - 1];
+            System.arraycopy(otherDocs, 0, shrunk, 0, i);
+            System.arraycopy(otherDocs, i + 1, shrunk, i, otherDocs.length - i - 1);
+            otherDocs = shrunk.length == 0 ? null : shrunk;
+            return true;
+        }
+
+        void forEachDoc(IntConsumer action) {
+            if (doc != NO_DOC) {
+                action.accept(doc);
+            }
+            if (otherDocs != null) {
+                Arrays.stream(otherDocs).forEach(action);
+            }
+        }
+    }
+}
@@ -0,0 +1,662 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Encodes words by how they sound, using Lawrence Philips' Double Metaphone algorithm, so that names spelt differently
+ * but pronounced alike, such as "Mohammed" and "Muhammad", get the same key.
+ * <p>
+ * Each word gets a primary key and, where a spelling has a common second pronunciation (e.g. the "CH" of a Germanic
+ * name), an alternate key. Keys are at most {@value #MAX_KEY_LENGTH} characters long, which is enough to tell most
+ * names apart while ignoring differences in their endings. The rules follow those of the original algorithm.
+ * </p>
+ */
+public class DoubleMetaphone {
+    /** Length to which keys are cut. */
+    public static final int MAX_KEY_LENGTH = 4;
+
+    private static final String VOWELS = "AEIOUY";
+    private static final String[] SILENT_START = {"GN", "KN", "PN", "WR", "PS"};
+    private static final String[] L_R_N_M_B_H_F_V_W_SPACE = {"L", "R", "N", "M", "B", "H", "F", "V", "W", " "};
+    private static final String[] ES_EP_EB_EL_EY_IB_IL_IN_IE_EI_ER = {
+        "ES", "EP", "EB", "EL", "EY", "IB", "IL", "IN", "IE", "EI", "ER"
+    };
+    private static final String[] L_T_K_S_N_M_B_Z = {"L", "T", "K", "S", "N", "M", "B", "Z"};
+
+    /**
+     * Returns the distinct keys of {@code word}, primary first, or an empty list if it has no sounds to encode.
+     */
+    public static List<String> encode(String word) {
+        requireNonNull(word);
+        String value = word.trim().toUpperCase(Locale.ENGLISH);
+        if (value.isEmpty()) {
+            return List.of();
+        }
+
+        boolean isSlavoGermanic = value.indexOf('W') > -1 || value.indexOf('K') > -1 || value.contains("CZ")
+                || value.contains("WITZ");
+        Keys keys = new Keys();
+        int index = 0;
+        for (String start : SILENT_START) {
+            if (value.startsWith(start)) {
+                index = 1;
+                break;
+            }
+        }
+        if (value.charAt(0) == 'X') {
+            keys.append('S');
+            index = 1;
+        }
+
+        while (!keys.isComplete() && index < value.length()) {
+            switch (value.charAt(index)) {
+            case 'A':
+            case 'E':
+            case 'I':
+            case 'O':
+            case 'U':
+            case 'Y':
+                if (index == 0) {
+                    keys.append('A');
+                }
+                index++;
+                break;
+            case 'B':
+                keys.append('P');
+                index = charAt(value, index + 1) == 'B' ? index + 2 : index + 1;
+                break;
+            case '\u00C7': // C with cedilla
+                keys.append('S');
+                index++;
+                break;
+            case 'C':
+                index = handleC(value, keys, index);
+                break;
+            case 'D':
+                index = handleD(value, keys, index);
+                break;
+            case 'F':
+                keys.append('F');
+                index = charAt(value, index + 1) == 'F' ? index + 2 : index + 1;
+                break;
+            case 'G':
+                index = handleG(value, keys, index, isSlavoGermanic);
+                break;
+            case 'H':
+                index = handleH(value, keys, index);
+                break;
+            case 'J':
+                index = handleJ(value, keys, index, isSlavoGermanic);
+                break;
+            case 'K':
+                keys.append('K');
+                index = charAt(value, index + 1) == 'K' ? index + 2 : index + 1;
+                break;
+            case 'L':
+                index = handleL(value, keys, index);
+                break;
+            case 'M':
+                keys.append('M');
+                index = isDoubleM(value, index) ? index + 2 : index + 1;
+                break;
+            case 'N':
+                keys.append('N');
+                index = charAt(value, index + 1) == 'N' ? index + 2 : index + 1;
+                break;
+            case '\u00D1': // N with tilde
+                keys.append('N');
+                index++;
+                break;
+            case 'P':
+                index = handleP(value, keys, index);
+                break;
+            case 'Q':
+                keys.append('K');
+                index = charAt(value, index + 1) == 'Q' ? index + 2 : index + 1;
+                break;
+            case 'R':
+                index = handleR(value, keys, index, isSlavoGermanic);
+                break;
+            case 'S':
+                index = handleS(value, keys, index, isSlavoGermanic);
+                break;
+            case 'T':
+                index = handleT(value, keys, index);
+                break;
+            case 'V':
+                keys.append('F');
+                index = charAt(value, index + 1) == 'V' ? index + 2 : index + 1;
+                break;
+            case 'W':
+                index = handleW(value, keys, index);
+                break;
+            case 'X':
+                index = handleX(value, keys, index);
+                break;
+            case 'Z':
+                index = handleZ(value, keys, index, isSlavoGermanic);
+                break;
+            default:
+                index++;
+                break;
+            }
+        }
+
+        String primary = keys.getPrimary();
+        String alternate = keys.getAlternate();
+        if (primary.isEmpty()) {
+            return alternate.isEmpty() ? List.of() : List.of(alternate);
+        }
+        return alternate.isEmpty() || alternate.equals(primary) ? List.of(primary) : List.of(primary, alternate);
+    }
+
+    private static int handleC(String value, Keys keys, int index) {
+        if (isGermanicCh(value, index)) {
+            keys.append('K');
+            return index + 2;
+        }
+        if (index == 0 && contains(value, index, 6, "CAESAR")) {
+            keys.append('S');
+            return index + 2;
+        }
+        if (contains(value, index, 2, "CH")) {
+            return handleCh(value, keys, index);
+        }
+        if (contains(value, index, 2, "CZ") && !contains(value, index - 2, 4, "WICZ")) {
+            // "Czerny"
+            keys.append('S', 'X');
+            return index + 2;
+        }
+        if (contains(value, index + 1, 3, "CIA")) {
+            // "Focaccia"
+            keys.append('X');
+            return index + 3;
+        }
+        if (contains(value, index, 2, "CC") && !(index == 1 && charAt(value, 0) == 'M')) {
+            return handleCc(value, keys, index);
+        }
+        if (contains(value, index, 2, "CK", "CG", "CQ")) {
+            keys.append('K');
+            return index + 2;
+        }
+        if (contains(value, index, 2, "CI", "CE", "CY")) {
+            if (contains(value, index, 3, "CIO", "CIE", "CIA")) {
+                keys.append('S', 'X');
+            } else {
+                keys.append('S');
+            }
+            return index + 2;
+        }
+
+        keys.append('K');
+        if (contains(value, index + 1, 2, " C", " Q", " G")) {
+            // "Mac Caffrey", "Mac Gregor"
+            return index + 3;
+        }
+        if (contains(value, index + 1, 1, "C", "K", "Q") && !contains(value, index + 1, 2, "CE", "CI")) {
+            return index + 2;
+        }
+        return index + 1;
+    }
+
+    private static int handleCc(String value, Keys keys, int index) {
+        if (contains(value, index + 2, 1, "I", "E", "H") && !contains(value, index + 2, 2, "HU")) {
+            if ((index == 1 && charAt(value, index - 1) == 'A') || contains(value, index - 1, 5, "UCCEE", "UCCES")) {
+                // "Accident", "Succeed"
+                keys.append("KS");
+            } else {
+                // "Bacci", "Bertucci"
+                keys.append('X');
+            }
+            return index + 3;
+        }
+        // "Accord"
+        keys.append('K');
+        return index + 2;
+    }
+
+    private static int handleCh(String value, Keys keys, int index) {
+        if (index > 0 && contains(value, index, 4, "CHAE")) {
+            // "Michael"
+            keys.append('K', 'X');
+        } else if (isGreekCh(value, index) || isKhSoundingCh(value, index)) {
+            keys.append('K');
+        } else if (index > 0) {
+            if (contains(value, 0, 2, "MC")) {
+                keys.append('K');
+            } else {
+                keys.append('X', 'K');
+            }
+        } else {
+            keys.append('X');
+        }
+        return index + 2;
+    }
+
+    private static int handleD(String value, Keys keys, int index) {
+        if (contains(value, index, 2, "DG")) {
+            if (contains(value, index + 2, 1, "I", "E", "Y")) {
+                // "Edge"
+                keys.append('J');
+                return index + 3;
+            }
+            // "Edgar"
+            keys.append("TK");
+            return index + 2;
+        }
+        keys.append('T');
+        return contains(value, index, 2, "DT", "DD") ? index + 2 : index + 1;
+    }
+
+    private static int handleG(String value, Keys keys, int index, boolean isSlavoGermanic) {
+        if (charAt(value, index + 1) == 'H') {
+            return handleGh(value, keys, index);
+        }
+        if (charAt(value, index + 1) == 'N') {
+            if (index == 1 && isVowel(charAt(value, 0)) && !isSlavoGermanic) {
+                keys.append("KN", "N");
+            } else if (!contains(value, index + 2, 2, "EY") && charAt(value, index + 1) != 'Y' && !isSlavoGermanic) {
+                keys.append("N", "KN");
+            } else {
+                keys.append("KN");
+            }
+            return index + 2;
+        }
+        if (contains(value, index + 1, 2, "LI") && !isSlavoGermanic) {
+            // "Tagliaro"
+            keys.append("KL", "L");
+            return index + 2;
+        }
+        if (index == 0 && (charAt(value, index + 1) == 'Y'
+                || contains(value, index + 1, 2, ES_EP_EB_EL_EY_IB_IL_IN_IE_EI_ER))) {
+            // "Gerald", "Gyll"
+            keys.append('K', 'J');
+            return index + 2;
+        }
+        if ((contains(value, index + 1, 2, "ER") || charAt(value, index + 1) == 'Y')
+                && !contains(value, 0, 6, "DANGER", "RANGER", "MANGER")
+                && !contains(value, index - 1, 1, "E", "I")
+                && !contains(value, index - 1, 3, "RGY", "OGY")) {
+            keys.append('K', 'J');
+            return index + 2;
+        }
+        if (contains(value, index + 1, 1, "E", "I", "Y") || contains(value, index - 1, 4, "AGGI", "OGGI")) {
+            if (contains(value, 0, 4, "VAN ", "VON ") || contains(value, 0, 3, "SCH")
+                    || contains(value, index + 1, 2, "ET")) {
+                keys.append('K');
+            } else if (contains(value, index + 1, 3, "IER")) {
+                keys.append('J');
+            } else {
+                keys.append('J', 'K');
+            }
+            return index + 2;
+        }
+        keys.append('K');
+        return charAt(value, index + 1) == 'G' ? index + 2 : index + 1;
+    }
+
+    private static int handleGh(String value, Keys keys, int index) {
+        if (index > 0 && !isVowel(charAt(value, index - 1))) {
+            keys.append('K');
+        } else if (index == 0) {
+            // "Ghislane", "Ghiradelli"
+            keys.append(charAt(value, index + 2) == 'I' ? 'J' : 'K');
+        } else if ((index > 1 && contains(value, index - 2, 1, "B", "H", "D"))
+                || (index > 2 && contains(value, index - 3, 1, "B", "H", "D"))
+                || (index > 3 && contains(value, index - 4, 1, "B", "H"))) {
+            // silent, as in "Hugh", "Bough", "Broughton"
+            return index + 2;
+        } else if (index > 2 && charAt(value, index - 1) == 'U'
+                && contains(value, index - 3, 1, "C", "G", "L", "R", "T")) {
+            // "Laugh", "McLaughlin", "Cough"
+            keys.append('F');
+        } else if (charAt(value, index - 1) != 'I') {
+            keys.append('K');
+        }
+        return index + 2;
+    }
+
+    private static int handleH(String value, Keys keys, int index) {
+        // only kept between vowels or at the start before a vowel
+        if ((index == 0 || isVowel(charAt(value, index - 1))) && isVowel(charAt(value, index + 1))) {
+            keys.append('H');
+            return index + 2;
+        }
+        return index + 1;
+    }
+
+    private static int handleJ(String value, Keys keys, int index, boolean isSlavoGermanic) {
+        if (contains(value, index, 4, "JOSE") || contains(value, 0, 4, "SAN ")) {
+            if ((index == 0 && charAt(value, index + 4) == ' ') || value.length() == 4
+                    || contains(value, 0, 4, "SAN ")) {
+                // "San Jacinto"
+                keys.append('H');
+            } else {
+                keys.append('J', 'H');
+            }
+            return index + 1;
+        }
+
+        if (index == 0) {
+            // "Jankelowicz"
+            keys.append('J', 'A');
+        } else if (isVowel(charAt(value, index - 1)) && !isSlavoGermanic
+                && (charAt(value, index + 1) == 'A' || charAt(value, index + 1) == 'O')) {
+            // "Bajador"
+            keys.append('J', 'H');
+        } else if (index == value.length() - 1) {
+            keys.appendPrimary('J');
+        } else if (!contains(value, index + 1, 1, L_T_K_S_N_M_B_Z) && !contains(value, index - 1, 1, "S", "K", "L")) {
+            keys.append('J');
+        }
+        return charAt(value, index + 1) == 'J' ? index + 2 : index + 1;
+    }
+
+    private static int handleL(String value, Keys keys, int index) {
+        if (charAt(value, index + 1) != 'L') {
+            keys.append('L');
+            return index + 1;
+        }
+        if (isSpanishLl(value, index)) {
+            // "Cabrillo", "Gallegos"
+            keys.appendPrimary('L');
+        } else {
+            keys.append('L');
+        }
+        return index + 2;
+    }
+
+    private static int handleP(String value, Keys keys, int index) {
+        if (charAt(value, index + 1) == 'H') {
+            keys.append('F');
+            return index + 2;
+        }
+        keys.append('P');
+        return contains(value, index + 1, 1, "P", "B") ? index + 2 : index + 1;
+    }
+
+    private static int handleR(String value, Keys keys, int index, boolean isSlavoGermanic) {
+        if (index == value.length() - 1 && !isSlavoGermanic && contains(value, index - 2, 2, "IE")
+                && !contains(value, index - 4, 2, "ME", "MA")) {
+            // French, as in "Rogier"
+            keys.appendAlternate('R');
+        } else {
+            keys.append('R');
+        }
+        return charAt(value, index + 1) == 'R' ? index + 2 : index + 1;
+    }
+
+    private static int handleS(String value, Keys keys, int index, boolean isSlavoGermanic) {
+        if (contains(value, index - 1, 3, "ISL", "YSL")) {
+            // silent, as in "Island", "Carlysle"
+            return index + 1;
+        }
+        if (index == 0 && contains(value, index, 5, "SUGAR")) {
+            keys.append('X', 'S');
+            return index + 1;
+        }
+        if (contains(value, index, 2, "SH")) {
+            if (contains(value, index + 1, 4, "HEIM", "HOEK", "HOLM", "HOLZ")) {
+                // Germanic, as in "Rosenheim"
+                keys.append('S');
+            } else {
+                keys.append('X');
+            }
+            return index + 2;
+        }
+        if (contains(value, index, 3, "SIO", "SIA") || contains(value, index, 4, "SIAN")) {
+            if (isSlavoGermanic) {
+                keys.append('S');
+            } else {
+                keys.append('S', 'X');
+            }
+            return index + 3;
+        }
+        if ((index == 0 && contains(value, index + 1, 1, "M", "N", "L", "W")) || contains(value, index + 1, 1, "Z")) {
+            // "Smith" and "Schmidt" match in the alternate key
+            keys.append('S', 'X');
+            return contains(value, index + 1, 1, "Z") ? index + 2 : index + 1;
+        }
+        if (contains(value, index, 2, "SC")) {
+            return handleSc(value, keys, index);
+        }
+        if (index == value.length() - 1 && contains(value, index - 2, 2, "AI", "OI")) {
+            // French, as in "Resnais"
+            keys.appendAlternate('S');
+        } else {
+            keys.append('S');
+        }
+        return contains(value, index + 1, 1, "S", "Z") ? index + 2 : index + 1;
+    }
+
+    private static int handleSc(String value, Keys keys, int index) {
+        if (charAt(value, index + 2) == 'H') {
+            if (contains(value, index + 3, 2, "OO", "ER", "EN", "UY", "ED", "EM")) {
+                // Dutch or Germanic, as in "School", "Schenker"
+                if (contains(value, index + 3, 2, "ER", "EN")) {
+                    keys.append("X", "SK");
+                } else {
+                    keys.append("SK");
+                }
+            } else if (index == 0 && !isVowel(charAt(value, 3)) && charAt(value, 3) != 'W') {
+                keys.append('X', 'S');
+            } else {
+                keys.append('X');
+            }
+        } else if (contains(value, index + 2, 1, "I", "E", "Y")) {
+            keys.append('S');
+        } else {
+            keys.append("SK");
+        }
+        return index + 3;
+    }
+
+    private static int handleT(String value, Keys keys, int index) {
+        if (contains(value, index, 4, "TION") || contains(value, index, 3, "TIA", "TCH")) {
+            keys.append('X');
+            return index + 3;
+        }
+        if (contains(value, index, 2, "TH") || contains(value, index, 3, "TTH")) {
+            if (contains(value, index + 2, 2, "OM", "AM") || contains(value, 0, 4, "VAN ", "VON ")
+                    || contains(value, 0, 3, "SCH")) {
+                // "Thomas", "Thames"
+                keys.append('T');
+            } else {
+                keys.append('0', 'T');
+            }
+            return index + 2;
+        }
+        keys.append('T');
+        return contains(value, index + 1, 1, "T", "D") ? index + 2 : index + 1;
+    }
+
+    private static int handleW(String value, Keys keys, int index) {
+        if (contains(value, index, 2, "WR")) {
+            keys.append('R');
+            return index + 2;
+        }
+        if (index == 0 && (isVowel(charAt(value, index + 1)) || contains(value, index, 2, "WH"))) {
+            // "Wasserman" and "Vasserman" match in the alternate key
+            if (isVowel(charAt(value, index + 1))) {
+                keys.append('A', 'F');
+            } else {
+                keys.append('A');
+            }
+            return index + 1;
+        }
+        if ((index == value.length() - 1 && isVowel(charAt(value, index - 1)))
+                || contains(value, index - 1, 5, "EWSKI", "EWSKY", "OWSKI", "OWSKY")
+                || contains(value, 0, 3, "SCH")) {
+            // Polish, as in "Filipowicz"
+            keys.appendAlternate('F');
+            return index + 1;
+        }
+        if (contains(value, index, 4, "WICZ", "WITZ")) {
+            keys.append("TS", "FX");
+            return index + 4;
+        }
+        return index + 1;
+    }
+
+    private static int handleX(String value, Keys keys, int index) {
+        if (index == 0) {
+            keys.append('S');
+            return index + 1;
+        }
+        if (!(index == value.length() - 1
+                && (contains(value, index - 3, 3, "IAU", "EAU") || contains(value, index - 2, 2, "AU", "OU")))) {
+            // not French, as "Breaux" is
+            keys.append("KS");
+        }
+        return contains(value, index + 1, 1, "C", "X") ? index + 2 : index + 1;
+    }
+
+    private static int handleZ(String value, Keys keys, int index, boolean isSlavoGermanic) {
+        if (charAt(value, index + 1) == 'H') {
+            // Chinese pinyin, as in "Zhao"
+            keys.append('J');
+            return index + 2;
+        }
+        if (contains(value, index + 1, 2, "ZO", "ZI", "ZA")
+                || (isSlavoGermanic && index > 0 && charAt(value, index - 1) != 'T')) {
+            keys.append("S", "TS");
+        } else {
+            keys.append('S');
+        }
+        return charAt(value, index + 1) == 'Z' ? index + 2 : index + 1;
+    }
+
+    /**
+     * Returns true if the "C" at {@code index} is part of a Germanic "ACH", as in "Bacher" and "Macher".
+     */
+    private static boolean isGermanicCh(String value, int index) {
+        if (contains(value, index, 4, "CHIA")) {
+            return true;
+        }
+        if (index <= 1 || isVowel(charAt(value, index - 2)) || !contains(value, index - 1, 3, "ACH")) {
+            return false;
+        }
+        char next = charAt(value, index + 2);
+        return (next != 'I' && next != 'E') || contains(value, index - 2, 6, "BACHER", "MACHER");
+    }
+
+    /**
+     * Returns true if the "CH" at {@code index} starts a word of Greek origin, as in "Character" and "Chorus".
+     */
+    private static boolean isGreekCh(String value, int index) {
+        return index == 0
+                && (contains(value, index + 1, 5, "HARAC", "HARIS")
+                        || contains(value, index + 1, 3, "HOR", "HYM", "HIA", "HEM"))
+                && !contains(value, 0, 5, "CHORE");
+    }
+
+    /**
+     * Returns true if the "CH" at {@code index} sounds like "K" for another reason, as in "Orchestra" or "Schmidt".
+     */
+    private static boolean isKhSoundingCh(String value, int index) {
+        return contains(value, 0, 4, "VAN ", "VON ") || contains(value, 0, 3, "SCH")
+                || contains(value, index - 2, 6, "ORCHES", "ARCHIT", "ORCHID")
+                || contains(value, index + 2, 1, "T", "S")
+                || ((contains(value, index - 1, 1, "A", "O", "U", "E") || index == 0)
+                        && (contains(value, index + 2, 1, L_R_N_M_B_H_F_V_W_SPACE)
+                                || index + 1 == value.length() - 1));
+    }
+
+    private static boolean isSpanishLl(String value, int index) {
+        if (index == value.length() - 3 && contains(value, index - 1, 4, "ILLO", "ILLA", "ALLE")) {
+            return true;
+        }
+        return (contains(value, value.length() - 2, 2, "AS", "OS") || contains(value, value.length() - 1, 1, "A", "O"))
+                && contains(value, index - 1, 4, "ALLE");
+    }
+
+    private static boolean isDoubleM(String value, int index) {
+        if (charAt(value, index + 1) == 'M') {
+            return true;
+        }
+        // "Dumb", "Thumb"
+        return contains(value, index - 1, 3, "UMB")
+                && (index + 1 == value.length() - 1 || contains(value, index + 2, 2, "ER"));
+    }
+
+    private static boolean isVowel(char ch) {
+        return ch != Character.MIN_VALUE && VOWELS.indexOf(ch) != -1;
+    }
+
+    /**
+     * Returns the character at {@code index}, or {@code Character.MIN_VALUE} if it is out of range.
+     */
+    private static char charAt(String value, int index) {
+        return index < 0 || index >= value.length() ? Character.MIN_VALUE : value.charAt(index);
+    }
+
+    /**
+     * Returns true if the {@code length} characters from {@code start} equal one of {@code candidates}.
+     */
+    private static boolean contains(String value, int start, int length, String... candidates) {
+        if (start < 0 || start + length > value.length()) {
+            return false;
+        }
+        for (String candidate : candidates) {
+            if (value.startsWith(candidate, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The primary and alternate keys being built.
+     */
+    private static class Keys {
+        private final StringBuilder primary = new StringBuilder(MAX_KEY_LENGTH);
+        private final StringBuilder alternate = new StringBuilder(MAX_KEY_LENGTH);
+
+        void append(char sound) {
+            appendPrimary(sound);
+            appendAlternate(sound);
+        }
+
+        void append(char primarySound, char alternateSound) {
+            appendPrimary(primarySound);
+            appendAlternate(alternateSound);
+        }
+
+        void append(String sounds) {
+            append(sounds, sounds);
+        }
+
+        void append(String primarySounds, String alternateSounds) {
+            primary.append(primarySounds, 0, Math.min(primarySounds.length(), MAX_KEY_LENGTH - primary.length()));
+            alternate.append(alternateSounds, 0,
+                    Math.min(alternateSounds.length(), MAX_KEY_LENGTH - alternate.length()));
+        }
+
+        void appendPrimary(char sound) {
+            if (primary.length() < MAX_KEY_LENGTH) {
+                primary.append(sound);
+            }
+        }
+
+        void appendAlternate(char sound) {
+            if (alternate.length() < MAX_KEY_LENGTH) {
+                alternate.append(sound);
+            }
+        }
+
+        boolean isComplete() {
+            return primary.length() >= MAX_KEY_LENGTH && alternate.length() >= MAX_KEY_LENGTH;
+        }
+
+        String getPrimary() {
+            return primary.toString();
+        }
+
+        String getAlternate() {
+            return alternate.toString();
+        }
+    }
+}
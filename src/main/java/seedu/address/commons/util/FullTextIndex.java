@@ -0,0 +1,356 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A positional inverted index of free text, for finding the documents that best match a query by
+ * <a href="https://en.wikipedia.org/wiki/Okapi_BM25">Okapi BM25</a> without reading every document.
+ * <p>
+ * Texts are split into words of letters and digits, compared in lower case. The posting list of each word holds,
+ * in increasing order of document, how often and where the word occurs in each document. A query is a list of
+ * words, any of which may match, and of phrases in double quotes, all of which must occur in a document with their
+ * words next to each other and in order, which the positions let the index check without the text. Scores are
+ * only computed for documents on the posting lists of the query, and only the best are kept while scoring.
+ * </p>
+ * <p>
+ * Documents are numbered by the caller, and the index keeps the words of each so that it can be removed or
+ * replaced without its text. As these are kept in arrays indexed by document, numbers should be dense, such as
+ * those of a list with the numbers of removed documents reused.
+ * </p>
+ */
+public class FullTextIndex {
+    /** How quickly the score of a word saturates as it is repeated in a document. */
+    private static final double K1 = 1.2;
+    /** How much the score of a word is lowered in documents longer than average, from 0 (not at all) to 1. */
+    private static final double B = 0.75;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    /** The distinct words of each document, by document; null for documents not in the index. */
+    private String[][] docWords = new String[0][];
+    /** The number of words in each document, by document. */
+    private int[] docLengths = new int[0];
+    private int numOfDocs = 0;
+    private long totalLength = 0;
+
+    /**
+     * Indexes {@code text} as the text of document {@code doc}, replacing any text it had.
+     */
+    public void add(int doc, String text) {
+        requireNonNull(text);
+        assert doc >= 0 : "documents should be numbered from 0";
+        remove(doc);
+        ensureDocCapacity(doc);
+
+        // the positions of each word, in the order the words first occur
+        Map<String, List<Integer>> positions = new LinkedHashMap<>();
+        List<String> words = tokenize(text);
+        for (int i = 0; i < words.size(); i++) {
+            positions.computeIfAbsent(words.get(i), unused -> new ArrayList<>()).add(i);
+        }
+
+        String[] distinctWords = new String[positions.size()];
+        int i = 0;
+        for (Map.Entry<String, List<Integer>> entry : positions.entrySet()) {
+            Postings wordPostings = postings.computeIfAbsent(entry.getKey(), Postings::new);
+            wordPostings.add(doc, entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+            // the key of the posting list, so that every document shares one copy of the word
+            distinctWords[i++] = wordPostings.word;
+        }
+        docWords[doc] = distinctWords;
+        docLengths[doc] = words.size();
+        numOfDocs++;
+        totalLength += words.size();
+    }
+
+    /**
+     * Removes document {@code doc} from the index, if it is in it.
+     */
+    public void remove(int doc) {
+        if (doc < 0 || doc >= docWords.length || docWords[doc] == null) {
+            return;
+        }
+        for (String word : docWords[doc]) {
+            Postings wordPostings = postings.get(word);
+            wordPostings.remove(doc);
+            if (wordPostings.size == 0) {
+                postings.remove(word);
+            }
+        }
+        docWords[doc] = null;
+        numOfDocs--;
+        totalLength -= docLengths[doc];
+        docLengths[doc] = 0;
+    }
+
+    /**
+     * Removes every document.
+     */
+    public void clear() {
+        postings.clear();
+        docWords = new String[0][];
+        docLengths = new int[0];
+        numOfDocs = 0;
+        totalLength = 0;
+    }
+
+    /**
+     * Returns true if document {@code doc} is in the index.
+     */
+    public boolean contains(int doc) {
+        return doc >= 0 && doc < docWords.length && docWords[doc] != null;
+    }
+
+    /**
+     * Returns the (at most) {@code limit} documents that match {@code query} best, best first. A document matches if
+     * it contains every phrase of the query, and, if the query has no phrases, any of its words. Among equal scores,
+     * lower numbered documents come first.
+     */
+    public List<Hit> search(String query, int limit) {
+        requireNonNull(query);
+        Query parsed = Query.parse(query);
+        if (parsed.words.isEmpty() || numOfDocs == 0) {
+            return List.of();
+        }
+
+        BitSet required = null;
+        for (List<String> phrase : parsed.phrases) {
+            BitSet phraseDocs = findPhrase(phrase);
+            if (required == null) {
+                required = phraseDocs;
+            } else {
+                required.and(phraseDocs);
+            }
+        }
+
+        // only the documents on the posting lists are scored, so that a query costs nothing per unmatched document
+        Map<Integer, Double> scores = new HashMap<>();
+        double averageLength = (double) totalLength / numOfDocs;
+        for (String word : parsed.words) {
+            Postings wordPostings = postings.get(word);
+            if (wordPostings == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (numOfDocs - wordPostings.size + 0.5) / (wordPostings.size + 0.5));
+            for (int i = 0; i < wordPostings.size; i++) {
+                int doc = wordPostings.docs[i];
+                if (required != null && !required.get(doc)) {
+                    continue;
+                }
+                int frequency = wordPostings.positions[i].length;
+                double lengthRatio = docLengths[doc] / averageLength;
+                scores.merge(doc, idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio)),
+                        Double::sum);
+            }
+        }
+        return findBest(scores, limit);
+    }
+
+    /**
+     * Returns the (at most) {@code limit} documents with the highest {@code scores}, highest first, keeping only the
+     * best so far in a heap of that size.
+     */
+    private static List<Hit> findBest(Map<Integer, Double> scores, int limit) {
+        // the root of the heap is the lowest ranked of the best so far
+        Comparator<Hit> byRank = Comparator.comparingDouble(Hit::getScore)
+                .thenComparing(Hit::getDoc, Comparator.reverseOrder());
+        PriorityQueue<Hit> best = new PriorityQueue<>(byRank);
+        scores.forEach((doc, score) -> {
+            if (best.size() < limit) {
+                best.add(new Hit(doc, score));
+            } else if (limit > 0 && (score > best.peek().score
+                    || score == best.peek().score && doc < best.peek().doc)) {
+                best.poll();
+                best.add(new Hit(doc, score));
+            }
+        });
+
+        List<Hit> top = new ArrayList<>(best);
+        top.sort(byRank.reversed());
+        return top;
+    }
+
+    /**
+     * Returns the documents in which the words of {@code phrase} occur next to each other, in order.
+     */
+    private BitSet findPhrase(List<String> phrase) {
+        BitSet found = new BitSet();
+        Postings[] lists = new Postings[phrase.size()];
+        for (int i = 0; i < phrase.size(); i++) {
+            lists[i] = postings.get(phrase.get(i));
+            if (lists[i] == null) {
+                return found;
+            }
+        }
+
+        // walk the first list, looking each document up in the others
+        Postings first = lists[0];
+        for (int i = 0; i < first.size; i++) {
+            int doc = first.docs[i];
+            int[][] wordPositions = new int[lists.length][];
+            wordPositions[0] = first.positions[i];
+            boolean hasAllWords = true;
+            for (int j = 1; j < lists.length && hasAllWords; j++) {
+                int k = Arrays.binarySearch(lists[j].docs, 0, lists[j].size, doc);
+                hasAllWords = k >= 0;
+                wordPositions[j] = hasAllWords ? lists[j].positions[k] : null;
+            }
+            if (hasAllWords && hasConsecutive(wordPositions)) {
+                found.set(doc);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns true if there is a position {@code p} in {@code wordPositions[0]} such that {@code p + j} is in
+     * {@code wordPositions[j]} for every {@code j}.
+     */
+    private static boolean hasConsecutive(int[][] wordPositions) {
+        for (int start : wordPositions[0]) {
+            boolean isPhrase = true;
+            for (int j = 1; j < wordPositions.length && isPhrase; j++) {
+                isPhrase = Arrays.binarySearch(wordPositions[j], start + j) >= 0;
+            }
+            if (isPhrase) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void ensureDocCapacity(int doc) {
+        if (doc < docWords.length) {
+            return;
+        }
+        // in long arithmetic, as neither the number after the last document nor twice the capacity may fit an int
+        int newCapacity = (int) Math.min(Math.max(doc + 1L, docWords.length * 2L), Integer.MAX_VALUE);
+        docWords = Arrays.copyOf(docWords, newCapacity);
+        docLengths = Arrays.copyOf(docLengths, newCapacity);
+    }
+
+    /**
+     * Returns the words of {@code text} in order, in lower case, where a word is a run of letters and digits.
+     */
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * A document matching a query, with its score.
+     */
+    public static class Hit {
+        private final int doc;
+        private final double score;
+
+        /**
+         * Creates a hit for document {@code doc} with score {@code score}.
+         */
+        public Hit(int doc, double score) {
+            this.doc = doc;
+            this.score = score;
+        }
+
+        public int getDoc() {
+            return doc;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("doc", doc).add("score", score).toString();
+        }
+    }
+
+    /**
+     * The distinct words of a query, and its phrases.
+     */
+    private static class Query {
+        private final List<String> words = new ArrayList<>();
+        private final List<List<String>> phrases = new ArrayList<>();
+
+        /**
+         * Splits {@code query} into words, taking the words between each pair of double quotes as a phrase. An
+         * unmatched quote starts a phrase that runs to the end of the query.
+         */
+        static Query parse(String query) {
+            Query parsed = new Query();
+            String[] parts = query.split("\"", -1);
+            for (int i = 0; i < parts.length; i++) {
+                List<String> partWords = tokenize(parts[i]);
+                boolean isPhrase = i % 2 == 1;
+                if (isPhrase && !partWords.isEmpty()) {
+                    parsed.phrases.add(partWords);
+                }
+                partWords.stream().filter(word -> !parsed.words.contains(word)).forEach(parsed.words::add);
+            }
+            return parsed;
+        }
+    }
+
+    /**
+     * The documents containing one word, in increasing order, with the positions of the word in each, as parallel
+     * arrays with room to grow.
+     */
+    private static class Postings {
+        private final String word;
+        private int[] docs = new int[4];
+        private int[][] positions = new int[4][];
+        private int size = 0;
+
+        Postings(String word) {
+            this.word = word;
+        }
+
+        void add(int doc, int[] docPositions) {
+            // documents are usually added in increasing order, so check the end before searching
+            int i = size;
+            if (size > 0 && docs[size - 1] > doc) {
+                i = -Arrays.binarySearch(docs, 0, size, doc) - 1;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            System.arraycopy(docs, i, docs, i + 1, size - i);
+            System.arraycopy(positions, i, positions, i + 1, size - i);
+            docs[i] = doc;
+            positions[i] = docPositions;
+            size++;
+        }
+
+        void remove(int doc) {
+            int i = Arrays.binarySearch(docs, 0, size, doc);
+            if (i < 0) {
+                return;
+            }
+            System.arraycopy(docs, i + 1, docs, i, size - i - 1);
+            System.arraycopy(positions, i + 1, positions, i, size - i - 1);
+            size--;
+            positions[size] = null;
+        }
+    }
+}
@@ -1,13 +1,11 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Queue;
 
 /**
  * Contains utility methods for graph-related features.
@@ -17,6 +15,23 @@ public class GraphUtil {
     /** Denotes an invalid node assuming nodes are non-negative integer indices. */
     private static final int INVALID_NODE = -1;
 
+    /**
+     * How many times larger one neighbour list must be than the other before {@link #findCommonNeighbours}
+     * gallops through it instead of merging the two.
+     */
+    private static final int GALLOP_RATIO = 8;
+
+    /**
+     * Receives the nodes reached by {@link #visitWithinHops}.
+     */
+    @FunctionalInterface
+    public interface HopVisitor {
+        /**
+         * Called when {@code node} is first reached, from {@code parent}, {@code hops} edges away from the start.
+         */
+        void visit(int node, int parent, int hops);
+    }
+
     /**
      * Returns the shortest path from {@code start} to {@code end}.
      * Assumes 0 <= {@code start}, {@code end} < {@code adjList.size()}.
@@ -28,64 +43,316 @@ public class GraphUtil {
      */
     public static ArrayList<Integer> getShortestPath(List<? extends List<? extends Integer>> adjList,
              int start, int end) {
-        // Finds shortest path using BFS
         requireNonNull(adjList);
         int numOfNodes = adjList.size();
         assert 0 <= start && start < numOfNodes : "start node should be a valid index";
         assert 0 <= end && end < numOfNodes : "end node should be a valid index";
 
-        if (start == end) {
-            return new ArrayList<>(List.of(start));
+        BfsWorkspace workspace = new BfsWorkspace();
+        int pathLength = findShortestPath(CsrGraph.fromAdjacencyList(adjList), start, end, workspace);
+
+        ArrayList<Integer> result = new ArrayList<>(pathLength);
+        for (int i = 0; i < pathLength; i++) {
+            result.add(workspace.getPathNode(i));
         }
+        return result;
+    }
 
-        // Set up
-        int[] parent = new int[numOfNodes];
-        Arrays.fill(parent, INVALID_NODE);
-        boolean[] visited = new boolean[numOfNodes];
-        Queue<Integer> queue = new ArrayDeque<>();
+    /**
+     * Finds a shortest path from {@code start} to {@code end} in {@code graph} by BFS, leaving it in
+     * {@code workspace}. Does not allocate once {@code workspace} has been used on a graph of the same size.
+     * Assumes 0 <= {@code start}, {@code end} < {@code graph.getNumOfNodes()}.
+     * @param graph graph to traverse.
+     * @param start starting node index.
+     * @param end ending node index.
+     * @param workspace scratch space for the search, which also receives the path.
+     * @return The number of nodes on the path, both ends included, or 0 if {@code end} is not reachable from
+     *         {@code start}.
+     */
+    public static int findShortestPath(CsrGraph graph, int start, int end, BfsWorkspace workspace) {
+        requireAllNonNull(graph, workspace);
+        int numOfNodes = graph.getNumOfNodes();
+        assert 0 <= start && start < numOfNodes : "start node should be a valid index";
+        assert 0 <= end && end < numOfNodes : "end node should be a valid index";
 
-        queue.add(start);
-        visited[start] = true;
+        workspace.reset(numOfNodes);
 
-        // BFS
-        while (!queue.isEmpty()) {
-            int cur = queue.poll();
+        // the start node is its own parent, which marks where the path begins
+        workspace.visit(start, start);
+        workspace.enqueue(start);
+
+        while (workspace.getQueueSize() > 0) {
+            int cur = workspace.poll();
             if (cur == end) {
+                workspace.tracePathTo(end);
                 break;
             }
-            for (int adj : adjList.get(cur)) {
-                if (!visited[adj]) {
-                    visited[adj] = true;
-                    parent[adj] = cur;
-                    queue.add(adj);
+            int last = graph.getNeighbourEnd(cur);
+            for (int i = graph.getNeighbourStart(cur); i < last; i++) {
+                int adj = graph.getTarget(i);
+                if (!workspace.isVisited(adj)) {
+                    workspace.visit(adj, cur);
+                    workspace.enqueue(adj);
                 }
             }
         }
 
-        return constructPath(parent, end);
+        return workspace.getPathLength();
     }
 
     /**
-     * Returns the path constructed by tracing through {@code parent} from {@code end}.
-     * @param parent array denoting the predecessor of each node in the graph traversal.
-     * @param end the ending node.
-     * @return the constructed path.
+     * Finds a shortest path from {@code start} to {@code end} in the undirected {@code graph} by searching from
+     * both ends at once, leaving it in {@code workspace}. Each step expands a whole level of whichever side has
+     * the smaller frontier, and the search stops at the end of the first level in which the two sides meet, so it
+     * usually visits far fewer nodes than {@link #findShortestPath} when the path is short.
+     * Does not allocate once {@code workspace} has been used on a graph of the same size.
+     * Assumes 0 <= {@code start}, {@code end} < {@code graph.getNumOfNodes()}, and that every edge of
+     * {@code graph} is stored in both directions.
+     * @param graph graph to traverse.
+     * @param start starting node index.
+     * @param end ending node index.
+     * @param workspace scratch space for the search, which also receives the path.
+     * @return The number of nodes on the path, both ends included, or 0 if {@code end} is not reachable from
+     *         {@code start}.
      */
-    private static ArrayList<Integer> constructPath(int[] parent, int end) {
-        ArrayList<Integer> result = new ArrayList<>();
+    public static int findShortestPathBidirectional(CsrGraph graph, int start, int end, BfsWorkspace workspace) {
+        return findShortestPathBidirectional(graph, start, end, workspace, null);
+    }
 
-        // no path at all
-        if (parent[end] == INVALID_NODE) {
-            return result;
+    /**
+     * Finds a shortest path as {@link #findShortestPathBidirectional(CsrGraph, int, int, BfsWorkspace)} does, but
+     * also considers the shortest path through a landmark of {@code oracle}. The search stops as soon as the depths
+     * of its two sides show that no path is shorter than that one, which on social graphs usually saves expanding
+     * the final, largest level.
+     * @param oracle distances from landmarks in {@code graph}, or null to search without them.
+     */
+    public static int findShortestPathBidirectional(CsrGraph graph, int start, int end, BfsWorkspace workspace,
+            LandmarkOracle oracle) {
+        requireAllNonNull(graph, workspace);
+        return searchBidirectional(graph, start, end, workspace, oracle, null);
+    }
+
+    /**
+     * Finds a shortest path as {@link #findShortestPathBidirectional(CsrGraph, int, int, BfsWorkspace)} does, but
+     * only through nodes in {@code eligible}, apart from {@code start} and {@code end} themselves. Ineligible nodes
+     * are never visited, so a narrow {@code eligible} makes the search cheaper, not dearer.
+     * @param eligible the nodes the path may pass through.
+     */
+    public static int findShortestPathThrough(CsrGraph graph, int start, int end, BfsWorkspace workspace,
+            BitSet eligible) {
+        requireAllNonNull(graph, workspace, eligible);
+        return searchBidirectional(graph, start, end, workspace, null, eligible);
+    }
+
+    /**
+     * Searches as {@link #findShortestPathBidirectional(CsrGraph, int, int, BfsWorkspace, LandmarkOracle)} does,
+     * through only the nodes in {@code eligible} unless it is null.
+     */
+    private static int searchBidirectional(CsrGraph graph, int start, int end, BfsWorkspace workspace,
+            LandmarkOracle oracle, BitSet eligible) {
+        int numOfNodes = graph.getNumOfNodes();
+        assert 0 <= start && start < numOfNodes : "start node should be a valid index";
+        assert 0 <= end && end < numOfNodes : "end node should be a valid index";
+
+        BfsWorkspace forward = workspace;
+        BfsWorkspace backward = workspace.getReverse();
+        forward.reset(numOfNodes);
+        backward.reset(numOfNodes);
+
+        forward.visit(start, start);
+        forward.enqueue(start);
+        if (start == end) {
+            forward.tracePathTo(start);
+            return forward.getPathLength();
         }
+        backward.visit(end, end);
+        backward.enqueue(end);
+
+        int landmark = oracle == null ? LandmarkOracle.NO_LANDMARK : oracle.findNearestLandmark(start, end);
+        int landmarkLength = landmark == LandmarkOracle.NO_LANDMARK
+                ? LandmarkOracle.UNREACHABLE
+                : oracle.getDistance(landmark, start) + oracle.getDistance(landmark, end);
+        while (forward.getQueueSize() > 0 && backward.getQueueSize() > 0) {
+            // the sides have not met, so every path is longer than the sum of their depths
+            if (forward.getFrontierDepth() + backward.getFrontierDepth() + 1 >= landmarkLength) {
+                tracePathThroughLandmark(oracle, landmark, start, end, forward);
+                break;
+            }
 
-        for (int cur = end; cur != INVALID_NODE; cur = parent[cur]) {
-            result.add(cur);
+            int meeting = forward.getQueueSize() <= backward.getQueueSize()
+                    ? expandLevel(graph, forward, backward, end, eligible)
+                    : expandLevel(graph, backward, forward, start, eligible);
+            if (meeting != INVALID_NODE) {
+                forward.tracePathThrough(meeting, backward);
+                break;
+            }
         }
 
-        // reverse to get path from start to end
-        Collections.reverse(result);
+        return forward.getPathLength();
+    }
 
-        return result;
+    /**
+     * Reaches every node at most {@code maxHops} edges away from {@code start} by BFS, passing each one other than
+     * {@code start} to {@code visitor} as soon as it is found, so nodes are visited in order of their distance.
+     * Stops early once {@code limit} nodes have been visited.
+     * Does not allocate once {@code workspace} has been used on a graph of the same size.
+     * Assumes 0 <= {@code start} < {@code graph.getNumOfNodes()}.
+     * @param graph graph to traverse.
+     * @param start starting node index.
+     * @param maxHops the largest distance from {@code start} to visit.
+     * @param limit the largest number of nodes to visit.
+     * @param workspace scratch space for the search.
+     * @param visitor receives the nodes found.
+     * @return The number of nodes visited.
+     */
+    public static int visitWithinHops(CsrGraph graph, int start, int maxHops, int limit, BfsWorkspace workspace,
+            HopVisitor visitor) {
+        requireAllNonNull(graph, workspace, visitor);
+        int numOfNodes = graph.getNumOfNodes();
+        assert 0 <= start && start < numOfNodes : "start node should be a valid index";
+
+        workspace.reset(numOfNodes);
+        workspace.visit(start, start);
+        workspace.enqueue(start);
+
+        int numOfVisited = 0;
+        while (workspace.getQueueSize() > 0 && numOfVisited < limit) {
+            int cur = workspace.poll();
+            if (workspace.getDepth(cur) >= maxHops) {
+                // the queue is in order of depth, so every node left is this far out as well
+                break;
+            }
+            int last = graph.getNeighbourEnd(cur);
+            for (int i = graph.getNeighbourStart(cur); i < last && numOfVisited < limit; i++) {
+                int adj = graph.getTarget(i);
+                if (!workspace.isVisited(adj)) {
+                    workspace.visit(adj, cur);
+                    workspace.enqueue(adj);
+                    visitor.visit(adj, cur, workspace.getDepth(adj));
+                    numOfVisited++;
+                }
+            }
+        }
+        return numOfVisited;
+    }
+
+    /**
+     * Writes the nodes adjacent to both {@code u} and {@code v} into {@code out}, in increasing order.
+     * Merges the two sorted neighbour lists, or, when one is much longer, looks up each neighbour of the shorter
+     * one in the longer one by galloping search, which takes O(d log(D / d)) time for degrees d <= D.
+     * Assumes 0 <= {@code u}, {@code v} < {@code graph.getNumOfNodes()}.
+     * @param graph graph to look in.
+     * @param u first node index.
+     * @param v second node index.
+     * @param out receives the common neighbours; must hold at least as many nodes as the smaller degree.
+     * @return The number of common neighbours written to {@code out}.
+     */
+    public static int findCommonNeighbours(CsrGraph graph, int u, int v, int[] out) {
+        requireAllNonNull(graph, out);
+        assert 0 <= u && u < graph.getNumOfNodes() : "u should be a valid index";
+        assert 0 <= v && v < graph.getNumOfNodes() : "v should be a valid index";
+
+        int shorter = graph.getDegree(u) <= graph.getDegree(v) ? u : v;
+        int longer = shorter == u ? v : u;
+        assert out.length >= graph.getDegree(shorter) : "out should fit every neighbour of the smaller degree node";
+
+        int i = graph.getNeighbourStart(shorter);
+        int iEnd = graph.getNeighbourEnd(shorter);
+        int j = graph.getNeighbourStart(longer);
+        int jEnd = graph.getNeighbourEnd(longer);
+        boolean isGalloping = (long) graph.getDegree(shorter) * GALLOP_RATIO < graph.getDegree(longer);
+
+        int numOfCommon = 0;
+        while (i < iEnd && j < jEnd) {
+            int a = graph.getTarget(i);
+            int b = graph.getTarget(j);
+            if (a == b) {
+                out[numOfCommon++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j = isGalloping ? gallopTo(graph, j, jEnd, a) : j + 1;
+            }
+        }
+        return numOfCommon;
+    }
+
+    /**
+     * Returns the first index in {@code from} to {@code to} whose target is at least {@code value}, or {@code to}
+     * if there is none, given that the targets in that range are in increasing order and the target at
+     * {@code from} is less than {@code value}.
+     * Probes 1, 2, 4, ... places ahead before binary searching, so it is fast when the answer is near {@code from}.
+     */
+    private static int gallopTo(CsrGraph graph, int from, int to, int value) {
+        int low = from;
+        int step = 1;
+        while (low + step < to && graph.getTarget(low + step) < value) {
+            low += step;
+            step *= 2;
+        }
+
+        // the answer is in (low, high]
+        int high = Math.min(low + step, to);
+        while (low + 1 < high) {
+            int mid = (low + high) >>> 1;
+            if (graph.getTarget(mid) < value) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Visits the unvisited neighbours of every node in the current frontier of {@code side} that are in
+     * {@code eligible}, or are {@code otherStart}, the node {@code other} started from.
+     * @param eligible the nodes that may be visited, or null if every node may be.
+     * @return The newly visited node that is closest to the start of {@code other} among those {@code other} has
+     *         also visited, or {@link #INVALID_NODE} if there is none.
+     */
+    private static int expandLevel(CsrGraph graph, BfsWorkspace side, BfsWorkspace other, int otherStart,
+            BitSet eligible) {
+        int meeting = INVALID_NODE;
+        for (int remaining = side.getQueueSize(); remaining > 0; remaining--) {
+            int cur = side.poll();
+            int last = graph.getNeighbourEnd(cur);
+            for (int i = graph.getNeighbourStart(cur); i < last; i++) {
+                int adj = graph.getTarget(i);
+                if (side.isVisited(adj) || (eligible != null && !eligible.get(adj) && adj != otherStart)) {
+                    continue;
+                }
+                side.visit(adj, cur);
+                side.enqueue(adj);
+                boolean isCloserMeeting = meeting == INVALID_NODE || other.getDepth(adj) < other.getDepth(meeting);
+                if (other.isVisited(adj) && isCloserMeeting) {
+                    meeting = adj;
+                }
+            }
+        }
+        return meeting;
+    }
+
+    /**
+     * Records in {@code workspace} the path from {@code start} to {@code end} through {@code oracle}'s landmark
+     * {@code landmark}, which must reach both.
+     */
+    private static void tracePathThroughLandmark(LandmarkOracle oracle, int landmark, int start, int end,
+            BfsWorkspace workspace) {
+        int startDistance = oracle.getDistance(landmark, start);
+        int length = startDistance + oracle.getDistance(landmark, end) + 1;
+        int cur = start;
+        for (int i = 0; i < startDistance; i++) {
+            workspace.setPathNode(i, cur);
+            cur = oracle.getParent(landmark, cur);
+        }
+        cur = end;
+        for (int i = length - 1; i >= startDistance; i--) {
+            workspace.setPathNode(i, cur);
+            cur = oracle.getParent(landmark, cur);
+        }
+        workspace.setPathLength(length);
     }
 }
@@ -0,0 +1,254 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The distances from a few landmark nodes of an undirected graph to every other node, with a shortest path tree
+ * rooted at each landmark. By the triangle inequality, {@code d(u, v) <= d(l, u) + d(l, v)} for any landmark
+ * {@code l}, and the tree of the landmark giving the least such bound yields a path of that length.
+ * <p>
+ * Landmarks are the nodes of highest degree, which on social graphs lie on many shortest paths and so give tight
+ * bounds. The searches from the landmarks run in parallel on the fork-join pool the oracle is built from, and a
+ * build whose graph has since changed can be abandoned between them. Adding an edge can only shorten distances,
+ * which {@link #addEdge} applies in place; removing an edge requires a new oracle.
+ * </p>
+ */
+public class LandmarkOracle {
+    /** Distance to a node that a landmark cannot reach. */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    /** Denotes the absence of a landmark reaching the nodes asked about. */
+    public static final int NO_LANDMARK = -1;
+
+    private final int numOfLandmarks;
+    /**
+     * distances[u * numOfLandmarks + i] is the number of edges between landmark i and node u. Keeping the distances
+     * of each node together means a bound reads one or two cache lines rather than one per landmark, which matters
+     * as bounds are taken before every search.
+     */
+    private int[] distances;
+    /** parents[u * numOfLandmarks + i] is the node after u on a shortest path from u to landmark i. */
+    private int[] parents;
+
+    private LandmarkOracle(int numOfLandmarks, int[] distances, int[] parents) {
+        this.numOfLandmarks = numOfLandmarks;
+        this.distances = distances;
+        this.parents = parents;
+    }
+
+    /**
+     * Returns an oracle for {@code graph}, whose every edge must be stored in both directions, that uses the
+     * {@code numOfLandmarks} nodes of highest degree as landmarks. Runs one BFS per landmark in parallel, on the
+     * current fork-join pool if called from one, or else on the common pool.
+     */
+    public static LandmarkOracle build(CsrGraph graph, int numOfLandmarks) {
+        return build(graph, numOfLandmarks, () -> false);
+    }
+
+    /**
+     * Returns an oracle as {@link #build(CsrGraph, int)} does, but gives up once {@code isOutdated} returns true,
+     * which it is asked before each search from a landmark, so that a build for a graph that has since changed
+     * stops without running the searches still to start.
+     *
+     * @throws CancellationException if {@code isOutdated} returned true.
+     */
+    public static LandmarkOracle build(CsrGraph graph, int numOfLandmarks, BooleanSupplier isOutdated) {
+        requireNonNull(graph);
+        requireNonNull(isOutdated);
+        assert numOfLandmarks > 0 : "there should be at least one landmark";
+        int[] landmarks = findHighestDegreeNodes(graph, numOfLandmarks);
+        int numOfNodes = graph.getNumOfNodes();
+        int[][] distancesFromLandmarks = new int[landmarks.length][numOfNodes];
+        int[][] parentsFromLandmarks = new int[landmarks.length][numOfNodes];
+
+        List<RecursiveAction> searches = new ArrayList<>();
+        for (int i = 0; i < landmarks.length; i++) {
+            int index = i;
+            searches.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    if (isOutdated.getAsBoolean()) {
+                        return;
+                    }
+                    search(graph, landmarks[index], distancesFromLandmarks[index], parentsFromLandmarks[index]);
+                }
+            });
+        }
+        ForkJoinTask.invokeAll(searches);
+        // a search skipped above leaves the build outdated, as a graph that has changed stays changed
+        if (isOutdated.getAsBoolean()) {
+            throw new CancellationException("The graph changed while its landmark oracle was being built");
+        }
+
+        int[] distances = new int[numOfNodes * landmarks.length];
+        int[] parents = new int[numOfNodes * landmarks.length];
+        for (int i = 0; i < landmarks.length; i++) {
+            for (int u = 0; u < numOfNodes; u++) {
+                distances[u * landmarks.length + i] = distancesFromLandmarks[i][u];
+                parents[u * landmarks.length + i] = parentsFromLandmarks[i][u];
+            }
+        }
+        return new LandmarkOracle(landmarks.length, distances, parents);
+    }
+
+    public int getNumOfLandmarks() {
+        return numOfLandmarks;
+    }
+
+    /**
+     * Returns a number no less than the distance between {@code u} and {@code v}, or {@link #UNREACHABLE} if no
+     * landmark reaches both.
+     */
+    public int getUpperBound(int u, int v) {
+        int landmark = findNearestLandmark(u, v);
+        return landmark == NO_LANDMARK ? UNREACHABLE : getDistance(landmark, u) + getDistance(landmark, v);
+    }
+
+    /**
+     * Returns the landmark with the shortest path between {@code u} and {@code v} through it, or
+     * {@link #NO_LANDMARK} if no landmark reaches both.
+     */
+    public int findNearestLandmark(int u, int v) {
+        if (!isCovered(u) || !isCovered(v)) {
+            return NO_LANDMARK;
+        }
+        int nearest = NO_LANDMARK;
+        long nearestLength = UNREACHABLE;
+        int offsetU = u * numOfLandmarks;
+        int offsetV = v * numOfLandmarks;
+        for (int i = 0; i < numOfLandmarks; i++) {
+            long length = (long) distances[offsetU + i] + distances[offsetV + i];
+            if (length < nearestLength) {
+                nearest = i;
+                nearestLength = length;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Returns the number of edges between {@code landmark} and {@code node}, or {@link #UNREACHABLE}.
+     */
+    public int getDistance(int landmark, int node) {
+        assert 0 <= landmark && landmark < numOfLandmarks : "landmark should be a valid index";
+        return isCovered(node) ? distances[node * numOfLandmarks + landmark] : UNREACHABLE;
+    }
+
+    /**
+     * Returns the node after {@code node} on a shortest path to {@code landmark}, which must reach it. The landmark
+     * itself is its own parent.
+     */
+    public int getParent(int landmark, int node) {
+        assert getDistance(landmark, node) != UNREACHABLE : "node should be reachable from the landmark";
+        return parents[node * numOfLandmarks + landmark];
+    }
+
+    /**
+     * Updates the distances for an edge added between {@code u} and {@code v}. {@code adjList} is the graph after
+     * the addition, and may have more nodes than the graph this oracle was built for.
+     */
+    public void addEdge(int u, int v, List<? extends List<Integer>> adjList) {
+        requireNonNull(adjList);
+        int requiredLength = adjList.size() * numOfLandmarks;
+        if (distances.length < requiredLength) {
+            int oldLength = distances.length;
+            distances = Arrays.copyOf(distances, Math.max(requiredLength, oldLength * 2));
+            parents = Arrays.copyOf(parents, distances.length);
+            Arrays.fill(distances, oldLength, distances.length, UNREACHABLE);
+        }
+
+        for (int i = 0; i < numOfLandmarks; i++) {
+            int du = distances[u * numOfLandmarks + i];
+            int dv = distances[v * numOfLandmarks + i];
+            int nearer = du <= dv ? u : v;
+            int farther = nearer == u ? v : u;
+            int nearerDistance = Math.min(du, dv);
+            if (nearerDistance != UNREACHABLE && nearerDistance + 1 < Math.max(du, dv)) {
+                distances[farther * numOfLandmarks + i] = nearerDistance + 1;
+                parents[farther * numOfLandmarks + i] = nearer;
+                propagateFrom(farther, i, adjList);
+            }
+        }
+    }
+
+    private boolean isCovered(int node) {
+        return (node + 1) * numOfLandmarks <= distances.length;
+    }
+
+    /**
+     * Lowers the distances from landmark {@code i} of nodes beyond {@code start}, whose own distance has just been
+     * lowered.
+     */
+    private void propagateFrom(int start, int i, List<? extends List<Integer>> adjList) {
+        ArrayList<Integer> queue = new ArrayList<>();
+        queue.add(start);
+        for (int head = 0; head < queue.size(); head++) {
+            int cur = queue.get(head);
+            int adjDistance = distances[cur * numOfLandmarks + i] + 1;
+            for (int adj : adjList.get(cur)) {
+                if (adjDistance < distances[adj * numOfLandmarks + i]) {
+                    distances[adj * numOfLandmarks + i] = adjDistance;
+                    parents[adj * numOfLandmarks + i] = cur;
+                    queue.add(adj);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills {@code distance} and {@code parent} with the BFS distances and parents of every node from
+     * {@code source}.
+     */
+    private static void search(CsrGraph graph, int source, int[] distance, int[] parent) {
+        Arrays.fill(distance, UNREACHABLE);
+        int[] queue = new int[graph.getNumOfNodes()];
+        int head = 0;
+        int tail = 0;
+
+        distance[source] = 0;
+        parent[source] = source;
+        queue[tail++] = source;
+        while (head < tail) {
+            int cur = queue[head++];
+            int last = graph.getNeighbourEnd(cur);
+            for (int i = graph.getNeighbourStart(cur); i < last; i++) {
+                int adj = graph.getTarget(i);
+                if (distance[adj] == UNREACHABLE) {
+                    distance[adj] = distance[cur] + 1;
+                    parent[adj] = cur;
+                    queue[tail++] = adj;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the (at most) {@code count} nodes with edges of highest degree, highest first.
+     */
+    private static int[] findHighestDegreeNodes(CsrGraph graph, int count) {
+        int[] best = new int[count];
+        int numOfBest = 0;
+        for (int u = 0; u < graph.getNumOfNodes(); u++) {
+            int degree = graph.getDegree(u);
+            if (degree == 0 || (numOfBest == count && degree <= graph.getDegree(best[count - 1]))) {
+                continue;
+            }
+
+            // insertion into the short sorted array of the best nodes so far
+            int i = numOfBest < count ? numOfBest++ : count - 1;
+            while (i > 0 && graph.getDegree(best[i - 1]) < degree) {
+                best[i] = best[i - 1];
+                i--;
+            }
+            best[i] = u;
+        }
+        return Arrays.copyOf(best, numOfBest);
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Ranks the nodes two edges away from a node of an undirected {@link CsrGraph} by how much of its neighbourhood
+ * they share, as candidates for a new edge.
+ * <p>
+ * Scores are accumulated by walking the neighbours of each neighbour of the source once, so a query costs the sum
+ * of the degrees of the source's neighbours, and the best candidates are kept in a bounded heap rather than sorting
+ * them all. The scratch arrays are reused across queries, so a predictor must not be shared between queries that
+ * run at the same time.
+ * </p>
+ */
+public class LinkPredictor {
+
+    /**
+     * How a candidate is scored from the neighbours it shares with the source.
+     */
+    public enum Measure {
+        /** The number of shared neighbours. */
+        COMMON_NEIGHBOURS("common"),
+        /** The shared neighbours weighted by 1 / ln(degree), so that sharing a hub counts for less. */
+        ADAMIC_ADAR("adamic-adar"),
+        /** The shared neighbours as a fraction of the neighbours of either. */
+        JACCARD("jaccard");
+
+        private final String keyword;
+
+        Measure(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        @Override
+        public String toString() {
+            return keyword;
+        }
+    }
+
+    /** stamps[u] == generation if u is the source or one of its neighbours in the current query. */
+    private int[] stamps = new int[0];
+    /** candidateStamps[u] == generation if u has been reached as a candidate in the current query. */
+    private int[] candidateStamps = new int[0];
+    private double[] weights = new double[0];
+    private int[] numOfShared = new int[0];
+    private int[] candidates = new int[0];
+    private int generation = 0;
+
+    private int[] heapNodes = new int[0];
+    private double[] heapScores = new double[0];
+    private int[] heapTieKeys = new int[0];
+
+    /**
+     * Writes the (at most) {@code limit} nodes that share a neighbour with {@code source} but are not adjacent to it
+     * into {@code outNodes}, and their scores by {@code measure} into {@code outScores}, highest first. Among equal
+     * scores, lower {@code tieKey}s come first.
+     * @param graph graph to look in, whose every edge must be stored in both directions.
+     * @param source node index to find candidates for.
+     * @param measure how to score the candidates.
+     * @param limit the largest number of candidates to return.
+     * @param tieKey orders candidates with equal scores.
+     * @param outNodes receives the candidates; must hold at least {@code limit} nodes, or as many as the graph has
+     *     if that is fewer.
+     * @param outScores receives the scores of the candidates; must hold as many scores as {@code outNodes} nodes.
+     * @return The number of candidates written.
+     */
+    public int predict(CsrGraph graph, int source, Measure measure, int limit, IntUnaryOperator tieKey,
+            int[] outNodes, double[] outScores) {
+        requireAllNonNull(graph, measure, tieKey, outNodes, outScores);
+        assert 0 <= source && source < graph.getNumOfNodes() : "source should be a valid index";
+        int maxResults = Math.min(limit, graph.getNumOfNodes());
+        assert outNodes.length >= maxResults && outScores.length >= maxResults : "outputs should fit the limit";
+
+        int numOfCandidates = accumulate(graph, source, measure);
+        int heapSize = 0;
+        // the limit comes from the user, so the heap is sized by the candidates there are instead
+        ensureHeapCapacity(Math.min(limit, numOfCandidates));
+        for (int i = 0; i < numOfCandidates; i++) {
+            int node = candidates[i];
+            double score = getScore(graph, source, node, measure);
+            int key = tieKey.applyAsInt(node);
+            if (heapSize < limit) {
+                heapNodes[heapSize] = node;
+                heapScores[heapSize] = score;
+                heapTieKeys[heapSize] = key;
+                siftUp(heapSize++);
+            } else if (limit > 0 && ranksAbove(score, key, heapScores[0], heapTieKeys[0])) {
+                heapNodes[0] = node;
+                heapScores[0] = score;
+                heapTieKeys[0] = key;
+                siftDown(0, heapSize);
+            }
+        }
+
+        // repeatedly moving the lowest ranked to the back leaves the heap in order, highest first
+        for (int size = heapSize; size > 1; size--) {
+            swap(0, size - 1);
+            siftDown(0, size - 1);
+        }
+        System.arraycopy(heapNodes, 0, outNodes, 0, heapSize);
+        System.arraycopy(heapScores, 0, outScores, 0, heapSize);
+        return heapSize;
+    }
+
+    /**
+     * Finds the candidates for {@code source} and adds up the weights of the neighbours they share with it.
+     * Returns the number of candidates, which are in {@code candidates}.
+     */
+    private int accumulate(CsrGraph graph, int source, Measure measure) {
+        reset(graph.getNumOfNodes());
+        stamps[source] = generation;
+        int last = graph.getNeighbourEnd(source);
+        for (int i = graph.getNeighbourStart(source); i < last; i++) {
+            stamps[graph.getTarget(i)] = generation;
+        }
+
+        int numOfCandidates = 0;
+        for (int i = graph.getNeighbourStart(source); i < last; i++) {
+            int shared = graph.getTarget(i);
+            // the shared neighbour has an edge to the source and to the candidate, so its degree is at least 2
+            double weight = measure == Measure.ADAMIC_ADAR ? 1 / Math.log(graph.getDegree(shared)) : 1;
+            int sharedLast = graph.getNeighbourEnd(shared);
+            for (int j = graph.getNeighbourStart(shared); j < sharedLast; j++) {
+                int candidate = graph.getTarget(j);
+                if (stamps[candidate] == generation) {
+                    continue;
+                }
+                if (candidateStamps[candidate] != generation) {
+                    candidateStamps[candidate] = generation;
+                    weights[candidate] = 0;
+                    numOfShared[candidate] = 0;
+                    candidates[numOfCandidates++] = candidate;
+                }
+                weights[candidate] += weight;
+                numOfShared[candidate]++;
+            }
+        }
+        return numOfCandidates;
+    }
+
+    private double getScore(CsrGraph graph, int source, int candidate, Measure measure) {
+        switch (measure) {
+        case JACCARD:
+            int shared = numOfShared[candidate];
+            return (double) shared / (graph.getDegree(source) + graph.getDegree(candidate) - shared);
+        case ADAMIC_ADAR:
+            return weights[candidate];
+        default:
+            return numOfShared[candidate];
+        }
+    }
+
+    private void reset(int numOfNodes) {
+        if (stamps.length < numOfNodes) {
+            int capacity = Math.max(numOfNodes, stamps.length * 2);
+            stamps = new int[capacity];
+            candidateStamps = new int[capacity];
+            weights = new double[capacity];
+            numOfShared = new int[capacity];
+            candidates = new int[capacity];
+            generation = 0;
+        }
+
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            Arrays.fill(candidateStamps, 0);
+            generation = 0;
+        }
+        generation++;
+    }
+
+    private void ensureHeapCapacity(int limit) {
+        if (heapNodes.length < limit) {
+            heapNodes = new int[limit];
+            heapScores = new double[limit];
+            heapTieKeys = new int[limit];
+        }
+    }
+
+    private static boolean ranksAbove(double score, int tieKey, double otherScore, int otherTieKey) {
+        return score > otherScore || (score == otherScore && tieKey < otherTieKey);
+    }
+
+    /**
+     * Restores the heap, whose root is the lowest ranked entry, after the entry at {@code i} was added.
+     */
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!ranksAbove(heapScores[parent], heapTieKeys[parent], heapScores[i], heapTieKeys[i])) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    /**
+     * Restores the first {@code size} entries of the heap after the entry at {@code i} was replaced.
+     */
+    private void siftDown(int i, int size) {
+        while (true) {
+            int lowest = i;
+            for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                if (ranksAbove(heapScores[lowest], heapTieKeys[lowest], heapScores[child], heapTieKeys[child])) {
+                    lowest = child;
+                }
+            }
+            if (lowest == i) {
+                return;
+            }
+            swap(i, lowest);
+            i = lowest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int node = heapNodes[i];
+        heapNodes[i] = heapNodes[j];
+        heapNodes[j] = node;
+        double score = heapScores[i];
+        heapScores[i] = heapScores[j];
+        heapScores[j] = score;
+        int key = heapTieKeys[i];
+        heapTieKeys[i] = heapTieKeys[j];
+        heapTieKeys[j] = key;
+    }
+}
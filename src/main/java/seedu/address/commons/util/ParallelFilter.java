@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates a predicate on every item of a list, splitting a long list into chunks tested in parallel on the common
+ * fork-join pool.
+ * <p>
+ * Each chunk starts at a multiple of 64 items, so every chunk writes its own words of the result and no
+ * synchronisation is needed. Below a threshold the overhead of forking outweighs the gain and the list is tested
+ * sequentially on the calling thread. The list should get items by position in constant time, the predicate must be
+ * safe to call from several threads at once, and the list must not change while it is being tested.
+ * </p>
+ */
+public class ParallelFilter {
+    /** Default number of items below which the list is tested sequentially. */
+    public static final int DEFAULT_THRESHOLD = 20_000;
+
+    /** Number of items each fork-join task tests itself rather than splitting further; a multiple of 64. */
+    private static final int CHUNK_SIZE = 4096;
+
+    /**
+     * Returns the positions in {@code items} of the items that satisfy {@code predicate}, testing them in parallel if
+     * there are at least {@code threshold} of them.
+     */
+    public static <T> BitSet findMatches(List<? extends T> items, Predicate<? super T> predicate, int threshold) {
+        requireNonNull(items);
+        requireNonNull(predicate);
+
+        long[] words = new long[(items.size() + Long.SIZE - 1) / Long.SIZE];
+        if (items.size() < threshold) {
+            testRange(items, predicate, 0, items.size(), words);
+        } else {
+            ForkJoinPool.commonPool().invoke(new FilterTask<>(items, predicate, 0, items.size(), words));
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Returns the positions in {@code items} of the items that satisfy {@code predicate}, testing them in parallel if
+     * there are at least {@value #DEFAULT_THRESHOLD} of them.
+     */
+    public static <T> BitSet findMatches(List<? extends T> items, Predicate<? super T> predicate) {
+        return findMatches(items, predicate, DEFAULT_THRESHOLD);
+    }
+
+    private static <T> void testRange(List<? extends T> items, Predicate<? super T> predicate, int from, int to,
+            long[] words) {
+        for (int i = from; i < to; i++) {
+            if (predicate.test(items.get(i))) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    /**
+     * Tests the items in {@code [from, to)}, splitting the range in two, at a chunk boundary, while it is longer
+     * than a chunk.
+     */
+    private static class FilterTask<T> extends RecursiveAction {
+        private final List<? extends T> items;
+        private final Predicate<? super T> predicate;
+        private final int from;
+        private final int to;
+        private final long[] words;
+
+        FilterTask(List<? extends T> items, Predicate<? super T> predicate, int from, int to, long[] words) {
+            this.items = items;
+            this.predicate = predicate;
+            this.from = from;
+            this.to = to;
+            this.words = words;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                testRange(items, predicate, from, to, words);
+                return;
+            }
+            int numOfChunks = (to - from + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            int middle = from + numOfChunks / 2 * CHUNK_SIZE;
+            invokeAll(new FilterTask<>(items, predicate, from, middle, words),
+                    new FilterTask<>(items, predicate, middle, to, words));
+        }
+    }
+}
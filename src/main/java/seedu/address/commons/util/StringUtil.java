@@ -58,6 +58,36 @@ public class StringUtil {
         return sentence.toLowerCase().contains(preppedWord.toLowerCase());
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code a} and {@code b}: the fewest single-character insertions,
+     * deletions and substitutions that turn one into the other. Characters are compared exactly, so callers wanting
+     * a case-insensitive distance should normalize both first.
+     */
+    public static int getEditDistance(String a, String b) {
+        requireNonNull(a);
+        requireNonNull(b);
+        if (a.length() < b.length()) {
+            return getEditDistance(b, a);
+        }
+        // two rows of the dynamic programming table, each as long as the shorter string
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
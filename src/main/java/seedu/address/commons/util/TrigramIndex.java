@@ -0,0 +1,180 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An inverted index from the three-character substrings (trigrams) of texts to the documents containing them,
+ * for finding the documents that may contain a substring without scanning every document.
+ * <p>
+ * Any text containing a substring of at least three characters contains all of its trigrams, so intersecting their
+ * posting lists gives every document that can match. Some of those may hold the trigrams apart rather than as the
+ * substring, so candidates must still be verified. Texts and substrings are both compared in lower case, as by
+ * {@link StringUtil#containsSubstringIgnoreCase}. Posting lists are sorted arrays of document numbers, which keeps
+ * them compact and lets a short list be intersected with a long one by binary search.
+ * </p>
+ */
+public class TrigramIndex {
+    /** Length of the substrings indexed, and so the shortest substring the index can narrow a search for. */
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    /**
+     * Indexes {@code text} as the text of document {@code doc}.
+     */
+    public void add(int doc, String text) {
+        requireNonNull(text);
+        for (long gram : getGrams(text)) {
+            postings.computeIfAbsent(gram, unused -> new Postings()).add(doc);
+        }
+    }
+
+    /**
+     * Removes document {@code doc}, which must have been added with {@code text}, from the index.
+     */
+    public void remove(int doc, String text) {
+        requireNonNull(text);
+        for (long gram : getGrams(text)) {
+            Postings docs = postings.get(gram);
+            if (docs == null) {
+                continue;
+            }
+            docs.remove(doc);
+            if (docs.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the documents that may contain {@code substring}, ignoring case, in increasing order, or an empty
+     * {@code Optional} if it is too short for the index to narrow the search.
+     */
+    public Optional<int[]> findCandidates(String substring) {
+        requireNonNull(substring);
+        String lower = substring.trim().toLowerCase();
+        if (lower.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        List<Postings> lists = new ArrayList<>();
+        for (long gram : getGrams(lower)) {
+            Postings docs = postings.get(gram);
+            if (docs == null) {
+                return Optional.of(new int[0]);
+            }
+            lists.add(docs);
+        }
+
+        // starting from the shortest list keeps every intermediate result no longer than it
+        lists.sort(Comparator.comparingInt(docs -> docs.size));
+        int[] result = Arrays.copyOf(lists.get(0).docs, lists.get(0).size);
+        int size = result.length;
+        for (int i = 1; i < lists.size() && size > 0; i++) {
+            size = lists.get(i).retainAll(result, size);
+        }
+        return Optional.of(Arrays.copyOf(result, size));
+    }
+
+    /**
+     * Returns an upper bound on the number of documents {@link #findCandidates} returns for {@code substring}, from
+     * the length of its shortest posting list alone, or an empty {@code Optional} if it is too short to look up.
+     */
+    public Optional<Integer> estimateCandidates(String substring) {
+        requireNonNull(substring);
+        String lower = substring.trim().toLowerCase();
+        if (lower.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        int estimate = Integer.MAX_VALUE;
+        for (long gram : getGrams(lower)) {
+            Postings docs = postings.get(gram);
+            estimate = Math.min(estimate, docs == null ? 0 : docs.size);
+        }
+        return Optional.of(estimate);
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text} in lower case, each packed into a long.
+     */
+    private static Set<Long> getGrams(String text) {
+        String lower = text.toLowerCase();
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lower.length(); i++) {
+            grams.add(((long) lower.charAt(i) << 32) | ((long) lower.charAt(i + 1) << 16) | lower.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * The documents containing one trigram, as a sorted array with room to grow.
+     */
+    private static class Postings {
+        private int[] docs = new int[4];
+        private int size = 0;
+
+        void add(int doc) {
+            // documents are usually added in increasing order, so check the end before searching
+            if (size > 0 && docs[size - 1] >= doc) {
+                int i = Arrays.binarySearch(docs, 0, size, doc);
+                if (i >= 0) {
+                    return;
+                }
+                insertAt(-i - 1, doc);
+                return;
+            }
+            insertAt(size, doc);
+        }
+
+        void remove(int doc) {
+            int i = Arrays.binarySearch(docs, 0, size, doc);
+            if (i >= 0) {
+                System.arraycopy(docs, i + 1, docs, i, size - i - 1);
+                size--;
+            }
+        }
+
+        /**
+         * Keeps only those of the first {@code numOfCandidates} documents of the sorted array {@code candidates}
+         * that are in this list, moving them to its front. Returns how many are kept.
+         */
+        int retainAll(int[] candidates, int numOfCandidates) {
+            int kept = 0;
+            int from = 0;
+            for (int i = 0; i < numOfCandidates; i++) {
+                int j = Arrays.binarySearch(docs, from, size, candidates[i]);
+                if (j >= 0) {
+                    candidates[kept++] = candidates[i];
+                    from = j + 1;
+                } else {
+                    from = -j - 1;
+                }
+            }
+            return kept;
+        }
+
+        private void insertAt(int i, int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            System.arraycopy(docs, i, docs, i + 1, size - i);
+            docs[i] = doc;
+            size++;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import javafx.util.Pair;
 import seedu.address.commons.core.GuiSettings;
@@ -9,6 +10,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.analysis.AnalysisStatus;
 import seedu.address.model.person.Person;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.tag.Tag;
@@ -68,6 +70,11 @@ public interface Logic {
      */
     ObservableList<Pair<Person, Relationship>> getRelationshipQuery();
 
+    /**
+     * Returns the status of the most recent centrality analysis, which may change from a background thread.
+     */
+    ReadOnlyObjectProperty<AnalysisStatus> getAnalysisStatus();
+
     /**
      * Returns the user prefs' address book file path.
      */
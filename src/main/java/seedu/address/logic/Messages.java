@@ -1,10 +1,14 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.analysis.AnalysisStatus;
+import seedu.address.model.analysis.CentralityScore;
 import seedu.address.model.person.Person;
 
 /**
@@ -25,6 +29,13 @@ public class Messages {
     public static final String MESSAGE_RELATIONSHIP_SUCCESS = "New relationship added: %1$s";
     public static final String MESSAGE_DUPLICATE_RELATIONSHIP = "This relationship already exists in the address book.";
 
+    public static final String MESSAGE_ANALYSIS_RUNNING = "Analysing %1$d persons%2$s: %3$d of %4$d searches done "
+            + "(%5$d%%).";
+    public static final String MESSAGE_ANALYSIS_DONE = "Most central of %1$d persons%2$s:";
+    public static final String MESSAGE_ANALYSIS_SAMPLED = ", estimated from a sample of %1$d";
+    public static final String MESSAGE_ANALYSIS_CANCELLED = "Analysis cancelled after %1$d of %2$d searches.";
+    public static final String MESSAGE_ANALYSIS_FAILED = "Analysis failed; see the log for details.";
+
     /**
      * Returns an error message indicating the duplicate prefixes.
      */
@@ -57,4 +68,52 @@ public class Messages {
         return builder.toString();
     }
 
+    /**
+     * Formats the {@code status} of a centrality analysis for display to the user.
+     */
+    public static String format(AnalysisStatus status) {
+        String sample = status.isSampled()
+                ? String.format(MESSAGE_ANALYSIS_SAMPLED, status.getNumOfSources())
+                : "";
+        switch (status.getState()) {
+        case RUNNING:
+            int percentage = status.getNumOfSources() == 0
+                    ? 100
+                    : (int) (100L * status.getNumOfSourcesDone() / status.getNumOfSources());
+            return String.format(MESSAGE_ANALYSIS_RUNNING, status.getNumOfPersons(), sample,
+                    status.getNumOfSourcesDone(), status.getNumOfSources(), percentage);
+        case CANCELLED:
+            return String.format(MESSAGE_ANALYSIS_CANCELLED, status.getNumOfSourcesDone(), status.getNumOfSources());
+        case FAILED:
+            return MESSAGE_ANALYSIS_FAILED;
+        default:
+            break;
+        }
+
+        final StringBuilder builder = new StringBuilder(
+                String.format(MESSAGE_ANALYSIS_DONE, status.getNumOfPersons(), sample));
+        appendRanking(builder, "By degree (number of relationships):", status.getTopByDegree(),
+                score -> String.valueOf(score.getDegree()));
+        appendRanking(builder, "By closeness (nearness to everyone else):", status.getTopByCloseness(),
+                score -> String.format("%.3f", score.getCloseness()));
+        appendRanking(builder, "By betweenness (shortest paths passing through):", status.getTopByBetweenness(),
+                score -> String.format("%.1f", score.getBetweenness()));
+        return builder.toString();
+    }
+
+    private static void appendRanking(StringBuilder builder, String heading, List<CentralityScore> ranking,
+            Function<CentralityScore, String> value) {
+        builder.append("\n").append(heading);
+        for (int i = 0; i < ranking.size(); i++) {
+            CentralityScore score = ranking.get(i);
+            builder.append("\n  ")
+                    .append(i + 1)
+                    .append(". ")
+                    .append(score.getPerson().getName())
+                    .append(" (ID ")
+                    .append(score.getPerson().getId())
+                    .append("): ")
+                    .append(value.apply(score));
+        }
+    }
 }
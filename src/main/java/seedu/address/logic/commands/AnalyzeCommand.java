@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULTS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SAMPLES;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.analysis.CentralityAnalysis;
+
+/**
+ * Ranks persons by how central they are to the relationship network, in the background, or cancels such a ranking.
+ */
+public class AnalyzeCommand extends Command {
+
+    public static final String COMMAND_WORD = "analyze";
+    public static final String CANCEL_WORD = "cancel";
+    public static final int DEFAULT_NUM_OF_RESULTS = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Ranks persons by their number of relationships "
+            + "(degree), their nearness to everyone else (closeness) and the number of shortest links passing "
+            + "through them (betweenness). The analysis runs in the background and reports its progress here.\n"
+            + "Networks of " + CentralityAnalysis.SAMPLING_MIN_PERSONS + " or more persons are estimated from a "
+            + "sample of " + CentralityAnalysis.DEFAULT_NUM_OF_SAMPLES + " persons unless SAMPLES is given.\n"
+            + "Usage:\n"
+            + "  " + COMMAND_WORD + " [" + PREFIX_RESULTS + "COUNT] [" + PREFIX_SAMPLES + "SAMPLES]: starts an "
+            + "analysis showing the top COUNT persons (default " + DEFAULT_NUM_OF_RESULTS + ")\n"
+            + "  " + COMMAND_WORD + " " + CANCEL_WORD + ": stops the running analysis\n"
+            + "Examples:\n"
+            + "  " + COMMAND_WORD + "\n"
+            + "  " + COMMAND_WORD + " " + PREFIX_RESULTS + "5 " + PREFIX_SAMPLES + "500";
+
+    public static final String MESSAGE_STARTED = "Started analysing the relationship network. "
+            + "Progress and results will be shown here.";
+    public static final String MESSAGE_CANCELLING = "Cancelling the running analysis.";
+    public static final String MESSAGE_ALREADY_RUNNING = "An analysis is already running. Use '" + COMMAND_WORD + " "
+            + CANCEL_WORD + "' to stop it first.";
+    public static final String MESSAGE_NOT_RUNNING = "No analysis is running.";
+    public static final String MESSAGE_NO_RELATIONSHIPS = "There are no relationships to analyse.";
+
+    private final boolean isCancel;
+    private final int numOfSamples;
+    private final int numOfResults;
+
+    /** Constructor for starting an analysis of {@code numOfSamples} persons, or all of them if automatic */
+    public AnalyzeCommand(int numOfSamples, int numOfResults) {
+        this(false, numOfSamples, numOfResults);
+    }
+
+    private AnalyzeCommand(boolean isCancel, int numOfSamples, int numOfResults) {
+        this.isCancel = isCancel;
+        this.numOfSamples = numOfSamples;
+        this.numOfResults = numOfResults;
+    }
+
+    /**
+     * Returns a command that cancels the running analysis.
+     */
+    public static AnalyzeCommand cancelRunning() {
+        return new AnalyzeCommand(true, CentralityAnalysis.AUTOMATIC_SAMPLES, DEFAULT_NUM_OF_RESULTS);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (isCancel) {
+            if (!model.cancelAnalysis()) {
+                throw new CommandException(MESSAGE_NOT_RUNNING);
+            }
+            return new CommandResult(MESSAGE_CANCELLING);
+        }
+
+        if (model.getRelationshipList().isEmpty()) {
+            throw new CommandException(MESSAGE_NO_RELATIONSHIPS);
+        }
+        if (!model.startAnalysis(numOfSamples, numOfResults)) {
+            throw new CommandException(MESSAGE_ALREADY_RUNNING);
+        }
+        return new CommandResult(MESSAGE_STARTED);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof AnalyzeCommand)) {
+            return false;
+        }
+
+        AnalyzeCommand otherCommand = (AnalyzeCommand) other;
+        return isCancel == otherCommand.isCancel && numOfSamples == otherCommand.numOfSamples
+                && numOfResults == otherCommand.numOfResults;
+    }
+
+    @Override
+    public String toString() {
+        if (isCancel) {
+            return COMMAND_WORD + " (cancel)";
+        }
+        return COMMAND_WORD + " (samples=" + numOfSamples + ", results=" + numOfResults + ")";
+    }
+}
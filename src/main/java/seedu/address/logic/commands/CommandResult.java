@@ -52,7 +52,8 @@ public class CommandResult {
      * Returns true if the command result is to show the person list.
      */
     public boolean isShowPersonList() {
-        return feedbackToUser.equals("Listed all persons");
+        return feedbackToUser.equals("Listed all persons")
+                || feedbackToUser.startsWith("Listed persons whose notes match");
     }
     /**
      * Returns true if the command result is to show the tag list.
@@ -65,7 +66,10 @@ public class CommandResult {
      * Returns true if the command result is to show the immediate relationship query panel.
      */
     public boolean isShowRelationshipQueryList() {
-        return feedbackToUser.startsWith("Listed all relationships involving person ID");
+        return feedbackToUser.startsWith("Listed all relationships involving person ID")
+                || feedbackToUser.startsWith("Listed mutual connections of person IDs")
+                || feedbackToUser.startsWith("Listed suggested connections for person ID")
+                || feedbackToUser.startsWith("Listed relationships whose descriptions match");
     }
 
     /**
@@ -11,7 +11,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -73,11 +72,7 @@ public class EditCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        Person personToEdit = lastShownList.stream()
-                .filter(person -> person.getId().equals(idToEdit))
-                .findFirst()
+        Person personToEdit = model.getFilteredPersonById(idToEdit)
                 .orElseThrow(() -> new CommandException(MESSAGE_PERSON_NOT_FOUND));
 
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
@@ -2,6 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Objects;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
@@ -18,16 +20,27 @@ import seedu.address.model.person.CompositePersonPredicate;
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
+    public static final String EXPLAIN_KEYWORD = "explain";
+    /** Number of results meaning that every match is listed, in address book order. */
+    public static final int ALL_RESULTS = 0;
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose attributes contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: [n/NAME_KEYWORDS]… [p/PHONE_KEYWORDS]… "
-            + "[e/EMAIL_KEYWORDS]… [a/ADDRESS_KEYWORDS]… [t/TAG_ID]…\n"
+            + "Parameters: [" + EXPLAIN_KEYWORD + "] [n/NAME_KEYWORDS]… [n~/APPROXIMATE_NAME_WORDS]… "
+            + "[n%/SOUND_ALIKE_NAME_WORDS]… [p/PHONE_KEYWORDS]… [p^/PHONE_PREFIX]… [e/EMAIL_KEYWORDS]… "
+            + "[a/ADDRESS_KEYWORDS]… [t/TAG_ID]… [k/MOST_RELEVANT_COUNT]\n"
             + "Example: " + COMMAND_WORD + " n/Ali e/gmail a/Clementi a/Bishan t/2 t/5 t/7\n"
             + "Will find ALL contacts with names containing 'Ali', emails containing 'gmail', addresses containing "
-            + "EITHER 'Clementi' or 'Bishan', and have EITHER tag 2, 5, or 7.";
+            + "EITHER 'Clementi' or 'Bishan', and have EITHER tag 2, 5, or 7.\n"
+            + "Words given with n~/ also match name words with a few typos, closest matches first.\n"
+            + "Words given with n%/ match name words that sound alike, e.g. n%/muhammad finds 'Mohammed'.\n"
+            + "Numbers given with p^/ match phones starting with them, e.g. p^/9123 finds '+65 9123 4567'.\n"
+            + "With k/COUNT, only the COUNT most relevant matches are listed, most relevant first.\n"
+            + "Starting with '" + EXPLAIN_KEYWORD + "' also shows the steps of the search.";
 
     private final CompositePersonPredicate predicates;
+    private final boolean isExplained;
+    private final int numOfResults;
 
     /**
      * Creates a {@code FindCommand} with a composite predicate that combines all field-based filters.
@@ -35,7 +48,31 @@ public class FindCommand extends Command {
      * @param allPredicates A {@link CompositePersonPredicate} representing all field predicates to apply.
      */
     public FindCommand(CompositePersonPredicate allPredicates) {
+        this(allPredicates, false);
+    }
+
+    /**
+     * Creates a {@code FindCommand} that also reports the steps of the search if {@code isExplained}.
+     *
+     * @param allPredicates A {@link CompositePersonPredicate} representing all field predicates to apply.
+     * @param isExplained   Whether to include the search plan in the result.
+     */
+    public FindCommand(CompositePersonPredicate allPredicates, boolean isExplained) {
+        this(allPredicates, isExplained, ALL_RESULTS);
+    }
+
+    /**
+     * Creates a {@code FindCommand} that lists only the {@code numOfResults} most relevant matches, most relevant
+     * first, or every match if {@code numOfResults} is {@link #ALL_RESULTS}.
+     *
+     * @param allPredicates A {@link CompositePersonPredicate} representing all field predicates to apply.
+     * @param isExplained   Whether to include the search plan in the result.
+     * @param numOfResults  The largest number of matches to list, or {@link #ALL_RESULTS}.
+     */
+    public FindCommand(CompositePersonPredicate allPredicates, boolean isExplained, int numOfResults) {
         this.predicates = allPredicates;
+        this.isExplained = isExplained;
+        this.numOfResults = numOfResults;
     }
 
     /**
@@ -48,9 +85,16 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicates);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        if (numOfResults == ALL_RESULTS) {
+            model.findPersons(predicates);
+        } else {
+            model.findTopPersons(predicates, numOfResults);
+        }
+        String overview = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        if (!isExplained) {
+            return new CommandResult(overview);
+        }
+        return new CommandResult(overview + "\n" + model.explainFindPersons(predicates));
     }
 
     @Override
@@ -65,18 +109,21 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicates.equals(otherFindCommand.predicates);
+        return predicates.equals(otherFindCommand.predicates) && isExplained == otherFindCommand.isExplained
+                && numOfResults == otherFindCommand.numOfResults;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicates)
+                .add("isExplained", isExplained)
+                .add("numOfResults", numOfResults)
                 .toString();
     }
 
     @Override
     public int hashCode() {
-        return predicates.hashCode();
+        return Objects.hash(predicates, isExplained, numOfResults);
     }
 }
@@ -1,10 +1,16 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MUTUAL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PART_1;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PART_2;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.Comparator;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -22,36 +28,99 @@ public class ListRelationshipCommand extends Command {
             + "Usage:\n"
             + "  " + COMMAND_WORD + " " + PREFIX_PART_1 + "ID: lists all relationships involving that connection\n"
             + "  " + COMMAND_WORD + " " + PREFIX_PART_1 + "ID1 " + PREFIX_PART_2
-            + "ID2: shows link between two persons\n"
+            + "ID2 [" + PREFIX_TAG + "TAG_ID]...: shows link between two persons, only through persons carrying "
+            + "at least one of the tags if any are given\n"
+            + "  " + COMMAND_WORD + " " + PREFIX_PART_1 + "ID " + PREFIX_DEPTH
+            + "DEPTH: lists everyone within DEPTH relationships of that connection\n"
+            + "  " + COMMAND_WORD + " " + PREFIX_PART_1 + "ID1 " + PREFIX_PART_2 + "ID2 " + PREFIX_MUTUAL
+            + ": lists mutual connections of two persons\n"
             + "Examples:\n"
             + "  " + COMMAND_WORD + " " + PREFIX_PART_1 + "1\n"
-            + "  " + COMMAND_WORD + " " + PREFIX_PART_1 + "1 " + PREFIX_PART_2 + "3";
+            + "  " + COMMAND_WORD + " " + PREFIX_PART_1 + "1 " + PREFIX_PART_2 + "3\n"
+            + "  " + COMMAND_WORD + " " + PREFIX_PART_1 + "1 " + PREFIX_PART_2 + "3 " + PREFIX_TAG + "2\n"
+            + "  " + COMMAND_WORD + " " + PREFIX_PART_1 + "1 " + PREFIX_DEPTH + "2\n"
+            + "  " + COMMAND_WORD + " " + PREFIX_PART_1 + "1 " + PREFIX_PART_2 + "3 " + PREFIX_MUTUAL;
 
     public static final String MESSAGE_SUCCESS_ONE = "Listed all relationships involving person ID " + "%1$s";
+    public static final String MESSAGE_SUCCESS_DEPTH = MESSAGE_SUCCESS_ONE + " within %2$s relationships";
+    public static final String MESSAGE_LIMIT_REACHED = " (showing the nearest %1$s)";
     public static final String MESSAGE_SUCCESS_TWO = "Listed link between person IDs " + "%1$s and %2$s";
+    public static final String MESSAGE_SUCCESS_VIA = MESSAGE_SUCCESS_TWO + " through persons with tag IDs %3$s";
+    public static final String MESSAGE_SUCCESS_MUTUAL = "Listed mutual connections of person IDs %1$s and %2$s";
     public static final String MESSAGE_INVALID_PERSON_ID = "One or both person IDs do not exist.";
+    public static final String MESSAGE_NOT_CONNECTED = "Person IDs %1$s and %2$s are not connected "
+            + "by any chain of relationships.";
+    public static final String MESSAGE_NOT_CONNECTED_VIA = "Person IDs %1$s and %2$s are not connected "
+            + "by any chain of relationships through persons with tag IDs %3$s.";
+    public static final String MESSAGE_TAG_NOT_FOUND = "No tag(s) found with the specified ID(s).";
 
     private final Id id1;
     private final Id id2;
+    private final Integer depth;
+    private final boolean isMutual;
+    private final Set<Id> viaTagIds;
 
     /** Constructor for one-ID (immediate relationship) query */
     public ListRelationshipCommand(Id id1) {
         this.id1 = id1;
         this.id2 = null;
+        this.depth = null;
+        this.isMutual = false;
+        this.viaTagIds = Set.of();
     }
 
     /** Constructor for two-ID (link) query */
     public ListRelationshipCommand(Id id1, Id id2) {
+        this(id1, id2, false);
+    }
+
+    /** Constructor for two-ID query, of either the link between them or their mutual connections */
+    public ListRelationshipCommand(Id id1, Id id2, boolean isMutual) {
         this.id1 = id1;
         this.id2 = id2;
+        this.depth = null;
+        this.isMutual = isMutual;
+        this.viaTagIds = Set.of();
+    }
+
+    /** Constructor for two-ID link query through persons carrying any of {@code viaTagIds}, or anyone if empty */
+    public ListRelationshipCommand(Id id1, Id id2, Set<Id> viaTagIds) {
+        requireNonNull(viaTagIds);
+        this.id1 = id1;
+        this.id2 = id2;
+        this.depth = null;
+        this.isMutual = false;
+        this.viaTagIds = Set.copyOf(viaTagIds);
+    }
+
+    /** Constructor for one-ID query of everyone within {@code depth} relationships */
+    public ListRelationshipCommand(Id id1, int depth) {
+        this.id1 = id1;
+        this.id2 = null;
+        this.depth = depth;
+        this.isMutual = false;
+        this.viaTagIds = Set.of();
     }
 
-    /* Lists relationships depending on the inputs given (0 id, 1 id, 2ids)*/
+    /* Lists relationships depending on the inputs given (1 id with or without a depth, 2 ids with or without mutual)*/
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        // Case 1: one ID — queryImmediateRelationship
+        // Case 1: one ID and a depth — queryNeighbourhood
+        if (depth != null) {
+            if (!model.hasPersonWithId(id1)) {
+                throw new CommandException(MESSAGE_INVALID_PERSON_ID);
+            }
+            model.queryNeighbourhood(id1, depth);
+            String message = String.format(MESSAGE_SUCCESS_DEPTH, id1, depth);
+            if (model.getRelationshipQuery().size() >= Model.NEIGHBOURHOOD_QUERY_LIMIT) {
+                message += String.format(MESSAGE_LIMIT_REACHED, Model.NEIGHBOURHOOD_QUERY_LIMIT);
+            }
+            return new CommandResult(message);
+        }
+
+        // Case 2: one ID — queryImmediateRelationship
         if (id2 == null) {
             if (!model.hasPersonWithId(id1)) {
                 throw new CommandException(MESSAGE_INVALID_PERSON_ID);
@@ -60,12 +129,35 @@ public class ListRelationshipCommand extends Command {
             return new CommandResult(String.format(MESSAGE_SUCCESS_ONE, id1));
         }
 
-        // Case 2: two IDs — queryLink
         if (!model.hasPersonWithId(id1) || !model.hasPersonWithId(id2)) {
             throw new CommandException(MESSAGE_INVALID_PERSON_ID);
         }
 
-        model.queryLink(id1, id2); // Note that the method does not actually state whether it found a link or not
+        // Case 3: two IDs, mutual — queryMutualConnections
+        if (isMutual) {
+            model.queryMutualConnections(id1, id2);
+            return new CommandResult(String.format(MESSAGE_SUCCESS_MUTUAL, id1, id2));
+        }
+
+        // Case 4: two IDs and tags — queryLinkVia
+        if (!viaTagIds.isEmpty()) {
+            if (!model.hasTagIds(viaTagIds)) {
+                throw new CommandException(MESSAGE_TAG_NOT_FOUND);
+            }
+            model.queryLinkVia(id1, id2, viaTagIds);
+            String tagIds = formatTagIds();
+            if (model.getRelationshipQuery().isEmpty()) {
+                return new CommandResult(String.format(MESSAGE_NOT_CONNECTED_VIA, id1, id2, tagIds));
+            }
+            return new CommandResult(String.format(MESSAGE_SUCCESS_VIA, id1, id2, tagIds));
+        }
+
+        // Case 5: two IDs — queryLink
+
+        model.queryLink(id1, id2);
+        if (!model.isConnected(id1, id2)) {
+            return new CommandResult(String.format(MESSAGE_NOT_CONNECTED, id1, id2));
+        }
         return new CommandResult(String.format(MESSAGE_SUCCESS_TWO, id1, id2));
     }
 
@@ -79,7 +171,9 @@ public class ListRelationshipCommand extends Command {
         }
 
         ListRelationshipCommand otherCommand = (ListRelationshipCommand) other;
-        return Objects.equals(id1, otherCommand.id1) && Objects.equals(id2, otherCommand.id2);
+        return Objects.equals(id1, otherCommand.id1) && Objects.equals(id2, otherCommand.id2)
+                && Objects.equals(depth, otherCommand.depth) && isMutual == otherCommand.isMutual
+                && viaTagIds.equals(otherCommand.viaTagIds);
     }
 
     @Override
@@ -87,9 +181,20 @@ public class ListRelationshipCommand extends Command {
         if (id1 == null && id2 == null) {
             return COMMAND_WORD + " (all)";
         }
+        if (depth != null) {
+            return COMMAND_WORD + " (id1=" + id1 + ", depth=" + depth + ")";
+        }
         if (id2 == null) {
             return COMMAND_WORD + " (id1=" + id1 + ")";
         }
-        return COMMAND_WORD + " (id1=" + id1 + ", id2=" + id2 + ")";
+        return COMMAND_WORD + " (id1=" + id1 + ", id2=" + id2 + (isMutual ? ", mutual" : "")
+                + (viaTagIds.isEmpty() ? "" : ", via=" + formatTagIds()) + ")";
+    }
+
+    private String formatTagIds() {
+        return viaTagIds.stream()
+                .sorted(Comparator.comparing(tagId -> tagId.value))
+                .map(Id::toString)
+                .collect(Collectors.joining(", "));
     }
 }
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULTS;
+
+import seedu.address.model.Model;
+
+/**
+ * Lists the persons whose notes, or the relationships whose descriptions, best match some words, ranked by relevance.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+    public static final int DEFAULT_NUM_OF_RESULTS = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the persons whose notes, or the relationships "
+            + "whose descriptions, best match the given words, best match first. Words in double quotes must appear "
+            + "together, in that order.\n"
+            + "Parameters: " + PREFIX_NOTE + "WORDS or " + PREFIX_DESC + "WORDS [" + PREFIX_RESULTS + "COUNT]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NOTE + "chess \"board games\" " + PREFIX_RESULTS + "5";
+
+    public static final String MESSAGE_SUCCESS_NOTES = "Listed persons whose notes match %1$s: %2$d found";
+    public static final String MESSAGE_SUCCESS_DESCRIPTIONS =
+            "Listed relationships whose descriptions match %1$s: %2$d found";
+
+    /**
+     * The free text searched.
+     */
+    public enum Field {
+        NOTE, DESCRIPTION
+    }
+
+    private final Field field;
+    private final String query;
+    private final int numOfResults;
+
+    /**
+     * Creates a SearchCommand that lists the {@code numOfResults} persons or relationships whose {@code field} best
+     * matches {@code query}.
+     */
+    public SearchCommand(Field field, String query, int numOfResults) {
+        requireNonNull(field);
+        requireNonNull(query);
+        this.field = field;
+        this.query = query;
+        this.numOfResults = numOfResults;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (field == Field.NOTE) {
+            model.searchNotes(query, numOfResults);
+            return new CommandResult(String.format(MESSAGE_SUCCESS_NOTES, query,
+                    model.getFilteredPersonList().size()));
+        }
+        model.queryDescriptions(query, numOfResults);
+        return new CommandResult(String.format(MESSAGE_SUCCESS_DESCRIPTIONS, query,
+                model.getRelationshipQuery().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherCommand = (SearchCommand) other;
+        return field == otherCommand.field && query.equals(otherCommand.query)
+                && numOfResults == otherCommand.numOfResults;
+    }
+
+    @Override
+    public String toString() {
+        return COMMAND_WORD + " (field=" + field + ", query=" + query + ", results=" + numOfResults + ")";
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEASURE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PART_1;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULTS;
+
+import seedu.address.commons.util.LinkPredictor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.id.Id;
+
+/**
+ * Lists the persons a person is not yet related to but shares the most connections with.
+ */
+public class SuggestCommand extends Command {
+
+    public static final String COMMAND_WORD = "suggest";
+    public static final int DEFAULT_NUM_OF_RESULTS = 10;
+    public static final LinkPredictor.Measure DEFAULT_MEASURE = LinkPredictor.Measure.COMMON_NEIGHBOURS;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Suggests persons to connect with, ranked by the "
+            + "relationships they share with the given person.\n"
+            + "MEASURE is one of: common (number of mutual connections, default), adamic-adar (mutual connections "
+            + "with fewer relationships count for more), jaccard (mutual connections as a share of all).\n"
+            + "Parameters: " + PREFIX_PART_1 + "ID [" + PREFIX_MEASURE + "MEASURE] [" + PREFIX_RESULTS + "COUNT]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PART_1 + "1 " + PREFIX_MEASURE + "adamic-adar "
+            + PREFIX_RESULTS + "5";
+
+    public static final String MESSAGE_SUCCESS = "Listed suggested connections for person ID %1$s by %2$s";
+    public static final String MESSAGE_INVALID_PERSON_ID = "Person ID %1$s does not exist.";
+
+    private final Id id;
+    private final LinkPredictor.Measure measure;
+    private final int numOfResults;
+
+    /**
+     * Creates a SuggestCommand that lists the {@code numOfResults} best suggestions for the person with ID
+     * {@code id} by {@code measure}.
+     */
+    public SuggestCommand(Id id, LinkPredictor.Measure measure, int numOfResults) {
+        requireNonNull(id);
+        requireNonNull(measure);
+        this.id = id;
+        this.measure = measure;
+        this.numOfResults = numOfResults;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasPersonWithId(id)) {
+            throw new CommandException(String.format(MESSAGE_INVALID_PERSON_ID, id));
+        }
+
+        model.querySuggestions(id, measure, numOfResults);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, id, measure));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SuggestCommand)) {
+            return false;
+        }
+
+        SuggestCommand otherCommand = (SuggestCommand) other;
+        return id.equals(otherCommand.id) && measure == otherCommand.measure
+                && numOfResults == otherCommand.numOfResults;
+    }
+
+    @Override
+    public String toString() {
+        return COMMAND_WORD + " (id=" + id + ", measure=" + measure + ", results=" + numOfResults + ")";
+    }
+}
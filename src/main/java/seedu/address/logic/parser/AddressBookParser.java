@@ -11,6 +11,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddRelationshipCommand;
 import seedu.address.logic.commands.AddTagCommand;
+import seedu.address.logic.commands.AnalyzeCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -25,6 +26,8 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListRelationshipCommand;
 import seedu.address.logic.commands.ListTagCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SuggestCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -103,6 +106,15 @@ public class AddressBookParser {
         case ListRelationshipCommand.COMMAND_WORD:
             return new ListRelationshipCommandParser().parse(arguments);
 
+        case AnalyzeCommand.COMMAND_WORD:
+            return new AnalyzeCommandParser().parse(arguments);
+
+        case SuggestCommand.COMMAND_WORD:
+            return new SuggestCommandParser().parse(arguments);
+
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULTS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SAMPLES;
+
+import seedu.address.logic.commands.AnalyzeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.analysis.CentralityAnalysis;
+
+/**
+ * Parses input arguments and creates a new {@link AnalyzeCommand} object.
+ */
+public class AnalyzeCommandParser implements Parser<AnalyzeCommand> {
+
+    @Override
+    public AnalyzeCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_RESULTS, PREFIX_SAMPLES);
+
+        String preamble = argMultimap.getPreamble();
+        if (preamble.equals(AnalyzeCommand.CANCEL_WORD) && argMultimap.getValue(PREFIX_RESULTS).isEmpty()
+                && argMultimap.getValue(PREFIX_SAMPLES).isEmpty()) {
+            return AnalyzeCommand.cancelRunning();
+        }
+        if (!preamble.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AnalyzeCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_RESULTS, PREFIX_SAMPLES);
+        int numOfResults = argMultimap.getValue(PREFIX_RESULTS).isPresent()
+                ? ParserUtil.parseCount(argMultimap.getValue(PREFIX_RESULTS).get())
+                : AnalyzeCommand.DEFAULT_NUM_OF_RESULTS;
+        int numOfSamples = argMultimap.getValue(PREFIX_SAMPLES).isPresent()
+                ? ParserUtil.parseCount(argMultimap.getValue(PREFIX_SAMPLES).get())
+                : CentralityAnalysis.AUTOMATIC_SAMPLES;
+        return new AnalyzeCommand(numOfSamples, numOfResults);
+    }
+}
@@ -7,7 +7,10 @@ public class CliSyntax {
 
     /* Prefix definitions */
     public static final Prefix PREFIX_NAME = new Prefix("n/");
+    public static final Prefix PREFIX_NAME_FUZZY = new Prefix("n~/");
+    public static final Prefix PREFIX_NAME_PHONETIC = new Prefix("n%/");
     public static final Prefix PREFIX_PHONE = new Prefix("p/");
+    public static final Prefix PREFIX_PHONE_PREFIX = new Prefix("p^/");
     public static final Prefix PREFIX_EMAIL = new Prefix("e/");
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
@@ -18,4 +21,10 @@ public class CliSyntax {
     // Relationship prefixes
     public static final Prefix PREFIX_PART_1 = new Prefix("p1/");
     public static final Prefix PREFIX_PART_2 = new Prefix("p2/");
+    public static final Prefix PREFIX_DEPTH = new Prefix("d/");
+    public static final Prefix PREFIX_MUTUAL = new Prefix("m/");
+    // Analysis prefixes
+    public static final Prefix PREFIX_RESULTS = new Prefix("k/");
+    public static final Prefix PREFIX_SAMPLES = new Prefix("s/");
+    public static final Prefix PREFIX_MEASURE = new Prefix("by/");
 }
@@ -6,16 +6,25 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME_PHONETIC;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE_PREFIX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.CompositePersonPredicate;
 import seedu.address.model.person.FieldContainsKeywordsPredicate;
+import seedu.address.model.person.FuzzyNamePredicate;
+import seedu.address.model.person.PersonSearchFields;
+import seedu.address.model.person.PhonePrefixPredicate;
+import seedu.address.model.person.PhoneticNamePredicate;
 
 /**
  * Parses input arguments and creates a new {@link FindCommand} object.
@@ -28,8 +37,20 @@ import seedu.address.model.person.FieldContainsKeywordsPredicate;
  * Multiple field predicates are combined into a single {@link CompositePersonPredicate}
  * using logical AND — a person must match all field conditions to be returned.
  * </p>
+ * <p>
+ * Words given with {@code n~/} are matched against the words of names allowing for typos, by a
+ * {@link FuzzyNamePredicate}, and words given with {@code n%/} by how they sound, by a {@link PhoneticNamePredicate}.
+ * Each value given with {@code p^/} is a prefix of phone numbers, matched on its digits by a
+ * {@link PhonePrefixPredicate}.
+ * </p>
+ * <p>
+ * A preamble of {@code explain} asks for the steps of the search to be shown with the result, and {@code k/COUNT}
+ * for only the {@code COUNT} most relevant matches to be listed.
+ * </p>
  */
 public class FindCommandParser implements Parser<FindCommand> {
+    public static final String MESSAGE_INVALID_PHONE_PREFIX =
+            "Phone prefixes given with p^/ should contain digits, e.g. p^/9123";
 
     /**
      * Parses the given {@code String args} into a {@link FindCommand}.
@@ -42,16 +63,27 @@ public class FindCommandParser implements Parser<FindCommand> {
         requireNonNull(args);
 
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_NAME_FUZZY, PREFIX_NAME_PHONETIC, PREFIX_PHONE,
+                        PREFIX_PHONE_PREFIX, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_RESULTS);
 
-        if (!argMultimap.getPreamble().trim().isEmpty()) {
+        String preamble = argMultimap.getPreamble().trim();
+        boolean isExplained = preamble.equals(FindCommand.EXPLAIN_KEYWORD);
+        if (!preamble.isEmpty() && !isExplained) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_RESULTS);
+        int numOfResults = argMultimap.getValue(PREFIX_RESULTS).isPresent()
+                ? ParserUtil.parseCount(argMultimap.getValue(PREFIX_RESULTS).get())
+                : FindCommand.ALL_RESULTS;
+
         List<FieldContainsKeywordsPredicate> predicates = new ArrayList<>();
 
         List<String> nameKeywords = toNonEmptyKeywords(argMultimap.getAllValues(PREFIX_NAME));
+        List<String> fuzzyNameKeywords = toWords(argMultimap.getAllValues(PREFIX_NAME_FUZZY));
+        List<String> phoneticNameKeywords = toWords(argMultimap.getAllValues(PREFIX_NAME_PHONETIC));
         List<String> phoneKeywords = toNonEmptyKeywords(argMultimap.getAllValues(PREFIX_PHONE));
+        List<String> phonePrefixes = toNonEmptyKeywords(argMultimap.getAllValues(PREFIX_PHONE_PREFIX));
         List<String> emailKeywords = toNonEmptyKeywords(argMultimap.getAllValues(PREFIX_EMAIL));
         List<String> addressKeywords = toNonEmptyKeywords(argMultimap.getAllValues(PREFIX_ADDRESS));
         List<String> tagKeywords = toNonEmptyKeywords(argMultimap.getAllValues(PREFIX_TAG));
@@ -59,9 +91,21 @@ public class FindCommandParser implements Parser<FindCommand> {
         if (!nameKeywords.isEmpty()) {
             predicates.add(new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, nameKeywords));
         }
+        if (!fuzzyNameKeywords.isEmpty()) {
+            predicates.add(new FuzzyNamePredicate(fuzzyNameKeywords));
+        }
+        if (!phoneticNameKeywords.isEmpty()) {
+            predicates.add(new PhoneticNamePredicate(phoneticNameKeywords));
+        }
         if (!phoneKeywords.isEmpty()) {
             predicates.add(new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_PHONE, phoneKeywords));
         }
+        if (!phonePrefixes.isEmpty()) {
+            if (phonePrefixes.stream().map(PersonSearchFields::toDigits).anyMatch(String::isEmpty)) {
+                throw new ParseException(MESSAGE_INVALID_PHONE_PREFIX);
+            }
+            predicates.add(new PhonePrefixPredicate(phonePrefixes));
+        }
         if (!emailKeywords.isEmpty()) {
             predicates.add(new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_EMAIL, emailKeywords));
         }
@@ -76,6 +120,16 @@ public class FindCommandParser implements Parser<FindCommand> {
                     + String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        return new FindCommand(new CompositePersonPredicate(predicates));
+        return new FindCommand(new CompositePersonPredicate(predicates), isExplained, numOfResults);
+    }
+
+    /**
+     * Returns the whitespace-separated words of {@code values}.
+     */
+    private static List<String> toWords(List<String> values) {
+        return values.stream()
+                .flatMap(value -> Arrays.stream(value.trim().split("\\s+")))
+                .filter(word -> !word.isEmpty())
+                .toList();
     }
 }
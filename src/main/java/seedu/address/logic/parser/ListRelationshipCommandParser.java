@@ -2,9 +2,13 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MUTUAL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PART_1;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PART_2;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.logic.commands.ListRelationshipCommand;
@@ -20,10 +24,35 @@ public class ListRelationshipCommandParser implements Parser<ListRelationshipCom
     public ListRelationshipCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_PART_1, PREFIX_PART_2);
+                ArgumentTokenizer.tokenize(args, PREFIX_PART_1, PREFIX_PART_2, PREFIX_DEPTH,
+                        PREFIX_MUTUAL, PREFIX_TAG);
 
         Optional<String> part1 = argMultimap.getValue(PREFIX_PART_1);
         Optional<String> part2 = argMultimap.getValue(PREFIX_PART_2);
+        Optional<String> depth = argMultimap.getValue(PREFIX_DEPTH);
+        Optional<String> mutual = argMultimap.getValue(PREFIX_MUTUAL);
+        List<String> tags = argMultimap.getAllValues(PREFIX_TAG);
+        if (mutual.isPresent() && (!mutual.get().isEmpty() || part2.isEmpty())) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListRelationshipCommand.MESSAGE_USAGE));
+        }
+
+        // two IDs and tags: queryLinkVia
+        if (!tags.isEmpty()) {
+            if (part1.isEmpty() || part2.isEmpty() || depth.isPresent() || mutual.isPresent()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListRelationshipCommand.MESSAGE_USAGE));
+            }
+            Id id1 = ParserUtil.parseId(part1.get());
+            Id id2 = ParserUtil.parseId(part2.get());
+            return new ListRelationshipCommand(id1, id2, ParserUtil.parseIds(tags));
+        }
+
+        // one ID and a depth: queryNeighbourhood
+        if (part1.isPresent() && part2.isEmpty() && depth.isPresent()) {
+            Id id1 = ParserUtil.parseId(part1.get());
+            return new ListRelationshipCommand(id1, ParserUtil.parseDepth(depth.get()));
+        }
 
         // only one ID: queryImmediateRelationship
         if (part1.isPresent() && part2.isEmpty()) {
@@ -31,11 +60,11 @@ public class ListRelationshipCommandParser implements Parser<ListRelationshipCom
             return new ListRelationshipCommand(id1);
         }
 
-        // two IDs: queryLink
-        if (part1.isPresent() && part2.isPresent()) {
+        // two IDs: queryLink, or queryMutualConnections if marked mutual
+        if (part1.isPresent() && part2.isPresent() && depth.isEmpty()) {
             Id id1 = ParserUtil.parseId(part1.get());
             Id id2 = ParserUtil.parseId(part2.get());
-            return new ListRelationshipCommand(id1, id2);
+            return new ListRelationshipCommand(id1, id2, mutual.isPresent());
         }
 
         throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListRelationshipCommand.MESSAGE_USAGE));
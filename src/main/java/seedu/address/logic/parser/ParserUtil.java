@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.LinkPredictor;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.description.Description;
@@ -27,6 +28,9 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_ID = "ID is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DEPTH = "Depth is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_COUNT = "Count is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_MEASURE = "Measure should be one of: common, adamic-adar, jaccard.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -116,6 +120,53 @@ public class ParserUtil {
         return new Id(Integer.parseInt(trimmedId));
     }
 
+    /**
+     * Parses a {@code String depth} into a number of relationships to follow.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code depth} is not a non-zero unsigned integer.
+     */
+    public static int parseDepth(String depth) throws ParseException {
+        requireNonNull(depth);
+        String trimmedDepth = depth.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedDepth)) {
+            throw new ParseException(MESSAGE_INVALID_DEPTH);
+        }
+        return Integer.parseInt(trimmedDepth);
+    }
+
+    /**
+     * Parses a {@code String count} into a number of items.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code count} is not a non-zero unsigned integer.
+     */
+    public static int parseCount(String count) throws ParseException {
+        requireNonNull(count);
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
+    /**
+     * Parses a {@code String measure} into a {@code LinkPredictor.Measure}, ignoring case.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code measure} is not the keyword of a measure.
+     */
+    public static LinkPredictor.Measure parseMeasure(String measure) throws ParseException {
+        requireNonNull(measure);
+        String trimmedMeasure = measure.trim();
+        for (LinkPredictor.Measure candidate : LinkPredictor.Measure.values()) {
+            if (candidate.getKeyword().equalsIgnoreCase(trimmedMeasure)) {
+                return candidate;
+            }
+        }
+        throw new ParseException(MESSAGE_INVALID_MEASURE);
+    }
+
     /**
      * Parses {@code Collection<String> ids} into a {@code Set<Id>}, a set of IDs.
      */
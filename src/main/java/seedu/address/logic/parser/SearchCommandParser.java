@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULTS;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@link SearchCommand} object.
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    @Override
+    public SearchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NOTE, PREFIX_DESC, PREFIX_RESULTS);
+
+        Optional<String> note = argMultimap.getValue(PREFIX_NOTE);
+        Optional<String> description = argMultimap.getValue(PREFIX_DESC);
+        if (!argMultimap.getPreamble().isEmpty() || note.isPresent() == description.isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NOTE, PREFIX_DESC, PREFIX_RESULTS);
+        String query = note.orElseGet(description::get).trim();
+        if (query.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+        SearchCommand.Field field = note.isPresent() ? SearchCommand.Field.NOTE : SearchCommand.Field.DESCRIPTION;
+        int numOfResults = argMultimap.getValue(PREFIX_RESULTS).isPresent()
+                ? ParserUtil.parseCount(argMultimap.getValue(PREFIX_RESULTS).get())
+                : SearchCommand.DEFAULT_NUM_OF_RESULTS;
+        return new SearchCommand(field, query, numOfResults);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEASURE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PART_1;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULTS;
+
+import seedu.address.commons.util.LinkPredictor;
+import seedu.address.logic.commands.SuggestCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.id.Id;
+
+/**
+ * Parses input arguments and creates a new {@link SuggestCommand} object.
+ */
+public class SuggestCommandParser implements Parser<SuggestCommand> {
+
+    @Override
+    public SuggestCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PART_1, PREFIX_MEASURE,
+                PREFIX_RESULTS);
+
+        if (argMultimap.getValue(PREFIX_PART_1).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PART_1, PREFIX_MEASURE, PREFIX_RESULTS);
+        Id id = ParserUtil.parseId(argMultimap.getValue(PREFIX_PART_1).get());
+        LinkPredictor.Measure measure = argMultimap.getValue(PREFIX_MEASURE).isPresent()
+                ? ParserUtil.parseMeasure(argMultimap.getValue(PREFIX_MEASURE).get())
+                : SuggestCommand.DEFAULT_MEASURE;
+        int numOfResults = argMultimap.getValue(PREFIX_RESULTS).isPresent()
+                ? ParserUtil.parseCount(argMultimap.getValue(PREFIX_RESULTS).get())
+                : SuggestCommand.DEFAULT_NUM_OF_RESULTS;
+        return new SuggestCommand(id, measure, numOfResults);
+    }
+}
@@ -2,15 +2,27 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.LinkPredictor;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.id.Id;
+import seedu.address.model.person.CompositePersonPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQueryPlan;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.relationship.Relationship;
+import seedu.address.model.relationship.RelationshipGraph;
+import seedu.address.model.relationship.RelationshipSearchIndex;
 import seedu.address.model.relationship.UniqueRelationshipList;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
@@ -24,6 +36,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueTagList tags;
     private final UniqueRelationshipList relationships;
+    private final RelationshipGraph relationshipGraph;
+    private final PersonSearchIndex personSearchIndex;
+    private final RelationshipSearchIndex relationshipSearchIndex;
+    /** Incremented on every change to the persons or relationships, so that results derived from them expire. */
+    private long version = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -36,6 +53,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         tags = new UniqueTagList();
         relationships = new UniqueRelationshipList();
+        relationshipGraph = new RelationshipGraph(this::getTagIdsOf);
+        personSearchIndex = new PersonSearchIndex();
+        relationshipSearchIndex = new RelationshipSearchIndex();
     }
 
     public AddressBook() {}
@@ -59,6 +79,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         setRelationships(newData.getRelationshipList());
     }
 
+    /**
+     * Returns a number that changes whenever the persons or relationships do.
+     */
+    public long getVersion() {
+        return version;
+    }
+
 
     //  NOTE: PERSON
 
@@ -68,6 +95,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        personSearchIndex.setPersons(persons);
+        relationshipGraph.refreshTags();
+        version++;
     }
 
     /**
@@ -84,6 +114,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        personSearchIndex.add(p);
+        version++;
     }
 
     /**
@@ -95,6 +127,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        personSearchIndex.setPerson(target, editedPerson);
+        if (!target.getId().equals(editedPerson.getId())) {
+            // Relationships refer to persons by Id, so the graph has to be rebuilt if an Id changes
+            relationshipGraph.setRelationships(relationships.asUnmodifiableObservableList());
+        } else if (!target.getTagIds().equals(editedPerson.getTagIds())) {
+            relationshipGraph.updateTags(editedPerson.getId(), target.getTagIds(), editedPerson.getTagIds());
+        }
+        version++;
     }
 
     /**
@@ -103,7 +143,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        personSearchIndex.remove(key);
         removeRelationshipsIfContainsPerson(key.getId());
+        version++;
     }
 
     /**
@@ -113,6 +155,67 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.hasPersonWithId(id);
     }
 
+    @Override
+    public Optional<Person> getPersonById(Id id) {
+        return persons.getPersonById(id);
+    }
+
+    /**
+     * Returns a plan for finding the persons who satisfy {@code predicate} with the help of the search index.
+     */
+    public PersonQueryPlan planFind(CompositePersonPredicate predicate) {
+        return personSearchIndex.plan(predicate);
+    }
+
+    /**
+     * Returns the (at most) {@code limit} persons who satisfy {@code predicate} with the highest
+     * {@link CompositePersonPredicate#score scores}, highest first, keeping only the best so far in a heap of that
+     * size. Only the candidates left by the index lookups of the plan are visited. Among equal scores, persons with
+     * lower ids rank higher.
+     */
+    public List<Person> findTopPersons(CompositePersonPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        PersonQueryPlan plan = planFind(predicate);
+        // the root of the heap is the lowest ranked of the best so far
+        PriorityQueue<ScoredPerson> best = new PriorityQueue<>(ScoredPerson.BY_RANK);
+        Consumer<Person> offer = person -> {
+            if (!plan.test(person)) {
+                return;
+            }
+            ScoredPerson scored = new ScoredPerson(person, predicate.score(person));
+            if (best.size() < limit) {
+                best.add(scored);
+            } else if (limit > 0 && ScoredPerson.BY_RANK.compare(scored, best.peek()) > 0) {
+                best.poll();
+                best.add(scored);
+            }
+        };
+        if (plan.hasCandidates()) {
+            plan.getCandidateIds().forEach(id -> persons.getPersonById(new Id(id)).ifPresent(offer));
+        } else {
+            persons.asUnmodifiableObservableList().forEach(offer);
+        }
+
+        List<ScoredPerson> top = new ArrayList<>(best);
+        top.sort(ScoredPerson.BY_RANK.reversed());
+        return top.stream().map(scored -> scored.person).toList();
+    }
+
+    /**
+     * Returns the (at most) {@code limit} persons whose notes match {@code query} best, best first.
+     *
+     * @see seedu.address.commons.util.FullTextIndex#search
+     */
+    public List<Person> searchNotes(String query, int limit) {
+        return personSearchIndex.searchNotes(query, limit).stream()
+                .map(hit -> persons.getPersonById(new Id(hit.getDoc())).get())
+                .toList();
+    }
+
+    private Set<Id> getTagIdsOf(Id personId) {
+        return persons.getPersonById(personId).map(Person::getTagIds).orElse(Set.of());
+    }
+
 
 
     //  NOTE: TAGS
@@ -170,7 +273,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeTag(Tag tag) {
         tags.remove(tag);
-        persons.removeTagIdFromPersons(tag.getId());
+        persons.removeTagIdFromPersons(tag.getId(), personSearchIndex.getPersonIdsWithTag(tag.getId()));
+        personSearchIndex.removeTag(tag.getId());
+        relationshipGraph.removeTag(tag.getId());
+        version++;
     }
 
 
@@ -183,6 +289,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setRelationships(List<Relationship> relationships) {
         this.relationships.setRelationships(relationships);
+        relationshipGraph.setRelationships(relationships);
+        relationshipSearchIndex.setRelationships(relationships);
+        version++;
     }
 
     /**
@@ -199,6 +308,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addRelationship(Relationship relationship) {
         relationships.add(relationship);
+        relationshipGraph.addRelationship(relationship);
+        relationshipSearchIndex.add(relationship);
+        version++;
     }
 
     /**
@@ -209,6 +321,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setRelationship(Relationship target, Relationship editedRelationship) {
         relationships.setRelationship(target, editedRelationship);
+        if (!target.isSameRelationship(editedRelationship)) {
+            relationshipGraph.removeRelationship(target);
+            relationshipGraph.addRelationship(editedRelationship);
+        }
+        relationshipSearchIndex.setRelationship(target, editedRelationship);
+        version++;
     }
 
     /**
@@ -217,13 +335,88 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeRelationship(Relationship relationship) {
         relationships.remove(relationship);
+        relationshipGraph.removeRelationship(relationship);
+        relationshipSearchIndex.remove(relationship);
+        version++;
     }
 
     /**
      * Removes all relationships that involve the person with the given ID.
      */
     public void removeRelationshipsIfContainsPerson(Id personId) {
+        relationships.getRelationshipsOf(personId).forEach(relationshipSearchIndex::remove);
         relationships.removeIfContainsPerson(personId);
+        relationshipGraph.removePerson(personId);
+        version++;
+    }
+
+    /**
+     * Returns the relationship between the persons with IDs {@code id1} and {@code id2} in either order,
+     * or an empty {@code Optional} if they are not related.
+     */
+    public Optional<Relationship> getRelationship(Id id1, Id id2) {
+        return relationships.getRelationship(id1, id2);
+    }
+
+    /**
+     * Returns true if there is a chain of relationships between the persons with IDs {@code id1} and {@code id2}.
+     */
+    public boolean isConnected(Id id1, Id id2) {
+        return relationshipGraph.isConnected(id1, id2);
+    }
+
+    /**
+     * Passes every person at most {@code maxHops} relationships away from the person with ID {@code source} to
+     * {@code visitor}, nearest first, stopping after {@code limit} persons.
+     */
+    public void visitRelatedWithinHops(Id source, int maxHops, int limit, RelationshipGraph.NeighbourVisitor visitor) {
+        relationshipGraph.visitWithinHops(source, maxHops, limit, visitor);
+    }
+
+    /**
+     * Returns the IDs of the persons related to both {@code id1} and {@code id2}, in increasing order of ID.
+     */
+    public List<Id> getCommonRelatedIds(Id id1, Id id2) {
+        return relationshipGraph.getCommonNeighbours(id1, id2);
+    }
+
+    /**
+     * Returns the IDs of the (at most) {@code limit} persons not related to the person with ID {@code source} who
+     * share the most relationships with them by {@code measure}, best first.
+     */
+    public List<Id> getSuggestedIds(Id source, LinkPredictor.Measure measure, int limit) {
+        return relationshipGraph.getSuggestions(source, measure, limit);
+    }
+
+    /**
+     * Returns the IDs of the persons on a shortest chain of relationships from {@code from} to {@code to},
+     * both inclusive. Returns an empty list if there is no such chain.
+     */
+    public List<Id> getShortestRelationshipPath(Id from, Id to) {
+        return relationshipGraph.getShortestPath(from, to);
+    }
+
+    /**
+     * Returns the IDs of the persons on a shortest chain of relationships from {@code from} to {@code to},
+     * both inclusive, every other person on which carries at least one of the tags {@code viaTagIds}.
+     * Returns an empty list if there is no such chain.
+     */
+    public List<Id> getShortestRelationshipPathVia(Id from, Id to, Set<Id> viaTagIds) {
+        return relationshipGraph.getShortestPathVia(from, to, viaTagIds);
+    }
+
+    /**
+     * Returns the (at most) {@code limit} relationships whose descriptions match {@code query} best, best first.
+     *
+     * @see seedu.address.commons.util.FullTextIndex#search
+     */
+    public List<Relationship> searchDescriptions(String query, int limit) {
+        return relationshipSearchIndex.search(query, limit);
+    }
+
+    @Override
+    public List<Relationship> getRelationshipsOf(Id personId) {
+        return relationships.getRelationshipsOf(personId);
     }
 
 
@@ -275,4 +468,22 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * A person found by {@link #findTopPersons} with its score.
+     */
+    private static class ScoredPerson {
+        /** Orders by score, then by id with lower ids last, so that the lowest ranked person comes first. */
+        private static final Comparator<ScoredPerson> BY_RANK = Comparator
+                .<ScoredPerson>comparingInt(scored -> scored.score)
+                .thenComparing(scored -> scored.person.getId().value, Comparator.reverseOrder());
+
+        private final Person person;
+        private final int score;
+
+        ScoredPerson(Person person, int score) {
+            this.person = person;
+            this.score = score;
+        }
+    }
 }
@@ -0,0 +1,108 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.util.Pair;
+import seedu.address.model.id.Id;
+import seedu.address.model.person.Person;
+import seedu.address.model.relationship.Relationship;
+
+/**
+ * A bounded cache of the results of {@link Model#queryLink}, evicting the least recently used result when full.
+ * <p>
+ * Results are keyed by the unordered pair of IDs, packed by {@link Id#toPairKey} as relationships are, as the link
+ * from B to A is the link from A to B reversed, and stamped with the {@link AddressBook#getVersion() version} of the
+ * address book they were computed from. A result from an older version is never returned, so the cache needs no
+ * other invalidation.
+ * </p>
+ */
+class LinkQueryCache {
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final Map<Long, Entry> entries;
+    private long numOfHits = 0;
+    private long numOfMisses = 0;
+
+    /**
+     * Creates an empty cache holding at most {@code capacity} results.
+     */
+    LinkQueryCache(int capacity) {
+        assert capacity > 0 : "capacity should be positive";
+        // in access order, so the first entry is always the least recently used
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the link from {@code from} to {@code to} computed at {@code version}, if there is one.
+     */
+    Optional<List<Pair<Person, Relationship>>> get(Id from, Id to, long version) {
+        requireAllNonNull(from, to);
+        Entry entry = entries.get(Id.toPairKey(from, to));
+        if (entry == null || entry.version != version) {
+            numOfMisses++;
+            return Optional.empty();
+        }
+
+        numOfHits++;
+        return Optional.of(entry.from.equals(from) ? entry.link : reverse(entry.link));
+    }
+
+    /**
+     * Stores {@code link}, the result of querying the link from {@code from} to {@code to} at {@code version}.
+     */
+    void put(Id from, Id to, long version, List<Pair<Person, Relationship>> link) {
+        requireAllNonNull(from, to, link);
+        entries.put(Id.toPairKey(from, to), new Entry(from, version, List.copyOf(link)));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long getNumOfHits() {
+        return numOfHits;
+    }
+
+    long getNumOfMisses() {
+        return numOfMisses;
+    }
+
+    /**
+     * Returns the link {@code link} followed the other way. Each person is paired with the relationship to the next
+     * person, so the relationships shift by one place as well as reversing.
+     */
+    private static List<Pair<Person, Relationship>> reverse(List<Pair<Person, Relationship>> link) {
+        List<Pair<Person, Relationship>> reversed = new ArrayList<>(link.size());
+        for (int i = link.size() - 1; i >= 0; i--) {
+            Relationship toNext = i > 0 ? link.get(i - 1).getValue() : null;
+            reversed.add(new Pair<>(link.get(i).getKey(), toNext));
+        }
+        return reversed;
+    }
+
+    /**
+     * A cached link, as found from {@code from}.
+     */
+    private static class Entry {
+        private final Id from;
+        private final long version;
+        private final List<Pair<Person, Relationship>> link;
+
+        Entry(Id from, long version, List<Pair<Person, Relationship>> link) {
+            this.from = from;
+            this.version = version;
+            this.link = link;
+        }
+    }
+}
@@ -2,12 +2,18 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import javafx.util.Pair;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.LinkPredictor;
+import seedu.address.model.analysis.AnalysisStatus;
 import seedu.address.model.id.Id;
+import seedu.address.model.person.CompositePersonPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.tag.Tag;
@@ -21,6 +27,9 @@ public interface Model {
     Predicate<Tag> PREDICATE_SHOW_ALL_TAGS = unused -> true;
     Predicate<Relationship> PREDICATE_SHOW_ALL_RELATIONSHIPS = unused -> true;
 
+    /** The most persons {@link #queryNeighbourhood} puts in the relationship query. */
+    int NEIGHBOURHOOD_QUERY_LIMIT = 500;
+
 
 
     //  NOTE: USER PREFERENCES
@@ -79,6 +88,34 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to the persons satisfying {@code predicate}, testing only
+     * those that the search index cannot rule out.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findPersons(CompositePersonPredicate predicate);
+
+    /**
+     * Updates the filtered person list to the (at most) {@code limit} persons satisfying {@code predicate} that are
+     * most relevant to it, shown most relevant first.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findTopPersons(CompositePersonPredicate predicate, int limit);
+
+    /**
+     * Updates the filtered person list to the (at most) {@code limit} persons whose notes match {@code query} best,
+     * shown best first.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void searchNotes(String query, int limit);
+
+    /**
+     * Returns the plan {@link #findPersons} follows for {@code predicate}, one step per line, with the number of
+     * persons left after each step.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    String explainFindPersons(CompositePersonPredicate predicate);
+
     /**
      * Returns an unmodifiable view of the entire person list.
      */
@@ -113,6 +150,18 @@ public interface Model {
      */
     boolean hasPersonWithId(Id id);
 
+    /**
+     * Returns the person with the given Id, or an empty {@code Optional} if there is no such person
+     * in the address book.
+     */
+    Optional<Person> getPersonById(Id id);
+
+    /**
+     * Returns the person with the given Id if that person is currently shown in the filtered person list,
+     * or an empty {@code Optional} otherwise.
+     */
+    Optional<Person> getFilteredPersonById(Id id);
+
 
     //  NOTE: TAGS
 
@@ -220,13 +269,59 @@ public interface Model {
     /**
      * Computes people who have an immediate relationship with {@code Person} with {@code Id}.
      * Results are stored in {@code getRelationshipQuery()}, which contains all Person related
-     * to Person with ID 'id' and the {@code Relationship} between them.
+     * to Person with ID 'id' and the {@code Relationship} between them, sorted by the ID of the related Person.
      *
      * E.g.: Assuming that the target Person is PersonT, result is
      * {@code [[PersonA, Rel(A->T)], [PersonB, Rel(B->T)], [PersonC, Rel(C->T)], ...]}
      */
     void queryImmediateRelationship(Id id);
 
+    /**
+     * Lists every Person within 'depth' relationships of the Person with id 'id', nearest first.
+     * Results are stored in {@code getRelationshipQuery()}, which contains each Person found together with the
+     * Relationship through which they were first reached. Results are added one distance at a time as they are
+     * found, and stop after {@code NEIGHBOURHOOD_QUERY_LIMIT} Persons.
+     *
+     * E.g.: Assuming A is related to B and C, and C is related to D, querying A with depth 2 gives
+     * {@code [[PersonB, Rel(A->B)], [PersonC, Rel(A->C)], [PersonD, Rel(C->D)]]}
+     */
+    void queryNeighbourhood(Id id, int depth);
+
+    /**
+     * Lists every Person related to both the Persons with id 'person1' and 'person2', sorted by their ID.
+     * Results are stored in {@code getRelationshipQuery()}, which contains each such Person together with their
+     * Relationship with 'person1'.
+     *
+     * E.g.: Assuming A and B are both related to C and D, querying A and B gives
+     * {@code [[PersonC, Rel(A->C)], [PersonD, Rel(A->D)]]}
+     */
+    void queryMutualConnections(Id person1, Id person2);
+
+    /**
+     * Lists the (at most) {@code limit} Persons not related to the Person with id 'id' who share the most
+     * relationships with them by {@code measure}, best first. Results are stored in {@code getRelationshipQuery()},
+     * which contains each such Person together with their Relationship with the shared connection of lowest ID.
+     *
+     * E.g.: Assuming A is related to B and C, and both are related to D, suggesting for A gives
+     * {@code [[PersonD, Rel(B->D)]]}
+     */
+    void querySuggestions(Id id, LinkPredictor.Measure measure, int limit);
+
+    /**
+     * Lists the (at most) {@code limit} Relationships whose descriptions match {@code query} best, best first.
+     * Results are stored in {@code getRelationshipQuery()}, which contains each such Relationship together with its
+     * first participant.
+     *
+     * E.g.: Assuming only Rel(A->B) is described as "met at a conference", querying "conference" gives
+     * {@code [[PersonA, Rel(A->B)]]}
+     */
+    void queryDescriptions(String query, int limit);
+
+    /**
+     * Returns true if a chain of relationships links the Persons with id 'person1' and 'person2'.
+     */
+    boolean isConnected(Id person1, Id person2);
+
     /**
      * Computes the shortest sequence of Person whose relationships link Person with id 'person1' and 'person2'.
      * Results are stored in {@code getRelationshipQuery()}, which contains a list of Person
@@ -236,4 +331,30 @@ public interface Model {
      * {@code [[PersonA, Rel(A->B)], [PersonB, Rel(B->C)], [PersonC, Rel(C->D)], [PersonD, null]]}
      */
     public void queryLink(Id person1, Id person2);
+
+    /**
+     * Computes the shortest sequence of Person as {@link #queryLink} does, where every Person between 'person1' and
+     * 'person2' carries at least one of the tags with IDs in {@code viaTagIds}. Leaves {@code getRelationshipQuery()}
+     * empty if there is no such sequence.
+     */
+    void queryLinkVia(Id person1, Id person2, Set<Id> viaTagIds);
+
+    /**
+     * Starts ranking the Persons with relationships by degree, closeness and betweenness centrality in the
+     * background, from 'numOfSamples' randomly sampled Persons or {@code CentralityAnalysis.AUTOMATIC_SAMPLES},
+     * keeping the 'numOfResults' most central Persons by each measure. Returns false, and starts nothing, if an
+     * analysis is already running.
+     * Progress and results are published through {@code getAnalysisStatus()}, from a background thread.
+     */
+    boolean startAnalysis(int numOfSamples, int numOfResults);
+
+    /**
+     * Asks the running analysis to stop. Returns false if no analysis is running.
+     */
+    boolean cancelAnalysis();
+
+    /**
+     * Returns the status of the most recent analysis, which holds null if no analysis has been started.
+     */
+    ReadOnlyObjectProperty<AnalysisStatus> getAnalysisStatus();
 }
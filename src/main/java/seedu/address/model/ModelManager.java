@@ -5,20 +5,35 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.util.Pair;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.util.GraphUtil;
-import seedu.address.model.description.Description;
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.LinkPredictor;
+import seedu.address.commons.util.ParallelFilter;
+import seedu.address.model.analysis.AnalysisStatus;
+import seedu.address.model.analysis.CentralityAnalysis;
 import seedu.address.model.id.Id;
+import seedu.address.model.person.CompositePersonPredicate;
+import seedu.address.model.person.FuzzyNamePredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.tag.Tag;
@@ -32,10 +47,26 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    /** {@code filteredPersons} in the order they are shown, which is ranked by relevance after a fuzzy find. */
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Tag> filteredTags;
     private final FilteredList<Relationship> filteredRelationships;
     private final ObservableList<Pair<Person, Relationship>> internalRelQuery;
     private final ObservableList<Pair<Person, Relationship>> relQuery;
+    private final LinkQueryCache linkQueryCache = new LinkQueryCache(LinkQueryCache.DEFAULT_CAPACITY);
+    private final ReadOnlyObjectWrapper<AnalysisStatus> analysisStatus = new ReadOnlyObjectWrapper<>();
+    /** Number of persons from which the person list is filtered in parallel. */
+    private int parallelFilterThreshold = ParallelFilter.DEFAULT_THRESHOLD;
+    /** Number of changes to the person list so far, to tell whether a filter evaluated in advance is still valid. */
+    private long numOfPersonListChanges = 0;
+    /** The last find shown in {@code filteredPersons}, or null if there has been none. */
+    private CompositePersonPredicate lastFind;
+    /** The predicate {@code lastFind} was shown with, to tell whether the list has been filtered since. */
+    private Predicate<Person> lastFindFilter;
+    /** The version of the address book when {@code lastFind} was shown. */
+    private long lastFindVersion;
+    /** The most recently started analysis, or null if none has been started. */
+    private CentralityAnalysis analysis;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -47,7 +78,10 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // added before filteredPersons adds its own listener, so that it is told of a change first
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> numOfPersonListChanges++);
         this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        this.sortedPersons = new SortedList<>(filteredPersons);
         this.filteredTags = new FilteredList<>(this.addressBook.getTagList());
         this.filteredRelationships = new FilteredList<>(this.addressBook.getRelationshipList());
         this.internalRelQuery = FXCollections.observableArrayList();
@@ -112,13 +146,128 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filteredPersons.setPredicate(evaluateInAdvance(predicate));
+        sortedPersons.setComparator(null);
+    }
+
+    @Override
+    public void findPersons(CompositePersonPredicate predicate) {
+        requireNonNull(predicate);
+        Predicate<Person> narrowed;
+        if (canNarrowFind(predicate)) {
+            // only the persons shown can match, so the rest are rejected by ID without being tested
+            CompressedBitmap shownIds = new CompressedBitmap();
+            filteredPersons.forEach(person -> shownIds.add(person.getId().value));
+            narrowed = person -> shownIds.contains(person.getId().value) && predicate.test(person);
+        } else {
+            narrowed = addressBook.planFind(predicate);
+        }
+        // the shown persons and the index lookups only hold for the persons as they are now, so persons added or
+        // replaced afterwards are tested against the predicate itself
+        long narrowedAt = numOfPersonListChanges;
+        Predicate<Person> filter = person -> narrowedAt == numOfPersonListChanges
+                ? narrowed.test(person)
+                : predicate.test(person);
+        filter = evaluateInAdvance(filter);
+        filteredPersons.setPredicate(filter);
+        sortedPersons.setComparator(rankByDistance(predicate));
+        lastFind = predicate;
+        lastFindFilter = filter;
+        lastFindVersion = addressBook.getVersion();
+    }
+
+    @Override
+    public void findTopPersons(CompositePersonPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        showRanked(addressBook.findTopPersons(predicate, limit));
+    }
+
+    @Override
+    public void searchNotes(String query, int limit) {
+        requireNonNull(query);
+        showRanked(addressBook.searchNotes(query, limit));
+    }
+
+    /**
+     * Shows only {@code ranked} in the filtered person list, in that order.
+     */
+    private void showRanked(List<Person> ranked) {
+        Map<Id, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            ranks.put(ranked.get(i).getId(), i);
+        }
+        filteredPersons.setPredicate(person -> ranks.containsKey(person.getId()));
+        sortedPersons.setComparator(Comparator.comparingInt(person -> ranks.get(person.getId())));
+    }
+
+    /**
+     * Returns a comparator ranking the persons found by {@code predicate} by the total edit distance of their names
+     * from its fuzzy name keywords, closest first, or null if it has none and the persons keep their order.
+     */
+    private static Comparator<Person> rankByDistance(CompositePersonPredicate predicate) {
+        List<FuzzyNamePredicate> fuzzyPredicates = predicate.getPredicates().stream()
+                .filter(FuzzyNamePredicate.class::isInstance)
+                .map(FuzzyNamePredicate.class::cast)
+                .toList();
+        if (fuzzyPredicates.isEmpty()) {
+            return null;
+        }
+        return Comparator.comparingLong(person -> fuzzyPredicates.stream()
+                .mapToLong(fuzzyPredicate -> fuzzyPredicate.getDistance(person))
+                .sum());
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that, if there are enough persons to gain from it, has
+     * already been evaluated on all of them in parallel. Filtering the list with it then only looks up the results,
+     * so the list changes once, with every match. Persons added or replaced afterwards are tested against
+     * {@code predicate} itself.
+     */
+    private Predicate<Person> evaluateInAdvance(Predicate<Person> predicate) {
+        List<Person> persons = addressBook.getPersonList();
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS || persons.size() < parallelFilterThreshold) {
+            return predicate;
+        }
+        BitSet matches = ParallelFilter.findMatches(persons, predicate, parallelFilterThreshold);
+        // by ID rather than by position, as the list may test persons in any order, but compressed, as IDs can be
+        // as large as any int
+        CompressedBitmap matchedIds = new CompressedBitmap();
+        matches.stream().forEach(i -> matchedIds.add(persons.get(i).getId().value));
+        long evaluatedAt = numOfPersonListChanges;
+        return person -> evaluatedAt == numOfPersonListChanges
+                ? matchedIds.contains(person.getId().value)
+                : predicate.test(person);
+    }
+
+    /**
+     * Sets the number of persons from which the person list is filtered in parallel.
+     */
+    void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    /**
+     * Returns true if the persons {@code predicate} matches are all among those shown by the last find, so that
+     * only those need to be tested. This requires that the list still shows the last find, that no person has
+     * changed since, and that {@code predicate} is narrower than it.
+     */
+    boolean canNarrowFind(CompositePersonPredicate predicate) {
+        return lastFind != null
+                && filteredPersons.getPredicate() == lastFindFilter
+                && addressBook.getVersion() == lastFindVersion
+                && predicate.isNarrowerThan(lastFind);
+    }
+
+    @Override
+    public String explainFindPersons(CompositePersonPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.planFind(predicate).explain(addressBook.getPersonList());
     }
 
     @Override
@@ -157,6 +306,19 @@ public class ModelManager implements Model {
         return addressBook.hasPersonWithId(id);
     }
 
+    @Override
+    public Optional<Person> getPersonById(Id id) {
+        requireNonNull(id);
+        return addressBook.getPersonById(id);
+    }
+
+    @Override
+    public Optional<Person> getFilteredPersonById(Id id) {
+        requireNonNull(id);
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return getPersonById(id).filter(person -> predicate == null || predicate.test(person));
+    }
+
 
     //  NOTE: TAGS
 
@@ -264,63 +426,147 @@ public class ModelManager implements Model {
     @Override
     public void queryImmediateRelationship(Id id) {
         requireNonNull(id);
-        internalRelQuery.clear();
 
-        ObservableList<Person> people = addressBook.getPersonList();
-        ObservableList<Relationship> relationships = addressBook.getRelationshipList();
+        List<Pair<Person, Relationship>> result = new ArrayList<>();
+        for (Relationship rel : addressBook.getRelationshipsOf(id)) {
+            Person other = addressBook.getPersonById(rel.getCounterpartId(id)).get();
+            result.add(new Pair<>(other, rel));
+        }
+        internalRelQuery.setAll(result);
+    }
+
+    @Override
+    public void queryNeighbourhood(Id id, int depth) {
+        requireNonNull(id);
+        internalRelQuery.clear();
 
-        for (Relationship rel : relationships) {
-            if (rel.hasPersonWithId(id)) {
-                Id otherId = rel.getCounterpartId(id);
-                Person other = people.filtered(person -> person.getId().equals(otherId)).get(0);
-                internalRelQuery.add(new Pair<>(other, rel));
+        // persons arrive nearest first; each distance is published as one batch once the next one starts
+        List<Pair<Person, Relationship>> batch = new ArrayList<>();
+        int[] batchHops = {1};
+        addressBook.visitRelatedWithinHops(id, depth, NEIGHBOURHOOD_QUERY_LIMIT, (personId, viaId, hops) -> {
+            if (hops != batchHops[0]) {
+                internalRelQuery.addAll(batch);
+                batch.clear();
+                batchHops[0] = hops;
             }
-        }
+            Person person = addressBook.getPersonById(personId).get();
+            batch.add(new Pair<>(person, addressBook.getRelationship(viaId, personId).get()));
+        });
+        internalRelQuery.addAll(batch);
     }
 
     @Override
-    public void queryLink(Id person1, Id person2) {
+    public void queryMutualConnections(Id person1, Id person2) {
         requireAllNonNull(person1, person2);
-        internalRelQuery.clear();
+        List<Pair<Person, Relationship>> result = new ArrayList<>();
+        for (Id common : addressBook.getCommonRelatedIds(person1, person2)) {
+            Person person = addressBook.getPersonById(common).get();
+            result.add(new Pair<>(person, addressBook.getRelationship(person1, common).get()));
+        }
+        internalRelQuery.setAll(result);
+    }
 
-        // Setting up the list of nodes
-        Person[] people = addressBook.getPersonList().toArray(new Person[addressBook.getPersonList().size()]);
-        HashMap<Id, Integer> idIndexMap = new HashMap<>();
-        for (int i = 0; i < people.length; i++) {
-            idIndexMap.put(people[i].getId(), i);
+    @Override
+    public void querySuggestions(Id id, LinkPredictor.Measure measure, int limit) {
+        requireAllNonNull(id, measure);
+        List<Pair<Person, Relationship>> result = new ArrayList<>();
+        for (Id suggested : addressBook.getSuggestedIds(id, measure, limit)) {
+            Person person = addressBook.getPersonById(suggested).get();
+            Id shared = addressBook.getCommonRelatedIds(id, suggested).get(0);
+            result.add(new Pair<>(person, addressBook.getRelationship(shared, suggested).get()));
         }
+        internalRelQuery.setAll(result);
+    }
 
-        // adjList[i] is the list of indexes of all Person adjacent (immediately related) to people[i]
-        // Setting up the adjacency list
-        ArrayList<ArrayList<Integer>> adjList = new ArrayList<>();
-        for (int i = 0; i < people.length; i++) {
-            adjList.add(new ArrayList<>());
+    @Override
+    public void queryDescriptions(String query, int limit) {
+        requireNonNull(query);
+        List<Pair<Person, Relationship>> result = new ArrayList<>();
+        for (Relationship relationship : addressBook.searchDescriptions(query, limit)) {
+            result.add(new Pair<>(addressBook.getPersonById(relationship.getPart1()).get(), relationship));
         }
-        ObservableList<Relationship> relationships = addressBook.getRelationshipList();
-        for (Relationship rel : relationships) {
-            adjList.get(idIndexMap.get(rel.getPart1())).add(idIndexMap.get(rel.getPart2()));
-            adjList.get(idIndexMap.get(rel.getPart2())).add(idIndexMap.get(rel.getPart1()));
+        internalRelQuery.setAll(result);
+    }
+
+    @Override
+    public boolean isConnected(Id person1, Id person2) {
+        requireAllNonNull(person1, person2);
+        return addressBook.isConnected(person1, person2);
+    }
+
+    @Override
+    public void queryLink(Id person1, Id person2) {
+        requireAllNonNull(person1, person2);
+        long version = addressBook.getVersion();
+        Optional<List<Pair<Person, Relationship>>> cachedLink = linkQueryCache.get(person1, person2, version);
+        if (cachedLink.isPresent()) {
+            internalRelQuery.setAll(cachedLink.get());
+            return;
         }
 
-        Integer start = idIndexMap.get(person1);
-        Integer end = idIndexMap.get(person2);
-        ArrayList<Integer> path = GraphUtil.getShortestPath(adjList, start, end);
+        setLinkQuery(addressBook.getShortestRelationshipPath(person1, person2));
+        linkQueryCache.put(person1, person2, version, internalRelQuery);
+    }
 
-        // There is no link between person1 and person2
+    @Override
+    public void queryLinkVia(Id person1, Id person2, Set<Id> viaTagIds) {
+        requireAllNonNull(person1, person2, viaTagIds);
+        setLinkQuery(addressBook.getShortestRelationshipPathVia(person1, person2, viaTagIds));
+    }
+
+    /**
+     * Returns the cache of {@link #queryLink} results, for its hit and miss counts.
+     */
+    LinkQueryCache getLinkQueryCache() {
+        return linkQueryCache;
+    }
+
+    /**
+     * Fills the relationship query with the persons on {@code path} and the relationships between them.
+     */
+    private void setLinkQuery(List<Id> path) {
+        internalRelQuery.clear();
+
+        // There is no link between the ends
         if (path.isEmpty()) {
             return;
         }
 
         // Trace the route that we took and fill up internalRelQuery
+        List<Pair<Person, Relationship>> result = new ArrayList<>();
         for (int i = 0; i < path.size() - 1; i++) {
-            Person cur = people[path.get(i)];
-            Person next = people[path.get(i + 1)];
-            internalRelQuery.add(new Pair<>(cur, relationships.filtered(rel ->
-                    rel.isSameRelationship(new Relationship(cur.getId(), next.getId(), new Description("desc"))))
-                    .get(0)));
+            Person cur = addressBook.getPersonById(path.get(i)).get();
+            Relationship link = addressBook.getRelationship(path.get(i), path.get(i + 1)).get();
+            result.add(new Pair<>(cur, link));
         }
+        result.add(new Pair<>(addressBook.getPersonById(path.get(path.size() - 1)).get(), null));
+        internalRelQuery.setAll(result);
+    }
 
-        internalRelQuery.add(new Pair<>(people[end], null));
+    @Override
+    public boolean startAnalysis(int numOfSamples, int numOfResults) {
+        if (analysis != null && analysis.isRunning()) {
+            return false;
+        }
+
+        analysis = new CentralityAnalysis(addressBook.getPersonList(), addressBook.getRelationshipList(),
+                numOfSamples, numOfResults);
+        analysis.start(analysisStatus::set);
+        return true;
+    }
+
+    @Override
+    public boolean cancelAnalysis() {
+        if (analysis == null || !analysis.isRunning()) {
+            return false;
+        }
+        analysis.cancel();
+        return true;
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<AnalysisStatus> getAnalysisStatus() {
+        return analysisStatus.getReadOnlyProperty();
     }
 
     /**
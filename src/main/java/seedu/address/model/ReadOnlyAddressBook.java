@@ -1,6 +1,10 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.id.Id;
 import seedu.address.model.person.Person;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.tag.Tag;
@@ -27,4 +31,14 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate relationships.
      */
     ObservableList<Relationship> getRelationshipList();
+
+    /**
+     * Returns the person with the given Id, or an empty {@code Optional} if there is no such person.
+     */
+    Optional<Person> getPersonById(Id id);
+
+    /**
+     * Returns the relationships that involve the person with the given Id, sorted by the Id of the counterpart.
+     */
+    List<Relationship> getRelationshipsOf(Id personId);
 }
@@ -0,0 +1,150 @@
+package seedu.address.model.analysis;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An immutable snapshot of the progress, and once finished the results, of a {@link CentralityAnalysis}.
+ */
+public class AnalysisStatus {
+
+    /**
+     * The stages of an analysis.
+     */
+    public enum State {
+        RUNNING, DONE, CANCELLED, FAILED
+    }
+
+    private final State state;
+    private final int numOfPersons;
+    private final int numOfSourcesDone;
+    private final int numOfSources;
+    private final List<CentralityScore> topByDegree;
+    private final List<CentralityScore> topByCloseness;
+    private final List<CentralityScore> topByBetweenness;
+
+    private AnalysisStatus(State state, int numOfPersons, int numOfSourcesDone, int numOfSources,
+            List<CentralityScore> topByDegree, List<CentralityScore> topByCloseness,
+            List<CentralityScore> topByBetweenness) {
+        this.state = state;
+        this.numOfPersons = numOfPersons;
+        this.numOfSourcesDone = numOfSourcesDone;
+        this.numOfSources = numOfSources;
+        this.topByDegree = List.copyOf(topByDegree);
+        this.topByCloseness = List.copyOf(topByCloseness);
+        this.topByBetweenness = List.copyOf(topByBetweenness);
+    }
+
+    /**
+     * Returns the status of an analysis of {@code numOfPersons} persons that has searched from
+     * {@code numOfSourcesDone} of its {@code numOfSources} sources.
+     */
+    public static AnalysisStatus running(int numOfPersons, int numOfSourcesDone, int numOfSources) {
+        return new AnalysisStatus(State.RUNNING, numOfPersons, numOfSourcesDone, numOfSources, List.of(), List.of(),
+                List.of());
+    }
+
+    /**
+     * Returns the status of a finished analysis, with the persons of highest degree, closeness and betweenness,
+     * highest first.
+     */
+    public static AnalysisStatus done(int numOfPersons, int numOfSources, List<CentralityScore> topByDegree,
+            List<CentralityScore> topByCloseness, List<CentralityScore> topByBetweenness) {
+        return new AnalysisStatus(State.DONE, numOfPersons, numOfSources, numOfSources, topByDegree, topByCloseness,
+                topByBetweenness);
+    }
+
+    /**
+     * Returns the status of an analysis that stopped early, in {@code state}, after {@code numOfSourcesDone}
+     * sources.
+     */
+    public static AnalysisStatus stopped(State state, int numOfPersons, int numOfSourcesDone, int numOfSources) {
+        requireNonNull(state);
+        assert state == State.CANCELLED || state == State.FAILED : "only cancelled or failed analyses stop early";
+        return new AnalysisStatus(state, numOfPersons, numOfSourcesDone, numOfSources, List.of(), List.of(),
+                List.of());
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    /**
+     * Returns the number of persons with relationships, who are the ones analysed.
+     */
+    public int getNumOfPersons() {
+        return numOfPersons;
+    }
+
+    public int getNumOfSourcesDone() {
+        return numOfSourcesDone;
+    }
+
+    public int getNumOfSources() {
+        return numOfSources;
+    }
+
+    /**
+     * Returns true if the scores are estimated from a sample of the persons rather than computed exactly.
+     */
+    public boolean isSampled() {
+        return numOfSources < numOfPersons;
+    }
+
+    public List<CentralityScore> getTopByDegree() {
+        return topByDegree;
+    }
+
+    public List<CentralityScore> getTopByCloseness() {
+        return topByCloseness;
+    }
+
+    public List<CentralityScore> getTopByBetweenness() {
+        return topByBetweenness;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AnalysisStatus)) {
+            return false;
+        }
+
+        AnalysisStatus otherStatus = (AnalysisStatus) other;
+        return state == otherStatus.state
+                && numOfPersons == otherStatus.numOfPersons
+                && numOfSourcesDone == otherStatus.numOfSourcesDone
+                && numOfSources == otherStatus.numOfSources
+                && topByDegree.equals(otherStatus.topByDegree)
+                && topByCloseness.equals(otherStatus.topByCloseness)
+                && topByBetweenness.equals(otherStatus.topByBetweenness);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(state, numOfPersons, numOfSourcesDone, numOfSources, topByDegree,
+                topByCloseness, topByBetweenness);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("state", state)
+                .add("numOfPersons", numOfPersons)
+                .add("numOfSourcesDone", numOfSourcesDone)
+                .add("numOfSources", numOfSources)
+                .toString();
+    }
+}
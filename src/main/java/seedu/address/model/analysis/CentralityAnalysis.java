@@ -0,0 +1,262 @@
+package seedu.address.model.analysis;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.IntToDoubleFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CentralityScores;
+import seedu.address.commons.util.CentralityUtil;
+import seedu.address.commons.util.CsrGraph;
+import seedu.address.model.id.Id;
+import seedu.address.model.person.Person;
+import seedu.address.model.relationship.Relationship;
+
+/**
+ * Ranks the persons in the relationship network by degree, closeness and betweenness centrality, in the background.
+ * <p>
+ * The persons and relationships are copied when the analysis is created, so later edits do not affect it. The graph
+ * is built from the copy and the scores computed by {@link CentralityUtil} on the fork-join common pool, while the
+ * caller carries on. Networks of {@link #SAMPLING_MIN_PERSONS} or more persons are analysed from a random sample of
+ * {@link #DEFAULT_NUM_OF_SAMPLES} persons unless told otherwise, as an exact analysis takes time proportional to the
+ * number of persons times the number of relationships.
+ * </p>
+ */
+public class CentralityAnalysis {
+    /** Number of samples that asks for the default: exact below {@link #SAMPLING_MIN_PERSONS}, sampled above. */
+    public static final int AUTOMATIC_SAMPLES = 0;
+    public static final int SAMPLING_MIN_PERSONS = 100_000;
+    public static final int DEFAULT_NUM_OF_SAMPLES = 1_000;
+
+    /** Progress is published at most this often, so that a fast analysis does not flood its listener. */
+    private static final long PROGRESS_INTERVAL_NANOS = 200_000_000L;
+
+    private static final Logger logger = LogsCenter.getLogger(CentralityAnalysis.class);
+
+    private final List<Person> persons;
+    private final List<Relationship> relationships;
+    private final int numOfSamples;
+    private final int numOfResults;
+    private final Random random;
+
+    private volatile boolean isCancelled = false;
+    private CompletableFuture<Void> future;
+
+    /**
+     * Creates an analysis of {@code relationships} among {@code persons} that finds the {@code numOfResults} most
+     * central persons by each measure, from {@code numOfSamples} randomly sampled persons, all persons if there
+     * are no more than that, or {@link #AUTOMATIC_SAMPLES}.
+     */
+    public CentralityAnalysis(List<Person> persons, List<Relationship> relationships, int numOfSamples,
+            int numOfResults) {
+        this(persons, relationships, numOfSamples, numOfResults, new Random());
+    }
+
+    /**
+     * Creates an analysis as above that samples persons with {@code random}.
+     */
+    CentralityAnalysis(List<Person> persons, List<Relationship> relationships, int numOfSamples, int numOfResults,
+            Random random) {
+        requireAllNonNull(persons, relationships, random);
+        assert numOfSamples >= 0 && numOfResults > 0;
+        this.persons = List.copyOf(persons);
+        this.relationships = List.copyOf(relationships);
+        this.numOfSamples = numOfSamples;
+        this.numOfResults = numOfResults;
+        this.random = random;
+    }
+
+    /**
+     * Starts the analysis in the background, passing each new status to {@code listener} from a worker thread.
+     * The last status passed is never {@link AnalysisStatus#isRunning() running}.
+     */
+    public void start(Consumer<AnalysisStatus> listener) {
+        assert future == null : "an analysis should be started only once";
+        future = CompletableFuture.runAsync(() -> run(listener));
+    }
+
+    /**
+     * Asks the analysis to stop as soon as it can.
+     */
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    /**
+     * Returns true if the analysis has been started and has not finished.
+     */
+    public boolean isRunning() {
+        return future != null && !future.isDone();
+    }
+
+    /**
+     * Runs the analysis on the calling thread, passing each new status to {@code listener}.
+     */
+    void run(Consumer<AnalysisStatus> listener) {
+        List<Id> nodeToId = new ArrayList<>();
+        CsrGraph graph = buildGraph(nodeToId);
+        int numOfPersons = graph.getNumOfNodes();
+        int[] sources = chooseSources(numOfPersons);
+        listener.accept(AnalysisStatus.running(numOfPersons, 0, sources.length));
+
+        ThrottledProgress progress = new ThrottledProgress(numOfPersons, listener);
+        CentralityScores scores;
+        try {
+            scores = CentralityUtil.computeCentrality(graph, sources, progress);
+        } catch (CancellationException e) {
+            logger.info("Centrality analysis cancelled");
+            listener.accept(AnalysisStatus.stopped(AnalysisStatus.State.CANCELLED, numOfPersons,
+                    progress.getNumOfSourcesDone(), sources.length));
+            return;
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Centrality analysis failed", e);
+            listener.accept(AnalysisStatus.stopped(AnalysisStatus.State.FAILED, numOfPersons,
+                    progress.getNumOfSourcesDone(), sources.length));
+            return;
+        }
+
+        Map<Id, Person> idToPerson = new HashMap<>();
+        for (Person person : persons) {
+            idToPerson.put(person.getId(), person);
+        }
+        List<Integer> topByDegree = findTop(scores::getDegree, nodeToId);
+        List<Integer> topByCloseness = findTop(scores::getCloseness, nodeToId);
+        List<Integer> topByBetweenness = findTop(scores::getBetweenness, nodeToId);
+        listener.accept(AnalysisStatus.done(numOfPersons, sources.length,
+                toScores(topByDegree, scores, nodeToId, idToPerson),
+                toScores(topByCloseness, scores, nodeToId, idToPerson),
+                toScores(topByBetweenness, scores, nodeToId, idToPerson)));
+    }
+
+    /**
+     * Returns the graph of the relationships, whose nodes are the persons with relationships, numbered in the
+     * order they are first met. Fills {@code nodeToId} with the id of each node.
+     */
+    private CsrGraph buildGraph(List<Id> nodeToId) {
+        Map<Id, Integer> idToNode = new HashMap<>();
+        List<List<Integer>> adjList = new ArrayList<>();
+        for (Relationship relationship : relationships) {
+            int node1 = getOrAddNode(relationship.getPart1(), idToNode, nodeToId, adjList);
+            int node2 = getOrAddNode(relationship.getPart2(), idToNode, nodeToId, adjList);
+            adjList.get(node1).add(node2);
+            adjList.get(node2).add(node1);
+        }
+        return CsrGraph.fromAdjacencyList(adjList);
+    }
+
+    private static int getOrAddNode(Id id, Map<Id, Integer> idToNode, List<Id> nodeToId,
+            List<List<Integer>> adjList) {
+        Integer node = idToNode.get(id);
+        if (node == null) {
+            node = nodeToId.size();
+            idToNode.put(id, node);
+            nodeToId.add(id);
+            adjList.add(new ArrayList<>());
+        }
+        return node;
+    }
+
+    /**
+     * Returns every node if the analysis is exact, or else a uniform sample of the nodes.
+     */
+    private int[] chooseSources(int numOfNodes) {
+        int numOfSources = numOfSamples == AUTOMATIC_SAMPLES
+                ? (numOfNodes >= SAMPLING_MIN_PERSONS ? DEFAULT_NUM_OF_SAMPLES : numOfNodes)
+                : Math.min(numOfSamples, numOfNodes);
+
+        // the first numOfSources steps of a Fisher-Yates shuffle
+        int[] nodes = new int[numOfNodes];
+        for (int u = 0; u < numOfNodes; u++) {
+            nodes[u] = u;
+        }
+        for (int i = 0; i < numOfSources && numOfSources < numOfNodes; i++) {
+            int j = i + random.nextInt(numOfNodes - i);
+            int swapped = nodes[i];
+            nodes[i] = nodes[j];
+            nodes[j] = swapped;
+        }
+        return Arrays.copyOf(nodes, numOfSources);
+    }
+
+    /**
+     * Returns the {@code numOfResults} nodes with the highest scores, highest first, using a heap of that size.
+     * Among equal scores, persons with lower ids rank higher.
+     */
+    private List<Integer> findTop(IntToDoubleFunction score, List<Id> nodeToId) {
+        // the root of the heap is the lowest ranked of the best so far
+        Comparator<Integer> byRank = Comparator.<Integer>comparingDouble(score::applyAsDouble)
+                .thenComparing(node -> nodeToId.get(node).value, Comparator.reverseOrder());
+        PriorityQueue<Integer> best = new PriorityQueue<>(byRank);
+        for (int u = 0; u < nodeToId.size(); u++) {
+            best.add(u);
+            if (best.size() > numOfResults) {
+                best.poll();
+            }
+        }
+
+        List<Integer> top = new ArrayList<>(best);
+        top.sort(byRank.reversed());
+        return top;
+    }
+
+    private static List<CentralityScore> toScores(List<Integer> nodes, CentralityScores scores, List<Id> nodeToId,
+            Map<Id, Person> idToPerson) {
+        List<CentralityScore> result = new ArrayList<>();
+        for (int node : nodes) {
+            Person person = idToPerson.get(nodeToId.get(node));
+            if (person != null) {
+                result.add(new CentralityScore(person, scores.getDegree(node), scores.getCloseness(node),
+                        scores.getBetweenness(node)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Passes progress on to a listener at most once every {@link #PROGRESS_INTERVAL_NANOS}, and stops the
+     * computation once the analysis is cancelled.
+     */
+    private class ThrottledProgress implements CentralityUtil.Progress {
+        private final int numOfPersons;
+        private final Consumer<AnalysisStatus> listener;
+        private long lastReportTime = System.nanoTime();
+        private int numOfSourcesDone = 0;
+
+        ThrottledProgress(int numOfPersons, Consumer<AnalysisStatus> listener) {
+            this.numOfPersons = numOfPersons;
+            this.listener = listener;
+        }
+
+        @Override
+        public synchronized void reportProgress(int numOfSourcesDone, int numOfSources) {
+            this.numOfSourcesDone = Math.max(this.numOfSourcesDone, numOfSourcesDone);
+            long now = System.nanoTime();
+            if (now - lastReportTime >= PROGRESS_INTERVAL_NANOS && numOfSourcesDone < numOfSources) {
+                lastReportTime = now;
+                listener.accept(AnalysisStatus.running(numOfPersons, numOfSourcesDone, numOfSources));
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return isCancelled;
+        }
+
+        synchronized int getNumOfSourcesDone() {
+            return numOfSourcesDone;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.analysis;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * How central a person is to the relationship network, as found by a {@link CentralityAnalysis}.
+ */
+public class CentralityScore {
+    private final Person person;
+    private final int degree;
+    private final double closeness;
+    private final double betweenness;
+
+    /**
+     * Constructs a {@code CentralityScore} of {@code person}, who has {@code degree} relationships.
+     */
+    public CentralityScore(Person person, int degree, double closeness, double betweenness) {
+        requireNonNull(person);
+        this.person = person;
+        this.degree = degree;
+        this.closeness = closeness;
+        this.betweenness = betweenness;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public int getDegree() {
+        return degree;
+    }
+
+    public double getCloseness() {
+        return closeness;
+    }
+
+    public double getBetweenness() {
+        return betweenness;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CentralityScore)) {
+            return false;
+        }
+
+        CentralityScore otherScore = (CentralityScore) other;
+        return person.equals(otherScore.person)
+                && degree == otherScore.degree
+                && Double.compare(closeness, otherScore.closeness) == 0
+                && Double.compare(betweenness, otherScore.betweenness) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, degree, closeness, betweenness);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person.getId())
+                .add("degree", degree)
+                .add("closeness", closeness)
+                .add("betweenness", betweenness)
+                .toString();
+    }
+}
@@ -78,6 +78,17 @@ public class Id {
         return isValidId(testInteger);
     }
 
+    /**
+     * Returns a key that is equal for two pairs of IDs if and only if they hold the same IDs, regardless of order.
+     */
+    public static long toPairKey(Id a, Id b) {
+        requireNonNull(a);
+        requireNonNull(b);
+        int low = Math.min(a.value, b.value);
+        int high = Math.max(a.value, b.value);
+        return ((long) low << Integer.SIZE) | (high & 0xFFFFFFFFL);
+    }
+
     @Override
     public String toString() {
         return value.toString();
@@ -38,6 +38,36 @@ public class CompositePersonPredicate implements Predicate<Person> {
         return predicates.stream().allMatch(predicate -> predicate.test(person));
     }
 
+    /**
+     * Returns how relevant {@code person} is to this predicate, the sum of its scores for each field predicate.
+     *
+     * @see FieldContainsKeywordsPredicate#score
+     */
+    public int score(Person person) {
+        int total = 0;
+        for (FieldContainsKeywordsPredicate predicate : predicates) {
+            total += predicate.score(person);
+        }
+        return total;
+    }
+
+    /**
+     * Returns true if every person this predicate matches is also matched by {@code other}, that is, if each field
+     * predicate of {@code other} is implied by one of this predicate. This is the case when this predicate repeats
+     * {@code other} with longer keywords or with more fields, e.g. {@code find n/alic e/gmail} after
+     * {@code find n/al}.
+     *
+     * @see FieldContainsKeywordsPredicate#implies
+     */
+    public boolean isNarrowerThan(CompositePersonPredicate other) {
+        return other.predicates.stream().allMatch(otherPredicate ->
+                predicates.stream().anyMatch(predicate -> predicate.implies(otherPredicate)));
+    }
+
+    public List<FieldContainsKeywordsPredicate> getPredicates() {
+        return predicates;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
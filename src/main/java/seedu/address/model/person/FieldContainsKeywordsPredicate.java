@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -21,6 +23,11 @@ import seedu.address.logic.parser.PersonFieldExtractor;
  * </p>
  */
 public class FieldContainsKeywordsPredicate implements Predicate<Person> {
+    /** Score of a keyword found at the start of a word of the field, or equal to a tag ID. */
+    static final int WORD_PREFIX_SCORE = 2;
+    /** Score of a keyword found only inside words of the field. */
+    static final int INFIX_SCORE = 1;
+
     /** Map of each {@link PersonFieldExtractor} static lambda to a label for the toString() method */
     private static final Map<Function<Person, List<String>>, String> LABELS = Map.of(
             PersonFieldExtractor.GET_NAME, "nameKeywords",
@@ -29,9 +36,30 @@ public class FieldContainsKeywordsPredicate implements Predicate<Person> {
             PersonFieldExtractor.GET_ADDRESS, "addressKeywords",
             PersonFieldExtractor.GET_TAGS, "tagsIds"
     );
+    /** The normalized field of {@link PersonSearchFields} that each {@link PersonFieldExtractor} extracts. */
+    private static final Map<Function<Person, List<String>>, Function<PersonSearchFields, String>> SEARCH_FIELDS =
+            Map.of(
+                    PersonFieldExtractor.GET_NAME, PersonSearchFields::getName,
+                    PersonFieldExtractor.GET_PHONE, PersonSearchFields::getPhone,
+                    PersonFieldExtractor.GET_EMAIL, PersonSearchFields::getEmail,
+                    PersonFieldExtractor.GET_ADDRESS, PersonSearchFields::getAddress
+            );
+    /** How much a keyword matched in each field adds to the relevance of a person; any other field weighs 1. */
+    private static final Map<Function<Person, List<String>>, Integer> WEIGHTS = Map.of(
+            PersonFieldExtractor.GET_NAME, 4,
+            PersonFieldExtractor.GET_TAGS, 3,
+            PersonFieldExtractor.GET_EMAIL, 2,
+            PersonFieldExtractor.GET_PHONE, 2,
+            PersonFieldExtractor.GET_ADDRESS, 1
+    );
+
     private final Function<Person, List<String>> extractor;
     private final List<String> keywords;
-    private boolean isTag = false;
+    private final boolean isTag;
+    /** {@code keywords} normalized as by {@link PersonSearchFields#normalize}. */
+    private final String[] normalizedKeywords;
+    /** The keywords of a tag predicate that can equal a tag ID, as ID values. */
+    private final int[] tagIdKeywords;
 
     /**
      * Creates a predicate that checks if any of the given keywords
@@ -41,8 +69,7 @@ public class FieldContainsKeywordsPredicate implements Predicate<Person> {
      * @param keywords  List of keywords to search for.
      */
     public FieldContainsKeywordsPredicate(Function<Person, List<String>> extractor, List<String> keywords) {
-        this.extractor = extractor;
-        this.keywords = keywords;
+        this(extractor, keywords, false);
     }
 
     /**
@@ -59,6 +86,8 @@ public class FieldContainsKeywordsPredicate implements Predicate<Person> {
         this.extractor = extractor;
         this.keywords = keywords;
         this.isTag = isTag;
+        this.normalizedKeywords = keywords.stream().map(PersonSearchFields::normalize).toArray(String[]::new);
+        this.tagIdKeywords = isTag ? toTagIds(normalizedKeywords) : new int[0];
     }
 
     /**
@@ -70,6 +99,27 @@ public class FieldContainsKeywordsPredicate implements Predicate<Person> {
      */
     @Override
     public boolean test(Person person) {
+        if (isTag && extractor == PersonFieldExtractor.GET_TAGS) {
+            PersonSearchFields fields = person.getSearchFields();
+            for (int tagId : tagIdKeywords) {
+                if (fields.hasTagId(tagId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Function<PersonSearchFields, String> searchField = SEARCH_FIELDS.get(extractor);
+        if (!isTag && searchField != null) {
+            String value = searchField.apply(person.getSearchFields());
+            for (String keyword : normalizedKeywords) {
+                if (value.contains(keyword)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         List<String> personFieldList = extractor.apply(person);
         BiPredicate<String, String> stringChecker = isTag
                 ? StringUtil::containsWordIgnoreCase
@@ -80,6 +130,130 @@ public class FieldContainsKeywordsPredicate implements Predicate<Person> {
                                 stringChecker.test(value, keyword))); // substring matching
     }
 
+    /**
+     * Returns how relevant {@code person} is to this predicate: the weight of the field times the sum of the scores
+     * of the keywords found in it, {@value #WORD_PREFIX_SCORE} for each found at the start of a word and
+     * {@value #INFIX_SCORE} for each found only inside words. A person this predicate does not match scores 0.
+     */
+    public int score(Person person) {
+        int total = 0;
+        Function<PersonSearchFields, String> searchField = SEARCH_FIELDS.get(extractor);
+        if (isTag && extractor == PersonFieldExtractor.GET_TAGS) {
+            PersonSearchFields fields = person.getSearchFields();
+            for (int tagId : tagIdKeywords) {
+                total += fields.hasTagId(tagId) ? WORD_PREFIX_SCORE : 0;
+            }
+        } else if (!isTag && searchField != null) {
+            String value = searchField.apply(person.getSearchFields());
+            for (String keyword : normalizedKeywords) {
+                total += getMatchScore(value, keyword);
+            }
+        } else {
+            List<String> personFieldList = extractor.apply(person);
+            BiPredicate<String, String> stringChecker = isTag
+                    ? StringUtil::containsWordIgnoreCase
+                    : StringUtil::containsSubstringIgnoreCase;
+            for (String keyword : keywords) {
+                total += personFieldList.stream().anyMatch(value -> stringChecker.test(value, keyword))
+                        ? INFIX_SCORE
+                        : 0;
+            }
+        }
+        return getFieldWeight() * total;
+    }
+
+    /**
+     * Returns the score of {@code keyword} in the normalized field {@code value}.
+     */
+    private static int getMatchScore(String value, String keyword) {
+        int score = 0;
+        for (int i = value.indexOf(keyword); i >= 0; i = value.indexOf(keyword, i + 1)) {
+            if (i == 0 || !Character.isLetterOrDigit(value.charAt(i - 1))) {
+                return WORD_PREFIX_SCORE;
+            }
+            score = INFIX_SCORE;
+        }
+        return score;
+    }
+
+    /**
+     * Returns how much a keyword matched in the field of this predicate counts towards relevance.
+     */
+    int getFieldWeight() {
+        return WEIGHTS.getOrDefault(extractor, 1);
+    }
+
+    /**
+     * Returns true if every person this predicate matches is also matched by {@code other}, judging from the
+     * keywords alone. This holds when both test the same field the same way and every keyword of this predicate
+     * contains a keyword of {@code other}, or for whole-word tag matching, equals one.
+     */
+    public boolean implies(FieldContainsKeywordsPredicate other) {
+        if (getClass() != other.getClass() || isTag != other.isTag || !extractor.equals(other.extractor)) {
+            return false;
+        }
+        for (String keyword : normalizedKeywords) {
+            boolean isImplied = false;
+            for (String otherKeyword : other.normalizedKeywords) {
+                if (isTag ? keyword.equals(otherKeyword) : keyword.contains(otherKeyword)) {
+                    isImplied = true;
+                    break;
+                }
+            }
+            if (!isImplied) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the values of the keywords that are tag IDs in the form {@code Id#toString()} gives, as only those
+     * can equal the word of a tag ID.
+     */
+    private static int[] toTagIds(String[] keywords) {
+        return Arrays.stream(keywords)
+                .filter(keyword -> keyword.matches("0|[1-9]\\d{0,9}"))
+                .mapToLong(Long::parseLong)
+                .filter(value -> value <= Integer.MAX_VALUE)
+                .mapToInt(value -> (int) value)
+                .toArray();
+    }
+
+    public Function<Person, List<String>> getExtractor() {
+        return extractor;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public boolean isTag() {
+        return isTag;
+    }
+
+    /**
+     * Returns the keywords in the form they are compared with the field, normalized as by
+     * {@link PersonSearchFields#normalize}.
+     */
+    protected List<String> getNormalizedKeywords() {
+        return Collections.unmodifiableList(Arrays.asList(normalizedKeywords));
+    }
+
+    /**
+     * Returns the ID values that the keywords of a tag predicate can match.
+     */
+    int[] getTagIdKeywords() {
+        return tagIdKeywords.clone();
+    }
+
+    /**
+     * Returns the field and keywords of this predicate, e.g. {@code nameKeywords=[ali]}.
+     */
+    public String describe() {
+        return LABELS.getOrDefault(extractor, "unknownKeywords") + "=" + keywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -91,7 +265,8 @@ public class FieldContainsKeywordsPredicate implements Predicate<Person> {
             return false;
         }
 
-        return keywords.equals(otherPredicate.keywords) && extractor.equals(otherPredicate.extractor);
+        return getClass() == otherPredicate.getClass() && keywords.equals(otherPredicate.keywords)
+                && extractor.equals(otherPredicate.extractor);
     }
 
     @Override
@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.parser.PersonFieldExtractor;
+
+/**
+ * Tests whether a word of the name of a {@link Person} is within a small edit distance of any of the given keywords,
+ * so that {@code find n~/jonh} still finds "John Doe".
+ * <p>
+ * How far a word may be from a keyword grows with the keyword, as one typo in a short keyword already matches many
+ * unrelated names: keywords of up to {@value #MAX_EXACT_LENGTH} characters must match exactly, keywords of up to
+ * {@value #MAX_ONE_EDIT_LENGTH} characters may be one edit away, and longer keywords up to {@value #MAX_DISTANCE}.
+ * </p>
+ */
+public class FuzzyNamePredicate extends FieldContainsKeywordsPredicate {
+    /** Largest edit distance allowed between a keyword and a word of the name. */
+    public static final int MAX_DISTANCE = 2;
+    /** Distance of a person none of whose name words match, larger than that of any person who matches. */
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private static final int MAX_EXACT_LENGTH = 2;
+    private static final int MAX_ONE_EDIT_LENGTH = 3;
+
+    /**
+     * Creates a predicate matching persons with a name word close to any of {@code keywords}, which must be single
+     * words.
+     */
+    public FuzzyNamePredicate(List<String> keywords) {
+        super(PersonFieldExtractor.GET_NAME, keywords);
+    }
+
+    /**
+     * Returns the edit distance that a word of a name may be from {@code keyword}.
+     */
+    public static int getMaxDistance(String keyword) {
+        if (keyword.length() <= MAX_EXACT_LENGTH) {
+            return 0;
+        }
+        return keyword.length() <= MAX_ONE_EDIT_LENGTH ? 1 : MAX_DISTANCE;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getDistance(person) != NO_MATCH;
+    }
+
+    /**
+     * Returns the smallest edit distance between a keyword and a word of the name of {@code person} that is within
+     * the distance allowed for the keyword, or {@link #NO_MATCH} if there is none.
+     */
+    public int getDistance(Person person) {
+        int best = NO_MATCH;
+        for (String keyword : getNormalizedKeywords()) {
+            best = Math.min(best, getDistance(keyword, person));
+        }
+        return best;
+    }
+
+    /**
+     * Returns the smallest edit distance between {@code keyword} and a word of the name of {@code person} that is
+     * within the distance allowed for the keyword, or {@link #NO_MATCH} if there is none.
+     */
+    private static int getDistance(String keyword, Person person) {
+        int maxDistance = getMaxDistance(keyword);
+        int best = NO_MATCH;
+        for (String word : person.getSearchFields().getNameWords()) {
+            // no word shorter or longer than the keyword by more than maxDistance can be within it
+            if (Math.abs(word.length() - keyword.length()) > maxDistance) {
+                continue;
+            }
+            int distance = StringUtil.getEditDistance(keyword, word);
+            if (distance <= maxDistance && distance < best) {
+                best = distance;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the weight of names times the sum, over the keywords close to a word of the name of {@code person},
+     * of {@value #MAX_DISTANCE} + 1 less the distance, so that a keyword found exactly counts the most.
+     */
+    @Override
+    public int score(Person person) {
+        int total = 0;
+        for (String keyword : getNormalizedKeywords()) {
+            int distance = getDistance(keyword, person);
+            total += distance == NO_MATCH ? 0 : MAX_DISTANCE + 1 - distance;
+        }
+        return getFieldWeight() * total;
+    }
+
+    /**
+     * Returns true if every keyword of this predicate is also a keyword of {@code other}, a fuzzy name predicate.
+     */
+    @Override
+    public boolean implies(FieldContainsKeywordsPredicate other) {
+        if (!(other instanceof FuzzyNamePredicate otherFuzzy)) {
+            return false;
+        }
+        return otherFuzzy.getNormalizedKeywords().containsAll(getNormalizedKeywords());
+    }
+
+    @Override
+    public String describe() {
+        return "fuzzyNameKeywords=" + getKeywords();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("fuzzyNameKeywords", getKeywords().toString()).toString();
+    }
+}
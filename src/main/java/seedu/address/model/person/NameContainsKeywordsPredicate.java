@@ -3,7 +3,6 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -11,15 +10,20 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> normalizedKeywords;
 
+    /**
+     * Creates a predicate matching persons with any of {@code keywords} as a whole word of their name.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream().map(PersonSearchFields::normalize).toList();
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        PersonSearchFields fields = person.getSearchFields();
+        return normalizedKeywords.stream().anyMatch(fields::hasNameWord);
     }
 
     @Override
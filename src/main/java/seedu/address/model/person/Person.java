@@ -30,6 +30,12 @@ public class Person {
     private final Set<Id> tagIds = new HashSet<>();
     private final Note note;
 
+    /**
+     * Computed on first use. Threads racing to use it may each compute it, which is harmless as the fields are
+     * immutable.
+     */
+    private PersonSearchFields searchFields;
+
     /**
      * Every field must be present and not null.
      */
@@ -93,6 +99,18 @@ public class Person {
         return note;
     }
 
+    /**
+     * Returns the fields of this person as {@code find} compares them.
+     */
+    public PersonSearchFields getSearchFields() {
+        PersonSearchFields fields = searchFields;
+        if (fields == null) {
+            fields = new PersonSearchFields(this);
+            searchFields = fields;
+        }
+        return fields;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -0,0 +1,177 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.CompressedBitmap;
+
+/**
+ * The order in which {@link PersonSearchIndex} evaluates the field predicates of a
+ * {@link CompositePersonPredicate}, with the candidates its index lookups left.
+ * <p>
+ * Field predicates the index can look up are intersected first, smallest estimate first, giving a set of candidate
+ * IDs. Every person among the candidates is then tested against the other field predicates, most selective first,
+ * so that most persons are rejected by the first test. Predicates the index only approximates are tested last, as
+ * nearly every candidate satisfies them, and those it answers exactly are not tested at all. Testing a person
+ * against the plan is equivalent to testing them against the composite predicate, as long as the persons are those
+ * the index held when the plan was made: a person added or edited since has to be tested against the composite
+ * predicate instead.
+ * </p>
+ */
+public class PersonQueryPlan implements Predicate<Person> {
+
+    /**
+     * How a step uses the index.
+     */
+    public enum Kind {
+        /** Looked up in the index, which may return persons who do not match, so candidates are tested too. */
+        LOOKUP,
+        /** Looked up in the index, which returns exactly the persons who match. */
+        EXACT_LOOKUP,
+        /** Tested against every candidate. */
+        TEST
+    }
+
+    /**
+     * One field predicate of the plan.
+     */
+    public static class Step {
+        private final FieldContainsKeywordsPredicate predicate;
+        private final Kind kind;
+        private final int estimate;
+
+        /**
+         * Creates a step evaluating {@code predicate}, which is estimated to match at most {@code estimate} persons.
+         */
+        public Step(FieldContainsKeywordsPredicate predicate, Kind kind, int estimate) {
+            requireNonNull(predicate);
+            requireNonNull(kind);
+            this.predicate = predicate;
+            this.kind = kind;
+            this.estimate = estimate;
+        }
+
+        public FieldContainsKeywordsPredicate getPredicate() {
+            return predicate;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns true if the index narrows the candidates by this step.
+         */
+        public boolean isIndexed() {
+            return kind != Kind.TEST;
+        }
+
+        public int getEstimate() {
+            return estimate;
+        }
+    }
+
+    private final List<Step> steps;
+    /**
+     * ID values of the candidates left by the index lookups, or null if there were none. Kept compressed, as IDs
+     * can be as large as any int and an uncompressed set would take space by the largest rather than the number.
+     */
+    private final CompressedBitmap candidateIds;
+    /** Number of candidates left after each index lookup, in the order the indexed steps appear in {@code steps}. */
+    private final List<Integer> candidateCounts;
+    /** The steps in the order persons are tested against them. */
+    private final List<Step> testOrder = new ArrayList<>();
+    private final FieldContainsKeywordsPredicate[] tests;
+
+    /**
+     * Creates a plan from {@code steps}, in increasing order of estimate, where {@code candidateIds} and
+     * {@code candidateCounts} are the results of the index lookups of the indexed steps.
+     */
+    public PersonQueryPlan(List<Step> steps, CompressedBitmap candidateIds, List<Integer> candidateCounts) {
+        requireNonNull(steps);
+        requireNonNull(candidateCounts);
+        this.steps = List.copyOf(steps);
+        this.candidateIds = candidateIds;
+        this.candidateCounts = List.copyOf(candidateCounts);
+        steps.stream().filter(step -> step.getKind() == Kind.TEST).forEach(testOrder::add);
+        steps.stream().filter(step -> step.getKind() == Kind.LOOKUP).forEach(testOrder::add);
+        this.tests = testOrder.stream().map(Step::getPredicate).toArray(FieldContainsKeywordsPredicate[]::new);
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns true if index lookups narrowed down the persons to test.
+     */
+    public boolean hasCandidates() {
+        return candidateIds != null;
+    }
+
+    /**
+     * Returns the ID values of the candidates left by the index lookups, in increasing order. Only valid if
+     * {@link #hasCandidates()}.
+     */
+    public IntStream getCandidateIds() {
+        assert candidateIds != null : "the plan should have candidates";
+        return Arrays.stream(candidateIds.toArray());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (candidateIds != null && !candidateIds.contains(person.getId().value)) {
+            return false;
+        }
+        for (FieldContainsKeywordsPredicate test : tests) {
+            if (!test.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the steps of this plan, one per line, with their estimates and the number of {@code persons} left
+     * after each.
+     */
+    public String explain(List<Person> persons) {
+        requireNonNull(persons);
+        StringBuilder builder = new StringBuilder();
+        int stepNumber = 0;
+        int lookupNumber = 0;
+        for (Step step : steps) {
+            if (step.isIndexed()) {
+                builder.append(String.format("%d. look up %s in index (estimate %d): %d candidates\n",
+                        ++stepNumber, step.getPredicate().describe(), step.getEstimate(),
+                        candidateCounts.get(lookupNumber++)));
+            }
+        }
+
+        List<Person> remaining = new ArrayList<>();
+        for (Person person : persons) {
+            if (candidateIds == null || candidateIds.contains(person.getId().value)) {
+                remaining.add(person);
+            }
+        }
+        if (candidateIds == null) {
+            builder.append(String.format("%d. scan all persons: %d candidates\n", ++stepNumber, remaining.size()));
+        }
+        for (Step step : testOrder) {
+            remaining.removeIf(step.getPredicate().negate());
+            if (step.isIndexed()) {
+                builder.append(String.format("%d. verify %s: %d left\n",
+                        ++stepNumber, step.getPredicate().describe(), remaining.size()));
+            } else {
+                builder.append(String.format("%d. test %s (estimate %d): %d left\n",
+                        ++stepNumber, step.getPredicate().describe(), step.getEstimate(), remaining.size()));
+            }
+        }
+        return builder.toString().stripTrailing();
+    }
+}
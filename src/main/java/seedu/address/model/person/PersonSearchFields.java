@@ -0,0 +1,144 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.DoubleMetaphone;
+
+/**
+ * The fields of a {@link Person} in the form that {@code find} compares keywords against: the name, phone, email
+ * and address in lower case, the words of the name and their phonetic keys, the digits of the phone, and the tag IDs
+ * as a sorted array.
+ * <p>
+ * Keywords are normalized the same way once, when the predicate is built, so testing a person neither allocates
+ * nor changes case.
+ * </p>
+ */
+public final class PersonSearchFields {
+    /** A phone number written with its country code apart, e.g. {@code +65 9123 4567}. */
+    private static final Pattern INTERNATIONAL_PHONE = Pattern.compile("\\+\\d{1,3}[ -](?<national>.+)");
+
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final List<String> nameWords;
+    /** The distinct {@link DoubleMetaphone} keys of the words of the name. */
+    private final List<String> phoneticKeys;
+    /** The digits of the phone, and also those after the country code if it is written apart. */
+    private final List<String> phoneDigits;
+    private final int[] tagIds;
+
+    /**
+     * Creates the search fields of {@code person}.
+     */
+    public PersonSearchFields(Person person) {
+        requireNonNull(person);
+        name = normalize(person.getName().fullName);
+        phone = normalize(person.getPhone().value);
+        email = normalize(person.getEmail().value);
+        address = normalize(person.getAddress().value);
+        nameWords = List.of(name.split("\\s+"));
+        phoneticKeys = nameWords.stream().flatMap(word -> DoubleMetaphone.encode(word).stream()).distinct().toList();
+        phoneDigits = toPhoneDigits(person.getPhone().value);
+        tagIds = person.getTagIds().stream().mapToInt(id -> id.value).sorted().toArray();
+    }
+
+    /**
+     * Returns {@code text} in the form fields and keywords are compared in.
+     */
+    public static String normalize(String text) {
+        return text.trim().toLowerCase();
+    }
+
+    /**
+     * Returns the digits of {@code text}, ignoring any other characters.
+     */
+    public static String toDigits(String text) {
+        return text.replaceAll("\\D", "");
+    }
+
+    /**
+     * Returns the digits of {@code phone}, followed by the digits after the country code if it is written apart,
+     * so that a number saved with its country code is still found by the number alone.
+     */
+    static List<String> toPhoneDigits(String phone) {
+        Matcher matcher = INTERNATIONAL_PHONE.matcher(phone.trim());
+        return matcher.matches()
+                ? List.of(toDigits(phone), toDigits(matcher.group("national")))
+                : List.of(toDigits(phone));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Returns the words of the name.
+     */
+    public List<String> getNameWords() {
+        return nameWords;
+    }
+
+    public List<String> getPhoneDigits() {
+        return phoneDigits;
+    }
+
+    /**
+     * Returns true if the digits of the phone, or those after its country code, start with {@code digits}.
+     */
+    public boolean hasPhoneDigitsStartingWith(String digits) {
+        for (String value : phoneDigits) {
+            if (value.startsWith(digits)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<String> getPhoneticKeys() {
+        return phoneticKeys;
+    }
+
+    /**
+     * Returns true if {@code key} is a phonetic key of a word of the name.
+     */
+    public boolean hasPhoneticKey(String key) {
+        return phoneticKeys.contains(key);
+    }
+
+    /**
+     * Returns true if {@code word}, which must be normalized, is a whole word of the name.
+     */
+    public boolean hasNameWord(String word) {
+        for (String nameWord : nameWords) {
+            if (nameWord.equals(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the person has the tag with ID value {@code tagId}.
+     */
+    public boolean hasTagId(int tagId) {
+        return Arrays.binarySearch(tagIds, tagId) >= 0;
+    }
+}
@@ -0,0 +1,427 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.address.commons.util.BkTree;
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.DigitTrie;
+import seedu.address.commons.util.FullTextIndex;
+import seedu.address.commons.util.TrigramIndex;
+import seedu.address.logic.parser.PersonFieldExtractor;
+import seedu.address.model.id.Id;
+
+/**
+ * Trigram indexes of the name, phone, email and address of every person in an address book, keyed by the
+ * {@link PersonFieldExtractor} of the field, a bitmap of the persons with each tag or each phonetic key of a name
+ * word, a {@link BkTree} of the words of their names and a {@link DigitTrie} of the digits of their phones, for
+ * planning how to evaluate a {@link CompositePersonPredicate}. Notes are kept apart in a {@link FullTextIndex}, as
+ * they are searched by relevance rather than filtered.
+ * <p>
+ * Persons are indexed by the value of their {@code Id}, which unlike their position in the list does not change
+ * when others are removed. Notes are the exception: as the notes index keeps an entry for every document number up
+ * to the highest, they are indexed under dense numbers of their own, recycled as in
+ * {@link seedu.address.model.relationship.RelationshipSearchIndex}. Tag, fuzzy name, phonetic name and phone prefix
+ * lookups are exact, but the candidates of a trigram lookup still have to be tested against the predicate itself, as
+ * the index only guarantees that no person outside them matches.
+ * </p>
+ */
+public class PersonSearchIndex {
+    private final Map<Function<Person, List<String>>, TrigramIndex> indexes = new LinkedHashMap<>();
+    /** ID values of the persons with each tag, by the ID value of the tag. */
+    private final Map<Integer, CompressedBitmap> tagMembers = new HashMap<>();
+    /** ID values of the persons with a name word of each phonetic key. */
+    private final Map<String, CompressedBitmap> phoneticMembers = new HashMap<>();
+    /** The words of every name, in the form {@link FuzzyNamePredicate} compares them. */
+    private final BkTree nameWords = new BkTree();
+    /** The digits of every phone, in the forms {@link PhonePrefixPredicate} compares them. */
+    private final DigitTrie phoneDigits = new DigitTrie();
+    private final FullTextIndex notes = new FullTextIndex();
+    /** Document number of the note of each person, by the ID value of the person. */
+    private final Map<Integer, Integer> idToNoteDoc = new HashMap<>();
+    /** ID value of the person whose note is indexed under each document number, or null if the number is free. */
+    private final List<Integer> noteDocToId = new ArrayList<>();
+    private final Deque<Integer> freeNoteDocs = new ArrayDeque<>();
+    private int numOfPersons = 0;
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonSearchIndex() {
+        indexes.put(PersonFieldExtractor.GET_NAME, new TrigramIndex());
+        indexes.put(PersonFieldExtractor.GET_PHONE, new TrigramIndex());
+        indexes.put(PersonFieldExtractor.GET_EMAIL, new TrigramIndex());
+        indexes.put(PersonFieldExtractor.GET_ADDRESS, new TrigramIndex());
+    }
+
+    /**
+     * Replaces the indexed persons with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        indexes.values().forEach(TrigramIndex::clear);
+        tagMembers.clear();
+        phoneticMembers.clear();
+        nameWords.clear();
+        phoneDigits.clear();
+        notes.clear();
+        idToNoteDoc.clear();
+        noteDocToId.clear();
+        freeNoteDocs.clear();
+        numOfPersons = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        indexes.forEach((extractor, index) -> index.add(person.getId().value, getText(extractor, person)));
+        addTagMemberships(person);
+        addNameWords(person);
+        addPhoneDigits(person);
+        addNote(person);
+        numOfPersons++;
+    }
+
+    /**
+     * Removes {@code person}, as it was when added, from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        indexes.forEach((extractor, index) -> index.remove(person.getId().value, getText(extractor, person)));
+        removeTagMemberships(person);
+        removeNameWords(person);
+        removePhoneDigits(person);
+        removeNote(person);
+        numOfPersons--;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}, reindexing only the fields that changed.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        boolean isSameId = target.getId().equals(editedPerson.getId());
+        indexes.forEach((extractor, index) -> {
+            String oldText = getText(extractor, target);
+            String newText = getText(extractor, editedPerson);
+            if (isSameId && oldText.equals(newText)) {
+                return;
+            }
+            index.remove(target.getId().value, oldText);
+            index.add(editedPerson.getId().value, newText);
+        });
+        if (!isSameId || !target.getTagIds().equals(editedPerson.getTagIds())) {
+            removeTagMemberships(target);
+            addTagMemberships(editedPerson);
+        }
+        if (!isSameId || !target.getName().equals(editedPerson.getName())) {
+            removeNameWords(target);
+            addNameWords(editedPerson);
+        }
+        if (!isSameId || !target.getPhone().equals(editedPerson.getPhone())) {
+            removePhoneDigits(target);
+            addPhoneDigits(editedPerson);
+        }
+        if (!isSameId || !target.getNote().equals(editedPerson.getNote())) {
+            removeNote(target);
+            addNote(editedPerson);
+        }
+    }
+
+    /**
+     * Returns the ID values of the (at most) {@code limit} persons whose notes match {@code query} best, with their
+     * scores, best first. Among equal scores, the order is that of the document numbers of their notes.
+     *
+     * @see FullTextIndex#search
+     */
+    public List<FullTextIndex.Hit> searchNotes(String query, int limit) {
+        requireNonNull(query);
+        return notes.search(query, limit).stream()
+                .map(hit -> new FullTextIndex.Hit(noteDocToId.get(hit.getDoc()), hit.getScore()))
+                .toList();
+    }
+
+    /**
+     * Returns the ID values of the persons with the tag with ID {@code tagId}.
+     */
+    public CompressedBitmap getPersonIdsWithTag(Id tagId) {
+        requireNonNull(tagId);
+        CompressedBitmap members = tagMembers.get(tagId.value);
+        return members == null ? new CompressedBitmap() : members.copy();
+    }
+
+    /**
+     * Forgets the tag with ID {@code tagId}, which has been removed from every person.
+     */
+    public void removeTag(Id tagId) {
+        requireNonNull(tagId);
+        tagMembers.remove(tagId.value);
+    }
+
+    /**
+     * Returns a plan for evaluating {@code predicate}, with its index lookups done.
+     */
+    public PersonQueryPlan plan(CompositePersonPredicate predicate) {
+        requireNonNull(predicate);
+        List<PersonQueryPlan.Step> steps = new ArrayList<>();
+        // fuzzy lookups are cheaper to do than to estimate, so their results are kept for the lookup itself
+        Map<FieldContainsKeywordsPredicate, CompressedBitmap> fuzzyMatches = new IdentityHashMap<>();
+        for (FieldContainsKeywordsPredicate fieldPredicate : predicate.getPredicates()) {
+            steps.add(planStep(fieldPredicate, fuzzyMatches));
+        }
+        steps.sort(Comparator.comparingInt(PersonQueryPlan.Step::getEstimate));
+
+        CompressedBitmap candidates = null;
+        List<Integer> candidateCounts = new ArrayList<>();
+        for (PersonQueryPlan.Step step : steps) {
+            if (!step.isIndexed()) {
+                continue;
+            }
+            if (candidates == null) {
+                candidates = lookUp(step, fuzzyMatches);
+            } else if (!candidates.isEmpty()) {
+                // nothing can be left after an empty intersection, so the remaining lookups are skipped
+                candidates = CompressedBitmap.and(candidates, lookUp(step, fuzzyMatches));
+            }
+            candidateCounts.add(candidates.getCardinality());
+        }
+        return new PersonQueryPlan(steps, candidates, candidateCounts);
+    }
+
+    private PersonQueryPlan.Step planStep(FieldContainsKeywordsPredicate predicate,
+            Map<FieldContainsKeywordsPredicate, CompressedBitmap> fuzzyMatches) {
+        if (predicate instanceof FuzzyNamePredicate fuzzyPredicate) {
+            CompressedBitmap matches = findFuzzyMatches(fuzzyPredicate);
+            fuzzyMatches.put(predicate, matches);
+            return new PersonQueryPlan.Step(predicate, PersonQueryPlan.Kind.EXACT_LOOKUP, matches.getCardinality());
+        }
+        if (predicate instanceof PhoneticNamePredicate phoneticPredicate) {
+            long estimate = 0;
+            for (String key : phoneticPredicate.getPhoneticKeys()) {
+                CompressedBitmap members = phoneticMembers.get(key);
+                estimate += members == null ? 0 : members.getCardinality();
+            }
+            return new PersonQueryPlan.Step(predicate, PersonQueryPlan.Kind.EXACT_LOOKUP,
+                    (int) Math.min(estimate, numOfPersons));
+        }
+        if (predicate instanceof PhonePrefixPredicate prefixPredicate) {
+            long estimate = 0;
+            for (String prefix : prefixPredicate.getPrefixes()) {
+                estimate += phoneDigits.countWithPrefix(prefix);
+            }
+            return new PersonQueryPlan.Step(predicate, PersonQueryPlan.Kind.EXACT_LOOKUP,
+                    (int) Math.min(estimate, numOfPersons));
+        }
+        if (isTagLookup(predicate)) {
+            long estimate = 0;
+            for (int tagId : predicate.getTagIdKeywords()) {
+                CompressedBitmap members = tagMembers.get(tagId);
+                estimate += members == null ? 0 : members.getCardinality();
+            }
+            return new PersonQueryPlan.Step(predicate, PersonQueryPlan.Kind.EXACT_LOOKUP,
+                    (int) Math.min(estimate, numOfPersons));
+        }
+        return estimateIndexed(predicate)
+                .map(estimate -> new PersonQueryPlan.Step(predicate, PersonQueryPlan.Kind.LOOKUP, estimate))
+                .orElseGet(() -> new PersonQueryPlan.Step(predicate, PersonQueryPlan.Kind.TEST, numOfPersons));
+    }
+
+    /**
+     * Returns the ID values of the persons the index finds for the indexed {@code step}.
+     */
+    private CompressedBitmap lookUp(PersonQueryPlan.Step step,
+            Map<FieldContainsKeywordsPredicate, CompressedBitmap> fuzzyMatches) {
+        FieldContainsKeywordsPredicate predicate = step.getPredicate();
+        if (fuzzyMatches.containsKey(predicate)) {
+            return fuzzyMatches.get(predicate);
+        }
+        CompressedBitmap found = new CompressedBitmap();
+        if (predicate instanceof PhoneticNamePredicate phoneticPredicate) {
+            for (String key : phoneticPredicate.getPhoneticKeys()) {
+                CompressedBitmap members = phoneticMembers.get(key);
+                if (members != null) {
+                    found = CompressedBitmap.or(found, members);
+                }
+            }
+            return found;
+        }
+        if (predicate instanceof PhonePrefixPredicate prefixPredicate) {
+            for (String prefix : prefixPredicate.getPrefixes()) {
+                found = CompressedBitmap.or(found, phoneDigits.findWithPrefix(prefix));
+            }
+            return found;
+        }
+        if (step.getKind() == PersonQueryPlan.Kind.EXACT_LOOKUP) {
+            for (int tagId : predicate.getTagIdKeywords()) {
+                CompressedBitmap members = tagMembers.get(tagId);
+                if (members != null) {
+                    found = CompressedBitmap.or(found, members);
+                }
+            }
+            return found;
+        }
+
+        TrigramIndex index = getIndex(predicate);
+        for (String keyword : predicate.getKeywords()) {
+            for (int id : index.findCandidates(keyword).orElseThrow()) {
+                found.add(id);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the ID values of the persons with a name word within the distance {@code predicate} allows of any of its
+     * keywords.
+     */
+    private CompressedBitmap findFuzzyMatches(FuzzyNamePredicate predicate) {
+        CompressedBitmap found = new CompressedBitmap();
+        for (String keyword : predicate.getNormalizedKeywords()) {
+            found = CompressedBitmap.or(found, nameWords.search(keyword, FuzzyNamePredicate.getMaxDistance(keyword)));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the largest number of persons the index can find for {@code predicate}, or an empty {@code Optional}
+     * if the index cannot look it up.
+     */
+    private Optional<Integer> estimateIndexed(FieldContainsKeywordsPredicate predicate) {
+        TrigramIndex index = getIndex(predicate);
+        if (index == null) {
+            return Optional.empty();
+        }
+        long estimate = 0;
+        for (String keyword : predicate.getKeywords()) {
+            Optional<Integer> keywordEstimate = index.estimateCandidates(keyword);
+            if (keywordEstimate.isEmpty()) {
+                return Optional.empty();
+            }
+            estimate += keywordEstimate.get();
+        }
+        return Optional.of((int) Math.min(estimate, numOfPersons));
+    }
+
+    private TrigramIndex getIndex(FieldContainsKeywordsPredicate predicate) {
+        // only plain substring matching can be narrowed by trigrams, not the fuzzy and phonetic name matching
+        return predicate.isTag() || predicate.getClass() != FieldContainsKeywordsPredicate.class
+                ? null
+                : indexes.get(predicate.getExtractor());
+    }
+
+    private static boolean isTagLookup(FieldContainsKeywordsPredicate predicate) {
+        return predicate.isTag() && predicate.getExtractor() == PersonFieldExtractor.GET_TAGS;
+    }
+
+    private void addTagMemberships(Person person) {
+        for (Id tagId : person.getTagIds()) {
+            tagMembers.computeIfAbsent(tagId.value, unused -> new CompressedBitmap()).add(person.getId().value);
+        }
+    }
+
+    private void removeTagMemberships(Person person) {
+        for (Id tagId : person.getTagIds()) {
+            CompressedBitmap members = tagMembers.get(tagId.value);
+            if (members == null) {
+                continue;
+            }
+            members.remove(person.getId().value);
+            if (members.isEmpty()) {
+                tagMembers.remove(tagId.value);
+            }
+        }
+    }
+
+    /**
+     * Indexes the words of the name of {@code person} and their phonetic keys.
+     */
+    private void addNameWords(Person person) {
+        for (String word : distinctNameWords(person)) {
+            nameWords.add(word, person.getId().value);
+        }
+        for (String key : person.getSearchFields().getPhoneticKeys()) {
+            phoneticMembers.computeIfAbsent(key, unused -> new CompressedBitmap()).add(person.getId().value);
+        }
+    }
+
+    private void removeNameWords(Person person) {
+        for (String word : distinctNameWords(person)) {
+            nameWords.remove(word, person.getId().value);
+        }
+        for (String key : person.getSearchFields().getPhoneticKeys()) {
+            CompressedBitmap members = phoneticMembers.get(key);
+            if (members == null) {
+                continue;
+            }
+            members.remove(person.getId().value);
+            if (members.isEmpty()) {
+                phoneticMembers.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Indexes the note of {@code person} under a free document number, or a new one if none is free.
+     */
+    private void addNote(Person person) {
+        int doc;
+        if (freeNoteDocs.isEmpty()) {
+            doc = noteDocToId.size();
+            noteDocToId.add(person.getId().value);
+        } else {
+            doc = freeNoteDocs.pop();
+            noteDocToId.set(doc, person.getId().value);
+        }
+        idToNoteDoc.put(person.getId().value, doc);
+        notes.add(doc, person.getNote().value);
+    }
+
+    private void removeNote(Person person) {
+        Integer doc = idToNoteDoc.remove(person.getId().value);
+        if (doc == null) {
+            return;
+        }
+        notes.remove(doc);
+        noteDocToId.set(doc, null);
+        freeNoteDocs.push(doc);
+    }
+
+    private void addPhoneDigits(Person person) {
+        for (String digits : person.getSearchFields().getPhoneDigits()) {
+            phoneDigits.add(digits, person.getId().value);
+        }
+    }
+
+    private void removePhoneDigits(Person person) {
+        for (String digits : person.getSearchFields().getPhoneDigits()) {
+            phoneDigits.remove(digits, person.getId().value);
+        }
+    }
+
+    private static List<String> distinctNameWords(Person person) {
+        return person.getSearchFields().getNameWords().stream().distinct().toList();
+    }
+
+    /**
+     * Returns the values of a field of {@code person} as one text. The separator cannot occur in a keyword, so
+     * no keyword matches across two values.
+     */
+    private static String getText(Function<Person, List<String>> extractor, Person person) {
+        return String.join("\n", extractor.apply(person));
+    }
+}
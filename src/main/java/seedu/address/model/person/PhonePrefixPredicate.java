@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.parser.PersonFieldExtractor;
+
+/**
+ * Tests whether the phone number of a {@link Person} starts with any of the given prefixes, comparing digits only,
+ * so that {@code find p^/9123} finds "9123 4567" as well as "+65 9123-4567".
+ * <p>
+ * A number written with its country code apart, as in "+65 9123 4567", is matched both with and without the code.
+ * </p>
+ */
+public class PhonePrefixPredicate extends FieldContainsKeywordsPredicate {
+    /** The digits of each keyword, distinct. */
+    private final List<String> prefixes;
+
+    /**
+     * Creates a predicate matching persons whose phone number starts with any of {@code keywords}, each of which
+     * must contain a digit.
+     */
+    public PhonePrefixPredicate(List<String> keywords) {
+        super(PersonFieldExtractor.GET_PHONE, keywords);
+        this.prefixes = keywords.stream().map(PersonSearchFields::toDigits).distinct().toList();
+        assert prefixes.stream().noneMatch(String::isEmpty) : "phone prefixes should contain digits";
+    }
+
+    /**
+     * Returns the distinct prefixes, as digits only.
+     */
+    public List<String> getPrefixes() {
+        return prefixes;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        PersonSearchFields fields = person.getSearchFields();
+        return prefixes.stream().anyMatch(fields::hasPhoneDigitsStartingWith);
+    }
+
+    /**
+     * Returns the weight of phones times {@value #WORD_PREFIX_SCORE} for each prefix the phone of {@code person}
+     * starts with.
+     */
+    @Override
+    public int score(Person person) {
+        PersonSearchFields fields = person.getSearchFields();
+        return getFieldWeight() * WORD_PREFIX_SCORE
+                * (int) prefixes.stream().filter(fields::hasPhoneDigitsStartingWith).count();
+    }
+
+    /**
+     * Returns true if every prefix of this predicate starts with a prefix of {@code other}, a phone prefix
+     * predicate.
+     */
+    @Override
+    public boolean implies(FieldContainsKeywordsPredicate other) {
+        if (!(other instanceof PhonePrefixPredicate otherPrefix)) {
+            return false;
+        }
+        return prefixes.stream().allMatch(prefix -> otherPrefix.prefixes.stream().anyMatch(prefix::startsWith));
+    }
+
+    @Override
+    public String describe() {
+        return "phonePrefixes=" + getKeywords();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("phonePrefixes", getKeywords().toString()).toString();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+import seedu.address.commons.util.DoubleMetaphone;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.parser.PersonFieldExtractor;
+
+/**
+ * Tests whether a word of the name of a {@link Person} sounds like any of the given keywords, that is, shares a
+ * {@link DoubleMetaphone} key with it, so that {@code find n%/muhammad} also finds "Mohammed".
+ * <p>
+ * The keys of the keywords are computed once, here, and those of names once per person by
+ * {@link PersonSearchFields}, so testing a person only compares keys.
+ * </p>
+ */
+public class PhoneticNamePredicate extends FieldContainsKeywordsPredicate {
+    private final List<String> phoneticKeys;
+
+    /**
+     * Creates a predicate matching persons with a name word that sounds like any of {@code keywords}, which must be
+     * single words.
+     */
+    public PhoneticNamePredicate(List<String> keywords) {
+        super(PersonFieldExtractor.GET_NAME, keywords);
+        this.phoneticKeys = keywords.stream().flatMap(keyword -> DoubleMetaphone.encode(keyword).stream())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Returns the distinct phonetic keys of the keywords.
+     */
+    public List<String> getPhoneticKeys() {
+        return phoneticKeys;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        PersonSearchFields fields = person.getSearchFields();
+        return phoneticKeys.stream().anyMatch(fields::hasPhoneticKey);
+    }
+
+    /**
+     * Returns the weight of names times the number of phonetic keys of this predicate that are keys of the name of
+     * {@code person}.
+     */
+    @Override
+    public int score(Person person) {
+        PersonSearchFields fields = person.getSearchFields();
+        return getFieldWeight() * (int) phoneticKeys.stream().filter(fields::hasPhoneticKey).count();
+    }
+
+    /**
+     * Returns true if every phonetic key of this predicate is also one of {@code other}, a phonetic name predicate.
+     */
+    @Override
+    public boolean implies(FieldContainsKeywordsPredicate other) {
+        return other instanceof PhoneticNamePredicate otherPhonetic
+                && otherPhonetic.phoneticKeys.containsAll(phoneticKeys);
+    }
+
+    @Override
+    public String describe() {
+        return "phoneticNameKeywords=" + getKeywords();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("phoneticNameKeywords", getKeywords().toString()).toString();
+    }
+}
@@ -3,13 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.CompressedBitmap;
 import seedu.address.model.id.Id;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -22,6 +26,8 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * An {@code Id} to {@code Person} index and a {@code Name} to {@code Person} identity index are kept in sync
+ * with the list so that lookups by {@code Id} and identity checks take constant time.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -30,13 +36,17 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** Index of every person in {@code internalList} by their {@code Id}. */
+    private final Map<Id, Person> idToPerson = new HashMap<>();
+    /** Index of every person in {@code internalList} by their identity, i.e. their {@code Name}. */
+    private final Map<Name, Person> nameToPerson = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameToPerson.containsKey(toCheck.getName());
     }
 
     /**
@@ -48,6 +58,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        putInIndexes(toAdd);
         internalList.add(toAdd);
     }
 
@@ -56,7 +67,15 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasPersonWithId(Id id) {
         requireNonNull(id);
-        return internalList.stream().anyMatch(person -> person.getId().equals(id));
+        return idToPerson.containsKey(id);
+    }
+
+    /**
+     * Returns the person with the given id, or an empty {@code Optional} if there is no such person.
+     */
+    public Optional<Person> getPersonById(Id id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idToPerson.get(id));
     }
 
     /**
@@ -76,6 +95,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        removeFromIndexes(internalList.get(index));
+        putInIndexes(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -85,13 +106,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        removeFromIndexes(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -105,6 +130,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        rebuildIndexes(persons);
         internalList.setAll(persons);
     }
 
@@ -122,14 +148,40 @@ public class UniquePersonList implements Iterable<Person> {
                 continue;
             }
 
-            Set<Id> newIdSet = new HashSet<>(personTagIds);
-            newIdSet.remove(id);
-            Person editedPerson = new Person(person.getId(), person.getName(), person.getPhone(), person.getEmail(),
-                    person.getAddress(), newIdSet, person.getNote());
-            internalList.set(i, editedPerson);
+            removeTagIdFromPersonAt(i, id);
+        }
+    }
+
+    /**
+     * Removes {@code id} from the {@code Person}s whose ID values are in {@code holderIds}, which must be exactly
+     * the persons who have the tag ID. Only those persons are tested or replaced, and the scan stops at the last of
+     * them.
+     * @param id the Tag ID to remove.
+     * @param holderIds the ID values of the persons with the tag.
+     */
+    public void removeTagIdFromPersons(Id id, CompressedBitmap holderIds) {
+        requireAllNonNull(id, holderIds);
+
+        int numOfHoldersLeft = holderIds.getCardinality();
+        for (int i = 0; i < internalList.size() && numOfHoldersLeft > 0; ++i) {
+            if (holderIds.contains(internalList.get(i).getId().value)) {
+                assert internalList.get(i).getTagIds().contains(id) : "holders should have the tag";
+                removeTagIdFromPersonAt(i, id);
+                numOfHoldersLeft--;
+            }
         }
     }
 
+    private void removeTagIdFromPersonAt(int i, Id id) {
+        Person person = internalList.get(i);
+        Set<Id> newIdSet = new HashSet<>(person.getTagIds());
+        newIdSet.remove(id);
+        Person editedPerson = new Person(person.getId(), person.getName(), person.getPhone(), person.getEmail(),
+                person.getAddress(), newIdSet, person.getNote());
+        putInIndexes(editedPerson);
+        internalList.set(i, editedPerson);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -167,15 +219,35 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void putInIndexes(Person person) {
+        idToPerson.put(person.getId(), person);
+        nameToPerson.put(person.getName(), person);
+    }
+
+    private void removeFromIndexes(Person person) {
+        idToPerson.remove(person.getId());
+        nameToPerson.remove(person.getName());
+    }
+
+    /**
+     * Rebuilds the indexes so that they index exactly {@code persons}.
+     */
+    private void rebuildIndexes(List<Person> persons) {
+        idToPerson.clear();
+        nameToPerson.clear();
+        for (Person person : persons) {
+            putInIndexes(person);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,166 @@
+package seedu.address.model.relationship;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tracks which nodes of a {@link RelationshipGraph} are connected, using a union-find over node indices.
+ * <p>
+ * Adding an edge merges the sets of its ends. Removing an edge cannot be undone in a union-find, so it only marks
+ * the set containing the edge as stale: the set may or may not have split. A stale set is split into its actual
+ * components the first time it is asked about, which costs time proportional to that set alone. Nodes in different
+ * sets are never connected, so such queries are always answered without a search.
+ * </p>
+ */
+class ConnectedComponents {
+    private static final int UNASSIGNED = -1;
+
+    private int[] parents = new int[0];
+    private int[] sizes = new int[0];
+    /** next[u] is the node after u in a cyclic list of the members of u's set, so that sets can be enumerated. */
+    private int[] next = new int[0];
+    private int numOfNodes = 0;
+    private final Set<Integer> staleRoots = new HashSet<>();
+
+    /**
+     * Adds {@code node}, which must be the next unused index, as a set of its own.
+     */
+    void addNode(int node) {
+        assert node == numOfNodes : "nodes should be added in order";
+        if (numOfNodes == parents.length) {
+            int capacity = Math.max(16, parents.length * 2);
+            parents = Arrays.copyOf(parents, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        parents[node] = node;
+        sizes[node] = 1;
+        next[node] = node;
+        numOfNodes++;
+    }
+
+    /**
+     * Removes all nodes.
+     */
+    void clear() {
+        numOfNodes = 0;
+        staleRoots.clear();
+    }
+
+    /**
+     * Records an edge between {@code u} and {@code v}.
+     */
+    void union(int u, int v) {
+        int rootU = find(u);
+        int rootV = find(v);
+        if (rootU == rootV) {
+            return;
+        }
+
+        int larger = sizes[rootU] >= sizes[rootV] ? rootU : rootV;
+        int smaller = larger == rootU ? rootV : rootU;
+        parents[smaller] = larger;
+        sizes[larger] += sizes[smaller];
+
+        // splice the two member lists into one
+        int afterLarger = next[larger];
+        next[larger] = next[smaller];
+        next[smaller] = afterLarger;
+
+        if (staleRoots.remove(smaller)) {
+            staleRoots.add(larger);
+        }
+    }
+
+    /**
+     * Records that an edge of the set containing {@code node} is about to be removed.
+     */
+    void markStale(int node) {
+        staleRoots.add(find(node));
+    }
+
+    /**
+     * Returns true if {@code u} and {@code v} are connected in the graph given by {@code adjList}, which must have
+     * had every edge recorded here.
+     */
+    boolean isConnected(int u, int v, List<? extends List<Integer>> adjList) {
+        int root = find(u);
+        if (root != find(v)) {
+            return false;
+        }
+        if (!staleRoots.contains(root)) {
+            return true;
+        }
+
+        split(root, adjList);
+        return find(u) == find(v);
+    }
+
+    /**
+     * Splits every stale set into its components, after which every node without edges is a set of its own.
+     */
+    void splitAllStale(List<? extends List<Integer>> adjList) {
+        for (int root : new ArrayList<>(staleRoots)) {
+            split(root, adjList);
+        }
+    }
+
+    private int find(int node) {
+        assert 0 <= node && node < numOfNodes : "node should be a valid index";
+        int cur = node;
+        while (parents[cur] != cur) {
+            // path halving
+            parents[cur] = parents[parents[cur]];
+            cur = parents[cur];
+        }
+        return cur;
+    }
+
+    /**
+     * Replaces the set rooted at {@code root} by one set per component found by searching {@code adjList}.
+     */
+    private void split(int root, List<? extends List<Integer>> adjList) {
+        int[] members = new int[sizes[root]];
+        int cur = root;
+        for (int i = 0; i < members.length; i++) {
+            members[i] = cur;
+            cur = next[cur];
+        }
+        for (int member : members) {
+            parents[member] = UNASSIGNED;
+        }
+
+        // every node reachable from a member is itself a member, so no search enqueues more than members.length
+        int[] queue = new int[members.length];
+        for (int member : members) {
+            if (parents[member] != UNASSIGNED) {
+                continue;
+            }
+
+            int head = 0;
+            int tail = 0;
+            parents[member] = member;
+            sizes[member] = 1;
+            next[member] = member;
+            queue[tail++] = member;
+            while (head < tail) {
+                int node = queue[head++];
+                for (int adj : adjList.get(node)) {
+                    if (parents[adj] != UNASSIGNED) {
+                        continue;
+                    }
+                    parents[adj] = member;
+                    sizes[member]++;
+                    next[adj] = next[member];
+                    next[member] = adj;
+                    queue[tail++] = adj;
+                }
+            }
+        }
+
+        staleRoots.remove(root);
+    }
+}
@@ -0,0 +1,480 @@
+package seedu.address.model.relationship;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import seedu.address.commons.util.BfsWorkspace;
+import seedu.address.commons.util.CsrGraph;
+import seedu.address.commons.util.GraphUtil;
+import seedu.address.commons.util.LandmarkOracle;
+import seedu.address.commons.util.LinkPredictor;
+import seedu.address.model.id.Id;
+
+/**
+ * An undirected graph of persons connected by relationships, kept up to date as relationships are added and removed
+ * so that path queries do not need to rebuild it.
+ * <p>
+ * Every person that takes part in at least one relationship is a node with a dense integer index, which is what
+ * {@link GraphUtil} works with. Indices of persons that lose all their relationships are recycled.
+ * </p>
+ * <p>
+ * Searches run on a {@link CsrGraph} snapshot of the adjacency lists, which is rebuilt on the first search after
+ * a change, so that a run of queries without edits in between allocates nothing beyond its result. Queries between
+ * persons that are not connected are answered by {@link ConnectedComponents} without a search.
+ * </p>
+ * <p>
+ * For each tag, the nodes whose persons carry it are kept in a bitset, so that searches restricted to persons with
+ * certain tags test a bit per node rather than looking up the person. The tags of a person are read when they
+ * become a node, and must be reported through {@link #updateTags} when they change afterwards.
+ * </p>
+ * <p>
+ * Once the graph has {@link #ORACLE_MIN_NODES} persons, a {@link LandmarkOracle} is built for it in the background
+ * and, once ready, used to cut path searches short. Added relationships update it in place; removed relationships
+ * discard it, and a new one is built on the next search. A build still running when the graph changes stops before
+ * its next landmark, so that a run of removals does not keep the pool busy with oracles for graphs that are gone.
+ * </p>
+ */
+public class RelationshipGraph {
+    /**
+     * Receives the persons reached by {@link #visitWithinHops}.
+     */
+    @FunctionalInterface
+    public interface NeighbourVisitor {
+        /**
+         * Called when the person with ID {@code personId} is first reached, through their relationship with the
+         * person with ID {@code viaId}, {@code hops} relationships away from the start.
+         */
+        void visit(Id personId, Id viaId, int hops);
+    }
+
+    /** Graphs with fewer persons are searched without landmarks, as building them would cost more than it saves. */
+    public static final int ORACLE_MIN_NODES = 10_000;
+    private static final int NUM_OF_LANDMARKS = 16;
+
+    private final Map<Id, Integer> idToNode = new HashMap<>();
+    private final ArrayList<Id> nodeToId = new ArrayList<>();
+    /** adjList.get(i) holds the nodes immediately related to node i. */
+    private final ArrayList<ArrayList<Integer>> adjList = new ArrayList<>();
+    private final Deque<Integer> freeNodes = new ArrayDeque<>();
+    /** Nodes that lost all their edges but may still be in a stale set of {@code components}. */
+    private final List<Integer> releasedNodes = new ArrayList<>();
+    private final ConnectedComponents components = new ConnectedComponents();
+    /** tagMembers.get(tagId) has the bit of every node whose person carries that tag set. */
+    private final Map<Id, BitSet> tagMembers = new HashMap<>();
+    private final Function<Id, Set<Id>> tagIdsOf;
+
+    private final BfsWorkspace workspace = new BfsWorkspace();
+    private final LinkPredictor predictor = new LinkPredictor();
+    /** Snapshot of {@code adjList} for searching, or null if the graph has changed since it was taken. */
+    private CsrGraph snapshot;
+    /** Number of changes to the edges so far, read by oracle builds to tell whether their graph is still current. */
+    private volatile int version;
+
+    private final int oracleMinNodes;
+    /** Landmark distances for the current graph, or null if there are none yet. */
+    private LandmarkOracle oracle;
+    /** Oracle being built from the current snapshot, or null if none is being built. */
+    private CompletableFuture<LandmarkOracle> pendingOracle;
+
+    /**
+     * Creates an empty graph whose persons carry no tags.
+     */
+    public RelationshipGraph() {
+        this(personId -> Set.of());
+    }
+
+    /**
+     * Creates an empty graph that reads the tag IDs of a person from {@code tagIdsOf}.
+     */
+    public RelationshipGraph(Function<Id, Set<Id>> tagIdsOf) {
+        this(tagIdsOf, ORACLE_MIN_NODES);
+    }
+
+    /**
+     * Creates an empty graph whose persons carry no tags, that builds a landmark oracle once it has
+     * {@code oracleMinNodes} persons.
+     */
+    RelationshipGraph(int oracleMinNodes) {
+        this(personId -> Set.of(), oracleMinNodes);
+    }
+
+    private RelationshipGraph(Function<Id, Set<Id>> tagIdsOf, int oracleMinNodes) {
+        requireNonNull(tagIdsOf);
+        this.tagIdsOf = tagIdsOf;
+        this.oracleMinNodes = oracleMinNodes;
+    }
+
+    /**
+     * Adds the edge between the participants of {@code relationship}.
+     * The graph must not already contain an edge between them.
+     */
+    public void addRelationship(Relationship relationship) {
+        requireNonNull(relationship);
+        int node1 = getOrCreateNode(relationship.getPart1());
+        int node2 = getOrCreateNode(relationship.getPart2());
+        adjList.get(node1).add(node2);
+        adjList.get(node2).add(node1);
+        components.union(node1, node2);
+        snapshot = null;
+        version++;
+        discardPendingOracle();
+        if (oracle != null) {
+            oracle.addEdge(node1, node2, adjList);
+        }
+    }
+
+    /**
+     * Removes the edge between the participants of {@code relationship}, if there is one.
+     */
+    public void removeRelationship(Relationship relationship) {
+        requireNonNull(relationship);
+        Integer node1 = idToNode.get(relationship.getPart1());
+        Integer node2 = idToNode.get(relationship.getPart2());
+        if (node1 == null || node2 == null) {
+            return;
+        }
+
+        components.markStale(node1);
+        adjList.get(node1).remove(node2);
+        adjList.get(node2).remove(node1);
+        snapshot = null;
+        version++;
+        discardOracle();
+        releaseIfIsolated(node1);
+        releaseIfIsolated(node2);
+    }
+
+    /**
+     * Removes the person with ID {@code personId} and every edge that involves them.
+     */
+    public void removePerson(Id personId) {
+        requireNonNull(personId);
+        Integer node = idToNode.get(personId);
+        if (node == null) {
+            return;
+        }
+
+        components.markStale(node);
+        for (Integer neighbour : adjList.get(node)) {
+            adjList.get(neighbour).remove(node);
+            releaseIfIsolated(neighbour);
+        }
+        adjList.get(node).clear();
+        releaseIfIsolated(node);
+        snapshot = null;
+        version++;
+        discardOracle();
+    }
+
+    /**
+     * Replaces the contents of this graph with the edges of {@code relationships}.
+     */
+    public void setRelationships(List<Relationship> relationships) {
+        requireNonNull(relationships);
+        idToNode.clear();
+        nodeToId.clear();
+        adjList.clear();
+        freeNodes.clear();
+        releasedNodes.clear();
+        components.clear();
+        tagMembers.clear();
+        snapshot = null;
+        version++;
+        discardOracle();
+        relationships.forEach(this::addRelationship);
+    }
+
+    /**
+     * Records that the person with ID {@code personId} now carries the tags {@code newTagIds} instead of
+     * {@code oldTagIds}.
+     */
+    public void updateTags(Id personId, Set<Id> oldTagIds, Set<Id> newTagIds) {
+        requireAllNonNull(personId, oldTagIds, newTagIds);
+        Integer node = idToNode.get(personId);
+        if (node == null) {
+            return;
+        }
+
+        for (Id tagId : oldTagIds) {
+            BitSet members = tagMembers.get(tagId);
+            if (members != null) {
+                members.clear(node);
+            }
+        }
+        addTagMemberships(node, newTagIds);
+    }
+
+    /**
+     * Rereads the tags of every person, after the persons have been replaced.
+     */
+    public void refreshTags() {
+        tagMembers.clear();
+        for (int node = 0; node < nodeToId.size(); node++) {
+            if (nodeToId.get(node) != null) {
+                addTagMemberships(node, tagIdsOf.apply(nodeToId.get(node)));
+            }
+        }
+    }
+
+    /**
+     * Records that no person carries the tag with ID {@code tagId} any more.
+     */
+    public void removeTag(Id tagId) {
+        requireNonNull(tagId);
+        tagMembers.remove(tagId);
+    }
+
+    /**
+     * Returns true if there is a chain of relationships between {@code id1} and {@code id2}.
+     */
+    public boolean isConnected(Id id1, Id id2) {
+        requireAllNonNull(id1, id2);
+        if (id1.equals(id2)) {
+            return true;
+        }
+
+        Integer node1 = idToNode.get(id1);
+        Integer node2 = idToNode.get(id2);
+        return node1 != null && node2 != null && components.isConnected(node1, node2, adjList);
+    }
+
+    /**
+     * Returns the IDs of the persons on a shortest chain of relationships from {@code from} to {@code to},
+     * both inclusive. Returns an empty list if there is no such chain.
+     */
+    public List<Id> getShortestPath(Id from, Id to) {
+        requireAllNonNull(from, to);
+        if (from.equals(to)) {
+            return List.of(from);
+        }
+
+        Integer start = idToNode.get(from);
+        Integer end = idToNode.get(to);
+        if (start == null || end == null || !components.isConnected(start, end, adjList)) {
+            return List.of();
+        }
+
+        int pathLength = GraphUtil.findShortestPathBidirectional(getSnapshot(), start, end, workspace,
+                getOracle());
+        return getPathIds(pathLength);
+    }
+
+    /**
+     * Returns the IDs of the persons on a shortest chain of relationships from {@code from} to {@code to}, both
+     * inclusive, every other person on which carries at least one of the tags {@code viaTagIds}. Returns an empty
+     * list if there is no such chain.
+     */
+    public List<Id> getShortestPathVia(Id from, Id to, Set<Id> viaTagIds) {
+        requireAllNonNull(from, to, viaTagIds);
+        if (from.equals(to)) {
+            return List.of(from);
+        }
+
+        Integer start = idToNode.get(from);
+        Integer end = idToNode.get(to);
+        if (start == null || end == null || !components.isConnected(start, end, adjList)) {
+            return List.of();
+        }
+
+        BitSet eligible = new BitSet(nodeToId.size());
+        for (Id tagId : viaTagIds) {
+            BitSet members = tagMembers.get(tagId);
+            if (members != null) {
+                eligible.or(members);
+            }
+        }
+        int pathLength = GraphUtil.findShortestPathThrough(getSnapshot(), start, end, workspace, eligible);
+        return getPathIds(pathLength);
+    }
+
+    /**
+     * Passes every person at most {@code maxHops} relationships away from the person with ID {@code source} to
+     * {@code visitor} as soon as they are found, nearest first, stopping after {@code limit} persons.
+     */
+    public void visitWithinHops(Id source, int maxHops, int limit, NeighbourVisitor visitor) {
+        requireAllNonNull(source, visitor);
+        Integer start = idToNode.get(source);
+        if (start == null) {
+            return;
+        }
+
+        GraphUtil.visitWithinHops(getSnapshot(), start, maxHops, limit, workspace, (node, parent, hops) ->
+                visitor.visit(nodeToId.get(node), nodeToId.get(parent), hops));
+    }
+
+    /**
+     * Returns the IDs of the persons related to both {@code id1} and {@code id2}, in increasing order of ID.
+     */
+    public List<Id> getCommonNeighbours(Id id1, Id id2) {
+        requireAllNonNull(id1, id2);
+        Integer node1 = idToNode.get(id1);
+        Integer node2 = idToNode.get(id2);
+        if (node1 == null || node2 == null) {
+            return List.of();
+        }
+
+        CsrGraph graph = getSnapshot();
+        int[] common = new int[Math.min(graph.getDegree(node1), graph.getDegree(node2))];
+        int numOfCommon = GraphUtil.findCommonNeighbours(graph, node1, node2, common);
+
+        // node indices are recycled, so their order is unrelated to the order of IDs
+        List<Id> result = new ArrayList<>(numOfCommon);
+        for (int i = 0; i < numOfCommon; i++) {
+            result.add(nodeToId.get(common[i]));
+        }
+        result.sort(Comparator.comparing(id -> id.value));
+        return result;
+    }
+
+    /**
+     * Returns the IDs of the (at most) {@code limit} persons who are not related to {@code source} but share the
+     * most relationships with them by {@code measure}, best first. Among equal scores, lower IDs come first.
+     */
+    public List<Id> getSuggestions(Id source, LinkPredictor.Measure measure, int limit) {
+        requireAllNonNull(source, measure);
+        Integer node = idToNode.get(source);
+        if (node == null) {
+            return List.of();
+        }
+
+        CsrGraph snapshot = getSnapshot();
+        // no more persons can be suggested than there are, however many are asked for
+        int maxSuggestions = Math.min(limit, snapshot.getNumOfNodes());
+        int[] suggested = new int[maxSuggestions];
+        int numOfSuggested = predictor.predict(snapshot, node, measure, limit,
+                suggestion -> nodeToId.get(suggestion).value, suggested, new double[maxSuggestions]);
+        List<Id> result = new ArrayList<>(numOfSuggested);
+        for (int i = 0; i < numOfSuggested; i++) {
+            result.add(nodeToId.get(suggested[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the IDs of the persons on the path found by the last search, which has {@code pathLength} nodes.
+     */
+    private List<Id> getPathIds(int pathLength) {
+        List<Id> path = new ArrayList<>(pathLength);
+        for (int i = 0; i < pathLength; i++) {
+            path.add(nodeToId.get(workspace.getPathNode(i)));
+        }
+        return path;
+    }
+
+    /**
+     * Returns true if path searches currently use a landmark oracle.
+     */
+    boolean hasOracle() {
+        return getOracle() != null;
+    }
+
+    /**
+     * Returns the landmark oracle for the current graph, or null if it is not ready. Starts building one if the
+     * graph is large enough and none is being built.
+     */
+    private LandmarkOracle getOracle() {
+        if (oracle == null && pendingOracle != null && pendingOracle.isDone()) {
+            if (!pendingOracle.isCompletedExceptionally()) {
+                oracle = pendingOracle.join();
+            }
+            pendingOracle = null;
+        }
+
+        if (oracle == null && pendingOracle == null && idToNode.size() >= oracleMinNodes) {
+            CsrGraph graph = getSnapshot();
+            int graphVersion = version;
+            pendingOracle = CompletableFuture.supplyAsync(() ->
+                    LandmarkOracle.build(graph, NUM_OF_LANDMARKS, () -> version != graphVersion));
+        }
+        return oracle;
+    }
+
+    private void discardPendingOracle() {
+        if (pendingOracle != null) {
+            pendingOracle.cancel(false);
+            pendingOracle = null;
+        }
+    }
+
+    private void discardOracle() {
+        oracle = null;
+        discardPendingOracle();
+    }
+
+    private CsrGraph getSnapshot() {
+        if (snapshot == null) {
+            snapshot = CsrGraph.fromAdjacencyList(adjList);
+        }
+        return snapshot;
+    }
+
+    private int getOrCreateNode(Id id) {
+        Integer node = idToNode.get(id);
+        if (node != null) {
+            return node;
+        }
+
+        if (freeNodes.isEmpty() && releasedNodes.size() > idToNode.size()) {
+            reclaimReleasedNodes();
+        }
+
+        if (freeNodes.isEmpty()) {
+            node = nodeToId.size();
+            nodeToId.add(id);
+            adjList.add(new ArrayList<>());
+            components.addNode(node);
+        } else {
+            node = freeNodes.pop();
+            nodeToId.set(node, id);
+        }
+        idToNode.put(id, node);
+        addTagMemberships(node, tagIdsOf.apply(id));
+        return node;
+    }
+
+    private void addTagMemberships(int node, Set<Id> tagIds) {
+        for (Id tagId : tagIds) {
+            tagMembers.computeIfAbsent(tagId, unused -> new BitSet()).set(node);
+        }
+    }
+
+    /**
+     * Detaches {@code node} from its person if it no longer has any edges. Its index is reused only after
+     * {@link #reclaimReleasedNodes()}, as it may still share a stale set with other nodes in {@code components}.
+     */
+    private void releaseIfIsolated(int node) {
+        if (!adjList.get(node).isEmpty() || nodeToId.get(node) == null) {
+            return;
+        }
+
+        idToNode.remove(nodeToId.get(node));
+        nodeToId.set(node, null);
+        releasedNodes.add(node);
+        for (BitSet members : tagMembers.values()) {
+            members.clear(node);
+        }
+    }
+
+    /**
+     * Makes the indices of released nodes available for reuse. Splitting the stale sets first leaves every
+     * released node in a set of its own. This is only done once released nodes outnumber the others, so its cost
+     * is spread over the removals that released them.
+     */
+    private void reclaimReleasedNodes() {
+        components.splitAllStale(adjList);
+        freeNodes.addAll(releasedNodes);
+        releasedNodes.clear();
+    }
+}
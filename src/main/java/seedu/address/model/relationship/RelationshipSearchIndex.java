@@ -0,0 +1,106 @@
+package seedu.address.model.relationship;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.FullTextIndex;
+import seedu.address.model.id.Id;
+
+/**
+ * A {@link FullTextIndex} of the descriptions of the relationships in an address book, for finding the relationships
+ * whose descriptions best match a query.
+ * <p>
+ * Relationships have no ID, so each is indexed under a document number of its own, found from its pair of
+ * participants as by {@link Relationship#isSameRelationship}. Numbers of removed relationships are recycled, so
+ * there are never many more numbers than relationships.
+ * </p>
+ */
+public class RelationshipSearchIndex {
+    private final FullTextIndex descriptions = new FullTextIndex();
+    /** Document number of each relationship, by {@link Id#toPairKey} of its participants. */
+    private final Map<Long, Integer> pairToDoc = new HashMap<>();
+    /** The relationship indexed under each document number, or null if the number is free. */
+    private final List<Relationship> docToRelationship = new ArrayList<>();
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+
+    /**
+     * Replaces the indexed relationships with {@code relationships}.
+     */
+    public void setRelationships(List<Relationship> relationships) {
+        requireNonNull(relationships);
+        descriptions.clear();
+        pairToDoc.clear();
+        docToRelationship.clear();
+        freeDocs.clear();
+        relationships.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code relationship} to the index.
+     */
+    public void add(Relationship relationship) {
+        requireNonNull(relationship);
+        int doc;
+        if (freeDocs.isEmpty()) {
+            doc = docToRelationship.size();
+            docToRelationship.add(relationship);
+        } else {
+            doc = freeDocs.pop();
+            docToRelationship.set(doc, relationship);
+        }
+        pairToDoc.put(pairKey(relationship), doc);
+        descriptions.add(doc, relationship.getDescription().value);
+    }
+
+    /**
+     * Removes the relationship between the participants of {@code relationship} from the index, if there is one.
+     */
+    public void remove(Relationship relationship) {
+        requireNonNull(relationship);
+        Integer doc = pairToDoc.remove(pairKey(relationship));
+        if (doc == null) {
+            return;
+        }
+        descriptions.remove(doc);
+        docToRelationship.set(doc, null);
+        freeDocs.push(doc);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedRelationship}, reindexing the description only if it changed.
+     */
+    public void setRelationship(Relationship target, Relationship editedRelationship) {
+        requireAllNonNull(target, editedRelationship);
+        Integer doc = pairToDoc.get(pairKey(target));
+        if (doc != null && target.isSameRelationship(editedRelationship)
+                && target.getDescription().equals(editedRelationship.getDescription())) {
+            docToRelationship.set(doc, editedRelationship);
+            return;
+        }
+        remove(target);
+        add(editedRelationship);
+    }
+
+    /**
+     * Returns the (at most) {@code limit} relationships whose descriptions match {@code query} best, best first.
+     *
+     * @see FullTextIndex#search
+     */
+    public List<Relationship> search(String query, int limit) {
+        requireNonNull(query);
+        return descriptions.search(query, limit).stream()
+                .map(hit -> docToRelationship.get(hit.getDoc()))
+                .toList();
+    }
+
+    private static long pairKey(Relationship relationship) {
+        return Id.toPairKey(relationship.getPart1(), relationship.getPart2());
+    }
+}
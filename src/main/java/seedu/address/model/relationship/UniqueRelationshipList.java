@@ -3,8 +3,16 @@ package seedu.address.model.relationship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,6 +29,10 @@ import seedu.address.model.relationship.exceptions.RelationshipNotFoundException
  * as to ensure that the relationship with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Relationships are also indexed by their unordered pair of participants so that identity checks take
+ * constant time, and by each participant so that the relationships of a person can be found in time
+ * proportional to the number of relationships that person has. Removing them from the list still takes a pass
+ * over it, as the list keeps its order.
  *
  * @see Relationship#isSameRelationship(Relationship)
  */
@@ -28,13 +40,17 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
     private final ObservableList<Relationship> internalList = FXCollections.observableArrayList();
     private final ObservableList<Relationship> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    /** Index of every relationship in {@code internalList} by {@link Id#toPairKey} of its participants. */
+    private final Map<Long, Relationship> pairToRelationship = new HashMap<>();
+    /** Relationships involving each person, keyed by the person's {@code Id} and then by the counterpart's id. */
+    private final Map<Id, TreeMap<Integer, Relationship>> personToRelationships = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent relationship as the given argument.
      */
     public boolean contains(Relationship toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRelationship);
+        return pairToRelationship.containsKey(pairKey(toCheck));
     }
 
     /**
@@ -46,6 +62,7 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
         if (contains(toAdd)) {
             throw new DuplicateRelationshipException();
         }
+        putInIndexes(toAdd);
         internalList.add(toAdd);
     }
 
@@ -67,6 +84,8 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
             throw new DuplicateRelationshipException();
         }
 
+        removeFromIndexes(internalList.get(index));
+        putInIndexes(editedRelationship);
         internalList.set(index, editedRelationship);
     }
 
@@ -76,17 +95,52 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
      */
     public void remove(Relationship toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new RelationshipNotFoundException();
         }
+        removeFromIndexes(internalList.get(index));
+        internalList.remove(index);
     }
 
     /**
      * Removes all relationships that involve the person with the given ID.
+     * <p>
+     * The relationships are found, and taken out of the indexes, in time proportional to their number. Taking them
+     * out of the list itself, which keeps its order, still takes one pass over it: the list tests each element
+     * against them in constant time and removes the matches from the back, in a single change.
+     * </p>
      */
     public void removeIfContainsPerson(Id personId) {
         requireNonNull(personId);
-        internalList.removeIf(relationship -> relationship.hasPersonWithId(personId));
+        TreeMap<Integer, Relationship> incident = personToRelationships.get(personId);
+        if (incident == null) {
+            return;
+        }
+
+        // the indexes hold the very instances in the list, so they are matched by identity rather than by equals
+        Set<Relationship> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        toRemove.addAll(incident.values());
+        toRemove.forEach(this::removeFromIndexes);
+        internalList.removeAll(toRemove);
+    }
+
+    /**
+     * Returns the relationship between the persons with IDs {@code id1} and {@code id2} in either order,
+     * or an empty {@code Optional} if they are not related.
+     */
+    public Optional<Relationship> getRelationship(Id id1, Id id2) {
+        requireAllNonNull(id1, id2);
+        return Optional.ofNullable(pairToRelationship.get(Id.toPairKey(id1, id2)));
+    }
+
+    /**
+     * Returns the relationships that involve the person with the given ID, sorted by the ID of the counterpart.
+     */
+    public List<Relationship> getRelationshipsOf(Id personId) {
+        requireNonNull(personId);
+        TreeMap<Integer, Relationship> incident = personToRelationships.get(personId);
+        return incident == null ? List.of() : List.copyOf(incident.values());
     }
 
     /**
@@ -95,6 +149,7 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
      */
     public void setRelationships(UniqueRelationshipList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -107,6 +162,7 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
         if (!relationshipsAreUnique(relationships)) {
             throw new DuplicateRelationshipException();
         }
+        rebuildIndexes(relationships);
         internalList.setAll(relationships);
     }
 
@@ -147,15 +203,54 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
         return internalList.toString();
     }
 
+    private static long pairKey(Relationship relationship) {
+        return Id.toPairKey(relationship.getPart1(), relationship.getPart2());
+    }
+
+    private void putInIndexes(Relationship relationship) {
+        pairToRelationship.put(pairKey(relationship), relationship);
+        Id part1 = relationship.getPart1();
+        Id part2 = relationship.getPart2();
+        personToRelationships.computeIfAbsent(part1, unused -> new TreeMap<>()).put(part2.value, relationship);
+        personToRelationships.computeIfAbsent(part2, unused -> new TreeMap<>()).put(part1.value, relationship);
+    }
+
+    private void removeFromIndexes(Relationship relationship) {
+        pairToRelationship.remove(pairKey(relationship));
+        removeIncident(relationship.getPart1(), relationship.getPart2());
+        removeIncident(relationship.getPart2(), relationship.getPart1());
+    }
+
+    private void removeIncident(Id personId, Id counterpartId) {
+        TreeMap<Integer, Relationship> incident = personToRelationships.get(personId);
+        if (incident == null) {
+            return;
+        }
+        incident.remove(counterpartId.value);
+        if (incident.isEmpty()) {
+            personToRelationships.remove(personId);
+        }
+    }
+
+    /**
+     * Rebuilds the indexes so that they index exactly {@code relationships}.
+     */
+    private void rebuildIndexes(List<Relationship> relationships) {
+        pairToRelationship.clear();
+        personToRelationships.clear();
+        for (Relationship relationship : relationships) {
+            putInIndexes(relationship);
+        }
+    }
+
     /**
      * Returns true if {@code relationships} contains only unique relationships.
      */
     private boolean relationshipsAreUnique(List<Relationship> relationships) {
-        for (int i = 0; i < relationships.size() - 1; i++) {
-            for (int j = i + 1; j < relationships.size(); j++) {
-                if (relationships.get(i).isSameRelationship(relationships.get(j))) {
-                    return false;
-                }
+        Set<Long> seenPairs = new HashSet<>();
+        for (Relationship relationship : relationships) {
+            if (!seenPairs.add(pairKey(relationship))) {
+                return false;
             }
         }
         return true;
@@ -4,8 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,6 +25,7 @@ import seedu.address.model.tag.exceptions.TagNotFoundException;
  * as to ensure that the tag with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Tags are also indexed by {@code Id} and by {@code TagName} so that identity checks take constant time.
  *
  * @see Tag#isSameTag(Tag)
  */
@@ -28,20 +33,22 @@ public class UniqueTagList implements Iterable<Tag> {
     private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
     private final ObservableList<Tag> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Id, Tag> idToTag = new HashMap<>();
+    private final Map<TagName, Tag> nameToTag = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent tag as the given argument.
      */
     public boolean contains(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTag);
+        return nameToTag.containsKey(toCheck.getName());
     }
 
     /**
      * Returns true if the list contains the given tag ID.
      */
     public boolean hasTagId(Id id) {
-        return internalList.stream().anyMatch(tag -> tag.getId().equals(id));
+        return idToTag.containsKey(id);
     }
 
     /**
@@ -60,6 +67,7 @@ public class UniqueTagList implements Iterable<Tag> {
         if (contains(toAdd)) {
             throw new DuplicateTagException();
         }
+        putInIndexes(toAdd);
         internalList.add(toAdd);
     }
 
@@ -80,6 +88,8 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
 
+        removeFromIndexes(internalList.get(index));
+        putInIndexes(editedTag);
         internalList.set(index, editedTag);
     }
 
@@ -89,13 +99,17 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public void remove(Tag toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new TagNotFoundException();
         }
+        removeFromIndexes(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setTags(UniqueTagList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -109,6 +123,7 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
 
+        rebuildIndexes(tags);
         internalList.setAll(tags);
     }
 
@@ -149,15 +164,35 @@ public class UniqueTagList implements Iterable<Tag> {
         return internalList.toString();
     }
 
+    private void putInIndexes(Tag tag) {
+        idToTag.put(tag.getId(), tag);
+        nameToTag.put(tag.getName(), tag);
+    }
+
+    private void removeFromIndexes(Tag tag) {
+        idToTag.remove(tag.getId());
+        nameToTag.remove(tag.getName());
+    }
+
+    /**
+     * Rebuilds the indexes so that they index exactly {@code tags}.
+     */
+    private void rebuildIndexes(List<Tag> tags) {
+        idToTag.clear();
+        nameToTag.clear();
+        for (Tag tag : tags) {
+            putInIndexes(tag);
+        }
+    }
+
     /**
      * Returns true if {@code tags} contains only unique tags.
      */
     private boolean tagsAreUnique(List<Tag> tags) {
-        for (int i = 0; i < tags.size() - 1; i++) {
-            for (int j = i + 1; j < tags.size(); j++) {
-                if (tags.get(i).isSameTag(tags.get(j))) {
-                    return false;
-                }
+        Set<TagName> seenNames = new HashSet<>();
+        for (Tag tag : tags) {
+            if (!seenNames.add(tag.getName())) {
+                return false;
             }
         }
         return true;
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -13,6 +14,7 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -114,11 +116,7 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(
-                logic.getFilteredPersonList(),
-                logic.getTagList(),
-                logic.getRelationshipList(),
-                logic.getPersonList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic.getAddressBook());
 
         tagListPanel = new TagListPanel(logic.getFilteredTagList());
 
@@ -136,6 +134,9 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        // the analysis reports from a background thread
+        logic.getAnalysisStatus().addListener((observable, oldStatus, newStatus) ->
+                Platform.runLater(() -> resultDisplay.setFeedbackToUser(Messages.format(newStatus))));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -1,9 +1,6 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -15,6 +12,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.id.Id;
 import seedu.address.model.person.Person;
 import seedu.address.model.relationship.Relationship;
@@ -67,10 +65,7 @@ public class PersonCard extends UiPart<Region> {
     /**
      * Creates a {@code PersonCard} with the given data sources.
      */
-    public PersonCard(Person person,
-                      ObservableList<Tag> tagList,
-                      ObservableList<Relationship> relationshipList,
-                      ObservableList<Person> allPersons) {
+    public PersonCard(Person person, ReadOnlyAddressBook addressBook) {
         super(FXML);
         this.person = person;
         id.setText(person.getId() + ". ");
@@ -78,9 +73,9 @@ public class PersonCard extends UiPart<Region> {
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        populateTags(tagList);
+        populateTags(addressBook.getTagList());
         note.setText(person.getNote().value);
-        populateRelationships(relationshipList, allPersons);
+        populateRelationships(addressBook);
     }
 
     private void populateTags(ObservableList<Tag> tagList) {
@@ -101,14 +96,10 @@ public class PersonCard extends UiPart<Region> {
         });
     }
 
-    private void populateRelationships(ObservableList<Relationship> relationshipList,
-                                       ObservableList<Person> allPersons) {
+    private void populateRelationships(ReadOnlyAddressBook addressBook) {
         relationshipItems.getChildren().clear();
-        // Returns a list of relationships involving this person, sorted by counterpart id
-        List<Relationship> connections = relationshipList.stream()
-                .filter(relationship -> relationship.hasPersonWithId(person.getId()))
-                .sorted(Comparator.comparing((Relationship rel) -> rel.getCounterpartId(person.getId()).value))
-                .collect(Collectors.toList());
+        // Relationships involving this person, already sorted by counterpart id
+        List<Relationship> connections = addressBook.getRelationshipsOf(person.getId());
 
         boolean hasConnections = !connections.isEmpty();
         relationshipItems.setManaged(hasConnections);
@@ -122,7 +113,7 @@ public class PersonCard extends UiPart<Region> {
 
         connections.forEach(relationship -> {
             Id counterpartId = relationship.getCounterpartId(person.getId());
-            String counterpartName = findPersonById(allPersons, counterpartId)
+            String counterpartName = addressBook.getPersonById(counterpartId)
                     .map(other -> other.getName().fullName)
                     .orElse(UNKNOWN_PERSON);
 
@@ -144,11 +135,4 @@ public class PersonCard extends UiPart<Region> {
             relationshipItems.getChildren().add(chip);
         });
     }
-
-    /**
-     * Finds a person by id from the entire list of persons.
-     */
-    private Optional<Person> findPersonById(List<Person> persons, Id id) {
-        return persons.stream().filter(contact -> contact.getId().equals(id)).findFirst();
-    }
 }
@@ -12,6 +12,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.tag.Tag;
@@ -29,25 +30,21 @@ public class PersonListPanel extends UiPart<Region> {
     /**
      * Creates a {@code PersonListPanel} with the given data sources.
      */
-    public PersonListPanel(ObservableList<Person> personList,
-            ObservableList<Tag> tagList,
-            ObservableList<Relationship> relationshipList,
-            ObservableList<Person> allPersons) {
+    public PersonListPanel(ObservableList<Person> personList, ReadOnlyAddressBook addressBook) {
 
         super(FXML);
 
-        requireAllNonNull(personList, tagList, relationshipList, allPersons);
+        requireAllNonNull(personList, addressBook);
 
         personListView.setItems(personList);
-        personListView.setCellFactory(listView ->
-                new PersonListViewCell(tagList, relationshipList, allPersons));
+        personListView.setCellFactory(listView -> new PersonListViewCell(addressBook));
         // NOTE: refreshes person list when tags or relationships are updated
-        tagList.addListener((ListChangeListener<Tag>) change ->
+        addressBook.getTagList().addListener((ListChangeListener<Tag>) change ->
                 Platform.runLater(personListView::refresh));
-        relationshipList.addListener((ListChangeListener<Relationship>) change ->
+        addressBook.getRelationshipList().addListener((ListChangeListener<Relationship>) change ->
                 Platform.runLater(personListView::refresh));
         // NOTE: refreshes person list when any person entry changes so relationship chips stay in sync
-        allPersons.addListener((ListChangeListener<Person>) change ->
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
                 Platform.runLater(personListView::refresh));
     }
 
@@ -55,16 +52,10 @@ public class PersonListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
     class PersonListViewCell extends ListCell<Person> {
-        private final ObservableList<Tag> tagList;
-        private final ObservableList<Relationship> relationshipList;
-        private final ObservableList<Person> allPersons;
+        private final ReadOnlyAddressBook addressBook;
 
-        PersonListViewCell(ObservableList<Tag> tagList,
-                ObservableList<Relationship> relationshipList,
-                ObservableList<Person> allPersons) {
-            this.tagList = tagList;
-            this.relationshipList = relationshipList;
-            this.allPersons = allPersons;
+        PersonListViewCell(ReadOnlyAddressBook addressBook) {
+            this.addressBook = addressBook;
         }
 
         @Override
@@ -77,7 +68,7 @@ public class PersonListPanel extends UiPart<Region> {
                 return;
             }
             // PersonCard is a UI component that displays a Person
-            setGraphic(new PersonCard(person, tagList, relationshipList, allPersons).getRoot());
+            setGraphic(new PersonCard(person, addressBook).getRoot());
         }
     }
 
@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void search_withinDistance_found() {
+        BkTree tree = new BkTree();
+        tree.add("john", 1);
+        tree.add("joan", 2);
+        tree.add("jon", 3);
+        tree.add("mary", 4);
+        tree.add("john", 5);
+
+        assertArrayEquals(new int[] {1, 5}, tree.search("john", 0).toArray());
+        assertArrayEquals(new int[] {1, 2, 3, 5}, tree.search("john", 1).toArray());
+        assertArrayEquals(new int[] {1, 2, 3, 5}, tree.search("jonh", 2).toArray());
+        assertArrayEquals(new int[0], tree.search("peter", 2).toArray());
+        assertArrayEquals(new int[0], new BkTree().search("john", 2).toArray());
+    }
+
+    @Test
+    public void remove_lastDocument_wordNoLongerFound() {
+        BkTree tree = new BkTree();
+        tree.add("john", 1);
+        tree.add("joan", 2);
+        tree.add("jon", 3);
+        tree.remove("joan", 2);
+        tree.remove("joan", 7);
+        tree.remove("peter", 1);
+
+        assertArrayEquals(new int[] {1, 3}, tree.search("joan", 1).toArray());
+        tree.add("joan", 4);
+        assertArrayEquals(new int[] {1, 3, 4}, tree.search("joan", 1).toArray());
+    }
+
+    @Test
+    public void remove_mostWordsUnused_treeRebuilt() {
+        BkTree tree = new BkTree();
+        tree.add("john", 1);
+        tree.add("joan", 2);
+        tree.add("jon", 3);
+        tree.remove("john", 1);
+        assertEquals(3, tree.getNumOfWords());
+        tree.remove("jon", 3);
+        assertEquals(1, tree.getNumOfWords());
+        assertArrayEquals(new int[] {2}, tree.search("john", 1).toArray());
+    }
+
+    @Test
+    public void search_randomWords_sameAsScan() {
+        Random random = new Random(21);
+        List<String> words = new ArrayList<>();
+        BkTree tree = new BkTree();
+        for (int doc = 0; doc < 2000; doc++) {
+            String word = randomWord(random);
+            words.add(word);
+            tree.add(word, doc);
+        }
+        for (int doc = 0; doc < 2000; doc += 3) {
+            tree.remove(words.get(doc), doc);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            List<Integer> expected = new ArrayList<>();
+            for (int doc = 0; doc < words.size(); doc++) {
+                if (doc % 3 != 0 && StringUtil.getEditDistance(query, words.get(doc)) <= 2) {
+                    expected.add(doc);
+                }
+            }
+            assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(),
+                    tree.search(query, 2).toArray());
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.GraphGenerator;
+
+public class CentralityUtilTest {
+    private static final double DELTA = 1e-9;
+
+    private static final CentralityUtil.Progress NO_PROGRESS = new CentralityUtil.Progress() {
+        @Override
+        public void reportProgress(int numOfSourcesDone, int numOfSources) {}
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    };
+
+    @Test
+    public void computeCentrality_path_exactScores() {
+        // 0 - 1 - 2 - 3 - 4
+        CentralityScores scores = CentralityUtil.computeCentrality(createPath(5), allNodes(5), NO_PROGRESS);
+        assertEquals(0, scores.getBetweenness(0), DELTA);
+        assertEquals(3, scores.getBetweenness(1), DELTA);
+        assertEquals(4, scores.getBetweenness(2), DELTA);
+        assertEquals(0.4, scores.getCloseness(0), DELTA);
+        assertEquals(16.0 / 24, scores.getCloseness(2), DELTA);
+        assertEquals(2, scores.getDegree(2));
+    }
+
+    @Test
+    public void computeCentrality_star_centreOnEveryPath() {
+        // 0 in the middle of 1, 2, 3 and 4
+        List<List<Integer>> adjList = new ArrayList<>();
+        adjList.add(new ArrayList<>(List.of(1, 2, 3, 4)));
+        for (int leaf = 1; leaf <= 4; leaf++) {
+            adjList.add(List.of(0));
+        }
+        CentralityScores scores = CentralityUtil.computeCentrality(CsrGraph.fromAdjacencyList(adjList),
+                allNodes(5), NO_PROGRESS);
+        assertEquals(6, scores.getBetweenness(0), DELTA);
+        assertEquals(0, scores.getBetweenness(1), DELTA);
+        assertEquals(1, scores.getCloseness(0), DELTA);
+    }
+
+    @Test
+    public void computeCentrality_shuffledSources_sameScores() {
+        CsrGraph graph = CsrGraph.fromAdjacencyList(GraphGenerator.createScaleFreeGraph(300, 2, 3));
+        int[] sources = allNodes(300);
+        int[] reversed = new int[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            reversed[i] = sources[sources.length - 1 - i];
+        }
+
+        CentralityScores expected = CentralityUtil.computeCentrality(graph, sources, NO_PROGRESS);
+        CentralityScores actual = CentralityUtil.computeCentrality(graph, reversed, NO_PROGRESS);
+        for (int u = 0; u < 300; u++) {
+            assertEquals(expected.getBetweenness(u), actual.getBetweenness(u), 1e-6);
+            assertEquals(expected.getCloseness(u), actual.getCloseness(u), DELTA);
+        }
+    }
+
+    @Test
+    public void computeCentrality_reportsEverySource() {
+        int[] reported = new int[1];
+        CentralityUtil.Progress progress = new CentralityUtil.Progress() {
+            @Override
+            public synchronized void reportProgress(int numOfSourcesDone, int numOfSources) {
+                reported[0] = Math.max(reported[0], numOfSourcesDone);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+        };
+        CentralityUtil.computeCentrality(createPath(50), allNodes(50), progress);
+        assertArrayEquals(new int[] {50}, reported);
+    }
+
+    @Test
+    public void computeCentrality_cancelled_throwsCancellationException() {
+        CentralityUtil.Progress cancelled = new CentralityUtil.Progress() {
+            @Override
+            public void reportProgress(int numOfSourcesDone, int numOfSources) {}
+
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+        };
+        assertThrows(CancellationException.class, () ->
+                CentralityUtil.computeCentrality(createPath(5), allNodes(5), cancelled));
+    }
+
+    private static CsrGraph createPath(int numOfNodes) {
+        List<List<Integer>> adjList = new ArrayList<>();
+        for (int u = 0; u < numOfNodes; u++) {
+            adjList.add(new ArrayList<>());
+        }
+        for (int u = 0; u + 1 < numOfNodes; u++) {
+            adjList.get(u).add(u + 1);
+            adjList.get(u + 1).add(u);
+        }
+        return CsrGraph.fromAdjacencyList(adjList);
+    }
+
+    private static int[] allNodes(int numOfNodes) {
+        int[] nodes = new int[numOfNodes];
+        for (int u = 0; u < numOfNodes; u++) {
+            nodes[u] = u;
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    @Test
+    public void add_acrossChunks_keptInOrder() {
+        CompressedBitmap bitmap = of(70000, 3, 1 << 20, 3, 65535);
+        assertArrayEquals(new int[] {3, 65535, 70000, 1 << 20}, bitmap.toArray());
+        assertEquals(4, bitmap.getCardinality());
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(70001));
+        assertFalse(bitmap.contains(-1));
+    }
+
+    @Test
+    public void remove_lastOfChunk_chunkDropped() {
+        CompressedBitmap bitmap = of(1, 70000);
+        bitmap.remove(70000);
+        bitmap.remove(5);
+        bitmap.remove(-5);
+        assertArrayEquals(new int[] {1}, bitmap.toArray());
+        bitmap.remove(1);
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void add_pastArrayLimit_becomesBitmapAndBack() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i <= CompressedBitmap.ARRAY_LIMIT; i++) {
+            bitmap.add(2 * i);
+        }
+        assertEquals(CompressedBitmap.ARRAY_LIMIT + 1, bitmap.getCardinality());
+        assertTrue(bitmap.contains(2 * CompressedBitmap.ARRAY_LIMIT));
+        assertFalse(bitmap.contains(1));
+
+        bitmap.remove(0);
+        bitmap.remove(2);
+        assertEquals(CompressedBitmap.ARRAY_LIMIT - 1, bitmap.getCardinality());
+        assertFalse(bitmap.contains(2));
+        assertTrue(bitmap.contains(4));
+    }
+
+    @Test
+    public void andOr_randomSetsOfMixedDensity_matchBitSet() {
+        Random random = new Random(18);
+        for (int trial = 0; trial < 20; trial++) {
+            BitSet expectedA = new BitSet();
+            BitSet expectedB = new BitSet();
+            CompressedBitmap a = new CompressedBitmap();
+            CompressedBitmap b = new CompressedBitmap();
+            // dense in the first chunk, sparse beyond, so every pairing of containers is met
+            for (int i = 0; i < 12000; i++) {
+                int value = i % 2 == 0 ? random.nextInt(1 << 16) : random.nextInt(1 << 19);
+                BitSet expected = random.nextBoolean() ? expectedA : expectedB;
+                expected.set(value);
+            }
+            expectedA.stream().forEach(a::add);
+            expectedB.stream().forEach(b::add);
+
+            BitSet expectedAnd = (BitSet) expectedA.clone();
+            expectedAnd.and(expectedB);
+            BitSet expectedOr = (BitSet) expectedA.clone();
+            expectedOr.or(expectedB);
+            assertEquals(expectedAnd, CompressedBitmap.and(a, b).toBitSet());
+            assertEquals(expectedOr, CompressedBitmap.or(a, b).toBitSet());
+            assertEquals(expectedOr.cardinality(), CompressedBitmap.or(a, b).getCardinality());
+            assertEquals(expectedA, a.toBitSet());
+        }
+    }
+
+    @Test
+    public void copy_modifiedCopy_originalUnchanged() {
+        CompressedBitmap bitmap = of(1, 2);
+        CompressedBitmap copy = bitmap.copy();
+        copy.add(3);
+        copy.remove(1);
+        assertArrayEquals(new int[] {1, 2}, bitmap.toArray());
+        assertArrayEquals(new int[] {2, 3}, copy.toArray());
+    }
+
+    @Test
+    public void and_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CompressedBitmap.and(null, new CompressedBitmap()));
+    }
+
+    private static CompressedBitmap of(int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+}
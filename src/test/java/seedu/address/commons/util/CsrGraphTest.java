@@ -0,0 +1,45 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsrGraphTest {
+    @Test
+    public void fromAdjacencyList_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsrGraph.fromAdjacencyList(null));
+    }
+
+    @Test
+    public void fromAdjacencyList_emptyList_hasNoNodes() {
+        CsrGraph graph = CsrGraph.fromAdjacencyList(List.of());
+        assertEquals(0, graph.getNumOfNodes());
+        assertEquals(0, graph.getNumOfEdges());
+    }
+
+    @Test
+    public void fromAdjacencyList_validList_sortsNeighbours() {
+        List<List<Integer>> adjList = List.of(List.of(3, 2, 1), List.of(0), List.of(0), List.of(0), List.of());
+        CsrGraph graph = CsrGraph.fromAdjacencyList(adjList);
+
+        assertEquals(5, graph.getNumOfNodes());
+        assertEquals(6, graph.getNumOfEdges());
+        assertEquals(List.of(1, 2, 3), neighboursOf(graph, 0));
+        for (int u = 1; u < adjList.size(); u++) {
+            assertEquals(adjList.get(u).size(), graph.getDegree(u));
+            assertEquals(adjList.get(u), neighboursOf(graph, u));
+        }
+    }
+
+    private List<Integer> neighboursOf(CsrGraph graph, int node) {
+        List<Integer> neighbours = new ArrayList<>();
+        for (int i = graph.getNeighbourStart(node); i < graph.getNeighbourEnd(node); i++) {
+            neighbours.add(graph.getTarget(i));
+        }
+        return neighbours;
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.commons.util;
+
+import java.util.Random;
+
+/**
+ * Measures the memory a {@link DigitTrie} of random eight-digit phone numbers takes, and the time its prefix lookups
+ * take compared with scanning the numbers. Not part of the test suite; run it with
+ * {@code gradlew benchmark -PbenchmarkClass=DigitTrieBenchmark}.
+ * <p>
+ * Arguments, all optional: the number of phone numbers in each trie, comma separated (default 100000,1000000), and
+ * the number of lookups timed per trie (default 1000).
+ * </p>
+ */
+public class DigitTrieBenchmark {
+    private static final long SEED = 2103;
+    /** Length of the prefixes looked up, matching about one number in ten thousand. */
+    private static final int PREFIX_LENGTH = 4;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        String sizes = args.length > 0 ? args[0] : "100000,1000000";
+        int numOfLookups = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        System.out.printf("%10s %12s %14s %14s %14s%n", "numbers", "trie MB", "bytes/number", "trie us", "scan us");
+        for (String size : sizes.split(",")) {
+            runOnTrie(Integer.parseInt(size.trim()), numOfLookups);
+        }
+    }
+
+    private static void runOnTrie(int numOfNumbers, int numOfLookups) {
+        Random random = new Random(SEED);
+        String[] numbers = new String[numOfNumbers];
+        for (int i = 0; i < numOfNumbers; i++) {
+            numbers[i] = String.valueOf(80000000 + random.nextInt(20000000));
+        }
+
+        long heapBefore = getUsedHeap();
+        DigitTrie trie = new DigitTrie();
+        for (int i = 0; i < numOfNumbers; i++) {
+            trie.add(numbers[i], i);
+        }
+        long trieBytes = getUsedHeap() - heapBefore;
+
+        String[] prefixes = new String[numOfLookups];
+        for (int i = 0; i < numOfLookups; i++) {
+            prefixes[i] = numbers[random.nextInt(numOfNumbers)].substring(0, PREFIX_LENGTH);
+        }
+
+        long startTime = System.nanoTime();
+        long trieMatches = 0;
+        for (String prefix : prefixes) {
+            trieMatches += trie.findWithPrefix(prefix).getCardinality();
+        }
+        long trieNanos = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        long scanMatches = 0;
+        for (String prefix : prefixes) {
+            for (String number : numbers) {
+                scanMatches += number.startsWith(prefix) ? 1 : 0;
+            }
+        }
+        long scanNanos = System.nanoTime() - startTime;
+        if (trieMatches != scanMatches) {
+            throw new AssertionError("The trie and the scan disagree on the number of matches");
+        }
+
+        System.out.printf("%10d %12.1f %14.1f %14.2f %14.2f%n", numOfNumbers, trieBytes / 1e6,
+                (double) trieBytes / numOfNumbers, trieNanos / 1e3 / numOfLookups, scanNanos / 1e3 / numOfLookups);
+        // keeps the trie reachable until its size has been measured
+        if (trie.countWithPrefix("") != numOfNumbers) {
+            throw new AssertionError("The trie lost numbers");
+        }
+    }
+
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class DigitTrieTest {
+
+    @Test
+    public void find_exactKey_found() {
+        DigitTrie trie = new DigitTrie();
+        trie.add("91234567", 1);
+        trie.add("9123", 2);
+        trie.add("91234567", 3);
+
+        assertArrayEquals(new int[] {1, 3}, trie.find("91234567").toArray());
+        assertArrayEquals(new int[] {2}, trie.find("9123").toArray());
+        assertArrayEquals(new int[0], trie.find("912").toArray());
+        assertArrayEquals(new int[0], trie.find("912345678").toArray());
+    }
+
+    @Test
+    public void findWithPrefix_keysStartingWithPrefix_found() {
+        DigitTrie trie = new DigitTrie();
+        trie.add("91234567", 4);
+        trie.add("91250000", 1);
+        trie.add("81234567", 2);
+        trie.add("9123", 3);
+
+        assertArrayEquals(new int[] {1, 3, 4}, trie.findWithPrefix("912").toArray());
+        assertArrayEquals(new int[] {3, 4}, trie.findWithPrefix("9123").toArray());
+        assertArrayEquals(new int[] {4}, trie.findWithPrefix("912345").toArray());
+        assertArrayEquals(new int[] {1, 2, 3, 4}, trie.findWithPrefix("").toArray());
+        assertArrayEquals(new int[0], trie.findWithPrefix("9124").toArray());
+        assertArrayEquals(new int[0], trie.findWithPrefix("912345678").toArray());
+        assertEquals(3, trie.countWithPrefix("912"));
+        assertEquals(0, trie.countWithPrefix("7"));
+    }
+
+    @Test
+    public void remove_lastDocuments_nodesMerged() {
+        DigitTrie trie = new DigitTrie();
+        trie.add("91234567", 1);
+        // splits the label of the first key, and branches from it
+        trie.add("91239999", 2);
+        assertEquals(4, trie.getNumOfNodes());
+        trie.add("9123", 3);
+        assertEquals(4, trie.getNumOfNodes());
+
+        trie.remove("91239999", 2);
+        trie.remove("91239999", 7);
+        trie.remove("555", 1);
+        assertEquals(3, trie.getNumOfNodes());
+        trie.remove("9123", 3);
+        assertEquals(2, trie.getNumOfNodes());
+        assertArrayEquals(new int[] {1}, trie.findWithPrefix("91").toArray());
+
+        trie.remove("91234567", 1);
+        assertEquals(1, trie.getNumOfNodes());
+        assertEquals(0, trie.countWithPrefix(""));
+    }
+
+    @Test
+    public void add_keyLongerThanLabel_chained() {
+        DigitTrie trie = new DigitTrie();
+        String longKey = "6591234567890123456";
+        trie.add(longKey, 1);
+        assertEquals(3, trie.getNumOfNodes());
+        trie.add("659123456789012", 2);
+        assertArrayEquals(new int[] {1, 2}, trie.findWithPrefix("6591234567890").toArray());
+        assertArrayEquals(new int[] {1}, trie.findWithPrefix("65912345678901234").toArray());
+        assertArrayEquals(new int[] {1}, trie.find(longKey).toArray());
+
+        // the chain is not merged back into a label too long to hold
+        trie.remove("659123456789012", 2);
+        assertEquals(3, trie.getNumOfNodes());
+        assertArrayEquals(new int[] {1}, trie.find(longKey).toArray());
+    }
+
+    @Test
+    public void add_notDigits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DigitTrie().add("+6591234567", 1));
+        assertThrows(NullPointerException.class, () -> new DigitTrie().findWithPrefix(null));
+    }
+
+    @Test
+    public void findWithPrefix_randomKeys_sameAsScan() {
+        Random random = new Random(25);
+        List<String> keys = new ArrayList<>();
+        DigitTrie trie = new DigitTrie();
+        for (int doc = 0; doc < 3000; doc++) {
+            String key = randomDigits(random, 3 + random.nextInt(6));
+            keys.add(key);
+            trie.add(key, doc);
+        }
+        for (int doc = 0; doc < 3000; doc += 3) {
+            trie.remove(keys.get(doc), doc);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            String prefix = randomDigits(random, random.nextInt(4));
+            List<Integer> expected = new ArrayList<>();
+            for (int doc = 0; doc < keys.size(); doc++) {
+                if (doc % 3 != 0 && keys.get(doc).startsWith(prefix)) {
+                    expected.add(doc);
+                }
+            }
+            assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(),
+                    trie.findWithPrefix(prefix).toArray());
+            assertEquals(expected.size(), trie.countWithPrefix(prefix));
+        }
+    }
+
+    private static String randomDigits(Random random, int length) {
+        StringBuilder digits = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            // few distinct digits, so that keys share long prefixes
+            digits.append((char) ('0' + random.nextInt(3)));
+        }
+        return digits.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class DoubleMetaphoneTest {
+
+    @Test
+    public void encode_transliterations_sameKey() {
+        assertEquals(List.of("MHMT"), DoubleMetaphone.encode("Mohammed"));
+        assertEquals(List.of("MHMT"), DoubleMetaphone.encode("Muhammad"));
+        assertEquals(List.of("ASF"), DoubleMetaphone.encode("Yusuf"));
+        assertEquals(List.of("ASF"), DoubleMetaphone.encode("youssef"));
+        assertEquals(List.of("STFN"), DoubleMetaphone.encode("Stephen"));
+        assertEquals(List.of("STFN"), DoubleMetaphone.encode("Steven"));
+        assertEquals(List.of("KRST"), DoubleMetaphone.encode("Christopher"));
+        assertEquals(List.of("KRST"), DoubleMetaphone.encode("Kristopher"));
+    }
+
+    @Test
+    public void encode_twoPronunciations_alternateKey() {
+        assertEquals(List.of("SM0", "XMT"), DoubleMetaphone.encode("Smith"));
+        assertEquals(List.of("XMT", "SMT"), DoubleMetaphone.encode("Schmidt"));
+        assertEquals(List.of("MKL", "MXL"), DoubleMetaphone.encode("Michael"));
+        assertEquals(List.of("K0RN", "KTRN"), DoubleMetaphone.encode("Catherine"));
+        assertEquals(List.of("JN", "AN"), DoubleMetaphone.encode("John"));
+    }
+
+    @Test
+    public void encode_silentLetters_skipped() {
+        assertEquals(DoubleMetaphone.encode("Night"), DoubleMetaphone.encode("Knight"));
+        assertEquals(DoubleMetaphone.encode("Rite"), DoubleMetaphone.encode("Wright"));
+        assertEquals(List.of("FLP"), DoubleMetaphone.encode("Philip"));
+        assertEquals(List.of("FLP"), DoubleMetaphone.encode("Filip"));
+    }
+
+    @Test
+    public void encode_longWord_keyCut() {
+        String key = DoubleMetaphone.encode("Wolfeschlegelsteinhausen").get(0);
+        assertEquals(DoubleMetaphone.MAX_KEY_LENGTH, key.length());
+    }
+
+    @Test
+    public void encode_noSounds_emptyList() {
+        assertEquals(List.of(), DoubleMetaphone.encode("  "));
+        assertEquals(List.of(), DoubleMetaphone.encode("123"));
+    }
+
+    @Test
+    public void encode_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> DoubleMetaphone.encode(null));
+    }
+}
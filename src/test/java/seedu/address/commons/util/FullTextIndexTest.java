@@ -0,0 +1,88 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FullTextIndexTest {
+    private final FullTextIndex index = new FullTextIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(0, "Met at the board games night; plays chess.");
+        index.add(1, "Chess coach. Chess, chess and more chess.");
+        index.add(2, "Owes me a board game, and a book about games of chance.");
+        index.add(3, "Neighbour with a noisy dog");
+    }
+
+    @Test
+    public void tokenize_lettersAndDigits_lowerCase() {
+        assertEquals(List.of("call", "at", "9pm", "re", "café"), FullTextIndex.tokenize("Call at 9pm, re: CAFÉ!"));
+        assertEquals(List.of(), FullTextIndex.tokenize(" -- "));
+    }
+
+    @Test
+    public void search_anyWord_rankedByBm25() {
+        // repeated in a document counts for more, but with diminishing returns
+        assertEquals(List.of(1, 0), getDocs(index.search("chess", 10)));
+        // a rarer word counts for more than a common one
+        assertEquals(List.of(3, 0, 2), getDocs(index.search("DOG board", 10)));
+        assertEquals(List.of(), index.search("cat", 10));
+        assertEquals(List.of(), index.search("  ", 10));
+    }
+
+    @Test
+    public void search_phrase_wordsTogetherInOrder() {
+        assertEquals(List.of(0), getDocs(index.search("\"board games\"", 10)));
+        assertEquals(List.of(2), getDocs(index.search("\"board game\"", 10)));
+        assertEquals(List.of(), getDocs(index.search("\"games board\"", 10)));
+        // every phrase must occur; loose words only add to the score
+        assertEquals(List.of(2), getDocs(index.search("chess \"a book\" \"board game\"", 10)));
+        assertEquals(List.of(0), getDocs(index.search("\"plays chess", 10)));
+    }
+
+    @Test
+    public void search_limit_keepsBest() {
+        assertEquals(List.of(1), getDocs(index.search("chess", 1)));
+        assertEquals(List.of(), index.search("chess", 0));
+        // equal scores go to the lower numbered document
+        index.add(7, "dog");
+        index.add(5, "dog");
+        assertEquals(List.of(5, 7), getDocs(index.search("dog", 2)));
+    }
+
+    @Test
+    public void add_existingDoc_replacesText() {
+        index.add(1, "Knows a noisy dog");
+        assertEquals(List.of(0), getDocs(index.search("chess", 10)));
+        assertEquals(List.of(1, 3), getDocs(index.search("dog", 10)));
+    }
+
+    @Test
+    public void remove() {
+        index.remove(0);
+        index.remove(42);
+        assertFalse(index.contains(0));
+        assertTrue(index.contains(1));
+        assertEquals(List.of(1), getDocs(index.search("chess", 10)));
+        assertEquals(List.of(), getDocs(index.search("night", 10)));
+
+        index.clear();
+        assertEquals(List.of(), index.search("chess", 10));
+    }
+
+    @Test
+    public void search_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.search(null, 10));
+    }
+
+    private static List<Integer> getDocs(List<FullTextIndex.Hit> hits) {
+        return hits.stream().map(FullTextIndex.Hit::getDoc).toList();
+    }
+}
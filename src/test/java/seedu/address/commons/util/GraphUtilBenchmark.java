@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+import java.util.Random;
+
+import seedu.address.testutil.GraphGenerator;
+
+/**
+ * Compares {@link GraphUtil#findShortestPath} with {@link GraphUtil#findShortestPathBidirectional}, without
+ * and with a {@link LandmarkOracle}, on synthetic scale-free graphs. Not part of the test suite; run it with
+ * {@code gradlew benchmark}.
+ * <p>
+ * Arguments, all optional: the number of nodes in each graph, comma separated (default 10000,100000,1000000),
+ * the number of edges each new node adds (default 3) and the number of random queries per graph (default 2000).
+ * </p>
+ */
+public class GraphUtilBenchmark {
+    private static final long SEED = 2103;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int NUM_OF_LANDMARKS = 16;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        String sizes = args.length > 0 ? args[0] : "10000,100000,1000000";
+        int edgesPerNode = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int numOfQueries = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+
+        System.out.printf("%10s %10s %16s %16s %16s %8s%n", "nodes", "edges", "one-sided us/q", "bidir us/q",
+                "landmark us/q", "speedup");
+        for (String size : sizes.split(",")) {
+            runOnGraph(Integer.parseInt(size.trim()), edgesPerNode, numOfQueries);
+        }
+    }
+
+    private static void runOnGraph(int numOfNodes, int edgesPerNode, int numOfQueries) {
+        CsrGraph graph = CsrGraph.fromAdjacencyList(
+                GraphGenerator.createScaleFreeGraph(numOfNodes, edgesPerNode, SEED));
+
+        Random random = new Random(SEED);
+        int[] starts = new int[numOfQueries];
+        int[] ends = new int[numOfQueries];
+        for (int i = 0; i < numOfQueries; i++) {
+            starts[i] = random.nextInt(numOfNodes);
+            ends[i] = random.nextInt(numOfNodes);
+        }
+
+        LandmarkOracle oracle = LandmarkOracle.build(graph, NUM_OF_LANDMARKS);
+        BfsWorkspace workspace = new BfsWorkspace();
+        long oneSidedChecksum = 0;
+        long bidirectionalChecksum = 0;
+        long landmarkChecksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            oneSidedChecksum = runQueries(graph, starts, ends, workspace, false, null);
+            bidirectionalChecksum = runQueries(graph, starts, ends, workspace, true, null);
+            landmarkChecksum = runQueries(graph, starts, ends, workspace, true, oracle);
+        }
+        if (oneSidedChecksum != bidirectionalChecksum || oneSidedChecksum != landmarkChecksum) {
+            throw new AssertionError("The searches disagree on some path lengths");
+        }
+
+        long oneSidedNanos = timeQueries(graph, starts, ends, workspace, false, null);
+        long bidirectionalNanos = timeQueries(graph, starts, ends, workspace, true, null);
+        long landmarkNanos = timeQueries(graph, starts, ends, workspace, true, oracle);
+        System.out.printf("%10d %10d %16.1f %16.1f %16.1f %7.1fx%n", numOfNodes, graph.getNumOfEdges() / 2,
+                oneSidedNanos / 1000.0 / numOfQueries, bidirectionalNanos / 1000.0 / numOfQueries,
+                landmarkNanos / 1000.0 / numOfQueries, (double) oneSidedNanos / landmarkNanos);
+    }
+
+    private static long timeQueries(CsrGraph graph, int[] starts, int[] ends, BfsWorkspace workspace,
+            boolean isBidirectional, LandmarkOracle oracle) {
+        long startTime = System.nanoTime();
+        runQueries(graph, starts, ends, workspace, isBidirectional, oracle);
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * Runs every query and returns the sum of the path lengths found, so that the work cannot be optimised away.
+     */
+    private static long runQueries(CsrGraph graph, int[] starts, int[] ends, BfsWorkspace workspace,
+            boolean isBidirectional, LandmarkOracle oracle) {
+        long totalLength = 0;
+        for (int i = 0; i < starts.length; i++) {
+            totalLength += isBidirectional
+                    ? GraphUtil.findShortestPathBidirectional(graph, starts[i], ends[i], workspace, oracle)
+                    : GraphUtil.findShortestPath(graph, starts[i], ends[i], workspace);
+        }
+        return totalLength;
+    }
+}
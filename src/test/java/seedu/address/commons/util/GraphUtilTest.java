@@ -3,14 +3,23 @@ package seedu.address.commons.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.util.GraphUtil.findCommonNeighbours;
+import static seedu.address.commons.util.GraphUtil.findShortestPath;
+import static seedu.address.commons.util.GraphUtil.findShortestPathBidirectional;
+import static seedu.address.commons.util.GraphUtil.findShortestPathThrough;
 import static seedu.address.commons.util.GraphUtil.getShortestPath;
+import static seedu.address.commons.util.GraphUtil.visitWithinHops;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.GraphGenerator;
+
 public class GraphUtilTest {
     @Test
     public void getShortestPath_nullAdjList_throwsNullPointerException() {
@@ -114,6 +123,239 @@ public class GraphUtilTest {
         assertEquals(expectedPath, getShortestPath(adjList, start, end));
     }
 
+    @Test
+    public void findShortestPath_reusedWorkspace_returnsCorrectPaths() {
+        // path graph 0 - 1 - 2 - 3, plus isolated node 4
+        List<List<Integer>> adjList = List.of(List.of(1), List.of(0, 2), List.of(1, 3), List.of(2), List.of());
+        CsrGraph graph = CsrGraph.fromAdjacencyList(adjList);
+        BfsWorkspace workspace = new BfsWorkspace();
+
+        assertEquals(4, findShortestPath(graph, 0, 3, workspace));
+        assertEquals(List.of(0, 1, 2, 3), pathOf(workspace));
+
+        // nodes visited by the previous search must not count as visited
+        assertEquals(3, findShortestPath(graph, 3, 1, workspace));
+        assertEquals(List.of(3, 2, 1), pathOf(workspace));
+
+        assertEquals(0, findShortestPath(graph, 0, 4, workspace));
+        assertEquals(List.of(), pathOf(workspace));
+
+        assertEquals(1, findShortestPath(graph, 4, 4, workspace));
+        assertEquals(List.of(4), pathOf(workspace));
+    }
+
+    @Test
+    public void findShortestPath_workspaceUsedOnSmallerGraph_grows() {
+        BfsWorkspace workspace = new BfsWorkspace();
+        findShortestPath(CsrGraph.fromAdjacencyList(createClique(2)), 0, 1, workspace);
+
+        CsrGraph largerGraph = CsrGraph.fromAdjacencyList(createClique(10));
+        assertEquals(2, findShortestPath(largerGraph, 0, 9, workspace));
+    }
+
+    @Test
+    public void findShortestPathBidirectional_smallGraphs_returnsCorrectPaths() {
+        // path graph 0 - 1 - 2 - 3 - 4, plus isolated node 5
+        List<List<Integer>> adjList = List.of(List.of(1), List.of(0, 2), List.of(1, 3), List.of(2, 4), List.of(3),
+                List.of());
+        CsrGraph graph = CsrGraph.fromAdjacencyList(adjList);
+        BfsWorkspace workspace = new BfsWorkspace();
+
+        assertEquals(5, findShortestPathBidirectional(graph, 0, 4, workspace));
+        assertEquals(List.of(0, 1, 2, 3, 4), pathOf(workspace));
+
+        assertEquals(2, findShortestPathBidirectional(graph, 3, 2, workspace));
+        assertEquals(List.of(3, 2), pathOf(workspace));
+
+        assertEquals(1, findShortestPathBidirectional(graph, 1, 1, workspace));
+        assertEquals(List.of(1), pathOf(workspace));
+
+        assertEquals(0, findShortestPathBidirectional(graph, 0, 5, workspace));
+        assertEquals(List.of(), pathOf(workspace));
+    }
+
+    @Test
+    public void findShortestPathThrough_smallGraph_avoidsIneligibleNodes() {
+        // 0 - 1 - 4 and 0 - 2 - 3 - 4, plus 5 related to 0 only
+        List<List<Integer>> adjList = List.of(List.of(1, 2, 5), List.of(0, 4), List.of(0, 3), List.of(2, 4),
+                List.of(1, 3), List.of(0));
+        CsrGraph graph = CsrGraph.fromAdjacencyList(adjList);
+        BfsWorkspace workspace = new BfsWorkspace();
+
+        assertEquals(3, findShortestPathThrough(graph, 0, 4, workspace, bitSetOf(1, 2, 3)));
+        assertEquals(List.of(0, 1, 4), pathOf(workspace));
+
+        assertEquals(4, findShortestPathThrough(graph, 0, 4, workspace, bitSetOf(2, 3)));
+        assertEquals(List.of(0, 2, 3, 4), pathOf(workspace));
+
+        assertEquals(0, findShortestPathThrough(graph, 0, 4, workspace, bitSetOf(2)));
+        assertEquals(List.of(), pathOf(workspace));
+
+        // the ends need not be eligible
+        assertEquals(2, findShortestPathThrough(graph, 5, 0, workspace, new BitSet()));
+        assertEquals(List.of(5, 0), pathOf(workspace));
+    }
+
+    @Test
+    public void findShortestPathThrough_scaleFreeGraph_matchesSearchOfEligibleSubgraph() {
+        List<List<Integer>> adjList = GraphGenerator.createScaleFreeGraph(500, 3, 5);
+        CsrGraph graph = CsrGraph.fromAdjacencyList(adjList);
+        BitSet eligible = new BitSet();
+        for (int u = 0; u < adjList.size(); u += 2) {
+            eligible.set(u);
+        }
+        BfsWorkspace oneSided = new BfsWorkspace();
+        BfsWorkspace constrained = new BfsWorkspace();
+
+        for (int start = 1; start < adjList.size(); start += 37) {
+            for (int end = adjList.size() - 2; end >= 0; end -= 41) {
+                // the graph keeping only the edges between eligible nodes and the two ends
+                List<List<Integer>> subgraph = new ArrayList<>();
+                for (int u = 0; u < adjList.size(); u++) {
+                    List<Integer> adjs = new ArrayList<>();
+                    for (int adj : adjList.get(u)) {
+                        if (isAllowed(u, eligible, start, end) && isAllowed(adj, eligible, start, end)) {
+                            adjs.add(adj);
+                        }
+                    }
+                    subgraph.add(adjs);
+                }
+
+                int expectedLength = findShortestPath(CsrGraph.fromAdjacencyList(subgraph), start, end, oneSided);
+                assertEquals(expectedLength, findShortestPathThrough(graph, start, end, constrained, eligible));
+                List<Integer> path = pathOf(constrained);
+                for (int i = 1; i + 1 < path.size(); i++) {
+                    assertTrue(eligible.get(path.get(i)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void findShortestPathBidirectional_scaleFreeGraph_matchesOneSidedSearch() {
+        List<List<Integer>> adjList = GraphGenerator.createScaleFreeGraph(500, 2, 42);
+        CsrGraph graph = CsrGraph.fromAdjacencyList(adjList);
+        BfsWorkspace oneSided = new BfsWorkspace();
+        BfsWorkspace bidirectional = new BfsWorkspace();
+
+        for (int start = 0; start < adjList.size(); start += 37) {
+            for (int end = adjList.size() - 1; end >= 0; end -= 41) {
+                int expectedLength = findShortestPath(graph, start, end, oneSided);
+                assertEquals(expectedLength, findShortestPathBidirectional(graph, start, end, bidirectional));
+
+                List<Integer> path = pathOf(bidirectional);
+                assertEquals(start, path.get(0));
+                assertEquals(end, path.get(path.size() - 1));
+                for (int i = 0; i + 1 < path.size(); i++) {
+                    assertTrue(adjList.get(path.get(i)).contains(path.get(i + 1)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void findShortestPathBidirectional_pathThroughLandmark_stopsEarly() {
+        // 0 is the hub of a star with leaves 1 to 4, and 3 is also joined to 4
+        List<List<Integer>> adjList = List.of(List.of(1, 2, 3, 4), List.of(0), List.of(0), List.of(0, 4),
+                List.of(0, 3));
+        CsrGraph graph = CsrGraph.fromAdjacencyList(adjList);
+        LandmarkOracle oracle = LandmarkOracle.build(graph, 1);
+        BfsWorkspace workspace = new BfsWorkspace();
+
+        assertEquals(3, findShortestPathBidirectional(graph, 1, 2, workspace, oracle));
+        assertEquals(List.of(1, 0, 2), pathOf(workspace));
+        assertEquals(2, findShortestPathBidirectional(graph, 3, 4, workspace, oracle));
+        assertEquals(List.of(3, 4), pathOf(workspace));
+        assertEquals(2, findShortestPathBidirectional(graph, 0, 4, workspace, oracle));
+        assertEquals(List.of(0, 4), pathOf(workspace));
+    }
+
+    @Test
+    public void findShortestPathBidirectional_withOracle_matchesSearchWithout() {
+        List<List<Integer>> adjList = GraphGenerator.createScaleFreeGraph(500, 2, 42);
+        CsrGraph graph = CsrGraph.fromAdjacencyList(adjList);
+        LandmarkOracle oracle = LandmarkOracle.build(graph, 8);
+        BfsWorkspace unpruned = new BfsWorkspace();
+        BfsWorkspace pruned = new BfsWorkspace();
+
+        for (int start = 0; start < adjList.size(); start += 31) {
+            for (int end = adjList.size() - 1; end >= 0; end -= 29) {
+                int expectedLength = findShortestPathBidirectional(graph, start, end, unpruned);
+                assertEquals(expectedLength, findShortestPathBidirectional(graph, start, end, pruned, oracle));
+
+                List<Integer> path = pathOf(pruned);
+                assertEquals(start, path.get(0));
+                assertEquals(end, path.get(path.size() - 1));
+                for (int i = 0; i + 1 < path.size(); i++) {
+                    assertTrue(adjList.get(path.get(i)).contains(path.get(i + 1)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void visitWithinHops_star_visitsInOrderOfDistance() {
+        // 0 is joined to 1 and 2, 1 to 3, and 3 to 4
+        List<List<Integer>> adjList = List.of(List.of(1, 2), List.of(0, 3), List.of(0), List.of(1, 4), List.of(3));
+        CsrGraph graph = CsrGraph.fromAdjacencyList(adjList);
+        BfsWorkspace workspace = new BfsWorkspace();
+        List<List<Integer>> visited = new ArrayList<>();
+        GraphUtil.HopVisitor recorder = (node, parent, hops) -> visited.add(List.of(node, parent, hops));
+
+        assertEquals(3, visitWithinHops(graph, 0, 2, 10, workspace, recorder));
+        assertEquals(List.of(List.of(1, 0, 1), List.of(2, 0, 1), List.of(3, 1, 2)), visited);
+
+        visited.clear();
+        assertEquals(2, visitWithinHops(graph, 0, 3, 2, workspace, recorder));
+        assertEquals(List.of(List.of(1, 0, 1), List.of(2, 0, 1)), visited);
+    }
+
+    @Test
+    public void findCommonNeighbours_similarDegrees_returnsIntersection() {
+        // 0 is joined to 2, 3 and 5, and 1 to 3, 4 and 5
+        List<List<Integer>> adjList = List.of(List.of(5, 2, 3), List.of(3, 4, 5), List.of(0), List.of(0, 1),
+                List.of(1), List.of(0, 1));
+        CsrGraph graph = CsrGraph.fromAdjacencyList(adjList);
+        int[] out = new int[3];
+
+        assertEquals(2, findCommonNeighbours(graph, 0, 1, out));
+        assertEquals(3, out[0]);
+        assertEquals(5, out[1]);
+        assertEquals(0, findCommonNeighbours(graph, 2, 4, out));
+    }
+
+    @Test
+    public void findCommonNeighbours_hubAndLeaf_matchesNaiveIntersection() {
+        // node 0 is a hub joined to every odd node, node 1 to a few nodes spread across the range
+        int numOfNodes = 2001;
+        List<List<Integer>> adjList = new ArrayList<>();
+        for (int u = 0; u < numOfNodes; u++) {
+            adjList.add(new ArrayList<>());
+        }
+        for (int u = 3; u < numOfNodes; u += 2) {
+            adjList.get(0).add(u);
+            adjList.get(u).add(0);
+        }
+        for (int u : List.of(2, 3, 4, 999, 1000, 1500, 1999, 2000)) {
+            adjList.get(1).add(u);
+            adjList.get(u).add(1);
+        }
+        CsrGraph graph = CsrGraph.fromAdjacencyList(adjList);
+
+        int[] out = new int[8];
+        int numOfCommon = findCommonNeighbours(graph, 0, 1, out);
+        assertEquals(List.of(3, 999, 1999), Arrays.stream(out, 0, numOfCommon).boxed().toList());
+        assertEquals(numOfCommon, findCommonNeighbours(graph, 1, 0, out));
+    }
+
+    private List<Integer> pathOf(BfsWorkspace workspace) {
+        List<Integer> path = new ArrayList<>();
+        for (int i = 0; i < workspace.getPathLength(); i++) {
+            path.add(workspace.getPathNode(i));
+        }
+        return path;
+    }
+
     /**
      * Test utility function which creates a fully connected graph.
      * @param numOfNodes number of nodes in the graph.
@@ -131,4 +373,16 @@ public class GraphUtilTest {
 
         return adjList;
     }
+
+    private static BitSet bitSetOf(int... nodes) {
+        BitSet bitSet = new BitSet();
+        for (int node : nodes) {
+            bitSet.set(node);
+        }
+        return bitSet;
+    }
+
+    private static boolean isAllowed(int node, BitSet eligible, int start, int end) {
+        return eligible.get(node) || node == start || node == end;
+    }
 }
@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.GraphGenerator;
+
+public class LandmarkOracleTest {
+
+    @Test
+    public void build_nullGraph_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> LandmarkOracle.build(null, 1));
+    }
+
+    @Test
+    public void build_fewerNodesWithEdgesThanLandmarks_usesEveryNodeWithEdges() {
+        // 0 - 1, and 2 has no edges
+        CsrGraph graph = CsrGraph.fromAdjacencyList(List.of(List.of(1), List.of(0), List.of()));
+        LandmarkOracle oracle = LandmarkOracle.build(graph, 5);
+        assertEquals(2, oracle.getNumOfLandmarks());
+        assertEquals(1, oracle.getUpperBound(0, 1));
+        assertEquals(LandmarkOracle.UNREACHABLE, oracle.getUpperBound(0, 2));
+        assertEquals(LandmarkOracle.NO_LANDMARK, oracle.findNearestLandmark(2, 2));
+    }
+
+    @Test
+    public void build_outdated_throwsCancellationException() {
+        CsrGraph graph = CsrGraph.fromAdjacencyList(GraphGenerator.createScaleFreeGraph(400, 2, 7));
+        assertThrows(CancellationException.class, () -> LandmarkOracle.build(graph, 4, () -> true));
+
+        // a graph that changes after the first search has started still gives no oracle
+        AtomicInteger numOfChecks = new AtomicInteger();
+        assertThrows(CancellationException.class, () ->
+                LandmarkOracle.build(graph, 4, () -> numOfChecks.incrementAndGet() > 1));
+    }
+
+    @Test
+    public void getUpperBound_scaleFreeGraph_boundsTrueDistances() {
+        List<List<Integer>> adjList = GraphGenerator.createScaleFreeGraph(400, 2, 7);
+        CsrGraph graph = CsrGraph.fromAdjacencyList(adjList);
+        LandmarkOracle oracle = LandmarkOracle.build(graph, 4);
+        BfsWorkspace workspace = new BfsWorkspace();
+
+        for (int u = 0; u < adjList.size(); u += 13) {
+            for (int v = adjList.size() - 1; v >= 0; v -= 17) {
+                int distance = GraphUtil.findShortestPath(graph, u, v, workspace) - 1;
+                assertTrue(distance <= oracle.getUpperBound(u, v));
+            }
+        }
+    }
+
+    @Test
+    public void addEdge_shortcut_tightensBounds() {
+        // a path 0 - 1 - ... - 9, whose middle node 1 is the first landmark by degree
+        List<List<Integer>> adjList = new ArrayList<>();
+        for (int u = 0; u < 10; u++) {
+            adjList.add(new ArrayList<>());
+        }
+        for (int u = 0; u + 1 < 10; u++) {
+            adjList.get(u).add(u + 1);
+            adjList.get(u + 1).add(u);
+        }
+        LandmarkOracle oracle = LandmarkOracle.build(CsrGraph.fromAdjacencyList(adjList), 1);
+        assertEquals(9, oracle.getUpperBound(0, 9));
+
+        // join 1 to 9, then add a new node 10 joined to 9
+        adjList.get(1).add(9);
+        adjList.get(9).add(1);
+        oracle.addEdge(1, 9, adjList);
+        adjList.add(new ArrayList<>(List.of(9)));
+        adjList.get(9).add(10);
+        oracle.addEdge(9, 10, adjList);
+
+        assertEquals(3, oracle.getUpperBound(0, 10));
+        assertTrue(oracle.getUpperBound(8, 9) <= 3);
+
+        // the parents lead along the shortcut
+        assertEquals(9, oracle.getParent(0, 10));
+        assertEquals(1, oracle.getParent(0, 9));
+        assertEquals(1, oracle.getParent(0, 1));
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.GraphGenerator;
+
+public class LinkPredictorTest {
+    private static final double DELTA = 1e-9;
+    private static final IntUnaryOperator BY_NODE = node -> node;
+
+    /** 0 is related to the hub 1 and to 2; the hub is also related to 3, 4, 5 and 6, and 2 to 7. */
+    private static final CsrGraph HUB_GRAPH = CsrGraph.fromAdjacencyList(List.of(
+            List.of(1, 2), List.of(0, 3, 4, 5, 6), List.of(0, 7),
+            List.of(1), List.of(1), List.of(1), List.of(1), List.of(2)));
+
+    private final LinkPredictor predictor = new LinkPredictor();
+    private final int[] nodes = new int[10];
+    private final double[] scores = new double[10];
+
+    @Test
+    public void predict_commonNeighbours_tiesByKey() {
+        int count = predictor.predict(HUB_GRAPH, 0, LinkPredictor.Measure.COMMON_NEIGHBOURS, 3, BY_NODE, nodes,
+                scores);
+        assertEquals(3, count);
+        assertArrayEquals(new int[] {3, 4, 5}, Arrays.copyOf(nodes, count));
+        assertEquals(1, scores[0], DELTA);
+
+        // reversed keys pick the other end of the tie
+        count = predictor.predict(HUB_GRAPH, 0, LinkPredictor.Measure.COMMON_NEIGHBOURS, 2, node -> -node, nodes,
+                scores);
+        assertArrayEquals(new int[] {7, 6}, Arrays.copyOf(nodes, count));
+    }
+
+    @Test
+    public void predict_limitBeyondGraph_outputsSizedToGraph() {
+        int[] graphNodes = new int[HUB_GRAPH.getNumOfNodes()];
+        double[] graphScores = new double[HUB_GRAPH.getNumOfNodes()];
+        int count = predictor.predict(HUB_GRAPH, 0, LinkPredictor.Measure.COMMON_NEIGHBOURS, Integer.MAX_VALUE,
+                BY_NODE, graphNodes, graphScores);
+        assertArrayEquals(new int[] {3, 4, 5, 6, 7}, Arrays.copyOf(graphNodes, count));
+    }
+
+    @Test
+    public void predict_adamicAdar_discountsHubs() {
+        int count = predictor.predict(HUB_GRAPH, 0, LinkPredictor.Measure.ADAMIC_ADAR, 10, BY_NODE, nodes, scores);
+        assertEquals(5, count);
+        assertEquals(7, nodes[0]);
+        assertEquals(1 / Math.log(2), scores[0], DELTA);
+        assertEquals(1 / Math.log(5), scores[1], DELTA);
+    }
+
+    @Test
+    public void predict_jaccard_sharedOverUnion() {
+        // 0 - 1, 0 - 2, 1 - 3, 2 - 3, 1 - 4: 3 shares both of its neighbours with 0, and 4 one of two
+        CsrGraph graph = CsrGraph.fromAdjacencyList(List.of(
+                List.of(1, 2), List.of(0, 3, 4), List.of(0, 3), List.of(1, 2), List.of(1)));
+        int count = predictor.predict(graph, 0, LinkPredictor.Measure.JACCARD, 10, BY_NODE, nodes, scores);
+        assertEquals(2, count);
+        assertArrayEquals(new int[] {3, 4}, Arrays.copyOf(nodes, count));
+        assertEquals(1, scores[0], DELTA);
+        assertEquals(0.5, scores[1], DELTA);
+    }
+
+    @Test
+    public void predict_noNeighbours_noCandidates() {
+        CsrGraph graph = CsrGraph.fromAdjacencyList(List.of(List.of(1), List.of(0), List.of()));
+        assertEquals(0, predictor.predict(graph, 2, LinkPredictor.Measure.COMMON_NEIGHBOURS, 10, BY_NODE, nodes,
+                scores));
+        assertEquals(0, predictor.predict(graph, 0, LinkPredictor.Measure.COMMON_NEIGHBOURS, 10, BY_NODE, nodes,
+                scores));
+    }
+
+    @Test
+    public void predict_scaleFreeGraph_matchesSortingEveryCandidate() {
+        List<List<Integer>> adjList = GraphGenerator.createScaleFreeGraph(500, 3, 11);
+        CsrGraph graph = CsrGraph.fromAdjacencyList(adjList);
+        for (int source = 0; source < adjList.size(); source += 37) {
+            int count = predictor.predict(graph, source, LinkPredictor.Measure.COMMON_NEIGHBOURS, 10, BY_NODE,
+                    nodes, scores);
+            List<Integer> expected = rankByCommonNeighbours(adjList, source);
+            assertEquals(expected.subList(0, Math.min(10, expected.size())),
+                    Arrays.stream(nodes, 0, count).boxed().toList());
+        }
+    }
+
+    private static List<Integer> rankByCommonNeighbours(List<List<Integer>> adjList, int source) {
+        int[] shared = new int[adjList.size()];
+        List<Integer> candidates = new ArrayList<>();
+        for (int u = 0; u < adjList.size(); u++) {
+            if (u == source || adjList.get(source).contains(u)) {
+                continue;
+            }
+            for (int w : adjList.get(u)) {
+                if (adjList.get(source).contains(w)) {
+                    shared[u]++;
+                }
+            }
+            if (shared[u] > 0) {
+                candidates.add(u);
+            }
+        }
+        candidates.sort(Comparator.<Integer>comparingInt(u -> -shared[u]).thenComparing(u -> u));
+        return candidates;
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.id.Id;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares filtering a {@link FilteredList} of persons with an expensive predicate sequentially, as
+ * {@code FilteredList#setPredicate} does, with evaluating the predicate in advance by {@link ParallelFilter} and
+ * filtering by the results. Not part of the test suite; run it with
+ * {@code gradlew benchmark -PbenchmarkClass=ParallelFilterBenchmark}.
+ * <p>
+ * Arguments, all optional: the number of persons in each list, comma separated (default 10000,100000,1000000), and
+ * the number of filter updates timed per list (default 10).
+ * </p>
+ */
+public class ParallelFilterBenchmark {
+    private static final long SEED = 2103;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final String[] STREETS = {"Clementi Ave", "Jurong West St", "Tampines Ave", "Serangoon Rd"};
+    /** A deliberately costly predicate: a regular expression over the address and the email. */
+    private static final Pattern PATTERN = Pattern.compile(".*(Ave|St) [1-4]\\d*, #\\d+-1\\d\\d.*");
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        String sizes = args.length > 0 ? args[0] : "10000,100000,1000000";
+        int numOfUpdates = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        System.out.printf("%10s %10s %16s %16s %8s%n", "persons", "matches", "sequential ms", "parallel ms",
+                "speedup");
+        for (String size : sizes.split(",")) {
+            runOnList(Integer.parseInt(size.trim()), numOfUpdates);
+        }
+    }
+
+    private static void runOnList(int numOfPersons, int numOfUpdates) {
+        Random random = new Random(SEED);
+        List<Person> persons = new ArrayList<>(numOfPersons);
+        for (int i = 0; i < numOfPersons; i++) {
+            persons.add(new PersonBuilder().withId(new Id(i + 1))
+                    .withName("Person " + i)
+                    .withEmail("person" + i + "@example.com")
+                    .withAddress(random.nextInt(1000) + ", " + STREETS[random.nextInt(STREETS.length)] + " "
+                            + random.nextInt(50) + ", #" + random.nextInt(20) + "-" + random.nextInt(300))
+                    .build());
+        }
+        ObservableList<Person> source = FXCollections.observableArrayList(persons);
+        FilteredList<Person> filtered = new FilteredList<>(source);
+        Predicate<Person> predicate = person -> PATTERN.matcher(person.getAddress().value).matches()
+                && !PATTERN.matcher(person.getEmail().value).matches();
+
+        int sequentialMatches = 0;
+        int parallelMatches = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sequentialMatches = filter(filtered, predicate, false);
+            parallelMatches = filter(filtered, predicate, true);
+        }
+        if (sequentialMatches != parallelMatches) {
+            throw new AssertionError("The filters disagree on the number of matches");
+        }
+
+        long sequentialNanos = timeUpdates(filtered, predicate, false, numOfUpdates);
+        long parallelNanos = timeUpdates(filtered, predicate, true, numOfUpdates);
+        System.out.printf("%10d %10d %16.2f %16.2f %7.1fx%n", numOfPersons, sequentialMatches,
+                sequentialNanos / 1e6 / numOfUpdates, parallelNanos / 1e6 / numOfUpdates,
+                (double) sequentialNanos / parallelNanos);
+    }
+
+    private static long timeUpdates(FilteredList<Person> filtered, Predicate<Person> predicate, boolean isParallel,
+            int numOfUpdates) {
+        long startTime = System.nanoTime();
+        for (int i = 0; i < numOfUpdates; i++) {
+            filter(filtered, predicate, isParallel);
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * Filters {@code filtered} by {@code predicate} and returns the number of matches. Each update starts from the
+     * unfiltered list, so both ways test every person.
+     */
+    private static int filter(FilteredList<Person> filtered, Predicate<Person> predicate, boolean isParallel) {
+        filtered.setPredicate(null);
+        if (!isParallel) {
+            filtered.setPredicate(predicate);
+            return filtered.size();
+        }
+        List<? extends Person> source = filtered.getSource();
+        BitSet matches = ParallelFilter.findMatches(source, predicate, 0);
+        BitSet matchedIds = new BitSet();
+        matches.stream().forEach(i -> matchedIds.set(source.get(i).getId().value));
+        filtered.setPredicate(person -> matchedIds.get(person.getId().value));
+        return filtered.size();
+    }
+}
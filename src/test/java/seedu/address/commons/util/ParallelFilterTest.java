@@ -0,0 +1,60 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelFilterTest {
+
+    @Test
+    public void findMatches_belowThreshold_testedOnCallingThread() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        BitSet matches = ParallelFilter.findMatches(List.of(1, 2, 3, 4), value -> {
+            threads.add(Thread.currentThread());
+            return value % 2 == 0;
+        }, 10);
+        assertEquals(BitSet.valueOf(new long[] {0b1010}), matches);
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void findMatches_aboveThreshold_sameAsSequential() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 100_003; i++) {
+            values.add(i);
+        }
+        BitSet expected = new BitSet();
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i) % 7 == 3 || values.get(i) % 64 == 63) {
+                expected.set(i);
+            }
+        }
+        assertEquals(expected, ParallelFilter.findMatches(values, value -> value % 7 == 3 || value % 64 == 63, 1));
+    }
+
+    @Test
+    public void findMatches_emptyList_noMatches() {
+        assertEquals(new BitSet(), ParallelFilter.findMatches(List.<Integer>of(), value -> true, 0));
+    }
+
+    @Test
+    public void findMatches_predicateThrows_exceptionPropagated() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            values.add(i);
+        }
+        assertThrows(IllegalStateException.class, () -> ParallelFilter.findMatches(values, value -> {
+            if (value == 9_999) {
+                throw new IllegalStateException();
+            }
+            return true;
+        }, 1));
+    }
+}
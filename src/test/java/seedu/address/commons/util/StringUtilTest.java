@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -205,6 +206,16 @@ public class StringUtilTest {
      * Equivalence Partitions: null, valid throwable object
      */
 
+    @Test
+    public void getEditDistance() {
+        assertEquals(0, StringUtil.getEditDistance("john", "john"));
+        assertEquals(2, StringUtil.getEditDistance("jonh", "john")); // a transposition is two edits
+        assertEquals(1, StringUtil.getEditDistance("jon", "john"));
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+        assertEquals(4, StringUtil.getEditDistance("", "john"));
+        assertEquals(1, StringUtil.getEditDistance("John", "john")); // case sensitive
+    }
+
     @Test
     public void getDetails_exceptionGiven() {
         assertTrue(StringUtil.getDetails(new FileNotFoundException("file not found"))
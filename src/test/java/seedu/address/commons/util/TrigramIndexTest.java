@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    public void findCandidates_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findCandidates(null));
+    }
+
+    @Test
+    public void findCandidates_shortSubstring_cannotNarrow() {
+        index.add(1, "Alice");
+        assertEquals(Optional.empty(), index.findCandidates("al"));
+        assertEquals(Optional.empty(), index.findCandidates("  al "));
+    }
+
+    @Test
+    public void findCandidates_ignoresCase_returnsDocsInOrder() {
+        index.add(3, "Daniel Meier");
+        index.add(1, "Alice Pauline");
+        index.add(2, "Benson Meier");
+        assertArrayEquals(new int[] {2, 3}, index.findCandidates("MEIER").get());
+        assertArrayEquals(new int[] {1}, index.findCandidates(" ali ").get());
+        assertArrayEquals(new int[0], index.findCandidates("xyz").get());
+    }
+
+    @Test
+    public void findCandidates_gramsApart_stillCandidate() {
+        // holds "abc" and "bcd" but not "abcd", which the caller's verification rules out
+        index.add(1, "abc bcd");
+        assertArrayEquals(new int[] {1}, index.findCandidates("abcd").get());
+    }
+
+    @Test
+    public void estimateCandidates_shortestPostingList() {
+        index.add(1, "Benson Meier");
+        index.add(2, "Daniel Meier");
+        index.add(3, "Elle Meyer");
+        assertEquals(Optional.of(2), index.estimateCandidates("meier"));
+        assertEquals(Optional.of(1), index.estimateCandidates(" MEY "));
+        assertEquals(Optional.of(0), index.estimateCandidates("meq"));
+        assertEquals(Optional.empty(), index.estimateCandidates("me"));
+    }
+
+    @Test
+    public void remove_removedDoc_noLongerCandidate() {
+        index.add(1, "Alice");
+        index.add(2, "Malice");
+        index.remove(1, "Alice");
+        assertArrayEquals(new int[] {2}, index.findCandidates("lic").get());
+        index.remove(2, "Malice");
+        assertArrayEquals(new int[0], index.findCandidates("lic").get());
+    }
+
+    @Test
+    public void add_manyDocsOutOfOrder_intersectsCorrectly() {
+        for (int doc = 999; doc >= 0; doc--) {
+            index.add(doc, doc % 3 == 0 ? "foobar" : "foo");
+        }
+        index.clear();
+        for (int doc = 999; doc >= 0; doc--) {
+            index.add(doc, doc % 3 == 0 ? "foobar" : "foo");
+        }
+        int[] candidates = index.findCandidates("obar").get();
+        assertEquals(334, candidates.length);
+        for (int i = 0; i < candidates.length; i++) {
+            assertEquals(3 * i, candidates[i]);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.analysis.AnalysisStatus;
+import seedu.address.model.analysis.CentralityAnalysis;
+import seedu.address.model.id.Id;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for AnalyzeCommand.
+ */
+public class AnalyzeCommandTest {
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_typicalNetwork_analysesInBackground() throws Exception {
+        CommandResult result = new AnalyzeCommand(CentralityAnalysis.AUTOMATIC_SAMPLES, 3).execute(model);
+        assertEquals(AnalyzeCommand.MESSAGE_STARTED, result.getFeedbackToUser());
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (isRunning(model.getAnalysisStatus().get()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        AnalysisStatus status = model.getAnalysisStatus().get();
+        assertEquals(AnalysisStatus.State.DONE, status.getState());
+        assertEquals(new Id(1), status.getTopByDegree().get(0).getPerson().getId());
+        assertEquals(3, status.getTopByDegree().size());
+    }
+
+    @Test
+    public void execute_noRelationships_throwsCommandException() {
+        Model emptyModel = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandFailure(new AnalyzeCommand(CentralityAnalysis.AUTOMATIC_SAMPLES, 3), emptyModel,
+                AnalyzeCommand.MESSAGE_NO_RELATIONSHIPS);
+    }
+
+    @Test
+    public void execute_cancelWithoutAnalysis_throwsCommandException() {
+        assertCommandFailure(AnalyzeCommand.cancelRunning(), model, AnalyzeCommand.MESSAGE_NOT_RUNNING);
+    }
+
+    @Test
+    public void equals() {
+        AnalyzeCommand analyzeCommand = new AnalyzeCommand(100, 5);
+
+        // same object -> returns true
+        assertTrue(analyzeCommand.equals(analyzeCommand));
+
+        // same values -> returns true
+        assertTrue(analyzeCommand.equals(new AnalyzeCommand(100, 5)));
+        assertTrue(AnalyzeCommand.cancelRunning().equals(AnalyzeCommand.cancelRunning()));
+
+        // different types -> returns false
+        assertFalse(analyzeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(analyzeCommand.equals(null));
+
+        // different values -> returns false
+        assertFalse(analyzeCommand.equals(new AnalyzeCommand(100, 6)));
+        assertFalse(analyzeCommand.equals(new AnalyzeCommand(200, 5)));
+        assertFalse(analyzeCommand.equals(AnalyzeCommand.cancelRunning()));
+    }
+
+    private static boolean isRunning(AnalysisStatus status) {
+        return status == null || status.isRunning();
+    }
+}
@@ -19,6 +19,11 @@ public class CommandResultTest {
         CommandResult personListResult = new CommandResult("Listed all persons");
         assertFalse(personListResult.isShowTagList());
 
+        // CommandResult is search notes -> returns false
+        CommandResult searchResult = new CommandResult(String.format(SearchCommand.MESSAGE_SUCCESS_NOTES, "chess", 2));
+        assertFalse(searchResult.isShowTagList());
+        assertTrue(searchResult.isShowPersonList());
+
         // CommandResult is different -> returns false
         CommandResult otherResult = new CommandResult("feedback");
         assertFalse(otherResult.isShowTagList());
@@ -30,6 +35,19 @@ public class CommandResultTest {
         assertTrue(listQueryResult.isShowRelationshipQueryList());
         assertFalse(listQueryResult.isShowRelationshipQueryLink());
 
+        CommandResult mutualQueryResult = new CommandResult("Listed mutual connections of person IDs 1 and 2");
+        assertTrue(mutualQueryResult.isShowRelationshipQueryList());
+        assertFalse(mutualQueryResult.isShowRelationshipQueryLink());
+
+        CommandResult suggestResult = new CommandResult("Listed suggested connections for person ID 1 by common");
+        assertTrue(suggestResult.isShowRelationshipQueryList());
+        assertFalse(suggestResult.isShowRelationshipQueryLink());
+
+        CommandResult searchResult = new CommandResult(
+                String.format(SearchCommand.MESSAGE_SUCCESS_DESCRIPTIONS, "friends", 2));
+        assertTrue(searchResult.isShowRelationshipQueryList());
+        assertFalse(searchResult.isShowRelationshipQueryLink());
+
         CommandResult linkQueryResult = new CommandResult("Listed link between person IDs");
         assertTrue(linkQueryResult.isShowRelationshipQueryLink());
         assertFalse(linkQueryResult.isShowRelationshipQueryList());
@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.PersonFieldExtractor.GET_ADDRESS;
 import static seedu.address.logic.parser.PersonFieldExtractor.GET_EMAIL;
 import static seedu.address.logic.parser.PersonFieldExtractor.GET_NAME;
 import static seedu.address.logic.parser.PersonFieldExtractor.GET_PHONE;
+import static seedu.address.logic.parser.PersonFieldExtractor.GET_TAGS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -53,6 +54,22 @@ public class FindCommandTest {
         assertEquals(List.of(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_mostRelevant_listedByRelevance() {
+        // Name: "mei" OR "el", most relevant 2
+        // DANIEL (Daniel Meier) matches both; BENSON (Benson Meier) and ELLE (Elle Meyer) one each, at a word start
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        CompositePersonPredicate pred = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("mei", "el"))
+        ));
+
+        FindCommand cmd = new FindCommand(pred, false, 2);
+        expectedModel.findTopPersons(pred, 2);
+
+        assertCommandSuccess(cmd, model, expectedMessage, expectedModel);
+        assertEquals(List.of(DANIEL, BENSON), model.getFilteredPersonList());
+    }
+
     // execute(): multiple fields - AND relationships across fields (name)
     // Composite example: (name1 OR name2) AND phone AND (address1 OR address2 OR address3)
     @Test
@@ -122,6 +139,25 @@ public class FindCommandTest {
         assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_explain_listsStepsMostSelectiveFirst() {
+        // Name: "Meier" matches BENSON and DANIEL, tag 1 matches ALICE and DANIEL
+        CompositePersonPredicate pred = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("Meier")),
+                new FieldContainsKeywordsPredicate(GET_TAGS, List.of("1"), true),
+                new FieldContainsKeywordsPredicate(GET_PHONE, List.of("8"))
+        ));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1) + "\n"
+                + "1. look up nameKeywords=[Meier] in index (estimate 2): 2 candidates\n"
+                + "2. look up tagsIds=[1] in index (estimate 2): 1 candidates\n"
+                + "3. test phoneKeywords=[8] (estimate 7): 1 left\n"
+                + "4. verify nameKeywords=[Meier]: 1 left";
+
+        expectedModel.findPersons(pred);
+        assertCommandSuccess(new FindCommand(pred, true), model, expectedMessage, expectedModel);
+        assertEquals(List.of(DANIEL), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_nullModel_throwsNullPointerException() {
         CompositePersonPredicate pred = new CompositePersonPredicate(List.of(
@@ -157,6 +193,10 @@ public class FindCommandTest {
         )));
 
         assertNotEquals(a, b); // different predicate -> false
+        assertNotEquals(a, new FindCommand(new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("Alice")))), true)); // explained -> false
+        assertNotEquals(a, new FindCommand(new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("Alice")))), false, 3)); // top 3 -> false
         assertNotEquals(a.hashCode(), b.hashCode()); // different hashCode -> false
         assertNotEquals(a, null); // null -> false
         assertNotEquals(a, new Object()); // empty object -> false
@@ -169,7 +209,8 @@ public class FindCommandTest {
         ));
         FindCommand cmd = new FindCommand(pred);
 
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + pred + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + pred + ", isExplained=false, "
+                + "numOfResults=" + FindCommand.ALL_RESULTS + "}";
         assertEquals(expected, cmd.toString());
     }
 }
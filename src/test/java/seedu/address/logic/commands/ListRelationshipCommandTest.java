@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.id.Id;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ListRelationshipCommand.
+ */
+public class ListRelationshipCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_connectedPersons_showsLink() {
+        Id id1 = new Id(2);
+        Id id2 = new Id(4);
+        assertCommandSuccess(new ListRelationshipCommand(id1, id2), model,
+                String.format(ListRelationshipCommand.MESSAGE_SUCCESS_TWO, id1, id2), expectedModel);
+        assertEquals(3, model.getRelationshipQuery().size());
+    }
+
+    @Test
+    public void execute_unconnectedPersons_reportsNotConnected() {
+        Id id1 = new Id(1);
+        Id id2 = new Id(5);
+        model.queryLink(new Id(1), new Id(4));
+        assertCommandSuccess(new ListRelationshipCommand(id1, id2), model,
+                String.format(ListRelationshipCommand.MESSAGE_NOT_CONNECTED, id1, id2), expectedModel);
+        assertTrue(model.getRelationshipQuery().isEmpty());
+    }
+
+    @Test
+    public void execute_depth_listsNeighbourhood() {
+        Id id = new Id(2);
+        assertCommandSuccess(new ListRelationshipCommand(id, 2), model,
+                String.format(ListRelationshipCommand.MESSAGE_SUCCESS_DEPTH, id, 2), expectedModel);
+        // persons 1 and 3 are one relationship away, and person 4 two
+        assertEquals(3, model.getRelationshipQuery().size());
+        assertEquals(new Id(4), model.getRelationshipQuery().get(2).getKey().getId());
+    }
+
+    @Test
+    public void execute_mutual_listsCommonConnections() {
+        Id id1 = new Id(2);
+        Id id2 = new Id(4);
+        assertCommandSuccess(new ListRelationshipCommand(id1, id2, true), model,
+                String.format(ListRelationshipCommand.MESSAGE_SUCCESS_MUTUAL, id1, id2), expectedModel);
+        // persons 1 and 3 are related to both
+        assertEquals(2, model.getRelationshipQuery().size());
+        assertEquals(new Id(1), model.getRelationshipQuery().get(0).getKey().getId());
+        assertEquals(new Id(3), model.getRelationshipQuery().get(1).getKey().getId());
+    }
+
+    @Test
+    public void execute_tags_showsLinkThroughTaggedPersons() {
+        Id id1 = new Id(2);
+        Id id2 = new Id(4);
+        // of persons 1 and 3, who link persons 2 and 4, only person 1 carries tag 2
+        assertCommandSuccess(new ListRelationshipCommand(id1, id2, Set.of(new Id(2))), model,
+                String.format(ListRelationshipCommand.MESSAGE_SUCCESS_VIA, id1, id2, "2"), expectedModel);
+        assertEquals(3, model.getRelationshipQuery().size());
+        assertEquals(new Id(1), model.getRelationshipQuery().get(1).getKey().getId());
+
+        assertCommandSuccess(new ListRelationshipCommand(id1, id2, Set.of(new Id(3), new Id(4))), model,
+                String.format(ListRelationshipCommand.MESSAGE_NOT_CONNECTED_VIA, id1, id2, "3, 4"), expectedModel);
+        assertTrue(model.getRelationshipQuery().isEmpty());
+    }
+
+    @Test
+    public void execute_nonExistentTag_throwsCommandException() {
+        assertCommandFailure(new ListRelationshipCommand(new Id(2), new Id(4), Set.of(new Id(99))), model,
+                ListRelationshipCommand.MESSAGE_TAG_NOT_FOUND);
+    }
+
+    @Test
+    public void execute_nonExistentPerson_throwsCommandException() {
+        assertCommandFailure(new ListRelationshipCommand(new Id(1), new Id(99)), model,
+                ListRelationshipCommand.MESSAGE_INVALID_PERSON_ID);
+        assertCommandFailure(new ListRelationshipCommand(new Id(99)), model,
+                ListRelationshipCommand.MESSAGE_INVALID_PERSON_ID);
+        assertCommandFailure(new ListRelationshipCommand(new Id(99), 2), model,
+                ListRelationshipCommand.MESSAGE_INVALID_PERSON_ID);
+    }
+}
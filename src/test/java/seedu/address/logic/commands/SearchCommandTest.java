@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalRelationships.ONE_TWO;
+import static seedu.address.testutil.TypicalRelationships.TWO_THREE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SearchCommand.
+ */
+public class SearchCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_notes_listsPersonsBestFirst() {
+        expectedModel.searchNotes("alice ben", 5);
+        assertCommandSuccess(new SearchCommand(SearchCommand.Field.NOTE, "alice ben", 5), model,
+                String.format(SearchCommand.MESSAGE_SUCCESS_NOTES, "alice ben", 2), expectedModel);
+        assertEquals(List.of(BENSON, ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_descriptions_listsRelationshipsBestFirst() {
+        assertCommandSuccess(new SearchCommand(SearchCommand.Field.DESCRIPTION, "friends", 5), model,
+                String.format(SearchCommand.MESSAGE_SUCCESS_DESCRIPTIONS, "friends", 2), expectedModel);
+        assertEquals(List.of(ONE_TWO, TWO_THREE),
+                model.getRelationshipQuery().stream().map(entry -> entry.getValue()).toList());
+    }
+
+    @Test
+    public void equals() {
+        SearchCommand searchCommand = new SearchCommand(SearchCommand.Field.NOTE, "chess", 5);
+
+        // same object -> returns true
+        assertTrue(searchCommand.equals(searchCommand));
+
+        // same values -> returns true
+        assertTrue(searchCommand.equals(new SearchCommand(SearchCommand.Field.NOTE, "chess", 5)));
+
+        // different types -> returns false
+        assertFalse(searchCommand.equals(1));
+
+        // different field, query or number of results -> returns false
+        assertFalse(searchCommand.equals(new SearchCommand(SearchCommand.Field.DESCRIPTION, "chess", 5)));
+        assertFalse(searchCommand.equals(new SearchCommand(SearchCommand.Field.NOTE, "go", 5)));
+        assertFalse(searchCommand.equals(new SearchCommand(SearchCommand.Field.NOTE, "chess", 6)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("search (field=NOTE, query=chess, results=5)",
+                new SearchCommand(SearchCommand.Field.NOTE, "chess", 5).toString());
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.LinkPredictor;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.id.Id;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SuggestCommand.
+ */
+public class SuggestCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_personWithUnrelatedMutualConnections_listsSuggestions() {
+        Id id = new Id(2);
+        assertCommandSuccess(new SuggestCommand(id, LinkPredictor.Measure.COMMON_NEIGHBOURS, 5), model,
+                String.format(SuggestCommand.MESSAGE_SUCCESS, id, LinkPredictor.Measure.COMMON_NEIGHBOURS),
+                expectedModel);
+        // person 4 is not related to person 2, but both are related to persons 1 and 3
+        assertEquals(1, model.getRelationshipQuery().size());
+        assertEquals(new Id(4), model.getRelationshipQuery().get(0).getKey().getId());
+    }
+
+    @Test
+    public void execute_nonExistentPerson_throwsCommandException() {
+        assertCommandFailure(new SuggestCommand(new Id(99), SuggestCommand.DEFAULT_MEASURE, 5), model,
+                String.format(SuggestCommand.MESSAGE_INVALID_PERSON_ID, 99));
+    }
+
+    @Test
+    public void equals() {
+        SuggestCommand suggestCommand = new SuggestCommand(new Id(1), LinkPredictor.Measure.JACCARD, 5);
+
+        // same object -> returns true
+        assertTrue(suggestCommand.equals(suggestCommand));
+
+        // same values -> returns true
+        assertTrue(suggestCommand.equals(new SuggestCommand(new Id(1), LinkPredictor.Measure.JACCARD, 5)));
+
+        // different types -> returns false
+        assertFalse(suggestCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(suggestCommand.equals(null));
+
+        // different values -> returns false
+        assertFalse(suggestCommand.equals(new SuggestCommand(new Id(2), LinkPredictor.Measure.JACCARD, 5)));
+        assertFalse(suggestCommand.equals(new SuggestCommand(new Id(1), LinkPredictor.Measure.ADAMIC_ADAR, 5)));
+        assertFalse(suggestCommand.equals(new SuggestCommand(new Id(1), LinkPredictor.Measure.JACCARD, 6)));
+    }
+}
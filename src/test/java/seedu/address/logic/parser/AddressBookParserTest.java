@@ -10,7 +10,9 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.LinkPredictor;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AnalyzeCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -20,7 +22,10 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListTagCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SuggestCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.analysis.CentralityAnalysis;
 import seedu.address.model.id.Id;
 import seedu.address.model.person.CompositePersonPredicate;
 import seedu.address.model.person.FieldContainsKeywordsPredicate;
@@ -64,6 +69,26 @@ public class AddressBookParserTest {
         assertEquals(new EditCommand(new Id(targetId), descriptor), command);
     }
 
+    @Test
+    public void parseCommand_analyze() throws Exception {
+        assertEquals(new AnalyzeCommand(CentralityAnalysis.AUTOMATIC_SAMPLES, 5),
+                parser.parseCommand(AnalyzeCommand.COMMAND_WORD + " k/5"));
+        assertEquals(AnalyzeCommand.cancelRunning(),
+                parser.parseCommand(AnalyzeCommand.COMMAND_WORD + " " + AnalyzeCommand.CANCEL_WORD));
+    }
+
+    @Test
+    public void parseCommand_suggest() throws Exception {
+        assertEquals(new SuggestCommand(new Id(1), LinkPredictor.Measure.JACCARD, 5),
+                parser.parseCommand(SuggestCommand.COMMAND_WORD + " p1/1 by/jaccard k/5"));
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        assertEquals(new SearchCommand(SearchCommand.Field.NOTE, "chess", SearchCommand.DEFAULT_NUM_OF_RESULTS),
+                parser.parseCommand(SearchCommand.COMMAND_WORD + " r/chess"));
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AnalyzeCommand;
+import seedu.address.model.analysis.CentralityAnalysis;
+
+public class AnalyzeCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AnalyzeCommand.MESSAGE_USAGE);
+
+    private AnalyzeCommandParser parser = new AnalyzeCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsDefaultAnalysis() {
+        assertParseSuccess(parser, "", new AnalyzeCommand(CentralityAnalysis.AUTOMATIC_SAMPLES,
+                AnalyzeCommand.DEFAULT_NUM_OF_RESULTS));
+    }
+
+    @Test
+    public void parse_resultsAndSamples_returnsAnalysis() {
+        assertParseSuccess(parser, " k/5 s/500", new AnalyzeCommand(500, 5));
+        assertParseSuccess(parser, " s/500", new AnalyzeCommand(500, AnalyzeCommand.DEFAULT_NUM_OF_RESULTS));
+    }
+
+    @Test
+    public void parse_cancel_returnsCancel() {
+        assertParseSuccess(parser, " cancel", AnalyzeCommand.cancelRunning());
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // unknown preamble, or cancel with options
+        assertParseFailure(parser, " everything", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " cancel k/5", MESSAGE_INVALID_FORMAT);
+
+        // invalid counts
+        assertParseFailure(parser, " k/0", ParserUtil.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " s/many", ParserUtil.MESSAGE_INVALID_COUNT);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULTS;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -8,9 +9,13 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.CompositePersonPredicate;
 import seedu.address.model.person.FieldContainsKeywordsPredicate;
+import seedu.address.model.person.FuzzyNamePredicate;
+import seedu.address.model.person.PhonePrefixPredicate;
+import seedu.address.model.person.PhoneticNamePredicate;
 
 public class FindCommandParserTest {
 
@@ -29,6 +34,28 @@ public class FindCommandParserTest {
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_explainPreamble_returnsExplainedFindCommand() {
+        CompositePersonPredicate expectedPredicates = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("Ali"))
+        ));
+        assertParseSuccess(parser, " explain n/Ali", new FindCommand(expectedPredicates, true));
+        assertParseFailure(parser, " explain",
+                "At least one field to find must be provided. "
+                        + String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_resultCount_returnsRankedFindCommand() {
+        CompositePersonPredicate expectedPredicates = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("Ali"))
+        ));
+        assertParseSuccess(parser, " n/Ali k/5", new FindCommand(expectedPredicates, false, 5));
+        assertParseSuccess(parser, " explain k/5 n/Ali", new FindCommand(expectedPredicates, true, 5));
+        assertParseFailure(parser, " n/Ali k/0", ParserUtil.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " n/Ali k/5 k/6", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_RESULTS));
+    }
+
     @Test
     public void parse_emptyArgWithPrefix_throwsParseException() {
         assertParseFailure(parser, " n/   a/ \t e/  ",
@@ -51,6 +78,36 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, inputMultipleWhitespaces, expectedCommand);
     }
 
+    @Test
+    public void parse_fuzzyName_wordsSplit() {
+        CompositePersonPredicate expectedPredicates = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("Ali")),
+                new FuzzyNamePredicate(List.of("jonh", "doe", "mary"))
+        ));
+        assertParseSuccess(parser, " n~/jonh  doe n/Ali n~/ mary ", new FindCommand(expectedPredicates));
+        assertParseFailure(parser, " n~/  ",
+                "At least one field to find must be provided. "
+                        + String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_phoneticName_wordsSplit() {
+        CompositePersonPredicate expectedPredicates = new CompositePersonPredicate(List.of(
+                new FuzzyNamePredicate(List.of("jonh")),
+                new PhoneticNamePredicate(List.of("muhammad", "yusuf"))
+        ));
+        assertParseSuccess(parser, " n%/muhammad n~/jonh n%/ yusuf", new FindCommand(expectedPredicates));
+    }
+
+    @Test
+    public void parse_phonePrefix_oneNumberPerPrefix() {
+        CompositePersonPredicate expectedPredicates = new CompositePersonPredicate(List.of(
+                new PhonePrefixPredicate(List.of("+65 9123", "8765"))
+        ));
+        assertParseSuccess(parser, " p^/+65 9123 p^/ 8765 ", new FindCommand(expectedPredicates));
+        assertParseFailure(parser, " p^/abc", FindCommandParser.MESSAGE_INVALID_PHONE_PREFIX);
+    }
+
     @Test
     public void parse_multipleFields_returnsFindCommand() {
         String input = " n/Alice p/9123 e/@example.com a/little india a/#35 t/1 t/10";
@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListRelationshipCommand;
+import seedu.address.model.id.Id;
+
+public class ListRelationshipCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListRelationshipCommand.MESSAGE_USAGE);
+
+    private ListRelationshipCommandParser parser = new ListRelationshipCommandParser();
+
+    @Test
+    public void parse_oneId_returnsImmediateQuery() {
+        assertParseSuccess(parser, " p1/1", new ListRelationshipCommand(new Id(1)));
+    }
+
+    @Test
+    public void parse_twoIds_returnsLinkQuery() {
+        assertParseSuccess(parser, " p1/1 p2/3", new ListRelationshipCommand(new Id(1), new Id(3)));
+    }
+
+    @Test
+    public void parse_oneIdWithDepth_returnsNeighbourhoodQuery() {
+        assertParseSuccess(parser, " p1/1 d/2", new ListRelationshipCommand(new Id(1), 2));
+    }
+
+    @Test
+    public void parse_twoIdsMutual_returnsMutualQuery() {
+        assertParseSuccess(parser, " p1/1 p2/3 m/", new ListRelationshipCommand(new Id(1), new Id(3), true));
+    }
+
+    @Test
+    public void parse_twoIdsWithTags_returnsConstrainedLinkQuery() {
+        assertParseSuccess(parser, " p1/1 p2/3 t/2 t/4",
+                new ListRelationshipCommand(new Id(1), new Id(3), Set.of(new Id(2), new Id(4))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no IDs
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " d/2", MESSAGE_INVALID_FORMAT);
+
+        // depth with two IDs
+        assertParseFailure(parser, " p1/1 p2/3 d/2", MESSAGE_INVALID_FORMAT);
+
+        // mutual with one ID, or with a value
+        assertParseFailure(parser, " p1/1 m/", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " p1/1 p2/3 m/yes", MESSAGE_INVALID_FORMAT);
+
+        // tags without two IDs, or with a depth or mutual
+        assertParseFailure(parser, " p1/1 t/2", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " p1/1 p2/3 m/ t/2", MESSAGE_INVALID_FORMAT);
+
+        // invalid depth
+        assertParseFailure(parser, " p1/1 d/0", ParserUtil.MESSAGE_INVALID_DEPTH);
+        assertParseFailure(parser, " p1/1 d/two", ParserUtil.MESSAGE_INVALID_DEPTH);
+    }
+}
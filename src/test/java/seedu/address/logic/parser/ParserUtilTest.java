@@ -12,6 +12,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.LinkPredictor;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.id.Id;
 import seedu.address.model.person.Address;
@@ -180,6 +181,43 @@ public class ParserUtilTest {
         assertEquals(expectedTag, ParserUtil.parseId(tagWithWhitespace));
     }
 
+    @Test
+    public void parseDepth_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseDepth("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDepth("-1"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDepth("2 hops"));
+    }
+
+    @Test
+    public void parseDepth_validInput_success() throws Exception {
+        assertEquals(3, ParserUtil.parseDepth("3"));
+        assertEquals(3, ParserUtil.parseDepth(WHITESPACE + "3" + WHITESPACE));
+    }
+
+    @Test
+    public void parseCount_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseCount("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseCount("-5"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseCount("ten"));
+    }
+
+    @Test
+    public void parseCount_validInput_success() throws Exception {
+        assertEquals(10, ParserUtil.parseCount(WHITESPACE + "10" + WHITESPACE));
+    }
+
+    @Test
+    public void parseMeasure_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseMeasure("cosine"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseMeasure(""));
+    }
+
+    @Test
+    public void parseMeasure_validInput_success() throws Exception {
+        assertEquals(LinkPredictor.Measure.ADAMIC_ADAR, ParserUtil.parseMeasure(WHITESPACE + "Adamic-Adar"));
+        assertEquals(LinkPredictor.Measure.COMMON_NEIGHBOURS, ParserUtil.parseMeasure("common"));
+    }
+
     @Test
     public void parseTags_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseIds(null));
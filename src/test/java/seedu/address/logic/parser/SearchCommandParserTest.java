@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.SearchCommand;
+
+public class SearchCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE);
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_notes_returnsNoteSearch() {
+        assertParseSuccess(parser, " r/ chess \"board games\" ", new SearchCommand(SearchCommand.Field.NOTE,
+                "chess \"board games\"", SearchCommand.DEFAULT_NUM_OF_RESULTS));
+    }
+
+    @Test
+    public void parse_descriptionsWithCount_returnsDescriptionSearch() {
+        assertParseSuccess(parser, " k/3 d/old friends",
+                new SearchCommand(SearchCommand.Field.DESCRIPTION, "old friends", 3));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // nothing to search, a preamble, both fields, or no words
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " chess", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " chess r/chess", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " r/chess d/chess", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " r/  ", MESSAGE_INVALID_FORMAT);
+
+        // invalid values
+        assertParseFailure(parser, " r/chess k/0", ParserUtil.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " r/chess r/go", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_NOTE));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.LinkPredictor;
+import seedu.address.logic.commands.SuggestCommand;
+import seedu.address.model.id.Id;
+
+public class SuggestCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestCommand.MESSAGE_USAGE);
+
+    private SuggestCommandParser parser = new SuggestCommandParser();
+
+    @Test
+    public void parse_idOnly_returnsDefaultSuggestions() {
+        assertParseSuccess(parser, " p1/1", new SuggestCommand(new Id(1), SuggestCommand.DEFAULT_MEASURE,
+                SuggestCommand.DEFAULT_NUM_OF_RESULTS));
+    }
+
+    @Test
+    public void parse_allFields_returnsSuggestions() {
+        assertParseSuccess(parser, " p1/2 by/Jaccard k/3",
+                new SuggestCommand(new Id(2), LinkPredictor.Measure.JACCARD, 3));
+        assertParseSuccess(parser, " k/3 by/adamic-adar p1/2",
+                new SuggestCommand(new Id(2), LinkPredictor.Measure.ADAMIC_ADAR, 3));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no ID, or a preamble
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " by/common", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 1 p1/1", MESSAGE_INVALID_FORMAT);
+
+        // invalid values
+        assertParseFailure(parser, " p1/x", Id.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " p1/1 by/cosine", ParserUtil.MESSAGE_INVALID_MEASURE);
+        assertParseFailure(parser, " p1/1 k/0", ParserUtil.MESSAGE_INVALID_COUNT);
+    }
+}
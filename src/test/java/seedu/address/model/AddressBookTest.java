@@ -8,7 +8,12 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_1;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalRelationships.ONE_FOUR;
 import static seedu.address.testutil.TypicalRelationships.ONE_TWO;
+import static seedu.address.testutil.TypicalRelationships.TWO_THREE;
 import static seedu.address.testutil.TypicalTags.EX_GIRLFRIEND;
 import static seedu.address.testutil.TypicalTags.FRIENDS;
 
@@ -16,13 +21,17 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.logic.parser.PersonFieldExtractor;
 import seedu.address.model.id.Id;
+import seedu.address.model.person.CompositePersonPredicate;
+import seedu.address.model.person.FieldContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.relationship.Relationship;
@@ -92,6 +101,16 @@ public class AddressBookTest {
         assertThrows(DuplicateRelationshipException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getVersion_afterPersonOrRelationshipChange_increases() {
+        long initial = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        long afterPerson = addressBook.getVersion();
+        assertTrue(afterPerson > initial);
+        addressBook.setRelationships(List.of(ONE_TWO));
+        assertTrue(addressBook.getVersion() > afterPerson);
+    }
+
     @Test
     public void hasTagId_idNotInAddressBook_returnsFalse() {
         assertFalse(addressBook.hasTagId(new Id(1)));
@@ -138,6 +157,55 @@ public class AddressBookTest {
 
     //  NOTE: PERSON
 
+    @Test
+    public void findTopPersons_keepsMostRelevant() {
+        AddressBook typical = getTypicalAddressBook();
+        // Daniel Meier matches both keywords; Benson Meier and Elle Meyer one each, at the start of a word
+        CompositePersonPredicate meiOrEl = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("mei", "el"))));
+        assertEquals(List.of(DANIEL, BENSON, ELLE), typical.findTopPersons(meiOrEl, 5));
+        assertEquals(List.of(DANIEL, BENSON), typical.findTopPersons(meiOrEl, 2));
+        assertEquals(List.of(), typical.findTopPersons(meiOrEl, 0));
+    }
+
+    @Test
+    public void findTopPersons_indexedCandidates_onlyMatchesRanked() {
+        AddressBook typical = getTypicalAddressBook();
+        // only the persons with tag 1 are visited; of them, only Daniel Meier also matches "meier"
+        CompositePersonPredicate tagAndName = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_TAGS, List.of("1"), true),
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("meier"))));
+        assertEquals(List.of(DANIEL), typical.findTopPersons(tagAndName, 3));
+    }
+
+    @Test
+    public void searchNotesAndDescriptions_followChanges() {
+        AddressBook typical = getTypicalAddressBook();
+        assertEquals(List.of(BENSON, ALICE), typical.searchNotes("alice ben", 10));
+        assertEquals(List.of(ONE_TWO, TWO_THREE), typical.searchDescriptions("friends", 10));
+
+        Relationship redescribed = new RelationshipBuilder(ONE_FOUR).withDesc("old friends").build();
+        typical.setRelationship(ONE_FOUR, redescribed);
+        assertEquals(List.of(ONE_TWO, TWO_THREE, redescribed), typical.searchDescriptions("friends", 10));
+
+        // removing a person removes their relationships
+        typical.removePerson(typical.getPersonById(new Id(2)).get());
+        assertEquals(List.of(ALICE), typical.searchNotes("alice ben", 10));
+        assertEquals(List.of(redescribed), typical.searchDescriptions("friends", 10));
+    }
+
+    @Test
+    public void addPerson_largeId_indexedAndFound() {
+        Person largeId = new PersonBuilder(ALICE).withId(new Id(2_000_000_000)).build();
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(largeId);
+        assertEquals(List.of(largeId), addressBook.searchNotes("wonderland", 10));
+        assertEquals(List.of(BENSON, largeId), addressBook.searchNotes("alice ben", 10));
+
+        addressBook.removePerson(largeId);
+        assertEquals(List.of(), addressBook.searchNotes("wonderland", 10));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -310,5 +378,15 @@ public class AddressBookTest {
         public ObservableList<Relationship> getRelationshipList() {
             return relationships;
         }
+
+        @Override
+        public Optional<Person> getPersonById(Id id) {
+            return persons.stream().filter(person -> person.getId().equals(id)).findFirst();
+        }
+
+        @Override
+        public List<Relationship> getRelationshipsOf(Id personId) {
+            return relationships.stream().filter(relationship -> relationship.hasPersonWithId(personId)).toList();
+        }
     }
 }
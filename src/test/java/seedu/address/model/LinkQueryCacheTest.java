@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.util.Pair;
+import seedu.address.model.description.Description;
+import seedu.address.model.person.Person;
+import seedu.address.model.relationship.Relationship;
+
+public class LinkQueryCacheTest {
+    private static final Relationship ALICE_BENSON =
+            new Relationship(ALICE.getId(), BENSON.getId(), new Description("ab"));
+    private static final Relationship BENSON_CARL =
+            new Relationship(BENSON.getId(), CARL.getId(), new Description("bc"));
+    private static final List<Pair<Person, Relationship>> ALICE_TO_CARL = List.of(
+            new Pair<>(ALICE, ALICE_BENSON), new Pair<>(BENSON, BENSON_CARL), new Pair<>(CARL, null));
+
+    @Test
+    public void get_null_throwsNullPointerException() {
+        LinkQueryCache cache = new LinkQueryCache(1);
+        assertThrows(NullPointerException.class, () -> cache.get(null, ALICE.getId(), 0));
+    }
+
+    @Test
+    public void get_sameVersion_hit() {
+        LinkQueryCache cache = new LinkQueryCache(1);
+        cache.put(ALICE.getId(), CARL.getId(), 3, ALICE_TO_CARL);
+        assertEquals(Optional.of(ALICE_TO_CARL), cache.get(ALICE.getId(), CARL.getId(), 3));
+        assertEquals(1, cache.getNumOfHits());
+        assertEquals(0, cache.getNumOfMisses());
+    }
+
+    @Test
+    public void get_otherEnd_returnsReversedLink() {
+        LinkQueryCache cache = new LinkQueryCache(1);
+        cache.put(ALICE.getId(), CARL.getId(), 0, ALICE_TO_CARL);
+        List<Pair<Person, Relationship>> expected = List.of(
+                new Pair<>(CARL, BENSON_CARL), new Pair<>(BENSON, ALICE_BENSON), new Pair<>(ALICE, null));
+        assertEquals(Optional.of(expected), cache.get(CARL.getId(), ALICE.getId(), 0));
+    }
+
+    @Test
+    public void get_emptyLink_hit() {
+        LinkQueryCache cache = new LinkQueryCache(1);
+        cache.put(ALICE.getId(), DANIEL.getId(), 0, List.of());
+        assertEquals(Optional.of(List.of()), cache.get(DANIEL.getId(), ALICE.getId(), 0));
+    }
+
+    @Test
+    public void get_olderVersion_miss() {
+        LinkQueryCache cache = new LinkQueryCache(1);
+        cache.put(ALICE.getId(), CARL.getId(), 0, ALICE_TO_CARL);
+        assertEquals(Optional.empty(), cache.get(ALICE.getId(), CARL.getId(), 1));
+        assertEquals(0, cache.getNumOfHits());
+        assertEquals(1, cache.getNumOfMisses());
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        LinkQueryCache cache = new LinkQueryCache(2);
+        cache.put(ALICE.getId(), BENSON.getId(), 0, List.of());
+        cache.put(ALICE.getId(), CARL.getId(), 0, ALICE_TO_CARL);
+        cache.get(ALICE.getId(), BENSON.getId(), 0);
+        cache.put(ALICE.getId(), DANIEL.getId(), 0, List.of());
+
+        assertEquals(2, cache.size());
+        assertEquals(Optional.of(List.of()), cache.get(ALICE.getId(), BENSON.getId(), 0));
+        assertEquals(Optional.empty(), cache.get(ALICE.getId(), CARL.getId(), 0));
+        assertEquals(Optional.of(List.of()), cache.get(ALICE.getId(), DANIEL.getId(), 0));
+    }
+
+    @Test
+    public void put_copiesLink() {
+        LinkQueryCache cache = new LinkQueryCache(1);
+        List<Pair<Person, Relationship>> link = new ArrayList<>(ALICE_TO_CARL);
+        cache.put(ALICE.getId(), CARL.getId(), 0, link);
+        link.clear();
+        assertEquals(Optional.of(ALICE_TO_CARL), cache.get(ALICE.getId(), CARL.getId(), 0));
+    }
+}
@@ -7,27 +7,41 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_RELATIONSHIPS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TAGS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalRelationships.ONE_TWO;
 import static seedu.address.testutil.TypicalTags.FRIENDS;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.util.Pair;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.LinkPredictor;
+import seedu.address.logic.parser.PersonFieldExtractor;
 import seedu.address.model.description.Description;
 import seedu.address.model.id.Id;
+import seedu.address.model.person.CompositePersonPredicate;
+import seedu.address.model.person.FieldContainsKeywordsPredicate;
+import seedu.address.model.person.FuzzyNamePredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhonePrefixPredicate;
+import seedu.address.model.person.PhoneticNamePredicate;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TagBuilder;
 import seedu.address.testutil.TypicalRelationships;
 import seedu.address.testutil.TypicalTags;
@@ -120,6 +134,231 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getPersonById_personInAddressBook_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), modelManager.getPersonById(ALICE.getId()));
+        assertEquals(Optional.empty(), modelManager.getPersonById(BOB.getId()));
+    }
+
+    @Test
+    public void getFilteredPersonById_personFilteredOut_returnsEmpty() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(person -> person.equals(ALICE));
+
+        assertEquals(Optional.of(ALICE), modelManager.getFilteredPersonById(ALICE.getId()));
+        assertEquals(Optional.empty(), modelManager.getFilteredPersonById(BENSON.getId()));
+    }
+
+    @Test
+    public void explainFindPersons_noIndexedField_scansAllPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        CompositePersonPredicate predicate = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("al"))));
+        assertEquals("1. scan all persons: 2 candidates\n2. test nameKeywords=[al] (estimate 2): 1 left",
+                modelManager.explainFindPersons(predicate));
+    }
+
+    @Test
+    public void updateFilteredPersonList_aboveParallelThreshold_sameAsSequential() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.setParallelFilterThreshold(1);
+
+        modelManager.updateFilteredPersonList(person -> !person.equals(BENSON));
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        // persons replaced after the filter was evaluated are tested against the predicate itself
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(ALICE, editedBenson, CARL), modelManager.getFilteredPersonList());
+        modelManager.deletePerson(CARL);
+        assertEquals(List.of(ALICE, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_narrowerFind_narrowsShownPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(DANIEL);
+        CompositePersonPredicate meier = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("mei"))));
+        CompositePersonPredicate danielMeier = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("meier")),
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_PHONE, List.of("876525"))));
+
+        assertFalse(modelManager.canNarrowFind(meier));
+        modelManager.findPersons(meier);
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        assertTrue(modelManager.canNarrowFind(danielMeier));
+        modelManager.findPersons(danielMeier);
+        assertEquals(List.of(DANIEL), modelManager.getFilteredPersonList());
+
+        // a broader find has to look beyond the persons shown
+        assertFalse(modelManager.canNarrowFind(meier));
+        modelManager.findPersons(meier);
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_personChangedSinceLastFind_evaluatesFully() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        CompositePersonPredicate meier = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("mei"))));
+        modelManager.findPersons(meier);
+        Person aliceMeier = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, aliceMeier);
+
+        assertFalse(modelManager.canNarrowFind(meier));
+        modelManager.findPersons(meier);
+        assertEquals(List.of(aliceMeier, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_tagDeletedAfterFind_holdersDropped() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.findPersons(new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_TAGS, List.of("1"), true))));
+        assertEquals(List.of(ALICE, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.deleteTag(FRIENDS);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_narrowedThenEdited_editedPersonTested() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(DANIEL);
+        modelManager.findPersons(new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("mei")))));
+        CompositePersonPredicate meier = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("meier"))));
+        assertTrue(modelManager.canNarrowFind(meier));
+        modelManager.findPersons(meier);
+
+        Person aliceMeier = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, aliceMeier);
+        assertEquals(List.of(aliceMeier, BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_listFilteredSinceLastFind_evaluatesFully() {
+        modelManager.addPerson(ALICE);
+        CompositePersonPredicate alice = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("alice"))));
+        modelManager.findPersons(alice);
+        modelManager.updateFilteredPersonList(unused -> false);
+        assertFalse(modelManager.canNarrowFind(alice));
+    }
+
+    @Test
+    public void findTopPersons_shownMostRelevantFirst() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(DANIEL);
+        modelManager.addPerson(ELLE);
+        CompositePersonPredicate meiOrEl = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("mei", "el"))));
+
+        modelManager.findTopPersons(meiOrEl, 2);
+        assertEquals(List.of(DANIEL, BENSON), modelManager.getFilteredPersonList());
+
+        // an edited person keeps its place
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("11111111").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(DANIEL, editedBenson), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(ALICE, editedBenson, DANIEL, ELLE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void searchNotes_shownBestFirst() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+
+        modelManager.searchNotes("alice ben", 10);
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredPersonList());
+        modelManager.searchNotes("alice ben", 1);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_fuzzyName_rankedByDistance() {
+        Person meir = new PersonBuilder().withId(new Id(20)).withName("Ann Meir").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(meir);
+        modelManager.addPerson(ELLE);
+
+        modelManager.findPersons(new CompositePersonPredicate(List.of(new FuzzyNamePredicate(List.of("meyr")))));
+        // Meir and Meyer are one edit away, Meier two
+        assertEquals(List.of(meir, ELLE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(ALICE, BENSON, meir, ELLE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_fuzzyNameThenEdited_editedPersonTested() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.findPersons(new CompositePersonPredicate(List.of(new FuzzyNamePredicate(List.of("alcie")))));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("Carol Pauline").build());
+        Person bensonAlice = new PersonBuilder(BENSON).withName("Benson Alice").build();
+        modelManager.setPerson(BENSON, bensonAlice);
+        assertEquals(List.of(bensonAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_phoneticNameThenEdited_editedPersonTested() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(DANIEL);
+        modelManager.findPersons(new CompositePersonPredicate(List.of(new PhoneticNamePredicate(List.of("meyer")))));
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Smith").build());
+        Person aliceMayer = new PersonBuilder(ALICE).withName("Alice Mayer").build();
+        modelManager.setPerson(ALICE, aliceMayer);
+        assertEquals(List.of(aliceMayer, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_phonePrefixThenEdited_editedPersonTested() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.findPersons(new CompositePersonPredicate(List.of(new PhonePrefixPredicate(List.of("9435")))));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("81234567").build());
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("+65 9435 0000").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_afterEdit_matchesEditedFields() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Pauline").build());
+        CompositePersonPredicate predicate = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(PersonFieldExtractor.GET_NAME, List.of("pauline", "meier"))));
+
+        modelManager.findPersons(predicate);
+        assertEquals(List.of(ALICE, new PersonBuilder(BENSON).withName("Benson Pauline").build()),
+                modelManager.getFilteredPersonList());
+    }
+
 
 
     //  NOTE: TAGS
@@ -225,8 +464,25 @@ public class ModelManagerTest {
         modelManager.addRelationship(rel1);
         modelManager.addRelationship(rel2);
         modelManager.queryImmediateRelationship(ALICE.getId());
-        assertEquals(modelManager.getRelationshipQuery().get(0), new Pair<>(BOB, rel1));
-        assertEquals(modelManager.getRelationshipQuery().get(1), new Pair<>(BENSON, rel2));
+        // results are sorted by the id of the related person, and BENSON has a smaller id than BOB
+        assertEquals(modelManager.getRelationshipQuery().get(0), new Pair<>(BENSON, rel2));
+        assertEquals(modelManager.getRelationshipQuery().get(1), new Pair<>(BOB, rel1));
+    }
+
+    @Test
+    public void queryDescriptions_pairedWithFirstParticipant() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BOB);
+        modelManager.addPerson(BENSON);
+        Relationship rel1 = new Relationship(ALICE.getId(), BOB.getId(), new Description("met at a chess club"));
+        Relationship rel2 = new Relationship(BENSON.getId(), ALICE.getId(), new Description("chess rivals"));
+        modelManager.addRelationship(rel1);
+        modelManager.addRelationship(rel2);
+        modelManager.queryDescriptions("chess", 10);
+        // the shorter description matches better
+        assertEquals(List.of(new Pair<>(BENSON, rel2), new Pair<>(ALICE, rel1)), modelManager.getRelationshipQuery());
+        modelManager.queryDescriptions("\"chess club\"", 10);
+        assertEquals(List.of(new Pair<>(ALICE, rel1)), modelManager.getRelationshipQuery());
     }
 
     @Test
@@ -271,6 +527,130 @@ public class ModelManagerTest {
         assertEquals(modelManager.getRelationshipQuery().get(2), new Pair<>(CARL, null));
     }
 
+    @Test
+    public void queryLink_repeatedAndReversed_servedFromCache() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        Relationship rel1 = new Relationship(ALICE.getId(), BENSON.getId(), new Description("ab"));
+        Relationship rel2 = new Relationship(BENSON.getId(), CARL.getId(), new Description("bc"));
+        modelManager.addRelationship(rel1);
+        modelManager.addRelationship(rel2);
+
+        modelManager.queryLink(ALICE.getId(), CARL.getId());
+        modelManager.queryLink(ALICE.getId(), CARL.getId());
+        modelManager.queryLink(CARL.getId(), ALICE.getId());
+        LinkQueryCache cache = modelManager.getLinkQueryCache();
+        assertEquals(1, cache.getNumOfMisses());
+        assertEquals(2, cache.getNumOfHits());
+        assertEquals(List.of(new Pair<>(CARL, rel2), new Pair<>(BENSON, rel1), new Pair<>(ALICE, null)),
+                modelManager.getRelationshipQuery());
+    }
+
+    @Test
+    public void queryLink_afterRelationshipDeleted_recomputed() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Relationship rel = new Relationship(ALICE.getId(), BENSON.getId(), new Description("ab"));
+        modelManager.addRelationship(rel);
+        modelManager.queryLink(ALICE.getId(), BENSON.getId());
+        assertEquals(2, modelManager.getRelationshipQuery().size());
+
+        modelManager.deleteRelationship(rel);
+        modelManager.queryLink(ALICE.getId(), BENSON.getId());
+        assertEquals(0, modelManager.getLinkQueryCache().getNumOfHits());
+        assertTrue(modelManager.getRelationshipQuery().isEmpty());
+    }
+
+    @Test
+    public void queryNeighbourhood_depthTwo_listsPersonsNearestFirst() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(DANIEL);
+        Relationship rel1 = new Relationship(ALICE.getId(), BENSON.getId(), new Description("ab"));
+        Relationship rel2 = new Relationship(BENSON.getId(), CARL.getId(), new Description("bc"));
+        Relationship rel3 = new Relationship(CARL.getId(), DANIEL.getId(), new Description("cd"));
+        modelManager.addRelationship(rel1);
+        modelManager.addRelationship(rel2);
+        modelManager.addRelationship(rel3);
+
+        modelManager.queryNeighbourhood(ALICE.getId(), 2);
+        assertEquals(List.of(new Pair<>(BENSON, rel1), new Pair<>(CARL, rel2)), modelManager.getRelationshipQuery());
+    }
+
+    @Test
+    public void queryMutualConnections_sharedPersons_listsThemWithFirstPersonRelationship() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(DANIEL);
+        Relationship rel1 = new Relationship(ALICE.getId(), CARL.getId(), new Description("ac"));
+        Relationship rel2 = new Relationship(BENSON.getId(), CARL.getId(), new Description("bc"));
+        Relationship rel3 = new Relationship(ALICE.getId(), DANIEL.getId(), new Description("ad"));
+        modelManager.addRelationship(rel1);
+        modelManager.addRelationship(rel2);
+        modelManager.addRelationship(rel3);
+
+        modelManager.queryMutualConnections(ALICE.getId(), BENSON.getId());
+        assertEquals(List.of(new Pair<>(CARL, rel1)), modelManager.getRelationshipQuery());
+    }
+
+    @Test
+    public void queryLinkVia_taggedPersonEditedAway_noLink() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(DANIEL);
+        Relationship rel1 = new Relationship(CARL.getId(), ALICE.getId(), new Description("ca"));
+        Relationship rel2 = new Relationship(ALICE.getId(), BENSON.getId(), new Description("ab"));
+        Relationship rel3 = new Relationship(CARL.getId(), DANIEL.getId(), new Description("cd"));
+        Relationship rel4 = new Relationship(DANIEL.getId(), BENSON.getId(), new Description("db"));
+        modelManager.addRelationship(rel1);
+        modelManager.addRelationship(rel2);
+        modelManager.addRelationship(rel3);
+        modelManager.addRelationship(rel4);
+
+        // of Alice and Daniel, who link Carl to Benson, only Alice carries tag 2
+        Set<Id> viaTagIds = Set.of(new Id(2));
+        modelManager.queryLinkVia(CARL.getId(), BENSON.getId(), viaTagIds);
+        assertEquals(List.of(new Pair<>(CARL, rel1), new Pair<>(ALICE, rel2), new Pair<>(BENSON, null)),
+                modelManager.getRelationshipQuery());
+
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withTags().build());
+        modelManager.queryLinkVia(CARL.getId(), BENSON.getId(), viaTagIds);
+        assertTrue(modelManager.getRelationshipQuery().isEmpty());
+    }
+
+    @Test
+    public void querySuggestions_unrelatedPerson_listedWithRelationshipToMutualConnection() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        Relationship rel1 = new Relationship(ALICE.getId(), CARL.getId(), new Description("ac"));
+        Relationship rel2 = new Relationship(BENSON.getId(), CARL.getId(), new Description("bc"));
+        modelManager.addRelationship(rel1);
+        modelManager.addRelationship(rel2);
+
+        modelManager.querySuggestions(ALICE.getId(), LinkPredictor.Measure.ADAMIC_ADAR, 5);
+        assertEquals(List.of(new Pair<>(BENSON, rel2)), modelManager.getRelationshipQuery());
+    }
+
+    @Test
+    public void isConnected_afterRelationshipDeleted_returnsFalse() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        Relationship rel1 = new Relationship(ALICE.getId(), BENSON.getId(), new Description("ab"));
+        Relationship rel2 = new Relationship(BENSON.getId(), CARL.getId(), new Description("bc"));
+        modelManager.addRelationship(rel1);
+        modelManager.addRelationship(rel2);
+        assertTrue(modelManager.isConnected(ALICE.getId(), CARL.getId()));
+
+        modelManager.deleteRelationship(rel2);
+        assertFalse(modelManager.isConnected(ALICE.getId(), CARL.getId()));
+    }
+
     @Test
     public void equals() {
         // sample addressBook with two person and typical tags
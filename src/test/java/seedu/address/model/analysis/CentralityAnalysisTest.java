@@ -0,0 +1,62 @@
+package seedu.address.model.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.id.Id;
+import seedu.address.testutil.TypicalPersons;
+import seedu.address.testutil.TypicalRelationships;
+
+public class CentralityAnalysisTest {
+
+    @Test
+    public void run_typicalNetwork_ranksPersons() {
+        List<AnalysisStatus> statuses = new ArrayList<>();
+        new CentralityAnalysis(TypicalPersons.getTypicalPersons(), TypicalRelationships.getTypicalRelationships(),
+                CentralityAnalysis.AUTOMATIC_SAMPLES, 2, new Random(1)).run(statuses::add);
+
+        assertEquals(AnalysisStatus.State.RUNNING, statuses.get(0).getState());
+        AnalysisStatus last = statuses.get(statuses.size() - 1);
+        assertEquals(AnalysisStatus.State.DONE, last.getState());
+        assertFalse(last.isSampled());
+        // persons 1 and 3 are related to everyone else in the network, and lie on the two links between 2 and 4
+        assertEquals(4, last.getNumOfPersons());
+        assertEquals(new Id(1), last.getTopByDegree().get(0).getPerson().getId());
+        assertEquals(new Id(3), last.getTopByDegree().get(1).getPerson().getId());
+        assertEquals(1.0, last.getTopByCloseness().get(0).getCloseness());
+        assertEquals(0.5, last.getTopByBetweenness().get(1).getBetweenness());
+        assertEquals(2, last.getTopByBetweenness().size());
+    }
+
+    @Test
+    public void run_fewerSamplesThanPersons_sampled() {
+        List<AnalysisStatus> statuses = new ArrayList<>();
+        new CentralityAnalysis(TypicalPersons.getTypicalPersons(), TypicalRelationships.getTypicalRelationships(),
+                2, 3, new Random(1)).run(statuses::add);
+
+        AnalysisStatus last = statuses.get(statuses.size() - 1);
+        assertTrue(last.isSampled());
+        assertEquals(2, last.getNumOfSources());
+        assertEquals(3, last.getTopByDegree().size());
+    }
+
+    @Test
+    public void run_cancelled_reportsCancelled() {
+        List<AnalysisStatus> statuses = new ArrayList<>();
+        CentralityAnalysis analysis = new CentralityAnalysis(TypicalPersons.getTypicalPersons(),
+                TypicalRelationships.getTypicalRelationships(), CentralityAnalysis.AUTOMATIC_SAMPLES, 2);
+        analysis.cancel();
+        analysis.run(statuses::add);
+
+        AnalysisStatus last = statuses.get(statuses.size() - 1);
+        assertEquals(AnalysisStatus.State.CANCELLED, last.getState());
+        assertEquals(0, last.getNumOfSourcesDone());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.id;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -64,6 +66,24 @@ public class IdTest {
         assertTrue(Id.isValidId(394583));
     }
 
+    @Test
+    public void toPairKey() {
+        Id one = new Id(1);
+        Id largest = new Id(Integer.MAX_VALUE);
+
+        // same IDs in either order -> same key
+        assertEquals(Id.toPairKey(one, largest), Id.toPairKey(largest, one));
+
+        // different pairs -> different keys
+        assertNotEquals(Id.toPairKey(one, largest), Id.toPairKey(one, one));
+        assertNotEquals(Id.toPairKey(one, largest), Id.toPairKey(largest, largest));
+        assertNotEquals(Id.toPairKey(one, new Id(2)), Id.toPairKey(new Id(2), new Id(2)));
+        assertEquals(1L << Integer.SIZE | Integer.MAX_VALUE, Id.toPairKey(largest, one));
+
+        // null -> exception
+        assertThrows(NullPointerException.class, () -> Id.toPairKey(null, one));
+    }
+
     @Test
     public void equals() {
         Id id = new Id("1");
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.PersonFieldExtractor.GET_EMAIL;
 import static seedu.address.logic.parser.PersonFieldExtractor.GET_NAME;
 import static seedu.address.logic.parser.PersonFieldExtractor.GET_PHONE;
 import static seedu.address.logic.parser.PersonFieldExtractor.GET_TAGS;
@@ -28,6 +29,16 @@ public class CompositePersonPredicateTest {
         assertFalse(composite.test(person2)); // phone fails
     }
 
+    @Test
+    public void score_sumOfFieldScores() {
+        FieldContainsKeywordsPredicate namePred = new FieldContainsKeywordsPredicate(GET_NAME, List.of("Alice"));
+        FieldContainsKeywordsPredicate phonePred = new FieldContainsKeywordsPredicate(GET_PHONE, List.of("9123"));
+        CompositePersonPredicate composite = new CompositePersonPredicate(List.of(namePred, phonePred));
+        Person person = new PersonBuilder().withName("Alice Tan").withPhone("91234567").build();
+
+        assertEquals(namePred.score(person) + phonePred.score(person), composite.score(person));
+    }
+
     @Test
     public void test_matchTags_matchExactString() {
         FieldContainsKeywordsPredicate tagPred = new FieldContainsKeywordsPredicate(GET_TAGS, List.of("1"), true);
@@ -40,6 +51,32 @@ public class CompositePersonPredicateTest {
         assertFalse(composite.test(person2)); // does not exact match tags
     }
 
+    @Test
+    public void isNarrowerThan_extendedKeywordOrAddedField_true() {
+        CompositePersonPredicate al = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("al"))));
+        CompositePersonPredicate alic = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("ALIC"))));
+        CompositePersonPredicate alWithEmail = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(GET_EMAIL, List.of("gmail")),
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("al"))));
+
+        assertTrue(alic.isNarrowerThan(al));
+        assertTrue(alWithEmail.isNarrowerThan(al));
+        assertTrue(al.isNarrowerThan(al));
+        assertFalse(al.isNarrowerThan(alic));
+        assertFalse(al.isNarrowerThan(alWithEmail));
+    }
+
+    @Test
+    public void isNarrowerThan_differentField_false() {
+        CompositePersonPredicate name = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("al"))));
+        CompositePersonPredicate email = new CompositePersonPredicate(List.of(
+                new FieldContainsKeywordsPredicate(GET_EMAIL, List.of("alice"))));
+        assertFalse(email.isNarrowerThan(name));
+    }
+
     @Test
     public void equals_true() {
         FieldContainsKeywordsPredicate p1 = new FieldContainsKeywordsPredicate(GET_NAME, List.of("Alice"));
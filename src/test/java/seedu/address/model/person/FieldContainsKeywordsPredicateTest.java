@@ -37,6 +37,34 @@ public class FieldContainsKeywordsPredicateTest {
         assertFalse(p.test(new PersonBuilder().withAddress("Little India").build()));
     }
 
+    @Test
+    public void score_wordPrefixAboveInfix() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").withPhone("94351253").withTags(1, 2).build();
+        // "pau" starts a word, "lin" only occurs inside one
+        assertEquals(4 * (2 + 1), new FieldContainsKeywordsPredicate(GET_NAME, List.of("pau", "lin", "xyz"))
+                .score(alice));
+        assertEquals(2 * 2, new FieldContainsKeywordsPredicate(GET_PHONE, List.of("9435")).score(alice));
+        assertEquals(3 * 2, new FieldContainsKeywordsPredicate(GET_TAGS, List.of("2", "3"), true).score(alice));
+        assertEquals(0, new FieldContainsKeywordsPredicate(GET_ADDRESS, List.of("Clementi")).score(alice));
+    }
+
+    @Test
+    public void implies_everyKeywordExtendsOne_true() {
+        FieldContainsKeywordsPredicate broad = new FieldContainsKeywordsPredicate(GET_NAME, List.of("al", "be"));
+        assertTrue(new FieldContainsKeywordsPredicate(GET_NAME, List.of("Alic", "ben")).implies(broad));
+        assertFalse(new FieldContainsKeywordsPredicate(GET_NAME, List.of("alic", "carl")).implies(broad));
+        assertFalse(new FieldContainsKeywordsPredicate(GET_EMAIL, List.of("alic")).implies(broad));
+    }
+
+    @Test
+    public void implies_tagKeywordsSubset_true() {
+        FieldContainsKeywordsPredicate broad = new FieldContainsKeywordsPredicate(GET_TAGS, List.of("1", "2"), true);
+        assertTrue(new FieldContainsKeywordsPredicate(GET_TAGS, List.of("2"), true).implies(broad));
+        // a longer tag ID is a different tag, not a narrower one
+        assertFalse(new FieldContainsKeywordsPredicate(GET_TAGS, List.of("12"), true).implies(broad));
+        assertFalse(new FieldContainsKeywordsPredicate(GET_TAGS, List.of("1")).implies(broad));
+    }
+
     @Test
     public void test_tagMatch_true() {
         FieldContainsKeywordsPredicate p = new FieldContainsKeywordsPredicate(GET_TAGS, List.of("1", "2"), true);
@@ -49,6 +77,26 @@ public class FieldContainsKeywordsPredicateTest {
         assertFalse(p.test(new PersonBuilder().withTags(10, 20, 12).build()));
     }
 
+    @Test
+    public void test_tagKeywordNotCanonicalId_false() {
+        FieldContainsKeywordsPredicate p = new FieldContainsKeywordsPredicate(GET_TAGS, List.of("01", "x", "+1"),
+                true);
+        assertFalse(p.test(new PersonBuilder().withTags(1).build()));
+    }
+
+    @Test
+    public void test_paddedKeyword_matchesSubstring() {
+        FieldContainsKeywordsPredicate p = new FieldContainsKeywordsPredicate(GET_EMAIL, List.of(" EXAMPLE. "));
+        assertTrue(p.test(new PersonBuilder().withEmail("alice@example.com").build()));
+    }
+
+    @Test
+    public void test_unknownExtractor_matchesSubstring() {
+        FieldContainsKeywordsPredicate p = new FieldContainsKeywordsPredicate(
+                person -> List.of(person.getNote().toString()), List.of("likes"));
+        assertTrue(p.test(new PersonBuilder().withNote("Likes cats").build()));
+    }
+
     @Test
     public void equals_sameExtractorSameKeywords_true() {
         FieldContainsKeywordsPredicate a = new FieldContainsKeywordsPredicate(GET_PHONE, List.of("9123"));
@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.PersonFieldExtractor.GET_NAME;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzyNamePredicateTest {
+    private static final Person JOHN_DOE = new PersonBuilder().withName("John Doe").build();
+
+    @Test
+    public void getMaxDistance_growsWithKeyword() {
+        assertEquals(0, FuzzyNamePredicate.getMaxDistance("jo"));
+        assertEquals(1, FuzzyNamePredicate.getMaxDistance("jon"));
+        assertEquals(2, FuzzyNamePredicate.getMaxDistance("jonh"));
+    }
+
+    @Test
+    public void getDistance_closestWordOfAnyKeyword() {
+        assertEquals(0, new FuzzyNamePredicate(List.of("DOE")).getDistance(JOHN_DOE));
+        assertEquals(2, new FuzzyNamePredicate(List.of("jonh")).getDistance(JOHN_DOE));
+        assertEquals(1, new FuzzyNamePredicate(List.of("jonh", "doo")).getDistance(JOHN_DOE));
+        assertEquals(FuzzyNamePredicate.NO_MATCH, new FuzzyNamePredicate(List.of("jack")).getDistance(JOHN_DOE));
+        // "do" is too short to be allowed a typo
+        assertEquals(FuzzyNamePredicate.NO_MATCH, new FuzzyNamePredicate(List.of("do")).getDistance(JOHN_DOE));
+    }
+
+    @Test
+    public void score_closerKeywordsScoreHigher() {
+        // "doe" exactly, "jhon" two edits from "john", "xyz" nowhere near
+        assertEquals(4 * (3 + 1), new FuzzyNamePredicate(List.of("jhon", "doe", "xyz")).score(JOHN_DOE));
+        assertEquals(0, new FuzzyNamePredicate(List.of("xyz")).score(JOHN_DOE));
+    }
+
+    @Test
+    public void test() {
+        assertTrue(new FuzzyNamePredicate(List.of("jhon")).test(JOHN_DOE));
+        assertFalse(new FuzzyNamePredicate(List.of("jo")).test(JOHN_DOE));
+    }
+
+    @Test
+    public void implies_onlySubsetOfFuzzyKeywords() {
+        FuzzyNamePredicate broad = new FuzzyNamePredicate(List.of("jonh", "mary"));
+        assertTrue(new FuzzyNamePredicate(List.of("Jonh")).implies(broad));
+        assertFalse(new FuzzyNamePredicate(List.of("jonhy")).implies(broad));
+        assertFalse(new FieldContainsKeywordsPredicate(GET_NAME, List.of("jonh")).implies(broad));
+        assertFalse(broad.implies(new FieldContainsKeywordsPredicate(GET_NAME, List.of("jonh", "mary"))));
+    }
+
+    @Test
+    public void equals() {
+        FuzzyNamePredicate predicate = new FuzzyNamePredicate(List.of("jonh"));
+        assertEquals(predicate, new FuzzyNamePredicate(List.of("jonh")));
+        assertNotEquals(predicate, new FuzzyNamePredicate(List.of("john")));
+        assertNotEquals(predicate, new FieldContainsKeywordsPredicate(GET_NAME, List.of("jonh")));
+        assertNotEquals(new FieldContainsKeywordsPredicate(GET_NAME, List.of("jonh")), predicate);
+    }
+
+    @Test
+    public void describe() {
+        assertEquals("fuzzyNameKeywords=[jonh]", new FuzzyNamePredicate(List.of("jonh")).describe());
+    }
+}
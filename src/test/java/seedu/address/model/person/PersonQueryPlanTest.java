@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.PersonFieldExtractor.GET_NAME;
+import static seedu.address.logic.parser.PersonFieldExtractor.GET_PHONE;
+import static seedu.address.logic.parser.PersonFieldExtractor.GET_TAGS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.CompressedBitmap;
+
+public class PersonQueryPlanTest {
+    private static final FieldContainsKeywordsPredicate NAME_MEIER =
+            new FieldContainsKeywordsPredicate(GET_NAME, List.of("meier"));
+    private static final FieldContainsKeywordsPredicate TAG_1 =
+            new FieldContainsKeywordsPredicate(GET_TAGS, List.of("1"), true);
+    private static final FieldContainsKeywordsPredicate PHONE_9 =
+            new FieldContainsKeywordsPredicate(GET_PHONE, List.of("9"));
+
+    @Test
+    public void test_outsideCandidates_false() {
+        CompressedBitmap candidates = new CompressedBitmap();
+        candidates.add(ALICE.getId().value);
+        PersonQueryPlan plan = new PersonQueryPlan(
+                List.of(new PersonQueryPlan.Step(PHONE_9, PersonQueryPlan.Kind.TEST, 3)),
+                candidates, List.of());
+        assertTrue(plan.test(ALICE));
+        assertFalse(plan.test(BENSON));
+    }
+
+    @Test
+    public void getCandidateIds_largestValidId_kept() {
+        CompressedBitmap candidates = new CompressedBitmap();
+        candidates.add(ALICE.getId().value);
+        candidates.add(Integer.MAX_VALUE);
+        PersonQueryPlan plan = new PersonQueryPlan(
+                List.of(new PersonQueryPlan.Step(TAG_1, PersonQueryPlan.Kind.EXACT_LOOKUP, 2)),
+                candidates, List.of(2));
+        assertArrayEquals(new int[] {ALICE.getId().value, Integer.MAX_VALUE}, plan.getCandidateIds().toArray());
+        assertTrue(plan.test(ALICE));
+        assertFalse(plan.test(BENSON));
+    }
+
+    @Test
+    public void test_exactLookup_notTested() {
+        CompressedBitmap candidates = new CompressedBitmap();
+        candidates.add(CARL.getId().value);
+        PersonQueryPlan plan = new PersonQueryPlan(List.of(
+                new PersonQueryPlan.Step(TAG_1, PersonQueryPlan.Kind.EXACT_LOOKUP, 1)), candidates, List.of(1));
+        assertTrue(plan.test(CARL));
+        assertEquals("1. look up tagsIds=[1] in index (estimate 1): 1 candidates",
+                plan.explain(List.of(ALICE, BENSON, CARL)));
+    }
+
+    @Test
+    public void explain_noCandidates_scansAllPersons() {
+        PersonQueryPlan plan = new PersonQueryPlan(
+                List.of(new PersonQueryPlan.Step(PHONE_9, PersonQueryPlan.Kind.TEST, 3)),
+                null, List.of());
+        assertEquals("1. scan all persons: 3 candidates\n"
+                + "2. test phoneKeywords=[9] (estimate 3): 3 left", plan.explain(List.of(ALICE, BENSON, CARL)));
+    }
+
+    @Test
+    public void explain_lookupThenTestsThenVerification() {
+        CompressedBitmap candidates = new CompressedBitmap();
+        candidates.add(BENSON.getId().value);
+        PersonQueryPlan plan = new PersonQueryPlan(List.of(
+                new PersonQueryPlan.Step(NAME_MEIER, PersonQueryPlan.Kind.LOOKUP, 1),
+                new PersonQueryPlan.Step(PHONE_9, PersonQueryPlan.Kind.TEST, 3)),
+                candidates, List.of(1));
+        assertEquals("1. look up nameKeywords=[meier] in index (estimate 1): 1 candidates\n"
+                + "2. test phoneKeywords=[9] (estimate 3): 1 left\n"
+                + "3. verify nameKeywords=[meier]: 1 left", plan.explain(List.of(ALICE, BENSON, CARL)));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchFieldsTest {
+    private final Person person = new PersonBuilder().withName("Alice  PAULINE").withPhone("94351253")
+            .withEmail("Alice@Example.com").withAddress("123, Jurong West").withTags(12, 3).build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonSearchFields(null));
+    }
+
+    @Test
+    public void constructor_person_fieldsInLowerCase() {
+        PersonSearchFields fields = new PersonSearchFields(person);
+        assertEquals("alice  pauline", fields.getName());
+        assertEquals("94351253", fields.getPhone());
+        assertEquals("alice@example.com", fields.getEmail());
+        assertEquals("123, jurong west", fields.getAddress());
+    }
+
+    @Test
+    public void normalize_paddedMixedCase_trimmedLowerCase() {
+        assertEquals("alice", PersonSearchFields.normalize("  ALice "));
+    }
+
+    @Test
+    public void hasNameWord() {
+        PersonSearchFields fields = new PersonSearchFields(person);
+        assertTrue(fields.hasNameWord("pauline"));
+        assertFalse(fields.hasNameWord("paul"));
+        assertFalse(fields.hasNameWord(""));
+    }
+
+    @Test
+    public void hasPhoneticKey() {
+        PersonSearchFields fields = new PersonSearchFields(person);
+        assertEquals(List.of("ALS", "PLN"), fields.getPhoneticKeys());
+        assertTrue(fields.hasPhoneticKey("PLN"));
+        assertFalse(fields.hasPhoneticKey("PAULINE"));
+    }
+
+    @Test
+    public void toPhoneDigits_countryCodeApart_alsoWithoutIt() {
+        assertEquals(List.of("94351253"), new PersonSearchFields(person).getPhoneDigits());
+        assertEquals(List.of("6591234567", "91234567"), PersonSearchFields.toPhoneDigits("+65 9123-4567"));
+        assertEquals(List.of("6591234567"), PersonSearchFields.toPhoneDigits("+6591234567"));
+        assertEquals(List.of("912345"), PersonSearchFields.toPhoneDigits("912 345"));
+    }
+
+    @Test
+    public void hasPhoneDigitsStartingWith() {
+        PersonSearchFields fields = new PersonSearchFields(new PersonBuilder().withPhone("+65 9123 4567").build());
+        assertTrue(fields.hasPhoneDigitsStartingWith("659"));
+        assertTrue(fields.hasPhoneDigitsStartingWith("9123"));
+        assertFalse(fields.hasPhoneDigitsStartingWith("4567"));
+    }
+
+    @Test
+    public void hasTagId() {
+        PersonSearchFields fields = new PersonSearchFields(person);
+        assertTrue(fields.hasTagId(3));
+        assertTrue(fields.hasTagId(12));
+        assertFalse(fields.hasTagId(1));
+    }
+
+    @Test
+    public void getSearchFields_calledTwice_computedOnce() {
+        assertSame(person.getSearchFields(), person.getSearchFields());
+    }
+}
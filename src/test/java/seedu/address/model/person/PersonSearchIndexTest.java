@@ -0,0 +1,196 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.PersonFieldExtractor.GET_ADDRESS;
+import static seedu.address.logic.parser.PersonFieldExtractor.GET_EMAIL;
+import static seedu.address.logic.parser.PersonFieldExtractor.GET_NAME;
+import static seedu.address.logic.parser.PersonFieldExtractor.GET_TAGS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.id.Id;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+    private static final List<Person> PERSONS = List.of(ALICE, BENSON, CARL, DANIEL);
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.setPersons(PERSONS);
+    }
+
+    @Test
+    public void plan_anyKeywordOfField_union() {
+        PersonQueryPlan plan = index.plan(composite(
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("ali", "meier"))));
+        assertTrue(plan.hasCandidates());
+        assertEquals(List.of(ALICE, BENSON, DANIEL), filter(plan));
+    }
+
+    @Test
+    public void plan_severalFields_intersection() {
+        PersonQueryPlan plan = index.plan(composite(
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("meier")),
+                new FieldContainsKeywordsPredicate(GET_ADDRESS, List.of("clementi"))));
+        assertEquals(List.of(BENSON), filter(plan));
+    }
+
+    @Test
+    public void plan_shortKeyword_notLookedUp() {
+        PersonQueryPlan plan = index.plan(composite(
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("meier", "al"))));
+        assertFalse(plan.hasCandidates());
+        assertEquals(List.of(ALICE, BENSON, DANIEL), filter(plan));
+
+    }
+
+    @Test
+    public void plan_tags_exactLookup() {
+        PersonQueryPlan plan = index.plan(composite(
+                new FieldContainsKeywordsPredicate(GET_TAGS, List.of("1", "3"), true),
+                new FieldContainsKeywordsPredicate(GET_TAGS, List.of("2"), true)));
+        assertTrue(plan.hasCandidates());
+        assertEquals(PersonQueryPlan.Kind.EXACT_LOOKUP, plan.getSteps().get(0).getKind());
+        assertEquals(List.of(ALICE, BENSON), filter(plan));
+    }
+
+    @Test
+    public void plan_fuzzyName_exactLookup() {
+        PersonQueryPlan plan = index.plan(composite(new FuzzyNamePredicate(List.of("meyer", "kutz"))));
+        assertEquals(PersonQueryPlan.Kind.EXACT_LOOKUP, plan.getSteps().get(0).getKind());
+        assertEquals(3, plan.getSteps().get(0).getEstimate());
+        assertEquals(List.of(BENSON, CARL, DANIEL), filter(plan));
+    }
+
+    @Test
+    public void setPerson_editedName_fuzzyReindexed() {
+        Person editedCarl = new PersonBuilder(CARL).withName("Zed Kurtz").build();
+        index.setPerson(CARL, editedCarl);
+        List<Person> persons = List.of(ALICE, BENSON, editedCarl, DANIEL);
+        assertEquals(List.of(editedCarl), filter(index.plan(composite(new FuzzyNamePredicate(List.of("zed")))),
+                persons));
+        assertEquals(List.of(), filter(index.plan(composite(new FuzzyNamePredicate(List.of("carl")))), persons));
+    }
+
+    @Test
+    public void plan_phoneticName_exactLookup() {
+        PersonQueryPlan plan = index.plan(composite(new PhoneticNamePredicate(List.of("Mayer", "Daniele"))));
+        assertEquals(PersonQueryPlan.Kind.EXACT_LOOKUP, plan.getSteps().get(0).getKind());
+        assertEquals(List.of(BENSON, DANIEL), filter(plan));
+    }
+
+    @Test
+    public void setPerson_editedName_phoneticReindexed() {
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Meyer").build();
+        index.setPerson(CARL, editedCarl);
+        List<Person> persons = List.of(ALICE, BENSON, editedCarl, DANIEL);
+        assertEquals(List.of(BENSON, editedCarl, DANIEL),
+                filter(index.plan(composite(new PhoneticNamePredicate(List.of("meier")))), persons));
+        assertEquals(List.of(), filter(index.plan(composite(new PhoneticNamePredicate(List.of("kurtz")))), persons));
+    }
+
+    @Test
+    public void plan_phonePrefix_exactLookup() {
+        PersonQueryPlan plan = index.plan(composite(new PhonePrefixPredicate(List.of("95", "8765"))));
+        assertEquals(PersonQueryPlan.Kind.EXACT_LOOKUP, plan.getSteps().get(0).getKind());
+        assertEquals(2, plan.getSteps().get(0).getEstimate());
+        assertEquals(List.of(CARL, DANIEL), filter(plan));
+    }
+
+    @Test
+    public void setPerson_editedPhone_prefixReindexed() {
+        Person editedCarl = new PersonBuilder(CARL).withPhone("+65 8765 0000").build();
+        index.setPerson(CARL, editedCarl);
+        List<Person> persons = List.of(ALICE, BENSON, editedCarl, DANIEL);
+        assertEquals(List.of(editedCarl, DANIEL),
+                filter(index.plan(composite(new PhonePrefixPredicate(List.of("8765")))), persons));
+        assertEquals(List.of(editedCarl),
+                filter(index.plan(composite(new PhonePrefixPredicate(List.of("+65")))), persons));
+        assertEquals(List.of(), filter(index.plan(composite(new PhonePrefixPredicate(List.of("95")))), persons));
+    }
+
+    @Test
+    public void searchNotes_editedNote_reindexed() {
+        // Benson's note repeats "ben"
+        assertEquals(List.of(2, 1), index.searchNotes("alice ben", 10).stream().map(hit -> hit.getDoc()).toList());
+
+        index.setPerson(ALICE, new PersonBuilder(ALICE).withNote("Plays chess").build());
+        assertEquals(List.of(), index.searchNotes("wonderland", 10));
+        assertEquals(List.of(1), index.searchNotes("chess", 10).stream().map(hit -> hit.getDoc()).toList());
+
+        index.remove(BENSON);
+        assertEquals(List.of(), index.searchNotes("ben", 10));
+    }
+
+    @Test
+    public void getPersonIdsWithTag() {
+        assertArrayEquals(new int[] {1, 4}, index.getPersonIdsWithTag(new Id(1)).toArray());
+        assertArrayEquals(new int[0], index.getPersonIdsWithTag(new Id(5)).toArray());
+    }
+
+    @Test
+    public void plan_stepsInIncreasingEstimate() {
+        PersonQueryPlan plan = index.plan(composite(
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("e")),
+                new FieldContainsKeywordsPredicate(GET_TAGS, List.of("2"), true),
+                new FieldContainsKeywordsPredicate(GET_TAGS, List.of("3"), true),
+                new FieldContainsKeywordsPredicate(GET_EMAIL, List.of("example"))));
+        assertEquals(List.of(1, 2, 4, 4), plan.getSteps().stream().map(PersonQueryPlan.Step::getEstimate).toList());
+        assertEquals("tagsIds=[3]", plan.getSteps().get(0).getPredicate().describe());
+        assertEquals(List.of(BENSON), filter(plan));
+    }
+
+    @Test
+    public void removeTag_tagCountsForgotten() {
+        index.removeTag(new Id(2));
+        PersonQueryPlan plan = index.plan(composite(new FieldContainsKeywordsPredicate(GET_TAGS, List.of("2"), true)));
+        assertEquals(0, plan.getSteps().get(0).getEstimate());
+        assertEquals(List.of(), filter(plan));
+    }
+
+    @Test
+    public void setPerson_editedField_reindexed() {
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Meier").withTags(1).build();
+        index.setPerson(CARL, editedCarl);
+        List<Person> persons = List.of(ALICE, BENSON, editedCarl, DANIEL);
+        assertEquals(List.of(BENSON, editedCarl, DANIEL), filter(index.plan(composite(
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("meier")))), persons));
+        assertEquals(List.of(), filter(index.plan(composite(
+                new FieldContainsKeywordsPredicate(GET_NAME, List.of("kurz")))), persons));
+        assertEquals(3, index.plan(composite(new FieldContainsKeywordsPredicate(GET_TAGS, List.of("1"), true)))
+                .getSteps().get(0).getEstimate());
+    }
+
+    @Test
+    public void remove_person_noLongerCandidate() {
+        index.remove(BENSON);
+        PersonQueryPlan plan = index.plan(composite(new FieldContainsKeywordsPredicate(GET_NAME, List.of("meier"))));
+        assertEquals(1, plan.getSteps().get(0).getEstimate());
+        assertEquals(List.of(DANIEL), filter(plan));
+    }
+
+    private static CompositePersonPredicate composite(FieldContainsKeywordsPredicate... predicates) {
+        return new CompositePersonPredicate(List.of(predicates));
+    }
+
+    private static List<Person> filter(PersonQueryPlan plan) {
+        return filter(plan, PERSONS);
+    }
+
+    private static List<Person> filter(PersonQueryPlan plan, List<Person> persons) {
+        return persons.stream().filter(plan).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.PersonFieldExtractor.GET_PHONE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PhonePrefixPredicateTest {
+    private static final Person LOCAL = new PersonBuilder().withPhone("9123 4567").build();
+    private static final Person INTERNATIONAL = new PersonBuilder().withPhone("+65 9123-4567").build();
+
+    @Test
+    public void test_phoneStartsWithDigits_true() {
+        assertTrue(new PhonePrefixPredicate(List.of("9123")).test(LOCAL));
+        assertTrue(new PhonePrefixPredicate(List.of("912 34")).test(LOCAL));
+        assertTrue(new PhonePrefixPredicate(List.of("8000", "91")).test(LOCAL));
+        assertFalse(new PhonePrefixPredicate(List.of("1234")).test(LOCAL));
+    }
+
+    @Test
+    public void test_countryCodeApart_matchedWithAndWithoutIt() {
+        assertTrue(new PhonePrefixPredicate(List.of("9123")).test(INTERNATIONAL));
+        assertTrue(new PhonePrefixPredicate(List.of("+65 91")).test(INTERNATIONAL));
+        assertFalse(new PhonePrefixPredicate(List.of("65")).test(LOCAL));
+    }
+
+    @Test
+    public void score_matchedPrefixes() {
+        assertEquals(2 * 2 * 2, new PhonePrefixPredicate(List.of("9", "912", "8")).score(LOCAL));
+        assertEquals(0, new PhonePrefixPredicate(List.of("8")).score(LOCAL));
+    }
+
+    @Test
+    public void getPrefixes_distinctDigits() {
+        assertEquals(List.of("9123", "65"), new PhonePrefixPredicate(List.of("9123", "91-23", "+65")).getPrefixes());
+    }
+
+    @Test
+    public void implies_longerPrefixes() {
+        PhonePrefixPredicate broad = new PhonePrefixPredicate(List.of("91", "8"));
+        assertTrue(new PhonePrefixPredicate(List.of("9123", "87")).implies(broad));
+        assertFalse(new PhonePrefixPredicate(List.of("9123", "7")).implies(broad));
+        assertFalse(broad.implies(new FieldContainsKeywordsPredicate(GET_PHONE, List.of("91", "8"))));
+    }
+
+    @Test
+    public void equals() {
+        PhonePrefixPredicate predicate = new PhonePrefixPredicate(List.of("9123"));
+        assertEquals(predicate, new PhonePrefixPredicate(List.of("9123")));
+        assertNotEquals(predicate, new FieldContainsKeywordsPredicate(GET_PHONE, List.of("9123")));
+    }
+
+    @Test
+    public void describe() {
+        assertEquals("phonePrefixes=[9123]", new PhonePrefixPredicate(List.of("9123")).describe());
+    }
+}
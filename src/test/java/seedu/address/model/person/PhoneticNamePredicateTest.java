@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.PersonFieldExtractor.GET_NAME;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneticNamePredicateTest {
+    private static final Person MOHAMMED = new PersonBuilder().withName("Mohammed Yusuf").build();
+
+    @Test
+    public void test_soundAlikeWord_true() {
+        assertTrue(new PhoneticNamePredicate(List.of("muhammad")).test(MOHAMMED));
+        assertTrue(new PhoneticNamePredicate(List.of("Alice", "Youssef")).test(MOHAMMED));
+        assertFalse(new PhoneticNamePredicate(List.of("Ahmed")).test(MOHAMMED));
+    }
+
+    @Test
+    public void score_matchedKeys() {
+        assertEquals(4 * 2, new PhoneticNamePredicate(List.of("Muhammad", "Youssef", "Ahmed")).score(MOHAMMED));
+        assertEquals(0, new PhoneticNamePredicate(List.of("Ahmed")).score(MOHAMMED));
+    }
+
+    @Test
+    public void getPhoneticKeys_distinctKeysOfAllKeywords() {
+        assertEquals(List.of("MHMT", "SM0", "XMT"),
+                new PhoneticNamePredicate(List.of("Muhammad", "Mohamed", "Smith")).getPhoneticKeys());
+    }
+
+    @Test
+    public void implies_subsetOfKeys() {
+        PhoneticNamePredicate broad = new PhoneticNamePredicate(List.of("muhammad", "smith"));
+        assertTrue(new PhoneticNamePredicate(List.of("Mohammed")).implies(broad));
+        assertFalse(new PhoneticNamePredicate(List.of("Schmidt")).implies(broad));
+        assertFalse(new FuzzyNamePredicate(List.of("muhammad")).implies(broad));
+        assertFalse(broad.implies(new FieldContainsKeywordsPredicate(GET_NAME, List.of("muhammad", "smith"))));
+    }
+
+    @Test
+    public void equals() {
+        PhoneticNamePredicate predicate = new PhoneticNamePredicate(List.of("muhammad"));
+        assertEquals(predicate, new PhoneticNamePredicate(List.of("muhammad")));
+        assertNotEquals(predicate, new FuzzyNamePredicate(List.of("muhammad")));
+        assertNotEquals(predicate, new FieldContainsKeywordsPredicate(GET_NAME, List.of("muhammad")));
+    }
+
+    @Test
+    public void describe() {
+        assertEquals("phoneticNameKeywords=[muhammad]", new PhoneticNamePredicate(List.of("muhammad")).describe());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_1;
@@ -12,9 +13,12 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.CompressedBitmap;
 import seedu.address.model.id.Id;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -194,6 +198,56 @@ public class UniquePersonListTest {
         assertEquals(expectedPersonList, uniquePersonList);
     }
 
+    @Test
+    public void removeTagIdFromPersons_holders_onlyHoldersReplaced() {
+        Person alice = new PersonBuilder(ALICE).withTags(1, 2).build();
+        Person bob = new PersonBuilder(BOB).withTags(2).build();
+        uniquePersonList.setPersons(List.of(alice, bob));
+        CompressedBitmap holderIds = new CompressedBitmap();
+        holderIds.add(alice.getId().value);
+
+        uniquePersonList.removeTagIdFromPersons(new Id(1), holderIds);
+        assertEquals(Set.of(new Id(2)), uniquePersonList.getPersonById(alice.getId()).get().getTagIds());
+        assertSame(bob, uniquePersonList.asUnmodifiableObservableList().get(1));
+    }
+
+    @Test
+    public void getPersonById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.getPersonById(null));
+    }
+
+    @Test
+    public void getPersonById_personNotInList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniquePersonList.getPersonById(ALICE.getId()));
+        assertFalse(uniquePersonList.hasPersonWithId(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterMutations_staysInSync() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.getPersonById(ALICE.getId()));
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.of(editedAlice), uniquePersonList.getPersonById(ALICE.getId()));
+
+        uniquePersonList.setPersons(List.of(editedAlice, BOB));
+        assertEquals(Optional.of(BOB), uniquePersonList.getPersonById(BOB.getId()));
+
+        uniquePersonList.remove(editedAlice);
+        assertFalse(uniquePersonList.hasPersonWithId(ALICE.getId()));
+        assertTrue(uniquePersonList.hasPersonWithId(BOB.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterRemoveTagIdFromPersons_returnsEditedPerson() {
+        Person alice = new PersonBuilder(ALICE).withTags(1, 2).build();
+        uniquePersonList.add(alice);
+
+        uniquePersonList.removeTagIdFromPersons(new Id(1));
+        assertEquals(Set.of(new Id(2)), uniquePersonList.getPersonById(alice.getId()).get().getTagIds());
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
@@ -0,0 +1,101 @@
+package seedu.address.model.relationship;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConnectedComponentsTest {
+    private static final int NUM_OF_NODES = 6;
+
+    private final ConnectedComponents components = new ConnectedComponents();
+    private final List<List<Integer>> adjList = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        for (int u = 0; u < NUM_OF_NODES; u++) {
+            components.addNode(u);
+            adjList.add(new ArrayList<>());
+        }
+    }
+
+    @Test
+    public void isConnected_afterUnions_followsEdges() {
+        addEdge(0, 1);
+        addEdge(1, 2);
+        addEdge(3, 4);
+
+        assertTrue(components.isConnected(0, 2, adjList));
+        assertTrue(components.isConnected(3, 4, adjList));
+        assertFalse(components.isConnected(2, 3, adjList));
+        assertFalse(components.isConnected(0, 5, adjList));
+
+        addEdge(2, 3);
+        assertTrue(components.isConnected(0, 4, adjList));
+    }
+
+    @Test
+    public void isConnected_afterRemovingBridge_splitsSet() {
+        addEdge(0, 1);
+        addEdge(1, 2);
+        addEdge(2, 3);
+        removeEdge(1, 2);
+
+        assertTrue(components.isConnected(0, 1, adjList));
+        assertTrue(components.isConnected(2, 3, adjList));
+        assertFalse(components.isConnected(0, 3, adjList));
+    }
+
+    @Test
+    public void isConnected_afterRemovingEdgeOnCycle_staysConnected() {
+        addEdge(0, 1);
+        addEdge(1, 2);
+        addEdge(2, 0);
+        removeEdge(0, 1);
+
+        assertTrue(components.isConnected(0, 1, adjList));
+    }
+
+    @Test
+    public void union_withStaleSet_keepsItStale() {
+        addEdge(0, 1);
+        addEdge(1, 2);
+        removeEdge(1, 2);
+        // merge the stale set {0, 1, 2} into a larger one before it is split
+        addEdge(3, 4);
+        addEdge(4, 5);
+        addEdge(5, 3);
+        addEdge(1, 3);
+
+        assertTrue(components.isConnected(0, 5, adjList));
+        assertFalse(components.isConnected(0, 2, adjList));
+    }
+
+    @Test
+    public void splitAllStale_leavesIsolatedNodesAlone() {
+        addEdge(0, 1);
+        addEdge(2, 3);
+        removeEdge(0, 1);
+        removeEdge(2, 3);
+        components.splitAllStale(adjList);
+
+        assertFalse(components.isConnected(0, 1, adjList));
+        assertFalse(components.isConnected(2, 3, adjList));
+    }
+
+    private void addEdge(int u, int v) {
+        adjList.get(u).add(v);
+        adjList.get(v).add(u);
+        components.union(u, v);
+    }
+
+    private void removeEdge(int u, int v) {
+        components.markStale(u);
+        adjList.get(u).remove(Integer.valueOf(v));
+        adjList.get(v).remove(Integer.valueOf(u));
+    }
+}
@@ -0,0 +1,229 @@
+package seedu.address.model.relationship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalRelationships.ONE_FOUR;
+import static seedu.address.testutil.TypicalRelationships.ONE_THREE;
+import static seedu.address.testutil.TypicalRelationships.ONE_TWO;
+import static seedu.address.testutil.TypicalRelationships.THREE_FOUR;
+import static seedu.address.testutil.TypicalRelationships.TWO_THREE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.LinkPredictor;
+import seedu.address.model.id.Id;
+import seedu.address.testutil.RelationshipBuilder;
+
+public class RelationshipGraphTest {
+    private static final Id ID_1 = new Id(1);
+    private static final Id ID_2 = new Id(2);
+    private static final Id ID_3 = new Id(3);
+    private static final Id ID_4 = new Id(4);
+
+    private final RelationshipGraph graph = new RelationshipGraph();
+
+    @Test
+    public void getShortestPath_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> graph.getShortestPath(null, ID_1));
+        assertThrows(NullPointerException.class, () -> graph.getShortestPath(ID_1, null));
+    }
+
+    @Test
+    public void getShortestPath_sameId_returnsSingleton() {
+        assertEquals(List.of(ID_1), graph.getShortestPath(ID_1, ID_1));
+    }
+
+    @Test
+    public void getShortestPath_personWithoutRelationships_returnsEmptyList() {
+        graph.addRelationship(ONE_TWO);
+        assertEquals(List.of(), graph.getShortestPath(ID_1, ID_3));
+    }
+
+    @Test
+    public void getShortestPath_chain_returnsPath() {
+        graph.addRelationship(ONE_TWO);
+        graph.addRelationship(TWO_THREE);
+        graph.addRelationship(THREE_FOUR);
+        assertEquals(List.of(ID_1, ID_2, ID_3, ID_4), graph.getShortestPath(ID_1, ID_4));
+        assertEquals(List.of(ID_4, ID_3, ID_2), graph.getShortestPath(ID_4, ID_2));
+    }
+
+    @Test
+    public void removeRelationship_breaksPath() {
+        graph.setRelationships(List.of(ONE_TWO, TWO_THREE, THREE_FOUR, ONE_FOUR));
+        assertEquals(List.of(ID_1, ID_4), graph.getShortestPath(ID_1, ID_4));
+
+        graph.removeRelationship(ONE_FOUR);
+        assertEquals(List.of(ID_1, ID_2, ID_3, ID_4), graph.getShortestPath(ID_1, ID_4));
+
+        // participants in reverse order identify the same edge
+        graph.removeRelationship(new RelationshipBuilder().withPart1(3).withPart2(2).build());
+        assertEquals(List.of(), graph.getShortestPath(ID_1, ID_4));
+    }
+
+    @Test
+    public void removePerson_removesAllTheirEdges() {
+        graph.setRelationships(List.of(ONE_TWO, ONE_THREE, TWO_THREE));
+        graph.removePerson(ID_1);
+        assertEquals(List.of(), graph.getShortestPath(ID_1, ID_2));
+        assertEquals(List.of(ID_2, ID_3), graph.getShortestPath(ID_2, ID_3));
+    }
+
+    @Test
+    public void addRelationship_afterRemovals_reusesFreedNodes() {
+        graph.addRelationship(ONE_TWO);
+        graph.removePerson(ID_1);
+        graph.addRelationship(THREE_FOUR);
+        graph.addRelationship(TWO_THREE);
+        assertEquals(List.of(ID_2, ID_3, ID_4), graph.getShortestPath(ID_2, ID_4));
+    }
+
+    @Test
+    public void isConnected_afterEdits_reflectsCurrentEdges() {
+        graph.setRelationships(List.of(ONE_TWO, TWO_THREE, THREE_FOUR));
+        assertTrue(graph.isConnected(ID_1, ID_4));
+        assertTrue(graph.isConnected(ID_1, ID_1));
+
+        graph.removeRelationship(TWO_THREE);
+        assertFalse(graph.isConnected(ID_1, ID_4));
+        assertEquals(List.of(), graph.getShortestPath(ID_1, ID_4));
+
+        graph.addRelationship(ONE_FOUR);
+        assertTrue(graph.isConnected(ID_2, ID_3));
+        assertEquals(List.of(ID_2, ID_1, ID_4, ID_3), graph.getShortestPath(ID_2, ID_3));
+    }
+
+    @Test
+    public void isConnected_manyRemovals_staysCorrect() {
+        // repeatedly link and unlink persons so that released nodes get reused
+        for (int i = 0; i < 20; i++) {
+            Relationship first = new RelationshipBuilder().withPart1(2 * i + 10).withPart2(1).build();
+            Relationship second = new RelationshipBuilder().withPart1(2 * i + 11).withPart2(2 * i + 10).build();
+            graph.addRelationship(first);
+            graph.addRelationship(second);
+            assertTrue(graph.isConnected(ID_1, new Id(2 * i + 11)));
+            graph.removePerson(new Id(2 * i + 10));
+            assertFalse(graph.isConnected(ID_1, new Id(2 * i + 11)));
+        }
+    }
+
+    @Test
+    public void visitWithinHops_chain_visitsNearestFirstWithinDepth() {
+        graph.setRelationships(List.of(ONE_TWO, TWO_THREE, THREE_FOUR));
+        List<String> visited = new ArrayList<>();
+        graph.visitWithinHops(ID_1, 2, 10, (personId, viaId, hops) ->
+                visited.add(personId + " via " + viaId + " at " + hops));
+        assertEquals(List.of("2 via 1 at 1", "3 via 2 at 2"), visited);
+    }
+
+    @Test
+    public void visitWithinHops_limit_stopsEarly() {
+        graph.setRelationships(List.of(ONE_TWO, ONE_THREE, ONE_FOUR));
+        List<Id> visited = new ArrayList<>();
+        graph.visitWithinHops(ID_1, 1, 2, (personId, viaId, hops) -> visited.add(personId));
+        assertEquals(2, visited.size());
+
+        // a person without relationships has no neighbourhood
+        visited.clear();
+        graph.visitWithinHops(new Id(5), 3, 10, (personId, viaId, hops) -> visited.add(personId));
+        assertEquals(List.of(), visited);
+    }
+
+    @Test
+    public void getCommonNeighbours_sortedById() {
+        graph.setRelationships(List.of(ONE_FOUR, TWO_THREE, THREE_FOUR, ONE_TWO));
+        assertEquals(List.of(ID_2, ID_4), graph.getCommonNeighbours(ID_1, ID_3));
+        assertEquals(List.of(), graph.getCommonNeighbours(ID_1, ID_2));
+        assertEquals(List.of(), graph.getCommonNeighbours(ID_1, new Id(5)));
+    }
+
+    @Test
+    public void getShortestPathVia_taggedPersons_onlyPassesThroughThem() {
+        Id tag1 = new Id(1);
+        Id tag2 = new Id(2);
+        Map<Id, Set<Id>> tagIds = new HashMap<>(Map.of(ID_1, Set.of(tag1), ID_3, Set.of(tag2)));
+        RelationshipGraph taggedGraph = new RelationshipGraph(personId -> tagIds.getOrDefault(personId, Set.of()));
+        // a cycle 1 - 2 - 3 - 4 - 1, so 2 and 4 are linked through either 1 or 3
+        taggedGraph.setRelationships(List.of(ONE_TWO, TWO_THREE, THREE_FOUR, ONE_FOUR));
+
+        assertEquals(List.of(ID_2, ID_1, ID_4), taggedGraph.getShortestPathVia(ID_2, ID_4, Set.of(tag1)));
+        assertEquals(List.of(ID_2, ID_3, ID_4), taggedGraph.getShortestPathVia(ID_2, ID_4, Set.of(tag2)));
+        assertEquals(List.of(), taggedGraph.getShortestPathVia(ID_2, ID_4, Set.of(new Id(3))));
+        // the ends need not carry the tags
+        assertEquals(List.of(ID_1, ID_2), taggedGraph.getShortestPathVia(ID_1, ID_2, Set.of()));
+
+        tagIds.put(ID_1, Set.of());
+        taggedGraph.updateTags(ID_1, Set.of(tag1), Set.of());
+        assertEquals(List.of(), taggedGraph.getShortestPathVia(ID_2, ID_4, Set.of(tag1)));
+
+        taggedGraph.removeTag(tag2);
+        assertEquals(List.of(), taggedGraph.getShortestPathVia(ID_2, ID_4, Set.of(tag1, tag2)));
+
+        // tags are read again for every person
+        tagIds.put(ID_3, Set.of(tag2));
+        taggedGraph.refreshTags();
+        assertEquals(List.of(ID_2, ID_3, ID_4), taggedGraph.getShortestPathVia(ID_2, ID_4, Set.of(tag1, tag2)));
+
+        taggedGraph.removePerson(ID_3);
+        assertEquals(List.of(), taggedGraph.getShortestPathVia(ID_2, ID_4, Set.of(tag2)));
+    }
+
+    @Test
+    public void getSuggestions_unrelatedPersonsWithMutualConnections_rankedThenById() {
+        // 1 is related to 2, 3 and 4, and 3 to 4
+        graph.setRelationships(List.of(ONE_FOUR, ONE_TWO, ONE_THREE, THREE_FOUR));
+        assertEquals(List.of(ID_3, ID_4), graph.getSuggestions(ID_2, LinkPredictor.Measure.COMMON_NEIGHBOURS, 5));
+        assertEquals(List.of(ID_3), graph.getSuggestions(ID_2, LinkPredictor.Measure.JACCARD, 1));
+        // a limit far beyond the number of persons is not allocated for
+        assertEquals(List.of(ID_3, ID_4),
+                graph.getSuggestions(ID_2, LinkPredictor.Measure.COMMON_NEIGHBOURS, Integer.MAX_VALUE));
+        assertEquals(List.of(), graph.getSuggestions(ID_1, LinkPredictor.Measure.COMMON_NEIGHBOURS, 5));
+        assertEquals(List.of(), graph.getSuggestions(new Id(5), LinkPredictor.Measure.COMMON_NEIGHBOURS, 5));
+    }
+
+    @Test
+    public void getShortestPath_largeEnoughGraph_usesOracleUntilRemoval() throws InterruptedException {
+        RelationshipGraph largeGraph = new RelationshipGraph(1);
+        largeGraph.setRelationships(List.of(ONE_TWO, TWO_THREE, THREE_FOUR));
+        awaitOracle(largeGraph);
+        assertEquals(List.of(ID_1, ID_2, ID_3, ID_4), largeGraph.getShortestPath(ID_1, ID_4));
+
+        // added relationships update the oracle in place
+        largeGraph.addRelationship(ONE_FOUR);
+        assertTrue(largeGraph.hasOracle());
+        assertEquals(List.of(ID_1, ID_4), largeGraph.getShortestPath(ID_1, ID_4));
+        assertEquals(3, largeGraph.getShortestPath(ID_2, ID_4).size());
+
+        // removed relationships discard it
+        largeGraph.removeRelationship(ONE_FOUR);
+        assertEquals(List.of(ID_1, ID_2, ID_3, ID_4), largeGraph.getShortestPath(ID_1, ID_4));
+        awaitOracle(largeGraph);
+        assertEquals(List.of(ID_4, ID_3, ID_2), largeGraph.getShortestPath(ID_4, ID_2));
+    }
+
+    @Test
+    public void getShortestPath_changedWhileOracleBuilt_oracleForChangedGraph() throws InterruptedException {
+        RelationshipGraph largeGraph = new RelationshipGraph(1);
+        largeGraph.setRelationships(List.of(ONE_TWO, TWO_THREE, THREE_FOUR, ONE_FOUR));
+        // starts a build, which the removal leaves outdated
+        largeGraph.hasOracle();
+        largeGraph.removeRelationship(ONE_FOUR);
+        awaitOracle(largeGraph);
+        assertEquals(List.of(ID_1, ID_2, ID_3, ID_4), largeGraph.getShortestPath(ID_1, ID_4));
+    }
+
+    private static void awaitOracle(RelationshipGraph graph) throws InterruptedException {
+        for (int i = 0; i < 500 && !graph.hasOracle(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(graph.hasOracle());
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.relationship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalRelationships.ONE_FOUR;
+import static seedu.address.testutil.TypicalRelationships.ONE_THREE;
+import static seedu.address.testutil.TypicalRelationships.ONE_TWO;
+import static seedu.address.testutil.TypicalRelationships.THREE_FOUR;
+import static seedu.address.testutil.TypicalRelationships.TWO_THREE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.RelationshipBuilder;
+
+public class RelationshipSearchIndexTest {
+    private final RelationshipSearchIndex index = new RelationshipSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.setRelationships(List.of(ONE_TWO, TWO_THREE, THREE_FOUR, ONE_THREE, ONE_FOUR));
+    }
+
+    @Test
+    public void search_shorterDescriptionFirst() {
+        assertEquals(List.of(ONE_TWO, TWO_THREE), index.search("friends", 10));
+        assertEquals(List.of(TWO_THREE), index.search("\"not friends\"", 10));
+    }
+
+    @Test
+    public void setRelationship_reindexedOnlyIfChanged() {
+        Relationship reversed = new RelationshipBuilder().withPart1(2).withPart2(1).withDesc("friends").build();
+        index.setRelationship(ONE_TWO, reversed);
+        assertEquals(List.of(reversed, TWO_THREE), index.search("friends", 10));
+
+        Relationship redescribed = new RelationshipBuilder(ONE_FOUR).withDesc("family friends").build();
+        index.setRelationship(ONE_FOUR, redescribed);
+        assertEquals(List.of(reversed, TWO_THREE, redescribed), index.search("friends", 10));
+        assertEquals(List.of(redescribed), index.search("\"family friends\"", 10));
+    }
+
+    @Test
+    public void remove_numberRecycled() {
+        index.remove(ONE_TWO);
+        index.remove(ONE_TWO);
+        assertEquals(List.of(TWO_THREE), index.search("friends", 10));
+
+        Relationship added = new RelationshipBuilder().withPart1(2).withPart2(4).withDesc("old friends").build();
+        index.add(added);
+        // it takes the number freed by ONE_TWO, the lowest, so it comes first among equal scores
+        assertEquals(List.of(added, TWO_THREE), index.search("friends", 10));
+        assertEquals(List.of(THREE_FOUR), index.search("bestie", 10));
+    }
+}
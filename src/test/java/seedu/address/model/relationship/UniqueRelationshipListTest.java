@@ -5,7 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalRelationships.ONE_FOUR;
+import static seedu.address.testutil.TypicalRelationships.ONE_THREE;
 import static seedu.address.testutil.TypicalRelationships.ONE_TWO;
+import static seedu.address.testutil.TypicalRelationships.THREE_FOUR;
 import static seedu.address.testutil.TypicalRelationships.TWO_THREE;
 
 import java.util.Arrays;
@@ -15,6 +18,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.id.Id;
 import seedu.address.model.relationship.exceptions.DuplicateRelationshipException;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
 import seedu.address.testutil.RelationshipBuilder;
@@ -43,6 +48,63 @@ public class UniqueRelationshipListTest {
         assertTrue(uniqueRelationshipList.contains(TWO_THREE));
     }
 
+    @Test
+    public void contains_reversedParticipants_returnsTrue() {
+        uniqueRelationshipList.add(ONE_TWO);
+        assertTrue(uniqueRelationshipList.contains(new RelationshipBuilder().withPart1(2).withPart2(1).build()));
+    }
+
+    @Test
+    public void contains_afterRemoveIfContainsPerson_returnsFalse() {
+        uniqueRelationshipList.add(ONE_TWO);
+        uniqueRelationshipList.add(TWO_THREE);
+        uniqueRelationshipList.removeIfContainsPerson(new Id(1));
+
+        assertFalse(uniqueRelationshipList.contains(ONE_TWO));
+        assertTrue(uniqueRelationshipList.contains(TWO_THREE));
+    }
+
+    @Test
+    public void removeIfContainsPerson_othersKeepOrder_singleChange() {
+        uniqueRelationshipList.setRelationships(List.of(ONE_TWO, TWO_THREE, ONE_THREE, THREE_FOUR, ONE_FOUR));
+        int[] numOfChanges = {0};
+        uniqueRelationshipList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Relationship>) change -> numOfChanges[0]++);
+
+        uniqueRelationshipList.removeIfContainsPerson(new Id(1));
+        assertEquals(List.of(TWO_THREE, THREE_FOUR), uniqueRelationshipList.asUnmodifiableObservableList());
+        assertEquals(1, numOfChanges[0]);
+    }
+
+    @Test
+    public void getRelationshipsOf_personWithRelationships_sortedByCounterpartId() {
+        uniqueRelationshipList.add(ONE_FOUR);
+        uniqueRelationshipList.add(TWO_THREE);
+        uniqueRelationshipList.add(ONE_TWO);
+        uniqueRelationshipList.add(ONE_THREE);
+
+        assertEquals(List.of(ONE_TWO, ONE_THREE, ONE_FOUR), uniqueRelationshipList.getRelationshipsOf(new Id(1)));
+        assertEquals(List.of(ONE_TWO, TWO_THREE), uniqueRelationshipList.getRelationshipsOf(new Id(2)));
+        assertEquals(List.of(), uniqueRelationshipList.getRelationshipsOf(new Id(5)));
+    }
+
+    @Test
+    public void getRelationshipsOf_afterMutations_staysInSync() {
+        uniqueRelationshipList.setRelationships(List.of(ONE_TWO, TWO_THREE, ONE_THREE));
+        Relationship editedOneTwo = new RelationshipBuilder(ONE_TWO).withDesc("colleagues").build();
+        uniqueRelationshipList.setRelationship(ONE_TWO, editedOneTwo);
+        assertEquals(List.of(editedOneTwo, ONE_THREE), uniqueRelationshipList.getRelationshipsOf(new Id(1)));
+
+        uniqueRelationshipList.remove(ONE_THREE);
+        assertEquals(List.of(editedOneTwo), uniqueRelationshipList.getRelationshipsOf(new Id(1)));
+        assertEquals(List.of(TWO_THREE), uniqueRelationshipList.getRelationshipsOf(new Id(3)));
+
+        uniqueRelationshipList.removeIfContainsPerson(new Id(2));
+        assertEquals(List.of(), uniqueRelationshipList.getRelationshipsOf(new Id(1)));
+        assertEquals(List.of(), uniqueRelationshipList.getRelationshipsOf(new Id(3)));
+        assertTrue(uniqueRelationshipList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test void add_nullRelationship_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueRelationshipList.add(null));
     }
@@ -151,6 +213,22 @@ public class UniqueRelationshipListTest {
             uniqueRelationshipList.setRelationships(listWithDuplicate));
     }
 
+    @Test
+    public void setRelationships_listWithReversedDuplicate_throwsDuplicateRelationshipException() {
+        Relationship reversedOneTwo = new RelationshipBuilder().withPart1(2).withPart2(1).build();
+        List<Relationship> listWithDuplicate = Arrays.asList(ONE_TWO, TWO_THREE, reversedOneTwo);
+        assertThrows(DuplicateRelationshipException.class, () ->
+            uniqueRelationshipList.setRelationships(listWithDuplicate));
+    }
+
+    @Test
+    public void remove_existingRelationship_canBeAddedAgain() {
+        uniqueRelationshipList.add(ONE_TWO);
+        uniqueRelationshipList.remove(ONE_TWO);
+        uniqueRelationshipList.add(ONE_TWO);
+        assertTrue(uniqueRelationshipList.contains(ONE_TWO));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
@@ -184,6 +184,22 @@ public class UniqueTagListTest {
         assertFalse(uniqueTagList.hasTagId(new Id(298412)));
     }
 
+    @Test
+    public void hasTagId_afterSetTagAndRemove_staysInSync() {
+        Tag friends = new TagBuilder(FRIENDS).withId(1).build();
+        Tag coworkers = new TagBuilder(COWORKERS).withId(2).build();
+        uniqueTagList.add(friends);
+
+        uniqueTagList.setTag(friends, coworkers);
+        assertFalse(uniqueTagList.hasTagId(new Id(1)));
+        assertTrue(uniqueTagList.hasTagId(new Id(2)));
+        assertFalse(uniqueTagList.contains(friends));
+
+        uniqueTagList.remove(coworkers);
+        assertFalse(uniqueTagList.hasTagId(new Id(2)));
+        assertFalse(uniqueTagList.contains(coworkers));
+    }
+
     @Test
     public void hasTagIds_idsInList_returnsTrue() {
         List<Tag> tagList = List.of(FRIENDS, EX_GIRLFRIEND, COWORKERS);
@@ -0,0 +1,55 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A utility class to generate synthetic graphs for tests and benchmarks.
+ */
+public class GraphGenerator {
+
+    /**
+     * Returns the adjacency list of an undirected scale-free graph with {@code numOfNodes} nodes, grown by
+     * preferential attachment (the Barabasi-Albert model): the graph starts as a clique on
+     * {@code edgesPerNode + 1} nodes, and every later node links to {@code edgesPerNode} distinct earlier nodes
+     * chosen with probability proportional to their degree. The same {@code seed} always gives the same graph.
+     */
+    public static List<List<Integer>> createScaleFreeGraph(int numOfNodes, int edgesPerNode, long seed) {
+        assert 0 < edgesPerNode && edgesPerNode < numOfNodes;
+        Random random = new Random(seed);
+        List<List<Integer>> adjList = new ArrayList<>(numOfNodes);
+        for (int u = 0; u < numOfNodes; u++) {
+            adjList.add(new ArrayList<>());
+        }
+
+        // every edge adds both its ends here, so a uniform pick is a pick proportional to degree
+        int[] endpoints = new int[2 * edgesPerNode * numOfNodes];
+        int numOfEndpoints = 0;
+        for (int u = 0; u <= edgesPerNode; u++) {
+            for (int v = 0; v < u; v++) {
+                addEdge(adjList, u, v);
+                endpoints[numOfEndpoints++] = u;
+                endpoints[numOfEndpoints++] = v;
+            }
+        }
+
+        for (int u = edgesPerNode + 1; u < numOfNodes; u++) {
+            int numOfEndpointsBefore = numOfEndpoints;
+            while (adjList.get(u).size() < edgesPerNode) {
+                int v = endpoints[random.nextInt(numOfEndpointsBefore)];
+                if (!adjList.get(u).contains(v)) {
+                    addEdge(adjList, u, v);
+                    endpoints[numOfEndpoints++] = u;
+                    endpoints[numOfEndpoints++] = v;
+                }
+            }
+        }
+        return adjList;
+    }
+
+    private static void addEdge(List<List<Integer>> adjList, int u, int v) {
+        adjList.get(u).add(v);
+        adjList.get(v).add(u);
+    }
+}
@@ -2,15 +2,21 @@ package seedu.address.testutil;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import javafx.util.Pair;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.LinkPredictor;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.analysis.AnalysisStatus;
 import seedu.address.model.id.Id;
+import seedu.address.model.person.CompositePersonPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.tag.Tag;
@@ -81,6 +87,26 @@ public class ModelStub implements Model {
         throw new AssertionError("Not called.");
     }
 
+    @Override
+    public void findPersons(CompositePersonPredicate predicate) {
+        throw new AssertionError("Not called.");
+    }
+
+    @Override
+    public void findTopPersons(CompositePersonPredicate predicate, int limit) {
+        throw new AssertionError("Not called.");
+    }
+
+    @Override
+    public void searchNotes(String query, int limit) {
+        throw new AssertionError("Not called.");
+    }
+
+    @Override
+    public String explainFindPersons(CompositePersonPredicate predicate) {
+        throw new AssertionError("Not called.");
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         throw new AssertionError("Not called.");
@@ -111,6 +137,16 @@ public class ModelStub implements Model {
         throw new AssertionError("Not called.");
     }
 
+    @Override
+    public Optional<Person> getPersonById(Id id) {
+        throw new AssertionError("Not called.");
+    }
+
+    @Override
+    public Optional<Person> getFilteredPersonById(Id id) {
+        throw new AssertionError("Not called.");
+    }
+
 
 
     //  NOTE: TAGS
@@ -214,9 +250,53 @@ public class ModelStub implements Model {
         throw new AssertionError("Not called.");
     }
 
+    @Override
+    public void queryNeighbourhood(Id id, int depth) {
+        throw new AssertionError("Not called.");
+    }
+
+    @Override
+    public void queryMutualConnections(Id person1, Id person2) {
+        throw new AssertionError("Not called.");
+    }
+
+    @Override
+    public void querySuggestions(Id id, LinkPredictor.Measure measure, int limit) {
+        throw new AssertionError("Not called.");
+    }
+
+    @Override
+    public void queryDescriptions(String query, int limit) {
+        throw new AssertionError("Not called.");
+    }
+
+    @Override
+    public boolean isConnected(Id person1, Id person2) {
+        throw new AssertionError("Not called.");
+    }
+
     @Override
     public void queryLink(Id person1, Id person2) {
         throw new AssertionError("Not called.");
     }
-}
 
+    @Override
+    public void queryLinkVia(Id person1, Id person2, Set<Id> viaTagIds) {
+        throw new AssertionError("Not called.");
+    }
+
+    @Override
+    public boolean startAnalysis(int numOfSamples, int numOfResults) {
+        throw new AssertionError("Not called.");
+    }
+
+    @Override
+    public boolean cancelAnalysis() {
+        throw new AssertionError("Not called.");
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<AnalysisStatus> getAnalysisStatus() {
+        throw new AssertionError("Not called.");
+    }
+}